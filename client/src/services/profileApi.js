@@ -128,12 +128,31 @@ export const unfollowUser = async (userId) => {
   */
 };
 
+/**
+ * Recorre las páginas de un listado paginado ({ items, page, size, total })
+ * y devuelve todos los elementos juntos en data
+ */
+const getAllPages = async (url, size = 100) => {
+  const items = [];
+  for (let page = 0; ; page++) {
+    const response = await authApi.get(url, { params: { page, size } });
+    if (!response.success) {
+      return response;
+    }
+    const pageItems = response.data?.items || [];
+    items.push(...pageItems);
+    if (pageItems.length < size || items.length >= response.data.total) {
+      return { success: true, data: items };
+    }
+  }
+};
+
 /**
  * Obtener lista de seguidores del usuario actual
  */
 export const getFollowers = async () => {
   try {
-    return await authApi.get('/api/profile/followers');
+    return await getAllPages('/api/profile/followers');
   } catch (error) {
     console.error('Error en getFollowers:', error);
     return { 
@@ -148,7 +167,7 @@ export const getFollowers = async () => {
  */
 export const getFollowing = async () => {
   try {
-    return await authApi.get('/api/profile/following');
+    return await getAllPages('/api/profile/following');
   } catch (error) {
     console.error('Error en getFollowing:', error);
     return { 
@@ -1,12 +1,14 @@
 package co.edu.uniquindio.theknowledgebay;
 
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.JournalProperties;
 import co.edu.uniquindio.theknowledgebay.infrastructure.config.ModeratorProperties;
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.WriteBehindProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(ModeratorProperties.class)
+@EnableConfigurationProperties({ModeratorProperties.class, WriteBehindProperties.class, JournalProperties.class})
 public class App {
 
 	public static void main(String[] args) {
@@ -6,6 +6,8 @@ import co.edu.uniquindio.theknowledgebay.api.dto.ContentResponseDTO;
 import co.edu.uniquindio.theknowledgebay.api.dto.HelpRequestResponseDTO;
 import co.edu.uniquindio.theknowledgebay.api.dto.ProfileResponseDTO;
 import co.edu.uniquindio.theknowledgebay.core.model.*;
+import co.edu.uniquindio.theknowledgebay.core.repository.WriteBehindRepository;
+import co.edu.uniquindio.theknowledgebay.core.repository.journal.JournalRepository;
 import co.edu.uniquindio.theknowledgebay.core.service.SessionManager;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
@@ -23,6 +25,8 @@ public class AdminController {
 
     private final TheKnowledgeBay theKnowledgeBay;
     private final SessionManager sessionManager;
+    private final WriteBehindRepository writeBehindRepository;
+    private final JournalRepository journalRepository;
 
     // Admin statistics endpoints
     @GetMapping("/stats")
@@ -57,7 +61,7 @@ public class AdminController {
             // Most valued content
             stats.put("mostValuedContent", getMostValuedContent());
             
-            // Most connected users (placeholder for now)
+            // Most connected users
             stats.put("mostConnectedUsers", getMostConnectedUsers());
             
             return ResponseEntity.ok(stats);
@@ -67,6 +71,44 @@ public class AdminController {
         }
     }
 
+    // Write-behind persistence metrics: queue depth and flush counters
+    @GetMapping("/persistence")
+    public ResponseEntity<Map<String, Object>> getPersistenceStats() {
+        return ResponseEntity.ok(writeBehindRepository.getStats());
+    }
+
+    // Most liked content, a page at a time, optionally for one interest
+    @GetMapping("/top-content")
+    public ResponseEntity<Map<String, Object>> getTopContent(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String interest) {
+        if (page < 0 || size <= 0 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", toLeaderboardItems(theKnowledgeBay.getTopContent(interest, page * size, size)));
+        result.put("page", page);
+        result.put("size", size);
+        result.put("total", theKnowledgeBay.getTopContentCount(interest));
+        return ResponseEntity.ok(result);
+    }
+
+    // Snapshot + journal storage: current generation, journal size and snapshot timings
+    @GetMapping("/journal")
+    public ResponseEntity<Map<String, Object>> getJournalStats() {
+        return ResponseEntity.ok(journalRepository.getStats());
+    }
+
+    @PostMapping("/journal/snapshot")
+    public ResponseEntity<Map<String, Object>> takeSnapshot() {
+        if (!journalRepository.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(journalRepository.getStats());
+        }
+        theKnowledgeBay.takeSnapshot();
+        return ResponseEntity.ok(journalRepository.getStats());
+    }
+
     @GetMapping("/users")
     public ResponseEntity<List<ProfileResponseDTO>> getAllUsers(
             @RequestHeader(value = "Authorization", required = false) String token) {
@@ -87,7 +129,7 @@ public class AdminController {
             List<ProfileResponseDTO> users = new ArrayList<>();
             
             // Get all students
-            DoublyLinkedNode<Student> current = theKnowledgeBay.getUsers().getStudents().getHead();
+            DoublyLinkedNode<Student> current = theKnowledgeBay.getAllStudents().getHead();
             while (current != null) {
                 Student student = current.getData();
                 
@@ -174,14 +216,13 @@ public class AdminController {
             List<ContentResponseDTO> response = new ArrayList<>();
 
             if (contents != null) {
-                for (int i = 0; i < contents.getSize(); i++) {
-                    Content content = contents.get(i);
+                for (Content content : contents) {
                     
                     // Convert Interest objects to strings
                     List<String> topicNames = new ArrayList<>();
                     if (content.getTopics() != null) {
-                        for (int j = 0; j < content.getTopics().getSize(); j++) {
-                            topicNames.add(content.getTopics().get(j).getName());
+                        for (Interest topic : content.getTopics()) {
+                            topicNames.add(topic.getName());
                         }
                     }
 
@@ -252,14 +293,13 @@ public class AdminController {
             List<HelpRequestResponseDTO> response = new ArrayList<>();
 
             if (helpRequests != null) {
-                for (int i = 0; i < helpRequests.getSize(); i++) {
-                    HelpRequest helpRequest = helpRequests.get(i);
+                for (HelpRequest helpRequest : helpRequests) {
                     
                     // Convert Interest objects to strings
                     List<String> topicNames = new ArrayList<>();
                     if (helpRequest.getTopics() != null) {
-                        for (int j = 0; j < helpRequest.getTopics().getSize(); j++) {
-                            topicNames.add(helpRequest.getTopics().get(j).getName());
+                        for (Interest topic : helpRequest.getTopics()) {
+                            topicNames.add(topic.getName());
                         }
                     }
 
@@ -420,57 +460,35 @@ public class AdminController {
 
     // Helper methods for statistics
     private int getTotalUsers() {
-        int count = 0;
-        DoublyLinkedNode<Student> current = theKnowledgeBay.getUsers().getStudents().getHead();
-        while (current != null) {
-            count++;
-            current = current.getNext();
-        }
-        return count;
+        return theKnowledgeBay.getTotalUsersCount();
     }
 
     private int getTotalContent() {
-        DoublyLinkedList<Content> contents = theKnowledgeBay.getAllContent();
-        return contents != null ? contents.getSize() : 0;
+        return theKnowledgeBay.getTotalContentCount();
     }
 
     private int getTotalHelpRequests() {
-        DoublyLinkedList<HelpRequest> requests = theKnowledgeBay.getAllHelpRequests();
-        return requests != null ? requests.getSize() : 0;
+        return theKnowledgeBay.getTotalHelpRequestsCount();
     }
 
     private int getTotalGroups() {
-        DoublyLinkedList<StudyGroup> groups = theKnowledgeBay.getStudyGroups();
-        return groups != null ? groups.getSize() : 0;
+        return theKnowledgeBay.getTotalStudyGroupsCount();
     }
 
     private List<Map<String, Object>> getMostValuedContent() {
+        return toLeaderboardItems(theKnowledgeBay.getTopContent(null, 0, 5));
+    }
+
+    private List<Map<String, Object>> toLeaderboardItems(List<Content> contents) {
         List<Map<String, Object>> result = new ArrayList<>();
-        DoublyLinkedList<Content> contents = theKnowledgeBay.getAllContent();
-        
-        if (contents != null && contents.getSize() > 0) {
-            // Convert to list for sorting
-            List<Content> contentList = new ArrayList<>();
-            for (int i = 0; i < contents.getSize(); i++) {
-                contentList.add(contents.get(i));
-            }
-            
-            // Sort by like count (descending)
-            contentList.sort((a, b) -> Integer.compare(b.getLikeCount(), a.getLikeCount()));
-            
-            // Take top 5
-            int limit = Math.min(5, contentList.size());
-            for (int i = 0; i < limit; i++) {
-                Content content = contentList.get(i);
-                Map<String, Object> item = new HashMap<>();
-                item.put("id", content.getContentId());
-                item.put("title", content.getTitle());
-                item.put("author", content.getAuthor().getUsername());
-                item.put("likes", content.getLikeCount());
-                result.add(item);
-            }
+        for (Content content : contents) {
+            Map<String, Object> item = new HashMap<>();
+            item.put("id", content.getContentId());
+            item.put("title", content.getTitle());
+            item.put("author", content.getAuthor() != null ? content.getAuthor().getUsername() : null);
+            item.put("likes", content.getLikeCount());
+            result.add(item);
         }
-        
         return result;
     }
 
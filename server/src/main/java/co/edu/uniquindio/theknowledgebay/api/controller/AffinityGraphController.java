@@ -3,7 +3,9 @@ package co.edu.uniquindio.theknowledgebay.api.controller;
 
 import co.edu.uniquindio.theknowledgebay.api.dto.AuthResponseDTO;
 import co.edu.uniquindio.theknowledgebay.api.dto.ShortestPathDTO;
+import co.edu.uniquindio.theknowledgebay.core.model.Moderator;
 import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.core.model.User;
 import co.edu.uniquindio.theknowledgebay.core.service.SessionManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -108,6 +110,13 @@ public class AffinityGraphController {
                 currentUserId = "admin"; // Default admin user for development
             }
 
+            // Full rebuild is an admin operation; follows keep the graph updated incrementally
+            User user = theKnowledgeBay.getUserById(currentUserId);
+            if (user != null && !(user instanceof Moderator)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new AuthResponseDTO(false, "Access denied. Only moderators can rebuild the affinity graph."));
+            }
+
             theKnowledgeBay.refreshAffinityGraph();
             
             return ResponseEntity.ok(new AuthResponseDTO(true, "Grafo de afinidad actualizado exitosamente."));
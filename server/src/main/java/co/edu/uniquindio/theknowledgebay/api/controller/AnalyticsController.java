@@ -54,12 +54,21 @@ public class AnalyticsController {
 
     @GetMapping("/participation-levels")
     public ResponseEntity<List<Map<String, Object>>> getParticipationLevels(
-            @RequestHeader(value = "Authorization", required = false) String token) {
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) String granularity,
+            @RequestParam(required = false) String topic,
+            @RequestParam(required = false) String userId) {
         
         try {
-            List<Map<String, Object>> participationLevels = theKnowledgeBay.getParticipationLevelsData();
+            // Without a window, keep the four weekly totals the dashboard shows
+            List<Map<String, Object>> participationLevels = window == null
+                    ? theKnowledgeBay.getParticipationLevelsData()
+                    : theKnowledgeBay.getParticipationLevelsData(window, granularity, topic, userId);
             return ResponseEntity.ok(participationLevels);
 
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
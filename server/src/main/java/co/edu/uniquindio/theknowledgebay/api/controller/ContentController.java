@@ -7,10 +7,12 @@ import co.edu.uniquindio.theknowledgebay.core.model.Content;
 import co.edu.uniquindio.theknowledgebay.core.model.Student;
 import co.edu.uniquindio.theknowledgebay.core.model.User;
 import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.SearchPage;
 import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
 import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
 import co.edu.uniquindio.theknowledgebay.core.service.SessionManager;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +22,8 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -49,7 +53,7 @@ public class ContentController {
 
         try {
             // Convert topics to Interest objects from the global list
-            DoublyLinkedList<Interest> topics = new DoublyLinkedList<>();
+            DynamicArrayList<Interest> topics = new DynamicArrayList<>();
             if (createDto.getTopics() != null) {
                 for (String topicName : createDto.getTopics()) {
                     Interest existingInterest = theKnowledgeBay.findInterestByName(topicName);
@@ -103,7 +107,6 @@ public class ContentController {
                     .contentType(contentType)
                     .information(information)
                     .author(student)
-                    .likedBy(new DoublyLinkedList<>())
                     .likeCount(0)
                     .comments(new DoublyLinkedList<>())
                     .date(LocalDate.now())
@@ -136,75 +139,12 @@ public class ContentController {
         }
 
         try {
-            DoublyLinkedList<Content> allContent = theKnowledgeBay.getAllContent();
+            // Solo el contenido del usuario actual, desde el índice por autor
+            DoublyLinkedList<Content> myContent = theKnowledgeBay.getContentByUserId(currentUserId);
             List<ContentResponseDTO> response = new ArrayList<>();
 
-            if (allContent != null) {
-                for (int i = 0; i < allContent.getSize(); i++) {
-                    Content content = allContent.get(i);
-                    
-                    // Solo incluir contenido del usuario actual
-                    if (content.getAuthor() != null && 
-                        content.getAuthor().getId() != null &&
-                        content.getAuthor().getId().equals(currentUserId)) {
-                        
-                        // Convert Interest objects to strings
-                        List<String> topicNames = new ArrayList<>();
-                        if (content.getTopics() != null) {
-                            for (int j = 0; j < content.getTopics().getSize(); j++) {
-                                topicNames.add(content.getTopics().get(j).getName());
-                            }
-                        }
-
-                        // Check if current user has liked this content
-                        boolean hasLiked = false;
-                        if (content.getLikedBy() != null) {
-                            for (int k = 0; k < content.getLikedBy().getSize(); k++) {
-                                if (content.getLikedBy().get(k).getId().equals(currentUserId)) {
-                                    hasLiked = true;
-                                    break;
-                                }
-                            }
-                        }
-
-                        // Extract URLs and file names from information
-                        String linkUrl = null;
-                        String videoUrl = null;
-                        String fileName = null;
-                        
-                        if (content.getInformation() != null) {
-                            String[] lines = content.getInformation().split("\n");
-                            for (String line : lines) {
-                                if (line.startsWith("Enlace: ")) {
-                                    linkUrl = line.substring(8);
-                                } else if (line.startsWith("Video: ")) {
-                                    videoUrl = line.substring(7);
-                                } else if (line.startsWith("Archivo adjunto: ")) {
-                                    fileName = line.substring(17);
-                                }
-                            }
-                        }
-
-                        ContentResponseDTO dto = ContentResponseDTO.builder()
-                                .contentId(content.getContentId())
-                                .topics(topicNames)
-                                .title(content.getTitle())
-                                .contentType(content.getContentType().toString())
-                                .information(content.getInformation())
-                                .authorUsername(content.getAuthor().getUsername())
-                                .authorId(content.getAuthor().getId())
-                                .likeCount(content.getLikeCount())
-                                .hasLiked(hasLiked)
-                                .commentCount(content.getComments() != null ? content.getComments().getSize() : 0)
-                                .date(content.getDate())
-                                .linkUrl(linkUrl)
-                                .videoUrl(videoUrl)
-                                .fileName(fileName)
-                                .build();
-                        
-                        response.add(dto);
-                    }
-                }
+            for (Content content : myContent) {
+                response.add(toResponseDTO(content, currentUserId));
             }
 
             return ResponseEntity.ok(response);
@@ -223,64 +163,8 @@ public class ContentController {
             List<ContentResponseDTO> response = new ArrayList<>();
 
             if (contents != null) {
-                for (int i = 0; i < contents.getSize(); i++) {
-                    Content content = contents.get(i);
-                    
-                    // Convert Interest objects to strings
-                    List<String> topicNames = new ArrayList<>();
-                    if (content.getTopics() != null) {
-                        for (int j = 0; j < content.getTopics().getSize(); j++) {
-                            topicNames.add(content.getTopics().get(j).getName());
-                        }
-                    }
-
-                    // Check if current user has liked this content
-                    boolean hasLiked = false;
-                    if (currentUserId != null && content.getLikedBy() != null) {
-                        for (int k = 0; k < content.getLikedBy().getSize(); k++) {
-                            if (content.getLikedBy().get(k).getId().equals(currentUserId)) {
-                                hasLiked = true;
-                                break;
-                            }
-                        }
-                    }
-
-                    // Extract URLs and file names from information
-                    String linkUrl = null;
-                    String videoUrl = null;
-                    String fileName = null;
-                    
-                    if (content.getInformation() != null) {
-                        String[] lines = content.getInformation().split("\n");
-                        for (String line : lines) {
-                            if (line.startsWith("Enlace: ")) {
-                                linkUrl = line.substring(8);
-                            } else if (line.startsWith("Video: ")) {
-                                videoUrl = line.substring(7);
-                            } else if (line.startsWith("Archivo adjunto: ")) {
-                                fileName = line.substring(17);
-                            }
-                        }
-                    }
-
-                    ContentResponseDTO dto = ContentResponseDTO.builder()
-                            .contentId(content.getContentId())
-                            .topics(topicNames)
-                            .title(content.getTitle())
-                            .contentType(content.getContentType().toString())
-                            .information(content.getInformation())
-                            .authorUsername(content.getAuthor().getUsername())
-                            .authorId(content.getAuthor().getId())
-                            .likeCount(content.getLikeCount())
-                            .hasLiked(hasLiked)
-                            .commentCount(content.getComments() != null ? content.getComments().getSize() : 0)
-                            .date(content.getDate())
-                            .linkUrl(linkUrl)
-                            .videoUrl(videoUrl)
-                            .fileName(fileName)
-                            .build();
-                    
-                    response.add(dto);
+                for (Content content : contents) {
+                    response.add(toResponseDTO(content, currentUserId));
                 }
             }
 
@@ -291,6 +175,33 @@ public class ContentController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> searchContent(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = "Authorization", required = false) String token) {
+        if (page < 0 || size <= 0 || size > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            String currentUserId = sessionManager.getCurrentUserId(token);
+            SearchPage<Content> results = theKnowledgeBay.searchContent(query, page * size, size);
+            List<ContentResponseDTO> items = new ArrayList<>();
+            for (Content content : results.items()) {
+                items.add(toResponseDTO(content, currentUserId));
+            }
+            Map<String, Object> result = new HashMap<>();
+            result.put("items", items);
+            result.put("page", page);
+            result.put("size", size);
+            result.put("total", results.total());
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ContentResponseDTO> getContentById(
             @PathVariable int id,
@@ -303,61 +214,7 @@ public class ContentController {
                 return ResponseEntity.notFound().build();
             }
 
-            // Convert Interest objects to strings
-            List<String> topicNames = new ArrayList<>();
-            if (content.getTopics() != null) {
-                for (int i = 0; i < content.getTopics().getSize(); i++) {
-                    topicNames.add(content.getTopics().get(i).getName());
-                }
-            }
-
-            // Check if current user has liked this content
-            boolean hasLiked = false;
-            if (currentUserId != null && content.getLikedBy() != null) {
-                for (int k = 0; k < content.getLikedBy().getSize(); k++) {
-                    if (content.getLikedBy().get(k).getId().equals(currentUserId)) {
-                        hasLiked = true;
-                        break;
-                    }
-                }
-            }
-
-            // Extract URLs and file names from information
-            String linkUrl = null;
-            String videoUrl = null;
-            String fileName = null;
-            
-            if (content.getInformation() != null) {
-                String[] lines = content.getInformation().split("\n");
-                for (String line : lines) {
-                    if (line.startsWith("Enlace: ")) {
-                        linkUrl = line.substring(8);
-                    } else if (line.startsWith("Video: ")) {
-                        videoUrl = line.substring(7);
-                    } else if (line.startsWith("Archivo adjunto: ")) {
-                        fileName = line.substring(17);
-                    }
-                }
-            }
-
-            ContentResponseDTO dto = ContentResponseDTO.builder()
-                    .contentId(content.getContentId())
-                    .topics(topicNames)
-                    .title(content.getTitle())
-                    .contentType(content.getContentType().toString())
-                    .information(content.getInformation())
-                    .authorUsername(content.getAuthor().getUsername())
-                    .authorId(content.getAuthor().getId())
-                    .likeCount(content.getLikeCount())
-                    .hasLiked(hasLiked)
-                    .commentCount(content.getComments() != null ? content.getComments().getSize() : 0)
-                    .date(content.getDate())
-                    .linkUrl(linkUrl)
-                    .videoUrl(videoUrl)
-                    .fileName(fileName)
-                    .build();
-
-            return ResponseEntity.ok(dto);
+            return ResponseEntity.ok(toResponseDTO(content, currentUserId));
 
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -397,13 +254,9 @@ public class ContentController {
             }
             
             // Check if user already liked this content
-            if (content.getLikedBy() != null) {
-                for (int i = 0; i < content.getLikedBy().getSize(); i++) {
-                    if (content.getLikedBy().get(i).getId().equals(currentUserId)) {
-                        return ResponseEntity.status(HttpStatus.CONFLICT)
-                                .body(new AuthResponseDTO(false, "Ya has dado like a este contenido."));
-                    }
-                }
+            if (theKnowledgeBay.hasLiked(id, currentUserId)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new AuthResponseDTO(false, "Ya has dado like a este contenido."));
             }
             
             boolean liked = theKnowledgeBay.likeContent(id, currentUserId);
@@ -447,4 +300,46 @@ public class ContentController {
                     .body(new AuthResponseDTO(false, "Error interno del servidor: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    private ContentResponseDTO toResponseDTO(Content content, String currentUserId) {
+        List<String> topicNames = new ArrayList<>();
+        if (content.getTopics() != null) {
+            for (Interest topic : content.getTopics()) {
+                topicNames.add(topic.getName());
+            }
+        }
+
+        // Extract URLs and file names from information
+        String linkUrl = null;
+        String videoUrl = null;
+        String fileName = null;
+        if (content.getInformation() != null) {
+            for (String line : content.getInformation().split("\n")) {
+                if (line.startsWith("Enlace: ")) {
+                    linkUrl = line.substring(8);
+                } else if (line.startsWith("Video: ")) {
+                    videoUrl = line.substring(7);
+                } else if (line.startsWith("Archivo adjunto: ")) {
+                    fileName = line.substring(17);
+                }
+            }
+        }
+
+        return ContentResponseDTO.builder()
+                .contentId(content.getContentId())
+                .topics(topicNames)
+                .title(content.getTitle())
+                .contentType(content.getContentType() != null ? content.getContentType().toString() : null)
+                .information(content.getInformation())
+                .authorUsername(content.getAuthor() != null ? content.getAuthor().getUsername() : null)
+                .authorId(content.getAuthor() != null ? content.getAuthor().getId() : null)
+                .likeCount(content.getLikeCount())
+                .hasLiked(currentUserId != null && theKnowledgeBay.hasLiked(content.getContentId(), currentUserId))
+                .commentCount(content.getComments() != null ? content.getComments().getSize() : 0)
+                .date(content.getDate())
+                .linkUrl(linkUrl)
+                .videoUrl(videoUrl)
+                .fileName(fileName)
+                .build();
+    }
+}
@@ -10,6 +10,7 @@ import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
 import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
 import co.edu.uniquindio.theknowledgebay.core.service.SessionManager;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -55,7 +56,7 @@ public class HelpRequestController {
             System.out.println("POST /api/help-requests - Procesando solicitud...");
             
             // Convert topics to Interest objects
-            DoublyLinkedList<Interest> topics = new DoublyLinkedList<>();
+            DynamicArrayList<Interest> topics = new DynamicArrayList<>();
             if (createDto.getTopics() != null) {
                 System.out.println("POST /api/help-requests - Procesando " + createDto.getTopics().size() + " temas");
                 for (String topicName : createDto.getTopics()) {
@@ -117,41 +118,32 @@ public class HelpRequestController {
         }
 
         try {
-            DoublyLinkedList<HelpRequest> allRequests = theKnowledgeBay.getAllHelpRequests();
+            // Solo las solicitudes del usuario actual, desde el índice por estudiante
+            DoublyLinkedList<HelpRequest> myRequests = theKnowledgeBay.getHelpRequestsByUserId(currentUserId);
             List<HelpRequestResponseDTO> response = new ArrayList<>();
 
-            if (allRequests != null) {
-                for (int i = 0; i < allRequests.getSize(); i++) {
-                    HelpRequest helpRequest = allRequests.get(i);
-                    
-                    // Solo incluir solicitudes del usuario actual
-                    if (helpRequest.getStudent() != null && 
-                        helpRequest.getStudent().getId() != null &&
-                        helpRequest.getStudent().getId().equals(currentUserId)) {
-                        
-                        // Convert Interest objects to strings
-                        List<String> topicNames = new ArrayList<>();
-                        if (helpRequest.getTopics() != null) {
-                            for (int j = 0; j < helpRequest.getTopics().getSize(); j++) {
-                                topicNames.add(helpRequest.getTopics().get(j).getName());
-                            }
-                        }
-
-                        HelpRequestResponseDTO dto = HelpRequestResponseDTO.builder()
-                                .requestId(helpRequest.getRequestId())
-                                .topics(topicNames)
-                                .information(helpRequest.getInformation())
-                                .urgency(helpRequest.getUrgency().toString())
-                                .studentUsername(helpRequest.getStudent().getUsername())
-                                .studentId(helpRequest.getStudent().getId())
-                                .isCompleted(helpRequest.isCompleted())
-                                .requestDate(helpRequest.getRequestDate())
-                                .commentCount(helpRequest.getComments() != null ? helpRequest.getComments().getSize() : 0)
-                                .build();
-                        
-                        response.add(dto);
+            for (HelpRequest helpRequest : myRequests) {
+                // Convert Interest objects to strings
+                List<String> topicNames = new ArrayList<>();
+                if (helpRequest.getTopics() != null) {
+                    for (Interest topic : helpRequest.getTopics()) {
+                        topicNames.add(topic.getName());
                     }
                 }
+
+                HelpRequestResponseDTO dto = HelpRequestResponseDTO.builder()
+                        .requestId(helpRequest.getRequestId())
+                        .topics(topicNames)
+                        .information(helpRequest.getInformation())
+                        .urgency(helpRequest.getUrgency().toString())
+                        .studentUsername(helpRequest.getStudent().getUsername())
+                        .studentId(helpRequest.getStudent().getId())
+                        .isCompleted(helpRequest.isCompleted())
+                        .requestDate(helpRequest.getRequestDate())
+                        .commentCount(helpRequest.getComments() != null ? helpRequest.getComments().getSize() : 0)
+                        .build();
+                
+                response.add(dto);
             }
 
             return ResponseEntity.ok(response);
@@ -168,14 +160,13 @@ public class HelpRequestController {
             List<HelpRequestResponseDTO> response = new ArrayList<>();
 
             if (helpRequests != null) {
-                for (int i = 0; i < helpRequests.getSize(); i++) {
-                    HelpRequest helpRequest = helpRequests.get(i);
+                for (HelpRequest helpRequest : helpRequests) {
                     
                     // Convert Interest objects to strings
                     List<String> topicNames = new ArrayList<>();
                     if (helpRequest.getTopics() != null) {
-                        for (int j = 0; j < helpRequest.getTopics().getSize(); j++) {
-                            topicNames.add(helpRequest.getTopics().get(j).getName());
+                        for (Interest topic : helpRequest.getTopics()) {
+                            topicNames.add(topic.getName());
                         }
                     }
 
@@ -214,8 +205,8 @@ public class HelpRequestController {
             // Convert Interest objects to strings
             List<String> topicNames = new ArrayList<>();
             if (helpRequest.getTopics() != null) {
-                for (int i = 0; i < helpRequest.getTopics().getSize(); i++) {
-                    topicNames.add(helpRequest.getTopics().get(i).getName());
+                for (Interest topic : helpRequest.getTopics()) {
+                    topicNames.add(topic.getName());
                 }
             }
 
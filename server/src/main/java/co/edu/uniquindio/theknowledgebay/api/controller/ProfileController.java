@@ -18,12 +18,16 @@ import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/profile")
 public class ProfileController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final TheKnowledgeBay theKnowledgeBay;
     private final SessionManager sessionManager;
 
@@ -204,10 +208,17 @@ public class ProfileController {
     
     /**
      * Obtener la lista de seguidores del usuario actual
+     * (paginada con page/size; devuelve items, page, size y total)
      */
     @GetMapping("/followers")
-    public ResponseEntity<List<UserSummaryDTO>> getFollowers(@RequestHeader(value = "Authorization", required = false) String token) {
+    public ResponseEntity<Map<String, Object>> getFollowers(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         System.out.println("GET /api/profile/followers - Token recibido: " + token);
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
         
         String currentUserId = sessionManager.getCurrentUserId(token);
         System.out.println("GET /api/profile/followers - User ID: " + currentUserId);
@@ -221,7 +232,7 @@ public class ProfileController {
         User user = theKnowledgeBay.getUserById(currentUserId);
         if (!(user instanceof Student)) {
             System.out.println("GET /api/profile/followers - Usuario no es Student o no encontrado");
-            return ResponseEntity.ok(new ArrayList<>());
+            return ResponseEntity.ok(pageOf(new ArrayList<>(), page, size, 0));
         }
         
         Student student = (Student) user;
@@ -229,35 +240,33 @@ public class ProfileController {
         
         System.out.println("GET /api/profile/followers - Procesando seguidores para usuario: " + student.getUsername());
         
-        if (student.getFollowers() != null) {
-            System.out.println("GET /api/profile/followers - Lista de seguidores no es null, tamaño: " + student.getFollowers().getSize());
-            DoublyLinkedNode<Student> current = student.getFollowers().getHead();
-            while (current != null) {
-                Student follower = current.getData();
-                System.out.println("GET /api/profile/followers - Procesando seguidor: " + follower.getUsername() + " (ID: " + follower.getId() + ")");
-                UserSummaryDTO dto = UserSummaryDTO.builder()
-                        .id(follower.getId())
-                        .username(follower.getUsername())
-                        .firstName(follower.getFirstName())
-                        .lastName(follower.getLastName())
-                        .build();
-                followers.add(dto);
-                current = current.getNext();
-            }
-        } else {
-            System.out.println("GET /api/profile/followers - Lista de seguidores es null");
+        for (Student follower : student.getFollowersPage(page * size, size)) {
+            UserSummaryDTO dto = UserSummaryDTO.builder()
+                    .id(follower.getId())
+                    .username(follower.getUsername())
+                    .firstName(follower.getFirstName())
+                    .lastName(follower.getLastName())
+                    .build();
+            followers.add(dto);
         }
         
         System.out.println("GET /api/profile/followers - Devolviendo " + followers.size() + " seguidores");
-        return ResponseEntity.ok(followers);
+        return ResponseEntity.ok(pageOf(followers, page, size, student.getFollowersCount()));
     }
     
     /**
      * Obtener la lista de usuarios seguidos por el usuario actual
+     * (paginada con page/size; devuelve items, page, size y total)
      */
     @GetMapping("/following")
-    public ResponseEntity<List<UserSummaryDTO>> getFollowing(@RequestHeader(value = "Authorization", required = false) String token) {
+    public ResponseEntity<Map<String, Object>> getFollowing(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         System.out.println("GET /api/profile/following - Token recibido: " + token);
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
         
         String currentUserId = sessionManager.getCurrentUserId(token);
         System.out.println("GET /api/profile/following - User ID: " + currentUserId);
@@ -271,7 +280,7 @@ public class ProfileController {
         User user = theKnowledgeBay.getUserById(currentUserId);
         if (!(user instanceof Student)) {
             System.out.println("GET /api/profile/following - Usuario no es Student o no encontrado");
-            return ResponseEntity.ok(new ArrayList<>());
+            return ResponseEntity.ok(pageOf(new ArrayList<>(), page, size, 0));
         }
         
         Student student = (Student) user;
@@ -279,27 +288,18 @@ public class ProfileController {
         
         System.out.println("GET /api/profile/following - Procesando seguidos para usuario: " + student.getUsername());
         
-        if (student.getFollowing() != null) {
-            System.out.println("GET /api/profile/following - Lista de seguidos no es null, tamaño: " + student.getFollowing().getSize());
-            DoublyLinkedNode<Student> current = student.getFollowing().getHead();
-            while (current != null) {
-                Student followedUser = current.getData();
-                System.out.println("GET /api/profile/following - Procesando seguido: " + followedUser.getUsername() + " (ID: " + followedUser.getId() + ")");
-                UserSummaryDTO dto = UserSummaryDTO.builder()
-                        .id(followedUser.getId())
-                        .username(followedUser.getUsername())
-                        .firstName(followedUser.getFirstName())
-                        .lastName(followedUser.getLastName())
-                        .build();
-                following.add(dto);
-                current = current.getNext();
-            }
-        } else {
-            System.out.println("GET /api/profile/following - Lista de seguidos es null");
+        for (Student followedUser : student.getFollowingPage(page * size, size)) {
+            UserSummaryDTO dto = UserSummaryDTO.builder()
+                    .id(followedUser.getId())
+                    .username(followedUser.getUsername())
+                    .firstName(followedUser.getFirstName())
+                    .lastName(followedUser.getLastName())
+                    .build();
+            following.add(dto);
         }
         
         System.out.println("GET /api/profile/following - Devolviendo " + following.size() + " seguidos");
-        return ResponseEntity.ok(following);
+        return ResponseEntity.ok(pageOf(following, page, size, student.getFollowingCount()));
     }
 
     /**
@@ -376,4 +376,13 @@ public class ProfileController {
         System.out.println("GET /api/profile/" + userId + " - Perfil devuelto exitosamente");
         return ResponseEntity.ok(response);
     }
+
+    private static Map<String, Object> pageOf(List<UserSummaryDTO> items, int page, int size, int total) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("items", items);
+        result.put("page", page);
+        result.put("size", size);
+        result.put("total", total);
+        return result;
+    }
 }
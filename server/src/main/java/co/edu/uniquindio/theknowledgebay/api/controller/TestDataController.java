@@ -39,9 +39,9 @@ public class TestDataController {
                 StringBuilder response = new StringBuilder();
                 response.append("Chats encontrados: ").append(chatCount).append("\n");
                 
-                for (int i = 0; i < chatCount; i++) {
-                    var chat = theKnowledgeBay.getChats().get(i);
-                    response.append("Chat ").append(i + 1).append(": ")
+                int i = 0;
+                for (var chat : theKnowledgeBay.getChats()) {
+                    response.append("Chat ").append(++i).append(": ")
                             .append(chat.getStudentA().getUsername()).append(" <-> ")
                             .append(chat.getStudentB().getUsername()).append(" (")
                             .append(chat.getMessages().getSize()).append(" mensajes)\n");
@@ -40,7 +40,7 @@ public class UserController {
             List<ProfileResponseDTO> users = new ArrayList<>();
             
             // Get all students
-            DoublyLinkedNode<Student> current = theKnowledgeBay.getUsers().getStudents().getHead();
+            DoublyLinkedNode<Student> current = theKnowledgeBay.getAllStudents().getHead();
             while (current != null) {
                 Student student = current.getData();
                 
@@ -161,8 +161,13 @@ public class UserController {
     @GetMapping("/search")
     public ResponseEntity<List<ProfileResponseDTO>> searchUsers(
             @RequestParam String query,
+            @RequestParam(defaultValue = "20") int limit,
             @RequestHeader(value = "Authorization", required = false) String token) {
-        
+
+        if (limit <= 0 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+
         String currentUserId = null;
         if (token != null && !token.isEmpty() && !token.equals("null")) {
             currentUserId = sessionManager.getCurrentUserId(token);
@@ -170,56 +175,10 @@ public class UserController {
 
         try {
             List<ProfileResponseDTO> users = new ArrayList<>();
-            String queryLower = query.toLowerCase();
-            
-            // Search through all students
-            DoublyLinkedNode<Student> current = theKnowledgeBay.getUsers().getStudents().getHead();
-            while (current != null) {
-                Student student = current.getData();
-                
-                // Check if student matches search query
-                boolean matches = (student.getUsername() != null && student.getUsername().toLowerCase().contains(queryLower)) ||
-                                 (student.getFirstName() != null && student.getFirstName().toLowerCase().contains(queryLower)) ||
-                                 (student.getLastName() != null && student.getLastName().toLowerCase().contains(queryLower)) ||
-                                 (student.getEmail() != null && student.getEmail().toLowerCase().contains(queryLower));
-                
-                // Also check interests
-                if (!matches) {
-                    List<String> studentInterests = student.getStringInterests();
-                    if (studentInterests != null) {
-                        for (String studentInterest : studentInterests) {
-                            if (studentInterest.toLowerCase().contains(queryLower)) {
-                                matches = true;
-                                break;
-                            }
-                        }
-                    }
-                }
-                
-                if (matches) {
-                    // Convert interests to list of strings
-                    List<String> interestNames = student.getStringInterests();
-                    
-                    ProfileResponseDTO dto = ProfileResponseDTO.builder()
-                            .id(student.getId())
-                            .username(student.getUsername())
-                            .email(student.getEmail())
-                            .firstName(student.getFirstName())
-                            .lastName(student.getLastName())
-                            .dateBirth(student.getDateBirth())
-                            .biography(student.getBiography())
-                            .interests(interestNames)
-                            .contentCount(theKnowledgeBay.getContentCountByUserId(student.getId()))
-                            .helpRequestCount(theKnowledgeBay.getHelpRequestCountByUserId(student.getId()))
-                            .currentUserFollowing(currentUserId != null && theKnowledgeBay.isUserFollowing(currentUserId, student.getId()))
-                            .following(student.getFollowingCount())
-                            .followers(student.getFollowersCount())
-                            .build();
-                    
-                    users.add(dto);
-                }
-                
-                current = current.getNext();
+
+            // Best matches first, from the search index instead of scanning every student
+            for (Student student : theKnowledgeBay.searchStudents(query, limit)) {
+                users.add(toProfileDTO(student, currentUserId));
             }
             
             return ResponseEntity.ok(users);
@@ -228,4 +187,50 @@ public class UserController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{userId}/similar")
+    public ResponseEntity<List<ProfileResponseDTO>> getSimilarUsers(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = "Authorization", required = false) String token) {
+
+        if (limit <= 0 || limit > 100) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String currentUserId = null;
+        if (token != null && !token.isEmpty() && !token.equals("null")) {
+            currentUserId = sessionManager.getCurrentUserId(token);
+        }
+
+        try {
+            List<ProfileResponseDTO> users = new ArrayList<>();
+            // Most shared interests first (Jaccard similarity)
+            for (Student student : theKnowledgeBay.findSimilarStudents(userId, limit)) {
+                users.add(toProfileDTO(student, currentUserId));
+            }
+            return ResponseEntity.ok(users);
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private ProfileResponseDTO toProfileDTO(Student student, String currentUserId) {
+        return ProfileResponseDTO.builder()
+                .id(student.getId())
+                .username(student.getUsername())
+                .email(student.getEmail())
+                .firstName(student.getFirstName())
+                .lastName(student.getLastName())
+                .dateBirth(student.getDateBirth())
+                .biography(student.getBiography())
+                .interests(student.getStringInterests())
+                .contentCount(theKnowledgeBay.getContentCountByUserId(student.getId()))
+                .helpRequestCount(theKnowledgeBay.getHelpRequestCountByUserId(student.getId()))
+                .currentUserFollowing(currentUserId != null && theKnowledgeBay.isUserFollowing(currentUserId, student.getId()))
+                .following(student.getFollowingCount())
+                .followers(student.getFollowersCount())
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package co.edu.uniquindio.theknowledgebay.core.factory;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Hash indexes over the registered students by id, email and username.
+ * Email and username keys are lower-cased, so those lookups are case-insensitive
+ * like the login and registration checks that use them.
+ */
+public class UserDirectory {
+
+    private final Map<String, Student> byId = new HashMap<>();
+    private final Map<String, Student> byEmail = new HashMap<>();
+    private final Map<String, Student> byUsername = new HashMap<>();
+
+    // Keys each student was indexed under, so a reindex can drop the stale ones
+    private final Map<Student, IndexKeys> keysByStudent = new IdentityHashMap<>();
+
+    private record IndexKeys(String id, String email, String username) {
+    }
+
+    /**
+     * Indexes a student under its current id, email and username.
+     * If another student already owns one of the keys, the first one keeps it.
+     * @param student the student to index
+     */
+    public void index(Student student) {
+        if (student == null) {
+            return;
+        }
+        IndexKeys keys = new IndexKeys(student.getId(), normalize(student.getEmail()), normalize(student.getUsername()));
+        putKey(byId, keys.id(), student);
+        putKey(byEmail, keys.email(), student);
+        putKey(byUsername, keys.username(), student);
+        keysByStudent.put(student, keys);
+    }
+
+    /**
+     * Refreshes the keys of a student whose id, email or username changed.
+     * @param student the student to reindex
+     */
+    public void reindex(Student student) {
+        remove(student);
+        index(student);
+    }
+
+    /**
+     * Removes every key the student was indexed under.
+     * @param student the student to remove
+     */
+    public void remove(Student student) {
+        IndexKeys keys = keysByStudent.remove(student);
+        if (keys == null) {
+            return;
+        }
+        removeKey(byId, keys.id(), student);
+        removeKey(byEmail, keys.email(), student);
+        removeKey(byUsername, keys.username(), student);
+    }
+
+    public Student findById(String id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    public Student findByEmail(String email) {
+        String key = normalize(email);
+        return key == null ? null : byEmail.get(key);
+    }
+
+    public Student findByUsername(String username) {
+        String key = normalize(username);
+        return key == null ? null : byUsername.get(key);
+    }
+
+    public int size() {
+        return keysByStudent.size();
+    }
+
+    public void clear() {
+        byId.clear();
+        byEmail.clear();
+        byUsername.clear();
+        keysByStudent.clear();
+    }
+
+    private static String normalize(String key) {
+        return key == null ? null : key.trim().toLowerCase();
+    }
+
+    private static void putKey(Map<String, Student> index, String key, Student student) {
+        if (key != null) {
+            index.putIfAbsent(key, student);
+        }
+    }
+
+    private static void removeKey(Map<String, Student> index, String key, Student student) {
+        // Identity check: Student equality compares every field, including the follow lists
+        if (key != null && index.get(key) == student) {
+            index.remove(key);
+        }
+    }
+}
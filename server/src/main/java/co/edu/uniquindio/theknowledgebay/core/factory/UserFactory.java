@@ -7,11 +7,14 @@ import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.grap
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
 
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+
 
 @Getter
 @Setter
@@ -19,6 +22,10 @@ public class UserFactory {
     private Moderator moderator = new Moderator();
     private DoublyLinkedList<Student> students = new DoublyLinkedList<>();
     private UndirectedGraph<Student> studentGraph = new UndirectedGraph<>();
+    @Getter(AccessLevel.NONE)
+    private final UserDirectory directory = new UserDirectory();
+    @Getter(AccessLevel.NONE)
+    private final UserSearchIndex searchIndex = new UserSearchIndex();
     private static UserFactory instance;
 
     public static UserFactory getInstance() {
@@ -30,10 +37,52 @@ public class UserFactory {
 
     public void add(Student s) {
         students.addLast(s);
+        directory.index(s);
+        searchIndex.index(s);
     }
 
     public void clear() {
         students.clear();
+        directory.clear();
+        searchIndex.clear();
+    }
+
+    public void setStudents(DoublyLinkedList<Student> students) {
+        this.students = students;
+        directory.clear();
+        searchIndex.clear();
+        for (Student s : students) {
+            directory.index(s);
+            searchIndex.index(s);
+        }
+    }
+
+    /**
+     * Must be called after changing a student's id, email, username, name or interests.
+     * @param s the student whose lookup keys changed
+     */
+    public void reindex(Student s) {
+        directory.reindex(s);
+        searchIndex.index(s);
+    }
+
+    /**
+     * Best matches for the user search box, best first; see {@link UserSearchIndex#search}.
+     */
+    public List<Student> searchStudents(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    public Student findStudentById(String id) {
+        return directory.findById(id);
+    }
+
+    public Student findStudentByEmail(String email) {
+        return directory.findByEmail(email);
+    }
+
+    public Student findStudentByUsername(String username) {
+        return directory.findByUsername(username);
     }
 
     public void setModerator(ModeratorProperties props, String password) {
@@ -0,0 +1,260 @@
+package co.edu.uniquindio.theknowledgebay.core.factory;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.IntArrayList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.search.TextAnalyzer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Search index over the students' username, first and last name, email and
+ * interests, for the user search box. Matching ignores case and accents.
+ * <p>
+ * A query of three or more characters matches students with the query
+ * anywhere in one of those fields. Each field is indexed by its trigrams, so
+ * only students holding the query's rarest trigram are checked. Shorter
+ * queries match students with a word that starts with the query, through a
+ * sorted word map.
+ * <p>
+ * Each indexed student gets a slot number, and posting lists only ever get
+ * slots appended. Reindexing a student gives them a new slot and leaves the
+ * old one dead; once dead slots outnumber live ones the index is rebuilt.
+ * <p>
+ * Not thread-safe; UserFactory maintains it next to the {@link UserDirectory}.
+ */
+public class UserSearchIndex {
+
+    private static final int MIN_DEAD_TO_REBUILD = 64;
+
+    private record Entry(Student student, String username, String firstName, String lastName, String email,
+                         List<String> interests) {
+    }
+
+    private final List<Entry> slots = new ArrayList<>();
+    private final Map<Student, Integer> slotOf = new IdentityHashMap<>();
+    private final Map<Long, IntArrayList> trigrams = new HashMap<>();
+    private final TreeMap<String, IntArrayList> words = new TreeMap<>();
+
+    /**
+     * Indexes a student's current fields, replacing what was indexed for them before.
+     */
+    public void index(Student student) {
+        if (student == null) {
+            return;
+        }
+        remove(student);
+        List<String> interests = new ArrayList<>();
+        if (student.getInterests() != null) {
+            for (Interest interest : student.getInterests()) {
+                if (interest != null && interest.getName() != null) {
+                    interests.add(TextAnalyzer.fold(interest.getName()));
+                }
+            }
+        }
+        Entry entry = new Entry(student, fold(student.getUsername()), fold(student.getFirstName()),
+                fold(student.getLastName()), fold(student.getEmail()), interests);
+        int slot = slots.size();
+        slots.add(entry);
+        slotOf.put(student, slot);
+
+        Set<Long> seenTrigrams = new HashSet<>();
+        Set<String> seenWords = new HashSet<>();
+        for (String field : fieldsOf(entry)) {
+            for (int i = 0; i + 3 <= field.length(); i++) {
+                long trigram = trigram(field, i);
+                if (seenTrigrams.add(trigram)) {
+                    trigrams.computeIfAbsent(trigram, k -> new IntArrayList()).add(slot);
+                }
+            }
+            for (String word : field.split("[^\\p{L}\\p{Nd}]+")) {
+                if (!word.isEmpty() && seenWords.add(word)) {
+                    words.computeIfAbsent(word, k -> new IntArrayList()).add(slot);
+                }
+            }
+        }
+    }
+
+    public void remove(Student student) {
+        Integer slot = slotOf.remove(student);
+        if (slot == null) {
+            return;
+        }
+        slots.set(slot, null);
+        int dead = slots.size() - slotOf.size();
+        if (dead >= MIN_DEAD_TO_REBUILD && dead > slotOf.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the best matches, best first: an exact username, then a
+     * username prefix, a name prefix, a match inside the username or name,
+     * the email and finally the interests. Ties go to the shorter username.
+     *
+     * @param query the text typed by the user
+     * @param limit the maximum number of students to return
+     */
+    public List<Student> search(String query, int limit) {
+        String q = query == null ? "" : TextAnalyzer.fold(query.trim());
+        if (q.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        BitSet seen = new BitSet(slots.size());
+        PriorityQueue<Match> best = new PriorityQueue<>(Math.min(limit, 64) + 1);
+        for (IntArrayList candidates : candidateLists(q)) {
+            for (int i = 0; i < candidates.size(); i++) {
+                int slot = candidates.get(i);
+                Entry entry = slots.get(slot);
+                if (entry == null || seen.get(slot)) {
+                    continue;
+                }
+                seen.set(slot);
+                int score = score(entry, q);
+                if (score == 0) {
+                    continue;
+                }
+                Match match = new Match(entry, score);
+                if (best.size() < limit) {
+                    best.add(match);
+                } else if (match.compareTo(best.peek()) > 0) {
+                    best.poll();
+                    best.add(match);
+                }
+            }
+        }
+        Student[] ranked = new Student[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = best.poll().entry().student();
+        }
+        return new ArrayList<>(List.of(ranked));
+    }
+
+    public int size() {
+        return slotOf.size();
+    }
+
+    public void clear() {
+        slots.clear();
+        slotOf.clear();
+        trigrams.clear();
+        words.clear();
+    }
+
+    // Ordered from the worst match to the best
+    private record Match(Entry entry, int score) implements Comparable<Match> {
+        @Override
+        public int compareTo(Match other) {
+            if (score != other.score) {
+                return Integer.compare(score, other.score);
+            }
+            String username = entry.username();
+            String otherUsername = other.entry.username();
+            if (username.length() != otherUsername.length()) {
+                return Integer.compare(otherUsername.length(), username.length());
+            }
+            return otherUsername.compareTo(username);
+        }
+    }
+
+    // The rarest trigram's list for long queries, the lists of every word with the prefix for short ones
+    private List<IntArrayList> candidateLists(String q) {
+        List<IntArrayList> lists = new ArrayList<>();
+        if (q.length() >= 3) {
+            IntArrayList rarest = null;
+            for (int i = 0; i + 3 <= q.length(); i++) {
+                IntArrayList list = trigrams.get(trigram(q, i));
+                if (list == null) {
+                    return lists;
+                }
+                if (rarest == null || list.size() < rarest.size()) {
+                    rarest = list;
+                }
+            }
+            lists.add(rarest);
+        } else {
+            lists.addAll(words.subMap(q, true, q + Character.MAX_VALUE, false).values());
+        }
+        return lists;
+    }
+
+    // 0 when the query matches no field
+    private static int score(Entry entry, String q) {
+        if (entry.username().equals(q)) {
+            return 100;
+        }
+        if (entry.username().startsWith(q)) {
+            return 90;
+        }
+        if (startsWord(entry.firstName(), q) || startsWord(entry.lastName(), q)) {
+            return 70;
+        }
+        if (entry.username().contains(q)) {
+            return 60;
+        }
+        if (entry.firstName().contains(q) || entry.lastName().contains(q)) {
+            return 50;
+        }
+        if (entry.email().startsWith(q)) {
+            return 45;
+        }
+        if (entry.email().contains(q)) {
+            return 40;
+        }
+        int score = 0;
+        for (String interest : entry.interests()) {
+            if (startsWord(interest, q)) {
+                return 30;
+            }
+            if (interest.contains(q)) {
+                score = 20;
+            }
+        }
+        return score;
+    }
+
+    private static boolean startsWord(String field, String q) {
+        for (int i = field.indexOf(q); i >= 0; i = field.indexOf(q, i + 1)) {
+            if (i == 0 || !Character.isLetterOrDigit(field.charAt(i - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuild() {
+        List<Student> live = new ArrayList<>();
+        for (Entry entry : slots) {
+            if (entry != null) {
+                live.add(entry.student());
+            }
+        }
+        clear();
+        for (Student student : live) {
+            index(student);
+        }
+    }
+
+    private static List<String> fieldsOf(Entry entry) {
+        List<String> fields = new ArrayList<>(List.of(entry.username(), entry.firstName(), entry.lastName(), entry.email()));
+        fields.addAll(entry.interests());
+        return fields;
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static String fold(String value) {
+        return value == null ? "" : TextAnalyzer.fold(value);
+    }
+}
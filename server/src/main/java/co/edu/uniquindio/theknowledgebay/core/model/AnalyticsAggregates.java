@@ -0,0 +1,310 @@
+package co.edu.uniquindio.theknowledgebay.core.model;
+
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ActivityGranularity;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.concurrent.AggregateLock;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.timeseries.RingBufferCounter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Analytics counters kept up to date as the model is written, so the
+ * dashboards read them instead of rescanning every content item and help
+ * request.
+ * <p>
+ * Topics are keyed by name, like the topics attached to content and help
+ * requests. The store keeps, per topic, how many content items and help
+ * requests carry it and which students are interested in it.
+ * <p>
+ * Activity (content published plus help requests made) is kept as day and
+ * week histograms in ring buffers: overall, per topic and per student. Weeks
+ * start on Monday. Overall and per-topic histograms keep about 13 months of
+ * days and two years of weeks; per-student ones, which are far more
+ * numerous, keep five weeks of days and a year of weeks.
+ * <p>
+ * The store is safe for concurrent use; TheKnowledgeBay calls it while
+ * holding the lock of the aggregate being written.
+ */
+public class AnalyticsAggregates {
+
+    private static final int DAYS_KEPT = 400;
+    private static final int WEEKS_KEPT = 104;
+    private static final int STUDENT_DAYS_KEPT = 35;
+    private static final int STUDENT_WEEKS_KEPT = 53;
+
+    private final Map<String, int[]> contentByTopic = new HashMap<>();
+    private final Map<String, int[]> helpRequestsByTopic = new HashMap<>();
+    private final ActivitySeries activity = new ActivitySeries(DAYS_KEPT, WEEKS_KEPT);
+    private final Map<String, ActivitySeries> activityByTopic = new HashMap<>();
+    private final Map<String, ActivitySeries> activityByStudent = new HashMap<>();
+    private final Map<String, Map<String, Student>> membersByTopic = new HashMap<>();
+    private final Map<String, Set<String>> topicsByStudent = new HashMap<>();
+    private final AggregateLock lock = new AggregateLock();
+
+    public void contentAdded(Content content) {
+        lock.write(() -> countContent(content, 1));
+    }
+
+    public void contentRemoved(Content content) {
+        lock.write(() -> countContent(content, -1));
+    }
+
+    public void helpRequestAdded(HelpRequest request) {
+        lock.write(() -> countHelpRequest(request, 1));
+    }
+
+    public void helpRequestRemoved(HelpRequest request) {
+        lock.write(() -> countHelpRequest(request, -1));
+    }
+
+    /**
+     * Replaces the topics the student is counted under with their current interests.
+     *
+     * @param student a student whose interests were set or changed
+     */
+    public void studentInterestsChanged(Student student) {
+        if (student == null || student.getId() == null) {
+            return;
+        }
+        lock.write(() -> indexStudent(student));
+    }
+
+    /**
+     * Drops what is still kept under a deleted topic. Its content and help
+     * requests must already have been removed, or re-added without it.
+     */
+    public void topicDeleted(String topic) {
+        if (topic == null) {
+            return;
+        }
+        lock.write(() -> {
+            contentByTopic.remove(topic);
+            helpRequestsByTopic.remove(topic);
+            activityByTopic.remove(topic);
+            membersByTopic.remove(topic);
+        });
+    }
+
+    /**
+     * Recomputes every counter from scratch, after the model was bulk-loaded.
+     */
+    public void rebuild(Iterable<Student> students, Iterable<Content> contents, Iterable<HelpRequest> requests) {
+        lock.write(() -> {
+            clearAll();
+            for (Student student : students) {
+                if (student.getId() != null) {
+                    indexStudent(student);
+                }
+            }
+            if (contents != null) {
+                for (Content content : contents) {
+                    countContent(content, 1);
+                }
+            }
+            if (requests != null) {
+                for (HelpRequest request : requests) {
+                    countHelpRequest(request, 1);
+                }
+            }
+        });
+    }
+
+    public int getContentCount(String topic) {
+        return lock.read(() -> valueOf(contentByTopic.get(topic)));
+    }
+
+    public int getHelpRequestCount(String topic) {
+        return lock.read(() -> valueOf(helpRequestsByTopic.get(topic)));
+    }
+
+    /**
+     * Activity (content published plus help requests made) between two days, both included.
+     */
+    public int getActivityBetween(LocalDate from, LocalDate to) {
+        return lock.read(() -> activity.days.sum(bucketOf(ActivityGranularity.DAY, from),
+                bucketOf(ActivityGranularity.DAY, to)));
+    }
+
+    /**
+     * Activity histogram over the buckets that contain {@code from} through
+     * {@code to}, one entry per bucket; see {@link #startOf} for their dates.
+     *
+     * @param topic     only activity tagged with this topic, or null for all
+     * @param studentId only activity of this student, or null for all; wins over the topic
+     * @throws IllegalArgumentException if the range spans more buckets than are kept
+     */
+    public int[] getActivity(ActivityGranularity granularity, LocalDate from, LocalDate to, String topic, String studentId) {
+        int first = bucketOf(granularity, from);
+        int last = bucketOf(granularity, to);
+        return lock.read(() -> {
+            ActivitySeries series = studentId != null ? activityByStudent.get(studentId)
+                    : topic != null ? activityByTopic.get(topic) : activity;
+            int kept = studentId != null ? (granularity == ActivityGranularity.DAY ? STUDENT_DAYS_KEPT : STUDENT_WEEKS_KEPT)
+                    : (granularity == ActivityGranularity.DAY ? DAYS_KEPT : WEEKS_KEPT);
+            if (last - first + 1 > kept) {
+                throw new IllegalArgumentException("Only the last " + kept + " " + granularity.name().toLowerCase()
+                        + " buckets are kept");
+            }
+            return series == null ? new int[last - first + 1] : series.counter(granularity).range(first, last);
+        });
+    }
+
+    public static int bucketOf(ActivityGranularity granularity, LocalDate date) {
+        long day = date.toEpochDay();
+        // 1970-01-01 was a Thursday, so shifting by 3 days makes weeks start on Monday
+        return (int) (granularity == ActivityGranularity.DAY ? day : Math.floorDiv(day + 3, 7));
+    }
+
+    /**
+     * @return the first day of a bucket
+     */
+    public static LocalDate startOf(ActivityGranularity granularity, int bucket) {
+        return LocalDate.ofEpochDay(granularity == ActivityGranularity.DAY ? bucket : bucket * 7L - 3);
+    }
+
+    /**
+     * Names of the students interested in a topic (username, or id if they
+     * have none), without repeats, in the order they were indexed.
+     */
+    public List<String> getMemberNames(String topic) {
+        return lock.read(() -> {
+            Map<String, Student> members = membersByTopic.get(topic);
+            if (members == null) {
+                return new ArrayList<>();
+            }
+            Set<String> names = new LinkedHashSet<>();
+            for (Student student : members.values()) {
+                names.add(student.getUsername() != null ? student.getUsername() : student.getId());
+            }
+            return new ArrayList<>(names);
+        });
+    }
+
+    public void clear() {
+        lock.write(this::clearAll);
+    }
+
+    private void clearAll() {
+        contentByTopic.clear();
+        helpRequestsByTopic.clear();
+        activity.clear();
+        activityByTopic.clear();
+        activityByStudent.clear();
+        membersByTopic.clear();
+        topicsByStudent.clear();
+    }
+
+    private void countContent(Content content, int delta) {
+        countTopics(contentByTopic, content.getTopics(), delta);
+        countActivity(content.getDate(), content.getTopics(), content.getAuthor(), delta);
+    }
+
+    private void countHelpRequest(HelpRequest request, int delta) {
+        countTopics(helpRequestsByTopic, request.getTopics(), delta);
+        countActivity(request.getRequestDate(), request.getTopics(), request.getStudent(), delta);
+    }
+
+    // Every topic entry counts, as the dashboard always did
+    private static void countTopics(Map<String, int[]> counters, DynamicArrayList<Interest> topics, int delta) {
+        if (topics == null) {
+            return;
+        }
+        for (Interest topic : topics) {
+            if (topic != null && topic.getName() != null) {
+                add(counters, topic.getName(), delta);
+            }
+        }
+    }
+
+    private void countActivity(LocalDate date, DynamicArrayList<Interest> topics, Student student, int delta) {
+        if (date == null) {
+            return;
+        }
+        activity.add(date, delta);
+        if (topics != null) {
+            Set<String> counted = new HashSet<>();
+            for (Interest topic : topics) {
+                if (topic != null && topic.getName() != null && counted.add(topic.getName())) {
+                    activityByTopic.computeIfAbsent(topic.getName(), k -> new ActivitySeries(DAYS_KEPT, WEEKS_KEPT))
+                            .add(date, delta);
+                }
+            }
+        }
+        if (student != null && student.getId() != null) {
+            activityByStudent.computeIfAbsent(student.getId(),
+                    k -> new ActivitySeries(STUDENT_DAYS_KEPT, STUDENT_WEEKS_KEPT)).add(date, delta);
+        }
+    }
+
+    private static <K> void add(Map<K, int[]> counters, K key, int delta) {
+        int[] counter = counters.computeIfAbsent(key, k -> new int[1]);
+        counter[0] += delta;
+        if (counter[0] <= 0) {
+            counters.remove(key);
+        }
+    }
+
+    private void indexStudent(Student student) {
+        Set<String> previous = topicsByStudent.remove(student.getId());
+        if (previous != null) {
+            for (String topic : previous) {
+                Map<String, Student> members = membersByTopic.get(topic);
+                if (members != null) {
+                    members.remove(student.getId());
+                    if (members.isEmpty()) {
+                        membersByTopic.remove(topic);
+                    }
+                }
+            }
+        }
+        Set<String> topics = new LinkedHashSet<>();
+        if (student.getInterests() != null) {
+            for (Interest interest : student.getInterests()) {
+                if (interest != null && interest.getName() != null && topics.add(interest.getName())) {
+                    membersByTopic.computeIfAbsent(interest.getName(), k -> new LinkedHashMap<>())
+                            .put(student.getId(), student);
+                }
+            }
+        }
+        if (!topics.isEmpty()) {
+            topicsByStudent.put(student.getId(), topics);
+        }
+    }
+
+    private static int valueOf(int[] counter) {
+        return counter == null ? 0 : counter[0];
+    }
+
+    // Day and week histograms of one activity stream
+    private static final class ActivitySeries {
+        private final RingBufferCounter days;
+        private final RingBufferCounter weeks;
+
+        ActivitySeries(int daysKept, int weeksKept) {
+            days = new RingBufferCounter(daysKept);
+            weeks = new RingBufferCounter(weeksKept);
+        }
+
+        void add(LocalDate date, int delta) {
+            days.add(bucketOf(ActivityGranularity.DAY, date), delta);
+            weeks.add(bucketOf(ActivityGranularity.WEEK, date), delta);
+        }
+
+        RingBufferCounter counter(ActivityGranularity granularity) {
+            return granularity == ActivityGranularity.DAY ? days : weeks;
+        }
+
+        void clear() {
+            days.clear();
+            weeks.clear();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package co.edu.uniquindio.theknowledgebay.core.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Ids of the items each student authored, in ascending id order, so
+ * per-author listings and counters read one entry instead of scanning every
+ * content item or help request. Counting is O(1); adding and removing an id
+ * are O(log k) in the author's item count.
+ * <p>
+ * Not thread-safe; TheKnowledgeBay keeps one per aggregate and only uses it
+ * under that aggregate's lock.
+ */
+public class AuthorIndex {
+
+    private final Map<String, NavigableSet<Integer>> idsByAuthor = new HashMap<>();
+
+    public void add(String authorId, int id) {
+        if (authorId != null) {
+            idsByAuthor.computeIfAbsent(authorId, k -> new TreeSet<>()).add(id);
+        }
+    }
+
+    public void remove(String authorId, int id) {
+        NavigableSet<Integer> ids = authorId != null ? idsByAuthor.get(authorId) : null;
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByAuthor.remove(authorId);
+            }
+        }
+    }
+
+    /**
+     * @return how many items the author has, 0 if none or the id is null.
+     */
+    public int count(String authorId) {
+        NavigableSet<Integer> ids = authorId != null ? idsByAuthor.get(authorId) : null;
+        return ids != null ? ids.size() : 0;
+    }
+
+    /**
+     * @return a copy of the author's item ids, in ascending order.
+     */
+    public List<Integer> ids(String authorId) {
+        NavigableSet<Integer> ids = authorId != null ? idsByAuthor.get(authorId) : null;
+        return ids != null ? new ArrayList<>(ids) : new ArrayList<>();
+    }
+
+    public void clear() {
+        idsByAuthor.clear();
+    }
+}
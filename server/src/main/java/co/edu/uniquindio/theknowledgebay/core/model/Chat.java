@@ -20,11 +20,39 @@ public class Chat {
     private Student studentB;
     private DoublyLinkedList<Message> messages;
 
-    public void sendMessage(Message m) {
+    // Synchronized on the chat, so messages to different chats never contend
+    public synchronized void sendMessage(Message m) {
         // TODO: implement functionality
         if (messages != null) {
             messages.addLast(m);
         }
     }
 
+    /**
+     * Returns the most recent message, read from the list tail in O(1).
+     *
+     * @return the last message, or null if the chat has none
+     */
+    public synchronized Message getLastMessage() {
+        if (messages == null || messages.getTail() == null) {
+            return null;
+        }
+        return messages.getTail().getData();
+    }
+
+    /**
+     * Returns a copy of the messages that is safe to iterate while others keep sending.
+     *
+     * @return the messages in sending order
+     */
+    public synchronized DoublyLinkedList<Message> getMessagesSnapshot() {
+        DoublyLinkedList<Message> copy = new DoublyLinkedList<>();
+        if (messages != null) {
+            for (Message m : messages) {
+                copy.addLast(m);
+            }
+        }
+        return copy;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package co.edu.uniquindio.theknowledgebay.core.model;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.concurrent.AggregateLock;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Indexed store of the chats between students.
+ * Chats are keyed by their normalized participant pair, and every participant
+ * has an inbox of their chats keyed by the other participant's id, so finding
+ * a chat is O(1) and listing a user's chats is O(contacts).
+ * The registry is safe for concurrent use; the messages of each chat are
+ * guarded by the chat itself.
+ */
+public class ChatRegistry {
+
+    private final DoublyLinkedList<Chat> chats = new DoublyLinkedList<>();
+    private final Map<PairKey, Chat> chatsByPair = new HashMap<>();
+    private final Map<String, Map<String, Chat>> inboxes = new HashMap<>();
+    private final AggregateLock lock = new AggregateLock();
+
+    /**
+     * Order-independent key for a pair of user ids.
+     */
+    private record PairKey(String low, String high) {
+        static PairKey of(String userId1, String userId2) {
+            return userId1.compareTo(userId2) <= 0 ? new PairKey(userId1, userId2) : new PairKey(userId2, userId1);
+        }
+    }
+
+    /**
+     * Adds a chat to the registry. If the pair already has a chat, that one is kept.
+     *
+     * @param chat the chat to register
+     * @return the chat stored for the pair
+     */
+    public Chat register(Chat chat) {
+        String idA = chat.getStudentA().getId();
+        String idB = chat.getStudentB().getId();
+        return lock.write(() -> {
+            Chat existing = chatsByPair.putIfAbsent(PairKey.of(idA, idB), chat);
+            if (existing != null) {
+                return existing;
+            }
+            chats.addLast(chat);
+            inboxes.computeIfAbsent(idA, k -> new LinkedHashMap<>()).put(idB, chat);
+            inboxes.computeIfAbsent(idB, k -> new LinkedHashMap<>()).put(idA, chat);
+            return chat;
+        });
+    }
+
+    /**
+     * Finds the chat between two users, in either order.
+     *
+     * @return the chat, or null if they have not talked yet
+     */
+    public Chat find(String userId1, String userId2) {
+        if (userId1 == null || userId2 == null) {
+            return null;
+        }
+        return lock.read(() -> chatsByPair.get(PairKey.of(userId1, userId2)));
+    }
+
+    /**
+     * Returns the chats a user takes part in, in creation order.
+     *
+     * @param userId the user id
+     * @return a copy of the user's chats
+     */
+    public Collection<Chat> getInbox(String userId) {
+        if (userId == null) {
+            return Collections.emptyList();
+        }
+        return lock.read(() -> {
+            Map<String, Chat> inbox = inboxes.get(userId);
+            return inbox != null ? new ArrayList<>(inbox.values()) : Collections.<Chat>emptyList();
+        });
+    }
+
+    /**
+     * Returns a copy of every chat in creation order.
+     */
+    public DoublyLinkedList<Chat> getChats() {
+        return lock.read(() -> {
+            DoublyLinkedList<Chat> copy = new DoublyLinkedList<>();
+            for (Chat chat : chats) {
+                copy.addLast(chat);
+            }
+            return copy;
+        });
+    }
+
+    public int size() {
+        return lock.read(chats::getSize);
+    }
+
+    public void clear() {
+        lock.write(() -> {
+            chats.clear();
+            chatsByPair.clear();
+            inboxes.clear();
+        });
+    }
+}
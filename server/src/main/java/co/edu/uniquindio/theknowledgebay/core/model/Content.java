@@ -1,12 +1,17 @@
 package co.edu.uniquindio.theknowledgebay.core.model;
 
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
 import lombok.Data;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -15,27 +20,67 @@ import java.time.LocalDate;
 public class Content implements Comparable<Content> {
 
     private int contentId;
-    private DoublyLinkedList<Interest> topics;
+    private DynamicArrayList<Interest> topics;
     private String title;
     private ContentType contentType;
     private String information;
     private Student author;
-    private DoublyLinkedList<Student> likedBy;
+    // Likers by student id, in the order they liked; like, unlike and hasLiked are O(1)
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Map<String, Student> likers = new LinkedHashMap<>();
     private int likeCount;
     private DoublyLinkedList<Comment> comments;
     private LocalDate date;
 
-    public void addLike(Student s) {
-        // TODO: implement functionality
+    /**
+     * Records a like and raises the like count.
+     *
+     * @return false if the student had already liked this content
+     */
+    public boolean addLike(Student s) {
+        if (s == null || s.getId() == null || likers.putIfAbsent(s.getId(), s) != null) {
+            return false;
+        }
+        likeCount++;
+        return true;
     }
 
-    public void removeLike(Student s) {
-        // TODO: implement functionality
+    /**
+     * Removes a like and lowers the like count.
+     *
+     * @return false if the student had not liked this content
+     */
+    public boolean removeLike(Student s) {
+        return s != null && removeLike(s.getId());
+    }
+
+    public boolean removeLike(String studentId) {
+        if (studentId == null || likers.remove(studentId) == null) {
+            return false;
+        }
+        likeCount = Math.max(0, likeCount - 1);
+        return true;
     }
 
     public boolean hasLiked(Student s) {
-        // TODO: implement functionality
-        return false;
+        return s != null && hasLiked(s.getId());
+    }
+
+    public boolean hasLiked(String studentId) {
+        return studentId != null && likers.containsKey(studentId);
+    }
+
+    /**
+     * @return a copy of the likers, in the order they liked
+     */
+    public DoublyLinkedList<Student> getLikedBy() {
+        DoublyLinkedList<Student> likedBy = new DoublyLinkedList<>();
+        for (Student liker : likers.values()) {
+            likedBy.addLast(liker);
+        }
+        return likedBy;
     }
 
     public void addComment(Comment c) {
@@ -0,0 +1,130 @@
+package co.edu.uniquindio.theknowledgebay.core.model;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees.OrderStatisticTree;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Content ranked by likes, most liked first and oldest id first on ties,
+ * overall and per topic.
+ * <p>
+ * Each ranking is an {@link OrderStatisticTree} keyed by (like count,
+ * content id), so a like or unlike moves one entry in O(log n) per topic of
+ * the content, and a page of the ranking is read in O(log n + page size).
+ * Entries remember the like count and topics they were ranked with, so an
+ * entry is found again after the content changes. Topics are matched like
+ * the InterestRegistry matches names, ignoring case and surrounding spaces.
+ * <p>
+ * Not thread-safe; TheKnowledgeBay only uses it under the content lock.
+ */
+public class ContentLeaderboard {
+
+    private record Entry(int likeCount, int contentId, Content content, Set<String> topics) {
+    }
+
+    private static final Comparator<Entry> MOST_LIKED_FIRST = Comparator
+            .comparingInt(Entry::likeCount).reversed()
+            .thenComparingInt(Entry::contentId);
+
+    private final OrderStatisticTree<Entry> all = new OrderStatisticTree<>(MOST_LIKED_FIRST);
+    private final Map<String, OrderStatisticTree<Entry>> byTopic = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+
+    /**
+     * Ranks a content item, or re-ranks it if it is already ranked, e.g.
+     * after a like, an unlike or an edit.
+     */
+    public void update(Content content) {
+        remove(content.getContentId());
+        Entry entry = new Entry(content.getLikeCount(), content.getContentId(), content, topicsOf(content));
+        entries.put(entry.contentId(), entry);
+        all.insert(entry);
+        for (String topic : entry.topics()) {
+            byTopic.computeIfAbsent(topic, k -> new OrderStatisticTree<>(MOST_LIKED_FIRST)).insert(entry);
+        }
+    }
+
+    public void remove(int contentId) {
+        Entry entry = entries.remove(contentId);
+        if (entry == null) {
+            return;
+        }
+        all.remove(entry);
+        for (String topic : entry.topics()) {
+            OrderStatisticTree<Entry> ranking = byTopic.get(topic);
+            if (ranking != null) {
+                ranking.remove(entry);
+                if (ranking.isEmpty()) {
+                    byTopic.remove(topic);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ranks every content item from scratch, after the model was bulk-loaded.
+     */
+    public void rebuild(Iterable<Content> contents) {
+        all.clear();
+        byTopic.clear();
+        entries.clear();
+        if (contents != null) {
+            for (Content content : contents) {
+                update(content);
+            }
+        }
+    }
+
+    /**
+     * Returns a page of the ranking.
+     *
+     * @param topic  only content with this topic (ignoring case), or null for all
+     * @param offset the rank of the first item, 0 being the most liked
+     * @param limit  the maximum number of items
+     */
+    public List<Content> top(String topic, int offset, int limit) {
+        OrderStatisticTree<Entry> ranking = topic == null ? all : byTopic.get(keyOf(topic));
+        List<Content> result = new ArrayList<>();
+        if (ranking != null) {
+            for (Entry entry : ranking.page(offset, limit)) {
+                result.add(entry.content());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return how many content items are ranked, overall or for a topic.
+     */
+    public int count(String topic) {
+        OrderStatisticTree<Entry> ranking = topic == null ? all : byTopic.get(keyOf(topic));
+        return ranking != null ? ranking.size() : 0;
+    }
+
+    private static Set<String> topicsOf(Content content) {
+        Set<String> topics = new LinkedHashSet<>();
+        if (content.getTopics() != null) {
+            for (Interest topic : content.getTopics()) {
+                String key = topic != null ? keyOf(topic.getName()) : null;
+                if (key != null) {
+                    topics.add(key);
+                }
+            }
+        }
+        return topics;
+    }
+
+    private static String keyOf(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return null;
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
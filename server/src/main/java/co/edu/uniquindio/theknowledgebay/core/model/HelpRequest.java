@@ -1,6 +1,7 @@
 package co.edu.uniquindio.theknowledgebay.core.model;
 
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
 import lombok.Data;
 import lombok.AllArgsConstructor;
@@ -15,7 +16,7 @@ import java.time.LocalDate;
 public class HelpRequest implements Comparable<HelpRequest> {
 
     private int requestId;
-    private DoublyLinkedList<Interest> topics;
+    private DynamicArrayList<Interest> topics;
     private String information;
     private Urgency urgency;
     private Student student;
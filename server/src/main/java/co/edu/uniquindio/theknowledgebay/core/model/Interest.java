@@ -1,16 +1,31 @@
 package co.edu.uniquindio.theknowledgebay.core.model;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Builder;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
-@Builder
 public class Interest {
     private String idInterest;
     private String name;
-}
\ No newline at end of file
+
+    // Dense id given by the InterestRegistry to its canonical instances, -1 otherwise
+    @JsonIgnore
+    @Setter(AccessLevel.PACKAGE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private transient int ordinal = -1;
+
+    @Builder
+    public Interest(String idInterest, String name) {
+        this.idInterest = idInterest;
+        this.name = name;
+    }
+}
@@ -0,0 +1,445 @@
+package co.edu.uniquindio.theknowledgebay.core.model;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.concurrent.AggregateLock;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.bitsets.LongBitSet;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * The interests known to the system, with one canonical {@link Interest}
+ * instance per interest, found by id or by name (ignoring case) in O(1).
+ * <p>
+ * Each registered interest gets a small int ordinal, which is reused after
+ * the interest is deleted, so ordinals stay dense and can index arrays and
+ * bitsets. Interests that were never registered, or were deleted, have
+ * ordinal -1.
+ * <p>
+ * Each indexed student carries their interests as a bitset of ordinals (see
+ * {@link Student#getInterestBits()}), so interests are compared between
+ * students with a few word-level ANDs instead of comparing names.
+ * <p>
+ * The registry also keeps, per interest, the students interested in it, the
+ * ids of the content items and help requests tagged with it, and its study
+ * group. Like {@link AnalyticsAggregates} it remembers what each student,
+ * content item and help request was indexed under, so it can be updated
+ * after the item changed.
+ * <p>
+ * The registry is safe for concurrent use; TheKnowledgeBay calls it while
+ * holding the lock of the aggregate being written.
+ */
+public class InterestRegistry {
+
+    // What is indexed under one registered interest
+    private static final class Postings {
+        private final Map<String, Student> students = new LinkedHashMap<>();
+        private final NavigableSet<Integer> contentIds = new TreeSet<>();
+        private final NavigableSet<Integer> helpRequestIds = new TreeSet<>();
+    }
+
+    private final DynamicArrayList<Interest> interests = new DynamicArrayList<>();
+    private final Map<String, Interest> byId = new HashMap<>();
+    private final Map<String, Interest> byName = new HashMap<>();
+    private final List<Interest> byOrdinal = new ArrayList<>();
+    private final List<Postings> postings = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    // Study groups by topic name, also for topics that are not registered interests
+    private final Map<String, StudyGroup> groupsByTopic = new HashMap<>();
+    private final Map<String, Interest[]> topicsByStudent = new HashMap<>();
+    private final Map<Integer, Interest[]> topicsByContent = new HashMap<>();
+    private final Map<Integer, Interest[]> topicsByHelpRequest = new HashMap<>();
+    private final AggregateLock lock = new AggregateLock();
+
+    /**
+     * Registers an interest, which becomes the canonical instance for its name and id.
+     *
+     * @return false if the interest has no name or an interest with the same name is already registered.
+     */
+    public boolean register(Interest interest) {
+        return lock.write(() -> {
+            String key = keyOf(interest.getName());
+            if (key == null || byName.containsKey(key)) {
+                return false;
+            }
+            int ordinal = freeOrdinals.isEmpty() ? byOrdinal.size() : freeOrdinals.pop();
+            if (ordinal == byOrdinal.size()) {
+                byOrdinal.add(interest);
+                postings.add(new Postings());
+            } else {
+                byOrdinal.set(ordinal, interest);
+                postings.set(ordinal, new Postings());
+            }
+            interest.setOrdinal(ordinal);
+            interests.addLast(interest);
+            byName.put(key, interest);
+            if (interest.getIdInterest() != null) {
+                byId.put(interest.getIdInterest(), interest);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Renames a registered interest; its study group, if any, follows it.
+     *
+     * @return false if the interest is not registered or another interest already has the new name.
+     */
+    public boolean rename(Interest interest, String newName) {
+        return lock.write(() -> {
+            String oldKey = keyOf(interest.getName());
+            String newKey = keyOf(newName);
+            if (newKey == null || !isRegistered(interest)) {
+                return false;
+            }
+            Interest existing = byName.get(newKey);
+            if (existing != null && existing != interest) {
+                return false;
+            }
+            byName.remove(oldKey);
+            byName.put(newKey, interest);
+            StudyGroup group = groupsByTopic.remove(oldKey);
+            if (group != null) {
+                groupsByTopic.put(newKey, group);
+            }
+            interest.setName(newName);
+            return true;
+        });
+    }
+
+    /**
+     * Deletes an interest and everything indexed under it, and frees its ordinal.
+     *
+     * @return the deleted interest, or null if no interest has that id.
+     */
+    public Interest removeById(String id) {
+        return lock.write(() -> {
+            Interest interest = id != null ? byId.remove(id) : null;
+            if (interest == null) {
+                return null;
+            }
+            byName.remove(keyOf(interest.getName()));
+            groupsByTopic.remove(keyOf(interest.getName()));
+            interests.remove(interest);
+            int ordinal = interest.getOrdinal();
+            // The ordinal will be reused, so it must not stay set for anyone
+            for (Student student : postings.get(ordinal).students.values()) {
+                LongBitSet.clear(student.getInterestBits(), ordinal);
+            }
+            byOrdinal.set(ordinal, null);
+            postings.set(ordinal, null);
+            freeOrdinals.push(ordinal);
+            interest.setOrdinal(-1);
+            return interest;
+        });
+    }
+
+    public Interest findById(String id) {
+        return id == null ? null : lock.read(() -> byId.get(id));
+    }
+
+    /**
+     * @return the registered interest with that name, ignoring case and surrounding spaces, or null.
+     */
+    public Interest findByName(String name) {
+        String key = keyOf(name);
+        return key == null ? null : lock.read(() -> byName.get(key));
+    }
+
+    /**
+     * @return the registered interest with that ordinal, or null.
+     */
+    public Interest get(int ordinal) {
+        return lock.read(() -> ordinal >= 0 && ordinal < byOrdinal.size() ? byOrdinal.get(ordinal) : null);
+    }
+
+    /**
+     * @return the canonical instance for the interest's name, or the interest itself if that name is not registered.
+     */
+    public Interest canonical(Interest interest) {
+        if (interest == null || isRegistered(interest)) {
+            return interest;
+        }
+        Interest registered = findByName(interest.getName());
+        return registered != null ? registered : interest;
+    }
+
+    /**
+     * Replaces, in place, every interest of the list by its canonical instance.
+     */
+    public void canonicalize(DynamicArrayList<Interest> list) {
+        if (list == null) {
+            return;
+        }
+        for (int i = 0; i < list.getSize(); i++) {
+            Interest interest = list.get(i);
+            Interest registered = canonical(interest);
+            if (registered != interest) {
+                list.set(i, registered);
+            }
+        }
+    }
+
+    /**
+     * @return the registered interests, in the order they were registered.
+     */
+    public DynamicArrayList<Interest> getAll() {
+        return lock.read(() -> {
+            DynamicArrayList<Interest> copy = new DynamicArrayList<>();
+            for (Interest interest : interests) {
+                copy.addLast(interest);
+            }
+            return copy;
+        });
+    }
+
+    public int size() {
+        return lock.read(interests::getSize);
+    }
+
+    /**
+     * @return one past the highest ordinal in use, the length an array indexed by ordinal needs.
+     */
+    public int getOrdinalBound() {
+        return lock.read(byOrdinal::size);
+    }
+
+    /**
+     * Replaces the interests the student is indexed under with their current interests.
+     */
+    public void studentInterestsChanged(Student student) {
+        if (student == null || student.getId() == null) {
+            return;
+        }
+        lock.write(() -> {
+            Interest[] current = registeredOf(student.getInterests());
+            for (Interest interest : replace(topicsByStudent, student.getId(), current)) {
+                postingsOf(interest).students.remove(student.getId());
+            }
+            int[] ordinals = new int[current.length];
+            for (int i = 0; i < current.length; i++) {
+                postingsOf(current[i]).students.put(student.getId(), student);
+                ordinals[i] = current[i].getOrdinal();
+            }
+            student.setInterestBits(current.length > 0 ? LongBitSet.of(ordinals) : null);
+        });
+    }
+
+    /**
+     * Indexes a content item under its topics, or re-indexes it if it was already indexed.
+     */
+    public void contentAdded(Content content) {
+        lock.write(() -> {
+            Interest[] current = registeredOf(content.getTopics());
+            for (Interest interest : replace(topicsByContent, content.getContentId(), current)) {
+                postingsOf(interest).contentIds.remove(content.getContentId());
+            }
+            for (Interest interest : current) {
+                postingsOf(interest).contentIds.add(content.getContentId());
+            }
+        });
+    }
+
+    public void contentRemoved(int contentId) {
+        lock.write(() -> {
+            for (Interest interest : replace(topicsByContent, contentId, new Interest[0])) {
+                postingsOf(interest).contentIds.remove(contentId);
+            }
+        });
+    }
+
+    /**
+     * Indexes a help request under its topics, or re-indexes it if it was already indexed.
+     */
+    public void helpRequestAdded(HelpRequest request) {
+        lock.write(() -> {
+            Interest[] current = registeredOf(request.getTopics());
+            for (Interest interest : replace(topicsByHelpRequest, request.getRequestId(), current)) {
+                postingsOf(interest).helpRequestIds.remove(request.getRequestId());
+            }
+            for (Interest interest : current) {
+                postingsOf(interest).helpRequestIds.add(request.getRequestId());
+            }
+        });
+    }
+
+    public void helpRequestRemoved(int requestId) {
+        lock.write(() -> {
+            for (Interest interest : replace(topicsByHelpRequest, requestId, new Interest[0])) {
+                postingsOf(interest).helpRequestIds.remove(requestId);
+            }
+        });
+    }
+
+    /**
+     * Records the study group of the group's topic, replacing any earlier one.
+     */
+    public void groupAdded(StudyGroup group) {
+        String key = group.getTopic() != null ? keyOf(group.getTopic().getName()) : null;
+        if (key != null) {
+            lock.write(() -> groupsByTopic.put(key, group));
+        }
+    }
+
+    /**
+     * @return the study group of a topic, by name ignoring case, or null.
+     */
+    public StudyGroup findGroupByTopic(String name) {
+        String key = keyOf(name);
+        return key == null ? null : lock.read(() -> groupsByTopic.get(key));
+    }
+
+    /**
+     * @return the students interested in a registered interest, in the order they were indexed.
+     */
+    public List<Student> getStudents(Interest interest) {
+        return lock.read(() -> {
+            Postings p = isRegistered(interest) ? postings.get(interest.getOrdinal()) : null;
+            return p == null ? new ArrayList<>() : new ArrayList<>(p.students.values());
+        });
+    }
+
+    public int getStudentCount(Interest interest) {
+        return lock.read(() -> isRegistered(interest) ? postings.get(interest.getOrdinal()).students.size() : 0);
+    }
+
+    /**
+     * @return the ids of the content items tagged with a registered interest, in ascending order.
+     */
+    public List<Integer> getContentIds(Interest interest) {
+        return lock.read(() -> isRegistered(interest)
+                ? new ArrayList<>(postings.get(interest.getOrdinal()).contentIds) : new ArrayList<>());
+    }
+
+    /**
+     * @return the ids of the help requests tagged with a registered interest, in ascending order.
+     */
+    public List<Integer> getHelpRequestIds(Interest interest) {
+        return lock.read(() -> isRegistered(interest)
+                ? new ArrayList<>(postings.get(interest.getOrdinal()).helpRequestIds) : new ArrayList<>());
+    }
+
+    /**
+     * Canonicalizes and re-indexes everything from scratch, after the model was bulk-loaded.
+     */
+    public void rebuild(Iterable<Student> students, Iterable<Content> contents, Iterable<HelpRequest> requests,
+                        Iterable<StudyGroup> groups) {
+        lock.write(() -> {
+            for (Postings p : postings) {
+                if (p != null) {
+                    p.students.clear();
+                    p.contentIds.clear();
+                    p.helpRequestIds.clear();
+                }
+            }
+            topicsByStudent.clear();
+            topicsByContent.clear();
+            topicsByHelpRequest.clear();
+            groupsByTopic.clear();
+            for (Student student : students) {
+                canonicalize(student.getInterests());
+                studentInterestsChanged(student);
+            }
+            if (contents != null) {
+                for (Content content : contents) {
+                    canonicalize(content.getTopics());
+                    contentAdded(content);
+                }
+            }
+            if (requests != null) {
+                for (HelpRequest request : requests) {
+                    canonicalize(request.getTopics());
+                    helpRequestAdded(request);
+                }
+            }
+            if (groups != null) {
+                for (StudyGroup group : groups) {
+                    group.setTopic(canonical(group.getTopic()));
+                    groupAdded(group);
+                }
+            }
+        });
+    }
+
+    public void clear() {
+        lock.write(() -> {
+            for (Postings p : postings) {
+                if (p != null) {
+                    for (Student student : p.students.values()) {
+                        student.setInterestBits(null);
+                    }
+                }
+            }
+            for (Interest interest : byOrdinal) {
+                if (interest != null) {
+                    interest.setOrdinal(-1);
+                }
+            }
+            interests.clear();
+            byId.clear();
+            byName.clear();
+            byOrdinal.clear();
+            postings.clear();
+            freeOrdinals.clear();
+            groupsByTopic.clear();
+            topicsByStudent.clear();
+            topicsByContent.clear();
+            topicsByHelpRequest.clear();
+        });
+    }
+
+    // The registered interests of a list, without repeats
+    private Interest[] registeredOf(DynamicArrayList<Interest> topics) {
+        List<Interest> registered = new ArrayList<>();
+        if (topics != null) {
+            for (Interest topic : topics) {
+                if (isRegistered(topic) && !registered.contains(topic)) {
+                    registered.add(topic);
+                }
+            }
+        }
+        return registered.toArray(new Interest[0]);
+    }
+
+    // Stores the interests indexed under a key and returns the previous ones that are still registered
+    private <K> List<Interest> replace(Map<K, Interest[]> index, K key, Interest[] current) {
+        Interest[] previous = current.length > 0 ? index.put(key, current) : index.remove(key);
+        List<Interest> stale = new ArrayList<>();
+        if (previous != null) {
+            for (Interest interest : previous) {
+                if (isRegistered(interest)) {
+                    stale.add(interest);
+                }
+            }
+        }
+        return stale;
+    }
+
+    private Postings postingsOf(Interest interest) {
+        return postings.get(interest.getOrdinal());
+    }
+
+    // True only for the canonical instance currently holding its ordinal
+    private boolean isRegistered(Interest interest) {
+        if (interest == null) {
+            return false;
+        }
+        int ordinal = interest.getOrdinal();
+        return lock.read(() -> ordinal >= 0 && ordinal < byOrdinal.size() && byOrdinal.get(ordinal) == interest);
+    }
+
+    private static String keyOf(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return null;
+        }
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package co.edu.uniquindio.theknowledgebay.core.model;
+
+import java.util.List;
+
+/**
+ * One page of search results, best match first.
+ *
+ * @param total how many items matched in total, across all pages
+ * @param items the items on this page
+ */
+public record SearchPage<T>(int total, List<T> items) {
+}
@@ -2,15 +2,22 @@ package co.edu.uniquindio.theknowledgebay.core.model;
 
 
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Map;
 
 
 @EqualsAndHashCode(callSuper = true)
@@ -20,7 +27,7 @@ import java.util.Collections;
 public class Student extends User {
 
     @lombok.Builder.Default
-    private DoublyLinkedList<Interest> interests = new DoublyLinkedList<>();
+    private DynamicArrayList<Interest> interests = new DynamicArrayList<>();
     @lombok.Builder.Default
     private DoublyLinkedList<Content> publishedContents = new DoublyLinkedList<>();
     @lombok.Builder.Default
@@ -30,10 +37,27 @@ public class Student extends User {
     @lombok.Builder.Default
     private DoublyLinkedList<Chat> chats = new DoublyLinkedList<>();
 
+    // Follow relationships keyed by the other student's id (insertion ordered).
+    // Excluded from equals/hashCode/toString: they point back at other students and can cycle.
     @lombok.Builder.Default
-    private DoublyLinkedList<Student> following = new DoublyLinkedList<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Map<String, Student> followingById = new LinkedHashMap<>();
     @lombok.Builder.Default
-    private DoublyLinkedList<Student> followers = new DoublyLinkedList<>();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Map<String, Student> followersById = new LinkedHashMap<>();
+
+    // Ordinals of the registered interests, kept by the InterestRegistry; null when there are none
+    @JsonIgnore
+    @Setter(AccessLevel.PACKAGE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private long[] interestBits;
     
     private String firstName;
     private String lastName;
@@ -103,14 +127,10 @@ public class Student extends User {
             }
             
             List<String> interestNames = new ArrayList<>();
-            DoublyLinkedNode<Interest> current = interests.getHead();
-            
-            while (current != null) {
-                Interest interest = current.getData();
+            for (Interest interest : interests) {
                 if (interest != null && interest.getName() != null) {
                     interestNames.add(interest.getName());
                 }
-                current = current.getNext();
             }
             
             return interestNames;
@@ -122,49 +142,118 @@ public class Student extends User {
 
     // Methods for managing followers and following
     public void addFollowing(Student student) {
-        if (this.following == null) {
-            this.following = new DoublyLinkedList<>();
-        }
-        if (!this.isFollowing(student)) { // Avoid duplicates
-            this.following.addLast(student);
+        if (student != null) {
+            this.followingById.putIfAbsent(student.getId(), student); // Avoid duplicates
         }
     }
 
     public boolean removeFollowing(Student student) {
-        if (this.following != null) {
-            return this.following.remove(student); // Assuming DoublyLinkedList.remove returns boolean
-        }
-        return false;
+        return student != null && this.followingById.remove(student.getId()) != null;
     }
 
     public void addFollower(Student student) {
-        if (this.followers == null) {
-            this.followers = new DoublyLinkedList<>();
-        }
-        if (!this.followers.contains(student)) { // Check if student is already a follower to avoid duplicates
-            this.followers.addLast(student);
+        if (student != null) {
+            this.followersById.putIfAbsent(student.getId(), student); // Avoid duplicates
         }
     }
 
     public boolean removeFollower(Student student) {
-        if (this.followers != null) {
-            return this.followers.remove(student); // Assuming DoublyLinkedList.remove returns boolean
-        }
-        return false;
+        return student != null && this.followersById.remove(student.getId()) != null;
     }
 
     public int getFollowingCount() {
-        return (this.following != null) ? this.following.getSize() : 0;
+        return this.followingById.size();
     }
 
     public int getFollowersCount() {
-        return (this.followers != null) ? this.followers.getSize() : 0;
+        return this.followersById.size();
     }
 
     public boolean isFollowing(Student student) {
-        if (this.following == null || student == null) {
-            return false;
+        return student != null && this.followingById.containsKey(student.getId());
+    }
+
+    public boolean hasFollower(Student student) {
+        return student != null && this.followersById.containsKey(student.getId());
+    }
+
+    /**
+     * Obtiene una copia de los estudiantes seguidos, en el orden en que se siguieron
+     */
+    public DoublyLinkedList<Student> getFollowing() {
+        return toList(this.followingById);
+    }
+
+    public void setFollowing(DoublyLinkedList<Student> following) {
+        this.followingById.clear();
+        if (following != null) {
+            for (Student student : following) {
+                addFollowing(student);
+            }
+        }
+    }
+
+    /**
+     * Obtiene una copia de los seguidores, en el orden en que empezaron a seguir
+     */
+    public DoublyLinkedList<Student> getFollowers() {
+        return toList(this.followersById);
+    }
+
+    public void setFollowers(DoublyLinkedList<Student> followers) {
+        this.followersById.clear();
+        if (followers != null) {
+            for (Student student : followers) {
+                addFollower(student);
+            }
+        }
+    }
+
+    /**
+     * Obtiene una página de los estudiantes seguidos
+     *
+     * @param offset número de elementos a saltar
+     * @param limit número máximo de elementos a devolver
+     * @return Lista con la página solicitada
+     */
+    public List<Student> getFollowingPage(int offset, int limit) {
+        return page(this.followingById, offset, limit);
+    }
+
+    /**
+     * Obtiene una página de los seguidores
+     *
+     * @param offset número de elementos a saltar
+     * @param limit número máximo de elementos a devolver
+     * @return Lista con la página solicitada
+     */
+    public List<Student> getFollowersPage(int offset, int limit) {
+        return page(this.followersById, offset, limit);
+    }
+
+    private static DoublyLinkedList<Student> toList(Map<String, Student> students) {
+        DoublyLinkedList<Student> list = new DoublyLinkedList<>();
+        for (Student student : students.values()) {
+            list.addLast(student);
+        }
+        return list;
+    }
+
+    private static List<Student> page(Map<String, Student> students, int offset, int limit) {
+        List<Student> page = new ArrayList<>();
+        if (offset < 0 || limit <= 0) {
+            return page;
+        }
+        int index = 0;
+        for (Student student : students.values()) {
+            if (index++ < offset) {
+                continue;
+            }
+            page.add(student);
+            if (page.size() == limit) {
+                break;
+            }
         }
-        return this.following.contains(student);
+        return page;
     }
 }
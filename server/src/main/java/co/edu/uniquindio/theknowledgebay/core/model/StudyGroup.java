@@ -1,6 +1,7 @@
 package co.edu.uniquindio.theknowledgebay.core.model;
 
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 
@@ -20,7 +21,7 @@ public class StudyGroup {
     private String id;
     private String name;
     @lombok.Builder.Default
-    private DoublyLinkedList<Student> members = new DoublyLinkedList<>();
+    private DynamicArrayList<Student> members = new DynamicArrayList<>();
     private Interest topic;
     @lombok.Builder.Default
     private LocalDate date = LocalDate.now();
@@ -0,0 +1,106 @@
+package co.edu.uniquindio.theknowledgebay.core.model;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Automatic study groups: one group per interest, created as soon as
+ * {@link #MIN_MEMBERS} students share the interest, which every student
+ * with the interest then joins.
+ * <p>
+ * The interested students and the group of each interest come from the
+ * {@link InterestRegistry}, so placing a student costs O(1) per interest
+ * instead of rescanning every student and every group. Membership is
+ * checked on the student's own group list, which holds at most one group
+ * per interest. Students are never removed from a group, as before.
+ * <p>
+ * Not thread-safe; TheKnowledgeBay uses it while holding the users read
+ * lock and the groups write lock.
+ */
+public class StudyGroupEngine {
+
+    public static final int MIN_MEMBERS = 2;
+
+    private final InterestRegistry registry;
+
+    public StudyGroupEngine(InterestRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Puts a student in the group of each of their interests.
+     *
+     * @return the groups created on the way, which the caller must store.
+     */
+    public List<StudyGroup> update(Student student) {
+        return updateAll(List.of(student));
+    }
+
+    /**
+     * Puts many students in their groups in a single pass per interest,
+     * e.g. after a bulk import.
+     *
+     * @return the groups created on the way, which the caller must store.
+     */
+    public List<StudyGroup> updateAll(Iterable<Student> students) {
+        Map<Interest, List<Student>> byInterest = new LinkedHashMap<>();
+        for (Student student : students) {
+            if (student == null || student.getInterests() == null) {
+                continue;
+            }
+            Set<Interest> seen = new HashSet<>();
+            for (Interest interest : student.getInterests()) {
+                if (interest != null && interest.getName() != null && seen.add(interest)) {
+                    byInterest.computeIfAbsent(interest, k -> new ArrayList<>()).add(student);
+                }
+            }
+        }
+
+        List<StudyGroup> created = new ArrayList<>();
+        for (Map.Entry<Interest, List<Student>> entry : byInterest.entrySet()) {
+            Interest interest = entry.getKey();
+            StudyGroup group = registry.findGroupByTopic(interest.getName());
+            if (group == null) {
+                // Only registered interests know who else is interested
+                if (registry.getStudentCount(interest) < MIN_MEMBERS) {
+                    continue;
+                }
+                group = StudyGroup.builder()
+                        .id(groupIdOf(interest))
+                        .name("Grupo de " + interest.getName())
+                        .topic(interest)
+                        .hidden(false)
+                        .build();
+                for (Student member : registry.getStudents(interest)) {
+                    join(group, member);
+                }
+                registry.groupAdded(group);
+                created.add(group);
+            }
+            for (Student student : entry.getValue()) {
+                join(group, student);
+            }
+        }
+        return created;
+    }
+
+    private static void join(StudyGroup group, Student student) {
+        if (student.getStudyGroups() == null) {
+            student.setStudyGroups(new DoublyLinkedList<>());
+        }
+        if (!student.getStudyGroups().contains(group)) {
+            student.getStudyGroups().addLast(group);
+            group.getMembers().addLast(student);
+        }
+    }
+
+    private static String groupIdOf(Interest interest) {
+        return interest.getName().toLowerCase().replaceAll("\\s+", "-") + "-group";
+    }
+}
@@ -2,23 +2,34 @@ package co.edu.uniquindio.theknowledgebay.core.model;
 
 import co.edu.uniquindio.theknowledgebay.api.dto.*;
 import co.edu.uniquindio.theknowledgebay.api.dto.ProfileResponseDTO;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ActivityGranularity;
 import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
 import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
 import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.repository.BootstrapLoader;
 import co.edu.uniquindio.theknowledgebay.core.repository.InterestRepository;
 import co.edu.uniquindio.theknowledgebay.core.repository.StudentRepository;
+import co.edu.uniquindio.theknowledgebay.core.repository.WriteBehindRepository;
+import co.edu.uniquindio.theknowledgebay.core.repository.journal.JournalEvent;
+import co.edu.uniquindio.theknowledgebay.core.repository.journal.JournalRepository;
 import co.edu.uniquindio.theknowledgebay.infrastructure.config.ModeratorProperties;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.converter.ListToDoublyLinkedList;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.converter.StringListToInterests;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.bitsets.LongBitSet;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.queues.PriorityQueue;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees.BinarySearchTree;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees.AVLTree;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.CommunityDetector;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.CsrGraph;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.UndirectedGraph;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.GraphVertex;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.Edge;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.concurrent.AggregateLock;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.search.InvertedIndex;
 import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -26,14 +37,23 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Getter
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
 public class TheKnowledgeBay {
 
-    private static int nextContentId = 1; // Start IDs from 1
+    private static final AtomicInteger nextContentId = new AtomicInteger(1); // Start IDs from 1
+    private static final AtomicInteger nextHelpRequestId = new AtomicInteger(1);
+    private static final AtomicInteger nextChatId = new AtomicInteger(1);
+    private static final AtomicInteger nextMessageId = new AtomicInteger(1);
+    private static final Pattern ACTIVITY_WINDOW = Pattern.compile("(\\d{1,4})([dw])");
 
     // DataBase connection
     private final StudentRepository studentRepository;
@@ -41,20 +61,58 @@ public class TheKnowledgeBay {
 
     // Data storage
     private final UserFactory users = UserFactory.getInstance();
-    private BinarySearchTree<Content> contentTree;
+    private AVLTree<Content> contentTree;
     private PriorityQueue<HelpRequest> helpRequestQueue;
-    @Getter
     private final DoublyLinkedList<StudyGroup> studyGroups = new DoublyLinkedList<>();
-    @Getter
-    private final DoublyLinkedList<Chat> chats = new DoublyLinkedList<>();
+    private final ChatRegistry chatRegistry = new ChatRegistry();
+    private final AnalyticsAggregates analytics = new AnalyticsAggregates();
+    private final ContentLeaderboard leaderboard = new ContentLeaderboard();
+    // Inverse of Content.likers: content ids each student has liked; guarded by the content lock
+    private final Map<String, Set<Integer>> likedContentByStudent = new HashMap<>();
+    // Content ids per author (content lock) and help request ids per student (help requests lock)
+    private final AuthorIndex contentByAuthor = new AuthorIndex();
+    private final AuthorIndex helpRequestsByStudent = new AuthorIndex();
+    // Full-text index over content titles, bodies and topics; guarded by the content lock
+    @Getter(AccessLevel.NONE)
+    private final InvertedIndex contentSearch = new InvertedIndex();
     private final DoublyLinkedList<Comment> comments = new DoublyLinkedList<>();
     private final DoublyLinkedList<Message> messages = new DoublyLinkedList<>();
-    private final DoublyLinkedList<Interest> interests = new DoublyLinkedList<>();
-    private UndirectedGraph<String> affinityGraph;
+    // Canonical interests and what is indexed under each; safe for concurrent use, written under the users lock
+    @Getter(AccessLevel.NONE)
+    private final InterestRegistry interestRegistry = new InterestRegistry();
+    // Creates and fills the automatic study groups from the registry's indexes; guarded by the groups lock
+    @Getter(AccessLevel.NONE)
+    private final StudyGroupEngine studyGroupEngine = new StudyGroupEngine(interestRegistry);
+    private volatile UndirectedGraph<String> affinityGraph;
+    private final CommunityDetector<String> communityDetector = new CommunityDetector<>();
+
+    // One lock per aggregate; the interests and the affinity graph belong to the users aggregate.
+    // Methods that need several take them in this order: users, groups, content, help requests.
+    // Chats are guarded by the ChatRegistry itself.
+    @Getter(AccessLevel.NONE)
+    private final AggregateLock usersLock = new AggregateLock();
+    @Getter(AccessLevel.NONE)
+    private final AggregateLock groupsLock = new AggregateLock();
+    @Getter(AccessLevel.NONE)
+    private final AggregateLock contentLock = new AggregateLock();
+    @Getter(AccessLevel.NONE)
+    private final AggregateLock helpRequestsLock = new AggregateLock();
+    // Serializes snapshots, so an older one can never replace a newer one
+    @Getter(AccessLevel.NONE)
+    private final Object snapshotLock = new Object();
 
     // Dependencies for Moderator loading
     @Autowired
     private PasswordEncoder passwordEncoder;
+    @Autowired(required = false)
+    @Getter(AccessLevel.NONE)
+    private WriteBehindRepository writeBehind;
+    @Autowired(required = false)
+    @Getter(AccessLevel.NONE)
+    private JournalRepository journalRepository;
+    @Autowired
+    @Getter(AccessLevel.NONE)
+    private BootstrapLoader bootstrapLoader;
     @Autowired
     private ModeratorProperties props;
 
@@ -65,273 +123,475 @@ public class TheKnowledgeBay {
     }
 
     public void addStudent(Student student) {
-        users.add(student);
-        // Comentar temporalmente para datos de prueba para evitar problemas con la DB
-        // studentRepository.save(student);
+        usersLock.write(() -> {
+            // Same fallback as findOrCreateUserByEmail: the email doubles as the id
+            if (student.getId() == null || student.getId().isEmpty()) {
+                student.setId(student.getEmail());
+            }
+            applyProfileDefaults(student);
+            interestRegistry.canonicalize(student.getInterests());
+            users.add(student);
+            if (affinityGraph != null && student.getId() != null) {
+                affinityGraph.addVertex(student.getId());
+            }
+            analytics.studentInterestsChanged(student);
+            interestRegistry.studentInterestsChanged(student);
+            persist(store -> store.saveStudent(student));
+            journal(JournalEvent.StudentSaved.of(student));
+        });
+    }
+
+    public DoublyLinkedList<StudyGroup> getStudyGroups() {
+        return groupsLock.read(() -> copyOf(studyGroups));
+    }
+
+    public DoublyLinkedList<Student> getAllStudents() {
+        return usersLock.read(() -> copyOf(users.getStudents()));
+    }
+
+    /**
+     * Students matching what was typed in the user search box, best match first.
+     *
+     * @param limit the maximum number of students to return
+     */
+    public List<Student> searchStudents(String query, int limit) {
+        return usersLock.read(() -> users.searchStudents(query, limit));
+    }
+
+    public Student findStudentByEmail(String email) {
+        return usersLock.read(() -> users.findStudentByEmail(email));
+    }
+
+    public Student findStudentByUsername(String username) {
+        return usersLock.read(() -> users.findStudentByUsername(username));
+    }
+
+    // Snapshot handed out to callers so they can iterate without holding a lock
+    private static <T> DoublyLinkedList<T> copyOf(DoublyLinkedList<T> list) {
+        DoublyLinkedList<T> copy = new DoublyLinkedList<>();
+        for (T item : list) {
+            copy.addLast(item);
+        }
+        return copy;
+    }
+
+    private static <T> DynamicArrayList<T> copyOf(DynamicArrayList<T> list) {
+        DynamicArrayList<T> copy = new DynamicArrayList<>(list.getSize());
+        copy.addAll(list);
+        return copy;
+    }
+
+    public DoublyLinkedList<Chat> getChats() {
+        return chatRegistry.getChats();
+    }
+
+    /**
+     * Registers a chat so it can be found by its participants.
+     *
+     * @return the chat stored for the pair (the existing one if they already had a chat)
+     */
+    public Chat addChat(Chat chat) {
+        Chat registered = chatRegistry.register(chat);
+        if (registered == chat) {
+            persist(store -> store.saveChat(chat));
+            journal(JournalEvent.ChatOpened.of(chat));
+        }
+        return registered;
+    }
+
+    /**
+     * Appends a message to a chat.
+     */
+    public void addMessage(Chat chat, Message message) {
+        chat.sendMessage(message);
+        persist(store -> store.saveMessage(chat, message));
+        journal(JournalEvent.MessageSent.of(chat, message));
+    }
+
+    // Records a mutation for the write-behind pipeline; no-op when running without a database
+    private void persist(Consumer<WriteBehindRepository> write) {
+        if (writeBehind != null) {
+            write.accept(writeBehind);
+        }
+    }
+
+    // Appends a mutation to the journal; no-op unless snapshot + journal storage is enabled
+    private void journal(JournalEvent event) {
+        if (journalRepository != null && journalRepository.isEnabled()) {
+            journalRepository.append(event);
+        }
     }
 
     public boolean addContent(Content content) {
-        try {
-            if (contentTree == null) {
-                contentTree = new BinarySearchTree<>();
-            }
+        return groupsLock.write(() -> contentLock.write(() -> {
+            try {
+                if (contentTree == null) {
+                    contentTree = new AVLTree<>();
+                }
             
-            // Generate a unique ID for the content
-            content.setContentId(generateContentId());
+                // Generate a unique ID for the content
+                content.setContentId(generateContentId());
             
-            contentTree.insert(content);
-
-            // Associate content with study groups based on topics (Moved from createContent)
-            if (content.getTopics() != null && !content.getTopics().isEmpty()) {
-                for (int i = 0; i < content.getTopics().getSize(); i++) {
-                    Interest topic = content.getTopics().get(i);
-                    if (topic != null && topic.getName() != null) {
-                        StudyGroup relevantGroup = findStudyGroupByInterestName(topic.getName());
-                        if (relevantGroup != null) {
-                            if (relevantGroup.getAssociatedContents() == null) {
-                                relevantGroup.setAssociatedContents(new DoublyLinkedList<>());
-                            }
-                            // Ensure content is not added multiple times if logic is ever re-run or content has duplicate topics mapping to same group
-                            if (!relevantGroup.getAssociatedContents().contains(content)) { 
-                                relevantGroup.getAssociatedContents().addLast(content);
-                                System.out.println("Content '" + content.getTitle() + "' with ID '" + content.getContentId() + "' associated with group: " + relevantGroup.getName());
-                            }
+                interestRegistry.canonicalize(content.getTopics());
+                contentTree.insert(content);
+                analytics.contentAdded(content);
+                interestRegistry.contentAdded(content);
+                leaderboard.update(content);
+                contentByAuthor.add(authorIdOf(content), content.getContentId());
+                indexForSearch(content);
+                persist(store -> store.saveContent(content));
+                journal(JournalEvent.ContentSaved.of(content));
+
+                // Associate content with study groups based on topics (Moved from createContent)
+                linkContentToStudyGroups(content);
+                return true;
+            } catch (Exception e) {
+                System.err.println("Error adding content: " + e.getMessage());
+                return false;
+            }
+        }));
+    }
+
+    // Caller must hold the groups write lock
+    private void linkContentToStudyGroups(Content content) {
+        if (content.getTopics() != null && !content.getTopics().isEmpty()) {
+            for (Interest topic : content.getTopics()) {
+                if (topic != null && topic.getName() != null) {
+                    StudyGroup relevantGroup = findStudyGroupByInterestName(topic.getName());
+                    if (relevantGroup != null) {
+                        if (relevantGroup.getAssociatedContents() == null) {
+                            relevantGroup.setAssociatedContents(new DoublyLinkedList<>());
+                        }
+                        // Ensure content is not added multiple times if logic is ever re-run or content has duplicate topics mapping to same group
+                        if (!relevantGroup.getAssociatedContents().contains(content)) { 
+                            relevantGroup.getAssociatedContents().addLast(content);
+                            System.out.println("Content '" + content.getTitle() + "' with ID '" + content.getContentId() + "' associated with group: " + relevantGroup.getName());
                         }
                     }
                 }
             }
-            return true;
-        } catch (Exception e) {
-            System.err.println("Error adding content: " + e.getMessage());
-            return false;
         }
     }
 
     public DoublyLinkedList<Content> getAllContent() {
-        DoublyLinkedList<Content> result = new DoublyLinkedList<>();
+        return contentLock.read(() -> {
+            DoublyLinkedList<Content> result = new DoublyLinkedList<>();
         
-        if (contentTree == null || contentTree.isEmpty()) {
-            return result;
-        }
+            if (contentTree == null || contentTree.isEmpty()) {
+                return result;
+            }
         
-        // Perform in-order traversal to get all content
-        contentTree.inOrderTraversal(result);
+            // Perform in-order traversal to get all content
+            contentTree.inOrderTraversal(result);
         
-        return result;
+            return result;
+        });
     }
 
     public Content getContentById(int id) {
-        if (contentTree == null || contentTree.isEmpty()) {
-            return null;
-        }
+        return contentLock.read(() -> {
+            if (contentTree == null || contentTree.isEmpty()) {
+                return null;
+            }
         
-        // Create a dummy content with the ID for searching
-        Content searchContent = Content.builder().contentId(id).build();
-        return contentTree.search(searchContent);
+            // Create a dummy content with the ID for searching
+            Content searchContent = Content.builder().contentId(id).build();
+            return contentTree.search(searchContent);
+        });
+    }
+
+    /**
+     * A page of the most liked content, read from the like leaderboard.
+     *
+     * @param topic  only content with this interest name, or null for all
+     * @param offset how many of the most liked items to skip
+     * @param limit  the maximum number of items
+     */
+    public List<Content> getTopContent(String topic, int offset, int limit) {
+        return contentLock.read(() -> leaderboard.top(topic, offset, limit));
+    }
+
+    public int getTopContentCount(String topic) {
+        return contentLock.read(() -> leaderboard.count(topic));
     }
 
     public boolean updateContent(int contentId, ContentResponseDTO updatedContentDTO) {
-        if (contentTree == null) {
-            return false; // No content to update
-        }
+        return contentLock.write(() -> {
+            if (contentTree == null) {
+                return false; // No content to update
+            }
 
-        // Create a dummy content object with the ID to find the existing content
-        Content contentToFind = Content.builder().contentId(contentId).build();
-        Content existingContent = contentTree.search(contentToFind);
+            // Create a dummy content object with the ID to find the existing content
+            Content contentToFind = Content.builder().contentId(contentId).build();
+            Content existingContent = contentTree.search(contentToFind);
 
-        if (existingContent == null) {
-            return false; // Content not found
-        }
+            if (existingContent == null) {
+                return false; // Content not found
+            }
 
-        // Create a new Content object with updated information
-        // We keep the original author and date, as these typically don't change on admin edit
-        Content updatedContent = Content.builder()
-                .contentId(existingContent.getContentId()) // Keep original ID
-                .title(updatedContentDTO.getTitle() != null ? updatedContentDTO.getTitle() : existingContent.getTitle())
-                .contentType(updatedContentDTO.getContentType() != null ? ContentType.valueOf(updatedContentDTO.getContentType().toUpperCase()) : existingContent.getContentType())
-                .information(updatedContentDTO.getInformation() != null ? updatedContentDTO.getInformation() : existingContent.getInformation())
-                .author(existingContent.getAuthor()) // Keep original author
-                .likedBy(existingContent.getLikedBy()) // Keep original likes
-                .likeCount(existingContent.getLikeCount()) // Keep original like count
-                .comments(existingContent.getComments()) // Keep original comments
-                .date(existingContent.getDate()) // Keep original date
-                .build();
-        
-        // Topics are not directly editable in this DTO, so we keep existing ones
-        // If topic editing is needed, the DTO and this logic would need adjustment
-        updatedContent.setTopics(existingContent.getTopics());
-
-        // Remove the old content and insert the updated one
-        // This is safer for BSTs if the updated fields affect comparison
-        boolean removed = contentTree.removeAndCheck(existingContent);
-        if (removed) {
-            contentTree.insert(updatedContent);
+            // Edit the stored object in place: study groups and the other indexes hold this same instance.
+            // The author, date, likes, comments and topics are kept; the tree is ordered by id, which does not change
+            ContentType contentType = updatedContentDTO.getContentType() != null
+                    ? ContentType.valueOf(updatedContentDTO.getContentType().toUpperCase())
+                    : existingContent.getContentType();
+            if (updatedContentDTO.getTitle() != null) {
+                existingContent.setTitle(updatedContentDTO.getTitle());
+            }
+            existingContent.setContentType(contentType);
+            if (updatedContentDTO.getInformation() != null) {
+                existingContent.setInformation(updatedContentDTO.getInformation());
+            }
+
+            leaderboard.update(existingContent);
+            indexForSearch(existingContent);
+            persist(store -> store.saveContent(existingContent));
+            journal(JournalEvent.ContentSaved.of(existingContent));
             return true;
-        } else {
-            // This case should ideally not happen if search found the content
-            return false; 
-        }
+        });
     }
 
     public boolean likeContent(int contentId, String userId) {
-        Content content = getContentById(contentId);
-        if (content == null) {
-            return false;
-        }
-        
         Student user = (Student) getUserById(userId);
         if (user == null) {
             return false;
         }
-        
-        // Check if user already liked this content
-        if (content.getLikedBy() != null) {
-            for (int i = 0; i < content.getLikedBy().getSize(); i++) {
-                if (content.getLikedBy().get(i).getId().equals(userId)) {
-                    return false; // Already liked
-                }
+
+        return contentLock.write(() -> {
+            Content content = getContentById(contentId);
+            if (content == null || !content.addLike(user)) {
+                return false; // Missing or already liked
             }
-        } else {
-            content.setLikedBy(new DoublyLinkedList<>());
-        }
-        
-        // Add like
-        content.getLikedBy().addLast(user);
-        content.setLikeCount(content.getLikeCount() + 1);
-        
-        return true;
+            likedContentByStudent.computeIfAbsent(userId, k -> new HashSet<>()).add(contentId);
+            leaderboard.update(content);
+            int likeCount = content.getLikeCount();
+            persist(store -> store.saveLike(contentId, userId, likeCount));
+            journal(new JournalEvent.Liked(contentId, userId, likeCount));
+            return true;
+        });
     }
 
     public boolean unlikeContent(int contentId, String userId) {
-        Content content = getContentById(contentId);
-        if (content == null || content.getLikedBy() == null) {
-            return false;
+        return contentLock.write(() -> {
+            Content content = getContentById(contentId);
+            if (content == null || !content.removeLike(userId)) {
+                return false; // Missing or not liked by this user
+            }
+            forgetLike(userId, contentId);
+            leaderboard.update(content);
+            int likeCount = content.getLikeCount();
+            persist(store -> store.deleteLike(contentId, userId, likeCount));
+            journal(new JournalEvent.Unliked(contentId, userId, likeCount));
+            return true;
+        });
+    }
+
+    public boolean hasLiked(int contentId, String userId) {
+        return contentLock.read(() -> {
+            Set<Integer> liked = likedContentByStudent.get(userId);
+            return liked != null && liked.contains(contentId);
+        });
+    }
+
+    /**
+     * @return the ids of the content a student has liked
+     */
+    public Set<Integer> getLikedContentIds(String userId) {
+        return contentLock.read(() -> new HashSet<>(likedContentByStudent.getOrDefault(userId, Set.of())));
+    }
+
+    // Caller must hold the content write lock
+    private void forgetLike(String userId, int contentId) {
+        Set<Integer> liked = likedContentByStudent.get(userId);
+        if (liked != null) {
+            liked.remove(contentId);
+            if (liked.isEmpty()) {
+                likedContentByStudent.remove(userId);
+            }
         }
-        
-        // Find and remove the user from liked list
-        for (int i = 0; i < content.getLikedBy().getSize(); i++) {
-            if (content.getLikedBy().get(i).getId().equals(userId)) {
-                content.getLikedBy().removeAt(i);
-                content.setLikeCount(content.getLikeCount() - 1);
-                return true;
+    }
+
+    // Caller must hold the content write lock
+    private void rebuildLikeIndex() {
+        likedContentByStudent.clear();
+        if (contentTree != null) {
+            for (Content content : contentTree) {
+                for (String likerId : content.getLikers().keySet()) {
+                    likedContentByStudent.computeIfAbsent(likerId, k -> new HashSet<>()).add(content.getContentId());
+                }
             }
         }
-        
-        return false; // User hadn't liked this content
     }
 
     // Statistics methods
     public int getContentCountByUserId(String userId) {
-        int count = 0;
-        if (contentTree == null || contentTree.isEmpty() || userId == null) {
-            return count;
-        }
-        
-        DoublyLinkedList<Content> allContent = getAllContent();
-        for (int i = 0; i < allContent.getSize(); i++) {
-            Content content = allContent.get(i);
-            if (content != null && content.getAuthor() != null && 
-                content.getAuthor().getId() != null && 
-                content.getAuthor().getId().equals(userId)) {
-                count++;
-            }
-        }
-        return count;
+        return contentLock.read(() -> contentByAuthor.count(userId));
     }
 
     public int getHelpRequestCountByUserId(String userId) {
-        int count = 0;
-        System.out.println("TheKnowledgeBay - Contando solicitudes para userId: " + userId);
-        
-        if (helpRequestQueue == null || helpRequestQueue.isEmpty() || userId == null) {
-            System.out.println("TheKnowledgeBay - Cola vacía o userId nulo");
-            return count;
-        }
-        
-        DoublyLinkedList<HelpRequest> allRequests = getAllHelpRequests();
-        System.out.println("TheKnowledgeBay - Total de solicitudes en cola: " + allRequests.getSize());
-        
-        for (int i = 0; i < allRequests.getSize(); i++) {
-            HelpRequest request = allRequests.get(i);
-            if (request != null && request.getStudent() != null) {
-                String studentId = request.getStudent().getId();
-                System.out.println("TheKnowledgeBay - Solicitud " + i + " - StudentId: '" + studentId + "', buscando: '" + userId + "'");
-                
-                if (studentId != null && studentId.equals(userId)) {
-                    count++;
-                    System.out.println("TheKnowledgeBay - ¡Coincidencia encontrada! Count: " + count);
+        return helpRequestsLock.read(() -> helpRequestsByStudent.count(userId));
+    }
+
+    /**
+     * The content published by a student, oldest first, read from the per-author index.
+     */
+    public DoublyLinkedList<Content> getContentByUserId(String userId) {
+        return contentLock.read(() -> {
+            DoublyLinkedList<Content> result = new DoublyLinkedList<>();
+            if (contentTree == null) {
+                return result;
+            }
+            for (int contentId : contentByAuthor.ids(userId)) {
+                Content content = contentTree.search(Content.builder().contentId(contentId).build());
+                if (content != null) {
+                    result.addLast(content);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * The help requests made by a student, in queue priority order, read from the per-student index.
+     */
+    public DoublyLinkedList<HelpRequest> getHelpRequestsByUserId(String userId) {
+        return helpRequestsLock.read(() -> {
+            List<HelpRequest> requests = new ArrayList<>();
+            if (helpRequestQueue != null) {
+                for (int requestId : helpRequestsByStudent.ids(userId)) {
+                    HelpRequest request = helpRequestQueue.get(requestId);
+                    if (request != null) {
+                        requests.add(request);
+                    }
+                }
+            }
+            // Same order as the queue: priority first, then arrival (ids are handed out in order)
+            requests.sort(Comparator.<HelpRequest>naturalOrder().thenComparingInt(HelpRequest::getRequestId));
+            DoublyLinkedList<HelpRequest> result = new DoublyLinkedList<>();
+            result.addAll(requests);
+            return result;
+        });
+    }
+
+    /**
+     * Full-text search over content titles, bodies and topic names, ranked
+     * with BM25. Accents and case are ignored.
+     *
+     * @param offset how many of the best matches to skip
+     * @param limit  the maximum number of items to return
+     */
+    public SearchPage<Content> searchContent(String query, int offset, int limit) {
+        return contentLock.read(() -> {
+            InvertedIndex.Result result = contentSearch.search(query, offset, limit);
+            List<Content> items = new ArrayList<>();
+            for (InvertedIndex.Hit hit : result.hits()) {
+                Content content = contentTree.search(Content.builder().contentId(hit.id()).build());
+                if (content != null) {
+                    items.add(content);
+                }
+            }
+            return new SearchPage<>(result.total(), items);
+        });
+    }
+
+    // Title and topic words weigh double; caller must hold the content write lock
+    private void indexForSearch(Content content) {
+        StringBuilder topics = new StringBuilder();
+        if (content.getTopics() != null) {
+            for (Interest topic : content.getTopics()) {
+                if (topic != null && topic.getName() != null) {
+                    topics.append(topic.getName()).append(' ');
                 }
-            } else {
-                System.out.println("TheKnowledgeBay - Solicitud " + i + " - request o student es null");
             }
         }
-        
-        System.out.println("TheKnowledgeBay - Total de solicitudes para el usuario: " + count);
-        return count;
+        contentSearch.put(content.getContentId(),
+                new InvertedIndex.Field(content.getTitle(), 2),
+                new InvertedIndex.Field(content.getInformation(), 1),
+                new InvertedIndex.Field(topics.toString(), 2));
+    }
+
+    private static String authorIdOf(Content content) {
+        return content.getAuthor() != null ? content.getAuthor().getId() : null;
+    }
+
+    private static String studentIdOf(HelpRequest request) {
+        return request.getStudent() != null ? request.getStudent().getId() : null;
     }
 
     // Delete operations
     public boolean deleteContent(int contentId) {
-        try {
-            if (contentTree == null || contentTree.isEmpty()) {
-                return false;
-            }
+        return contentLock.write(() -> {
+            try {
+                if (contentTree == null || contentTree.isEmpty()) {
+                    return false;
+                }
             
-            // Create a dummy content with the ID for searching
-            Content searchContent = Content.builder().contentId(contentId).build();
-            Content found = contentTree.search(searchContent);
+                // Create a dummy content with the ID for searching
+                Content searchContent = Content.builder().contentId(contentId).build();
+                Content found = contentTree.search(searchContent);
             
-            if (found != null) {
-                contentTree.remove(found);
-                return true;
-            }
+                if (found != null) {
+                    contentTree.remove(found);
+                    analytics.contentRemoved(found);
+                    interestRegistry.contentRemoved(contentId);
+                    leaderboard.remove(contentId);
+                    contentByAuthor.remove(authorIdOf(found), contentId);
+                    contentSearch.remove(contentId);
+                    for (String likerId : found.getLikers().keySet()) {
+                        forgetLike(likerId, contentId);
+                    }
+                    persist(store -> store.deleteContent(contentId));
+                    journal(new JournalEvent.ContentDeleted(contentId));
+                    return true;
+                }
             
-            return false;
-        } catch (Exception e) {
-            System.err.println("Error deleting content: " + e.getMessage());
-            return false;
-        }
+                return false;
+            } catch (Exception e) {
+                System.err.println("Error deleting content: " + e.getMessage());
+                return false;
+            }
+        });
     }
 
     public boolean deleteHelpRequest(int requestId) {
-        try {
-            if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
-                return false;
-            }
-            
-            PriorityQueue<HelpRequest> tempQueue = new PriorityQueue<>();
-            boolean found = false;
-            
-            // Search for the request and exclude it from the temp queue
-            while (!helpRequestQueue.isEmpty()) {
-                HelpRequest request = helpRequestQueue.dequeue();
-                if (request.getRequestId() != requestId) {
-                    tempQueue.insert(request);
-                } else {
-                    found = true;
+        return helpRequestsLock.write(() -> {
+            try {
+                if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
+                    return false;
                 }
-            }
             
-            // Restore the queue without the deleted request
-            while (!tempQueue.isEmpty()) {
-                helpRequestQueue.insert(tempQueue.dequeue());
+                HelpRequest removed = helpRequestQueue.removeByKey(requestId);
+                if (removed != null) {
+                    analytics.helpRequestRemoved(removed);
+                    interestRegistry.helpRequestRemoved(requestId);
+                    helpRequestsByStudent.remove(studentIdOf(removed), requestId);
+                    persist(store -> store.deleteHelpRequest(requestId));
+                    journal(new JournalEvent.HelpRequestDeleted(requestId));
+                }
+                return removed != null;
+            } catch (Exception e) {
+                System.err.println("Error deleting help request: " + e.getMessage());
+                return false;
             }
-            
-            return found;
-        } catch (Exception e) {
-            System.err.println("Error deleting help request: " + e.getMessage());
-            return false;
-        }
+        });
     }
 
     // Helper methods for ID generation
     private int generateHelpRequestId() {
-        // Simple ID generation based on current timestamp
-        return (int) (System.currentTimeMillis() % Integer.MAX_VALUE);
+        // Sequential like content ids: the queue is indexed by requestId, so ids must be unique
+        return nextHelpRequestId.getAndIncrement();
     }
 
     private int generateContentId() {
-        return nextContentId++; // Use static counter
+        return nextContentId.getAndIncrement(); // Use static counter
+    }
+
+    // Chat and message ids are the primary keys of their persisted rows, so every creator takes them from here
+    public int generateChatId() {
+        return nextChatId.getAndIncrement();
+    }
+
+    public int generateMessageId() {
+        return nextMessageId.getAndIncrement();
     }
 
     public void createAutomaticGroups() {
@@ -340,253 +600,582 @@ public class TheKnowledgeBay {
 
     // New method: Find a study group by interest name
     private StudyGroup findStudyGroupByInterestName(String interestName) {
-        if (interestName == null || interestName.trim().isEmpty()) {
-            return null;
+        return interestRegistry.findGroupByTopic(interestName);
+    }
+
+    // New method: Orchestrates automatic study group creation/joining for a student
+    public void updateAutomaticStudyGroupsForStudent(Student student) {
+        if (student == null || student.getInterests() == null || student.getInterests().isEmpty()) {
+            return;
         }
-        for (int i = 0; i < studyGroups.getSize(); i++) {
-            StudyGroup group = studyGroups.get(i);
-            if (group.getTopic() != null && interestName.equals(group.getTopic().getName())) {
-                return group;
-            }
+        usersLock.read(() -> groupsLock.write(() -> storeNewGroups(studyGroupEngine.update(student))));
+    }
+
+    /**
+     * Same as {@link #updateAutomaticStudyGroupsForStudent} for many students
+     * at once, in a single pass per interest; meant for bulk imports.
+     */
+    public void updateAutomaticStudyGroups(Iterable<Student> students) {
+        usersLock.read(() -> groupsLock.write(() -> storeNewGroups(studyGroupEngine.updateAll(students))));
+    }
+
+    // Caller must hold the groups write lock
+    private void storeNewGroups(List<StudyGroup> created) {
+        for (StudyGroup group : created) {
+            studyGroups.addLast(group);
+            System.out.println("Nuevo grupo creado: " + group.getName() + " con " + group.getMembers().getSize() + " miembros.");
         }
+    }
+
+    public DoublyLinkedList<Student> findShortestPath(Student s1, Student s2) {
+        // TODO: implement functionality
         return null;
     }
 
-    // New method: Generate a unique ID for a study group based on interest
-    private String generateStudyGroupId(Interest interest) {
-        if (interest == null || interest.getName() == null) {
-            return "group_unknown_" + System.currentTimeMillis();
+    public void processHelpRequests() {
+        // TODO: implement functionality
+    }
+
+    @PostConstruct
+    public void initialize() {
+        usersLock.write(() -> {
+            // Initialize moderator
+            String password = passwordEncoder.encode(props.password());
+            users.setModerator(props, password);
+        
+            // Asignar un ID al moderador (usando su email como ID)
+            Moderator mod = users.getModerator();
+            if (mod.getId() == null) {
+                mod.setId(mod.getEmail());
+                System.out.println("ID del moderador establecido a: " + mod.getId());
+            }
+
+            // A stored snapshot + journal already holds the derived state (groups, affinity graph)
+            if (journalRepository != null && journalRepository.hasData()) {
+                log.info("Recuperando el modelo desde el snapshot y el journal...");
+                groupsLock.write(() -> contentLock.write(() -> helpRequestsLock.write(this::recoverFromJournal)));
+                rebuildAnalytics();
+                return;
+            }
+
+            // Load every persisted aggregate, one pass per table
+            BootstrapLoader.Result data = bootstrapLoader.load();
+            for (Student student : data.students()) {
+                applyProfileDefaults(student);
+                this.users.add(student);
+            }
+            for (Interest interest : data.interests()) {
+                interestRegistry.register(interest);
+            }
+            contentLock.write(() -> installContents(data.contents()));
+            helpRequestsLock.write(() -> installHelpRequests(data.helpRequests()));
+            installChats(data.chats());
+            rebuildAnalytics();
+
+            // Automatic study groups are not stored: derive them again and re-attach what was loaded
+            groupsLock.write(() -> {
+                storeNewGroups(studyGroupEngine.updateAll(data.students()));
+                linkLoadedToStudyGroups(data.contents(), data.helpRequests());
+            });
+        
+            // Initialize affinity graph
+            System.out.println("Initializing affinity graph...");
+            initializeAffinityGraph();
+            System.out.println("Affinity graph initialized with " + data.interests().size() + " interests");
+        });
+
+        if (journalRepository != null && journalRepository.isEnabled()) {
+            // Start a fresh journal on top of what was just loaded
+            takeSnapshot();
+            journalRepository.startBackgroundTasks(this::takeSnapshot);
+        }
+    }
+
+    private void installContents(List<Content> contents) {
+        if (contentTree == null) {
+            contentTree = new AVLTree<>();
+        }
+        for (Content content : contents) {
+            contentTree.insert(content);
+            advancePast(nextContentId, content.getContentId());
         }
-        return interest.getName().toLowerCase().replaceAll("\\s+", "-") + "-group";
     }
-    
-    // New method: Orchestrates automatic study group creation/joining for a student
-    public void updateAutomaticStudyGroupsForStudent(Student student) {
-        System.out.println("=== updateAutomaticStudyGroupsForStudent para: " + student.getUsername() + " (ID: " + student.getId() + ") ===");
-        
-        if (student == null || student.getInterests() == null || student.getInterests().isEmpty()) {
-            System.out.println("Estudiante es null o no tiene intereses. Saltando...");
-            return;
+
+    private void installHelpRequests(List<HelpRequest> requests) {
+        if (helpRequestQueue == null) {
+            helpRequestQueue = new PriorityQueue<>(HelpRequest::getRequestId);
+        }
+        for (HelpRequest request : requests) {
+            helpRequestQueue.insert(request);
+            advancePast(nextHelpRequestId, request.getRequestId());
         }
+    }
 
-        DoublyLinkedList<Interest> studentInterests = student.getInterests();
-        System.out.println("Estudiante tiene " + studentInterests.getSize() + " intereses");
-        
-        for (int i = 0; i < studentInterests.getSize(); i++) {
-            Interest currentInterest = studentInterests.get(i);
-            if (currentInterest == null || currentInterest.getName() == null) {
-                System.out.println("Interés " + i + " es null o sin nombre. Saltando...");
-                continue;
+    // Same as linkContentToStudyGroups / linkHelpRequestToStudyGroups for a whole load, without
+    // rescanning each group's list per item; caller must hold the groups write lock
+    private void linkLoadedToStudyGroups(List<Content> contents, List<HelpRequest> requests) {
+        for (Content content : contents) {
+            for (StudyGroup group : studyGroupsOf(content.getTopics())) {
+                group.getAssociatedContents().addLast(content);
+            }
+        }
+        for (HelpRequest request : requests) {
+            for (StudyGroup group : studyGroupsOf(request.getTopics())) {
+                group.getAssociatedHelpRequests().addLast(request);
+            }
+        }
+    }
+
+    // Distinct groups of the given topics
+    private Set<StudyGroup> studyGroupsOf(DynamicArrayList<Interest> topics) {
+        Set<StudyGroup> groups = new LinkedHashSet<>();
+        if (topics != null) {
+            for (Interest topic : topics) {
+                StudyGroup group = topic != null && topic.getName() != null ? findStudyGroupByInterestName(topic.getName()) : null;
+                if (group != null) {
+                    groups.add(group);
+                }
+            }
+        }
+        return groups;
+    }
+
+    private void installChats(List<Chat> chats) {
+        for (Chat chat : chats) {
+            chatRegistry.register(chat);
+            advancePast(nextChatId, chat.getChatId());
+            for (Message message : chat.getMessages()) {
+                advancePast(nextMessageId, message.getMessageId());
+            }
+        }
+    }
+
+    // Recomputes the analytics counters and interest indexes after a bulk load; caller must hold the users write lock
+    private void rebuildAnalytics() {
+        groupsLock.write(() -> contentLock.write(() -> helpRequestsLock.write(() ->
+                interestRegistry.rebuild(users.getStudents(), contentTree, helpRequestQueue, studyGroups))));
+        contentLock.write(() -> {
+            leaderboard.rebuild(contentTree);
+            rebuildLikeIndex();
+            contentByAuthor.clear();
+            contentSearch.clear();
+            if (contentTree != null) {
+                for (Content content : contentTree) {
+                    contentByAuthor.add(authorIdOf(content), content.getContentId());
+                    indexForSearch(content);
+                }
+            }
+        });
+        helpRequestsLock.write(() -> {
+            helpRequestsByStudent.clear();
+            if (helpRequestQueue != null) {
+                for (HelpRequest request : helpRequestQueue) {
+                    helpRequestsByStudent.add(studentIdOf(request), request.getRequestId());
+                }
             }
+        });
+        contentLock.read(() -> helpRequestsLock.read(() -> analytics.rebuild(users.getStudents(), contentTree, helpRequestQueue)));
+    }
 
-            System.out.println("Procesando interés: " + currentInterest.getName());
-            StudyGroup existingGroup = findStudyGroupByInterestName(currentInterest.getName());
+    // New ids must not collide with the loaded rows
+    private static void advancePast(AtomicInteger counter, int loadedId) {
+        counter.accumulateAndGet(loadedId + 1, Math::max);
+    }
+
+    /**
+     * Writes a snapshot of the whole model and starts a new journal. Writers
+     * wait only while the model is captured, not while the file is written.
+     */
+    public void takeSnapshot() {
+        if (journalRepository == null || !journalRepository.isEnabled()) {
+            return;
+        }
+        ensureAffinityGraph();
+        synchronized (snapshotLock) {
+            List<JournalEvent> events = new ArrayList<>();
+            long generation = usersLock.read(() -> groupsLock.read(() -> contentLock.read(() -> helpRequestsLock.read(() -> {
+                long next = journalRepository.rotate();
+                captureSnapshot(events);
+                return next;
+            }))));
+            journalRepository.writeSnapshot(generation, events);
+        }
+    }
 
-            if (existingGroup != null) {
-                System.out.println("Grupo existente encontrado: " + existingGroup.getName());
-                // Group already exists, add student if not already a member
-                if (!existingGroup.getMembers().contains(student)) {
-                    existingGroup.addStudent(student);
-                    System.out.println("Estudiante agregado al grupo existente");
+    // Caller must hold every aggregate lock; events are ordered so each one only refers to earlier ones
+    private void captureSnapshot(List<JournalEvent> events) {
+        for (Interest interest : interestRegistry.getAll()) {
+            events.add(JournalEvent.InterestSaved.of(interest));
+        }
+        for (Student student : users.getStudents()) {
+            if (student.getId() != null) {
+                events.add(JournalEvent.StudentSaved.of(student));
+            }
+        }
+        for (Student student : users.getStudents()) {
+            for (Student followed : student.getFollowing()) {
+                events.add(new JournalEvent.Followed(student.getId(), followed.getId()));
+            }
+        }
+        if (contentTree != null) {
+            for (Content content : contentTree) {
+                events.add(JournalEvent.ContentSaved.of(content));
+                for (String likerId : content.getLikers().keySet()) {
+                    events.add(new JournalEvent.Liked(content.getContentId(), likerId, content.getLikeCount()));
                 }
-                if (student.getStudyGroups() == null) { // Defensive check
-                    student.setStudyGroups(new DoublyLinkedList<>());
+            }
+        }
+        if (helpRequestQueue != null) {
+            for (HelpRequest request : helpRequestQueue) {
+                events.add(JournalEvent.HelpRequestSaved.of(request));
+            }
+        }
+        for (Chat chat : chatRegistry.getChats()) {
+            events.add(JournalEvent.ChatOpened.of(chat));
+            for (Message message : chat.getMessagesSnapshot()) {
+                events.add(JournalEvent.MessageSent.of(chat, message));
+            }
+        }
+        for (StudyGroup group : studyGroups) {
+            events.add(JournalEvent.StudyGroupSaved.of(group));
+        }
+        if (affinityGraph != null) {
+            for (String vertex : affinityGraph.getVertices()) {
+                for (String neighbor : affinityGraph.getNeighbors(vertex)) {
+                    if (vertex.compareTo(neighbor) < 0) {
+                        events.add(new JournalEvent.AffinityEdge(vertex, neighbor));
+                    }
                 }
-                if (!student.getStudyGroups().contains(existingGroup)) {
-                    student.getStudyGroups().addLast(existingGroup);
-                    System.out.println("Grupo agregado a la lista del estudiante");
+            }
+        }
+    }
+
+    // Caller must hold every aggregate write lock
+    private void recoverFromJournal() {
+        JournalReplay replay = new JournalReplay();
+        long events = journalRepository.recover(event -> replay.apply(event, true), event -> replay.apply(event, false));
+        replay.finish();
+        log.info("Modelo recuperado: {} eventos, {} estudiantes, {} grupos",
+                events, users.getStudents().getSize(), studyGroups.getSize());
+    }
+
+    /**
+     * Applies recovered events straight to the model, without journaling or
+     * persisting them again. Snapshot events describe a consistent state and
+     * are applied as they come; journal events may repeat what the snapshot
+     * already holds, and the derived state they touch (affinity edges, study
+     * groups) is brought up to date in {@link #finish()}.
+     */
+    private final class JournalReplay {
+        private final Map<Integer, Chat> chatsById = new HashMap<>();
+        private final Set<Integer> messageIds = new HashSet<>();
+        private final List<JournalEvent.AffinityEdge> edges = new ArrayList<>();
+        private final Set<Student> changedStudents = new LinkedHashSet<>();
+        private final List<Student[]> changedFollows = new ArrayList<>();
+
+        void apply(JournalEvent event, boolean fromSnapshot) {
+            switch (event) {
+                case JournalEvent.InterestSaved e -> {
+                    Interest interest = interestRegistry.findById(e.id());
+                    if (interest != null) {
+                        interestRegistry.rename(interest, e.name());
+                    } else {
+                        interestRegistry.register(new Interest(e.id(), e.name()));
+                    }
                 }
-            } else {
-                System.out.println("No existe grupo para el interés: " + currentInterest.getName() + ". Verificando si crear uno nuevo...");
-                // Group does not exist, check if we need to create one
-                DoublyLinkedList<Student> allStudents = users.getStudents();
-                System.out.println("Total de estudiantes en el sistema: " + allStudents.getSize());
-                
-                DoublyLinkedList<Student> interestedStudentsInThisTopic = new DoublyLinkedList<>();
-
-                for (int j = 0; j < allStudents.getSize(); j++) {
-                    Student s = allStudents.get(j);
-                    System.out.println("Verificando estudiante: " + s.getUsername() + " (ID: " + s.getId() + ")");
-                    
-                    if (s.getInterests() != null) {
-                        System.out.println("  - Tiene " + s.getInterests().getSize() + " intereses");
-                        for (int k = 0; k < s.getInterests().getSize(); k++) {
-                            Interest si = s.getInterests().get(k);
-                            if (si != null && currentInterest.getName().equals(si.getName())) {
-                                System.out.println("  - ¡Coincidencia de interés encontrada! " + si.getName());
-                                // Check if this student is already in a group for this interest.
-                                // This prevents counting them again if they removed and re-added the interest.
-                                boolean alreadyInAGroupForThisInterest = false;
-                                if (s.getStudyGroups() != null) {
-                                    for(int l=0; l < s.getStudyGroups().getSize(); l++) {
-                                        StudyGroup sg = s.getStudyGroups().get(l);
-                                        if (sg.getTopic() != null && currentInterest.getName().equals(sg.getTopic().getName())) {
-                                            alreadyInAGroupForThisInterest = true;
-                                            System.out.println("  - Estudiante ya está en un grupo para este interés");
-                                            break;
-                                        }
-                                    }
-                                }
-                                if (!alreadyInAGroupForThisInterest) {
-                                    interestedStudentsInThisTopic.addLast(s);
-                                    System.out.println("  - Estudiante agregado a la lista de interesados");
-                                }
-                                break; // Student has the interest, no need to check their other interests
+                case JournalEvent.InterestDeleted e -> {
+                    Interest interest = interestRegistry.removeById(e.id());
+                    if (interest != null) {
+                        // Items replayed before the delete still list the interest
+                        for (Student student : users.getStudents()) {
+                            removeInterest(student.getInterests(), interest);
+                        }
+                        if (contentTree != null) {
+                            for (Content content : contentTree) {
+                                removeInterest(content.getTopics(), interest);
+                            }
+                        }
+                        if (helpRequestQueue != null) {
+                            for (HelpRequest request : helpRequestQueue) {
+                                removeInterest(request.getTopics(), interest);
                             }
                         }
-                    } else {
-                        System.out.println("  - No tiene intereses");
                     }
                 }
-                
-                System.out.println("Estudiantes interesados en '" + currentInterest.getName() + "': " + interestedStudentsInThisTopic.getSize());
-                
-                if (interestedStudentsInThisTopic.getSize() >= 2) {
-                    System.out.println("Creando nuevo grupo para el interés: " + currentInterest.getName());
-                    // Create new group
-                    String newGroupId = generateStudyGroupId(currentInterest);
-                    String newGroupName = "Grupo de " + currentInterest.getName();
-                    StudyGroup newGroup = StudyGroup.builder()
-                            .id(newGroupId)
-                            .name(newGroupName)
-                            .topic(currentInterest)
-                            .hidden(false) // Or based on some logic
-                            .build(); // members, associatedContents, etc., will use @Builder.Default
-
-                    // Add all qualifying students to this new group
-                    for (int j = 0; j < interestedStudentsInThisTopic.getSize(); j++) {
-                        Student member = interestedStudentsInThisTopic.get(j);
-                        newGroup.addStudent(member); // addStudent handles duplicates
-                        if (member.getStudyGroups() == null) { // Defensive
-                            member.setStudyGroups(new DoublyLinkedList<>());
+                case JournalEvent.StudentSaved e -> {
+                    Student student = users.findStudentById(e.id());
+                    if (student == null) {
+                        student = Student.builder().id(e.id()).build();
+                        users.add(student);
+                    }
+                    student.setUsername(e.username());
+                    student.setEmail(e.email());
+                    student.setPassword(e.password());
+                    student.setFirstName(e.firstName());
+                    student.setLastName(e.lastName());
+                    student.setDateBirth(e.dateBirth());
+                    student.setBiography(e.biography());
+                    applyProfileDefaults(student);
+                    student.setInterests(interestsOf(e.interestIds()));
+                    users.reindex(student);
+                    if (!fromSnapshot) {
+                        changedStudents.add(student);
+                    }
+                }
+                case JournalEvent.Followed e -> {
+                    Student follower = users.findStudentById(e.followerId());
+                    Student followed = users.findStudentById(e.followedId());
+                    if (follower != null && followed != null) {
+                        follower.addFollowing(followed);
+                        followed.addFollower(follower);
+                        if (!fromSnapshot) {
+                            changedFollows.add(new Student[]{follower, followed});
                         }
-                         if (!member.getStudyGroups().contains(newGroup)) {
-                            member.getStudyGroups().addLast(newGroup);
+                    }
+                }
+                case JournalEvent.Unfollowed e -> {
+                    Student follower = users.findStudentById(e.followerId());
+                    Student followed = users.findStudentById(e.followedId());
+                    if (follower != null && followed != null) {
+                        follower.removeFollowing(followed);
+                        followed.removeFollower(follower);
+                        if (!fromSnapshot) {
+                            changedFollows.add(new Student[]{follower, followed});
                         }
-                        System.out.println("Miembro agregado al nuevo grupo: " + member.getUsername());
                     }
-                    
-                    // Also ensure the student who triggered the update is in the group
-                    // (if they weren't caught by the interestedStudentsInThisTopic loop due to timing)
-                     if (!newGroup.getMembers().contains(student)) {
-                        newGroup.addStudent(student);
-                        System.out.println("Estudiante que triggereó la actualización agregado al grupo");
+                }
+                case JournalEvent.ContentSaved e -> {
+                    if (contentTree == null) {
+                        contentTree = new AVLTree<>();
                     }
-                    if (student.getStudyGroups() == null) { student.setStudyGroups(new DoublyLinkedList<>());} // Defensive
-                    if (!student.getStudyGroups().contains(newGroup)) {
-                         student.getStudyGroups().addLast(newGroup);
-                         System.out.println("Nuevo grupo agregado a la lista del estudiante");
+                    Content content = contentTree.search(Content.builder().contentId(e.contentId()).build());
+                    boolean added = content == null;
+                    if (added) {
+                        content = Content.builder().contentId(e.contentId()).build();
                     }
-
-                    this.studyGroups.addLast(newGroup);
-                    System.out.println("Nuevo grupo creado: " + newGroup.getName() + " con " + newGroup.getMembers().getSize() + " miembros.");
-                } else {
-                    System.out.println("No se puede crear grupo para '" + currentInterest.getName() + "'. Solo " + interestedStudentsInThisTopic.getSize() + " estudiantes interesados (se necesitan al menos 2)");
+                    content.setTitle(e.title());
+                    content.setContentType(e.contentType());
+                    content.setInformation(e.information());
+                    content.setAuthor(users.findStudentById(e.authorId()));
+                    content.setDate(e.date());
+                    content.setTopics(interestsOf(e.topicIds()));
+                    content.setLikeCount(e.likeCount());
+                    if (added) {
+                        contentTree.insert(content);
+                        advancePast(nextContentId, e.contentId());
+                        if (!fromSnapshot) {
+                            linkContentToStudyGroups(content);
+                        }
+                    }
+                }
+                case JournalEvent.ContentDeleted e -> {
+                    if (contentTree != null) {
+                        contentTree.removeAndCheck(Content.builder().contentId(e.contentId()).build());
+                    }
+                }
+                case JournalEvent.Liked e -> {
+                    Content content = findContent(e.contentId());
+                    Student student = users.findStudentById(e.studentId());
+                    if (content != null && student != null) {
+                        // The event carries the like count, so the liker is recorded without counting
+                        content.getLikers().putIfAbsent(e.studentId(), student);
+                        content.setLikeCount(e.likeCount());
+                    }
+                }
+                case JournalEvent.Unliked e -> {
+                    Content content = findContent(e.contentId());
+                    if (content != null) {
+                        content.getLikers().remove(e.studentId());
+                        content.setLikeCount(e.likeCount());
+                    }
+                }
+                case JournalEvent.HelpRequestSaved e -> {
+                    if (helpRequestQueue == null) {
+                        helpRequestQueue = new PriorityQueue<>(HelpRequest::getRequestId);
+                    }
+                    HelpRequest request = helpRequestQueue.get(e.requestId());
+                    boolean added = request == null;
+                    if (added) {
+                        request = HelpRequest.builder().requestId(e.requestId()).build();
+                    }
+                    request.setInformation(e.information());
+                    request.setUrgency(e.urgency());
+                    request.setStudent(users.findStudentById(e.studentId()));
+                    request.setCompleted(e.completed());
+                    request.setRequestDate(e.requestDate());
+                    request.setTopics(interestsOf(e.topicIds()));
+                    if (added) {
+                        helpRequestQueue.insert(request);
+                        advancePast(nextHelpRequestId, e.requestId());
+                        if (!fromSnapshot) {
+                            linkHelpRequestToStudyGroups(request);
+                        }
+                    } else {
+                        helpRequestQueue.updatePriority(e.requestId());
+                    }
+                }
+                case JournalEvent.HelpRequestCompleted e -> {
+                    HelpRequest request = helpRequestQueue != null ? helpRequestQueue.get(e.requestId()) : null;
+                    if (request != null) {
+                        request.markAsCompleted();
+                    }
+                }
+                case JournalEvent.HelpRequestDeleted e -> {
+                    if (helpRequestQueue != null) {
+                        helpRequestQueue.removeByKey(e.requestId());
+                    }
+                }
+                case JournalEvent.ChatOpened e -> {
+                    Student a = users.findStudentById(e.studentAId());
+                    Student b = users.findStudentById(e.studentBId());
+                    if (a != null && b != null && !chatsById.containsKey(e.chatId())) {
+                        Chat chat = Chat.builder().chatId(e.chatId()).studentA(a).studentB(b)
+                                .messages(new DoublyLinkedList<>()).build();
+                        chatsById.put(e.chatId(), chatRegistry.register(chat));
+                        advancePast(nextChatId, e.chatId());
+                    }
+                }
+                case JournalEvent.MessageSent e -> {
+                    Chat chat = chatsById.get(e.chatId());
+                    // A message sent while a snapshot was taken can be in both the snapshot and the journal
+                    if (chat != null && messageIds.add(e.messageId())) {
+                        chat.sendMessage(Message.builder().messageId(e.messageId()).text(e.text())
+                                .sender(users.findStudentById(e.senderId())).timestamp(e.timestamp()).build());
+                        advancePast(nextMessageId, e.messageId());
+                    }
+                }
+                case JournalEvent.StudyGroupSaved e -> {
+                    StudyGroup group = StudyGroup.builder().id(e.id()).name(e.name())
+                            .topic(interestRegistry.findById(e.topicId())).date(e.date()).hidden(e.hidden()).build();
+                    for (String memberId : e.memberIds()) {
+                        Student member = users.findStudentById(memberId);
+                        if (member != null) {
+                            group.getMembers().addLast(member);
+                            member.getStudyGroups().addLast(group);
+                        }
+                    }
+                    for (int i = 0; i < e.contentIds().size(); i++) {
+                        Content content = findContent(e.contentIds().get(i));
+                        if (content != null) {
+                            group.getAssociatedContents().addLast(content);
+                        }
+                    }
+                    for (int i = 0; i < e.helpRequestIds().size(); i++) {
+                        int requestId = e.helpRequestIds().get(i);
+                        HelpRequest request = helpRequestQueue != null ? helpRequestQueue.get(requestId) : null;
+                        if (request != null) {
+                            group.getAssociatedHelpRequests().addLast(request);
+                        }
+                    }
+                    studyGroups.addLast(group);
                 }
+                case JournalEvent.AffinityEdge e -> edges.add(e);
             }
         }
-        System.out.println("=== Fin de updateAutomaticStudyGroupsForStudent para: " + student.getUsername() + " ===\n");
-    }
-
-    public DoublyLinkedList<Student> findShortestPath(Student s1, Student s2) {
-        // TODO: implement functionality
-        return null;
-    }
-
-    public void processHelpRequests() {
-        // TODO: implement functionality
-    }
 
-    @PostConstruct
-    public void initialize() {
-        // Initialize moderator
-        String password = passwordEncoder.encode(props.password());
-        users.setModerator(props, password);
-        
-        // Asignar un ID al moderador (usando su email como ID)
-        Moderator mod = users.getModerator();
-        if (mod.getId() == null) {
-            mod.setId(mod.getEmail());
-            System.out.println("ID del moderador establecido a: " + mod.getId());
+        // Rebuilds the affinity graph from the stored edges and refreshes what the journal tail changed
+        void finish() {
+            UndirectedGraph<String> graph = new UndirectedGraph<>();
+            for (Student student : users.getStudents()) {
+                if (student.getId() != null) {
+                    graph.addVertex(student.getId());
+                }
+            }
+            for (JournalEvent.AffinityEdge edge : edges) {
+                graph.addEdge(edge.studentA(), edge.studentB());
+            }
+            affinityGraph = graph;
+            for (Student[] pair : changedFollows) {
+                updateAffinityEdge(pair[0], pair[1]);
+            }
+            // Group membership reads the interest indexes, so bring them up to date with the replayed students first
+            interestRegistry.rebuild(users.getStudents(), contentTree, helpRequestQueue, studyGroups);
+            updateAutomaticStudyGroups(changedStudents);
         }
 
-        // Initialize students
-        List<Student> students = studentRepository.findAll();
-        for (Student student : students) {
-            this.users.add(student);
+        private DynamicArrayList<Interest> interestsOf(List<String> ids) {
+            DynamicArrayList<Interest> result = new DynamicArrayList<>();
+            for (String id : ids) {
+                Interest interest = interestRegistry.findById(id);
+                if (interest != null) {
+                    result.addLast(interest);
+                }
+            }
+            return result;
         }
 
-        // Initialize interests
-        List<Interest> interests = interestRepository.findAll();
-        for (Interest interest : interests) {
-            this.interests.addLast(interest);
+        private Content findContent(int contentId) {
+            return contentTree != null ? contentTree.search(Content.builder().contentId(contentId).build()) : null;
         }
-        
-        // Initialize affinity graph
-        System.out.println("Initializing affinity graph...");
-        initializeAffinityGraph();
-        System.out.println("Affinity graph initialized with " + interests.size() + " interests");
     }
 
     public void updateData() {
-        this.users.clear();
+        usersLock.write(() -> {
+            this.users.clear();
+
+            // Initialize students
+            List<Student> students = studentRepository.findAll();
+            for (Student student : students) {
+                applyProfileDefaults(student);
+                this.users.add(student);
+            }
 
-        // Initialize students
-        List<Student> students = studentRepository.findAll();
-        for (Student student : students) {
-            this.users.add(student);
-        }
+            // Initialize interests
+            List<Interest> interests = interestRepository.findAll();
+            for (Interest interest : interests) {
+                interestRegistry.register(interest);
+            }
 
-        // Initialize interests
-        List<Interest> interests = interestRepository.findAll();
-        for (Interest interest : interests) {
-            this.interests.addLast(interest);
-        }
+            // The student set was replaced wholesale, so rebuild the graph and the counters from scratch
+            refreshAffinityGraph();
+            rebuildAnalytics();
+        });
     }
 
 
     public User findOrCreateUserByEmail(String email) {
-        System.out.println("Buscando usuario con email: " + email);
-        
-        // Primero buscar al moderador
-        Moderator mod = users.getModerator();
-        if (mod.getEmail() != null && mod.getEmail().equals(email)) {
-            System.out.println("Usuario encontrado (moderador): " + email);
-            return mod;
-        }
+        return usersLock.write(() -> {
+            System.out.println("Buscando usuario con email: " + email);
+        
+            // Primero buscar al moderador
+            Moderator mod = users.getModerator();
+            if (mod.getEmail() != null && mod.getEmail().equals(email)) {
+                System.out.println("Usuario encontrado (moderador): " + email);
+                return mod;
+            }
         
-        // Buscar en los estudiantes
-        DoublyLinkedNode<Student> current = users.getStudents().getHead();
-        while (current != null) {
-            Student s = current.getData();
-            if (s.getEmail() != null && s.getEmail().equals(email)) {
+            // Buscar en los estudiantes
+            Student s = users.findStudentByEmail(email);
+            if (s != null) {
                 System.out.println("Usuario encontrado (estudiante): " + email);
                 // Asegurar que el estudiante tenga un ID asignado
                 if (s.getId() == null) {
                     s.setId(email);
+                    users.reindex(s);
+                    persist(store -> store.saveStudent(s));
+                    journal(JournalEvent.StudentSaved.of(s));
                     System.out.println("ID asignado al estudiante existente: " + email);
                 }
                 return s;
             }
-            current = current.getNext();
-        }
-        
-        // Si no se encuentra, crear un nuevo estudiante
-        System.out.println("Usuario no encontrado, creando nuevo estudiante con email: " + email);
-        Student newStudent = Student.builder()
-                .id(email) // Usar el email como ID
-                .email(email)
-                .username(email.split("@")[0])  // Usar la parte antes de @ como nombre de usuario
-                .password("defaultPassword")    // Contraseña por defecto
-                .firstName("")
-                .lastName("")
-                .dateBirth(LocalDate.of(1900, 1, 1))
-                .biography("[Tu biografía aquí]")
-                .build();
         
-        addStudent(newStudent);
-        System.out.println("Nuevo estudiante creado con ID: " + newStudent.getId());
-        return newStudent;
+            // Si no se encuentra, crear un nuevo estudiante
+            System.out.println("Usuario no encontrado, creando nuevo estudiante con email: " + email);
+            Student newStudent = Student.builder()
+                    .id(email) // Usar el email como ID
+                    .email(email)
+                    .username(email.split("@")[0])  // Usar la parte antes de @ como nombre de usuario
+                    .password("defaultPassword")    // Contraseña por defecto
+                    .firstName("")
+                    .lastName("")
+                    .dateBirth(LocalDate.of(1900, 1, 1))
+                    .biography("[Tu biografía aquí]")
+                    .build();
+        
+            addStudent(newStudent);
+            System.out.println("Nuevo estudiante creado con ID: " + newStudent.getId());
+            return newStudent;
+        });
     }
     
 
@@ -597,126 +1186,123 @@ public class TheKnowledgeBay {
 
 
     public User getUserById(String userId) {
+        User user = usersLock.read(() -> findUserById(userId));
+        if (user == null && userId != null && userId.contains("@")) {
+            return findOrCreateUserByEmail(userId);
+        }
+        return user;
+    }
+
+    // Lookup without the create-on-miss fallback; the caller must hold the users lock
+    private User findUserById(String userId) {
         // Buscar al moderador
         Moderator mod = users.getModerator();
         if (mod.getId() != null && mod.getId().equals(userId)) {
             return mod;
         }
         
-        DoublyLinkedNode<Student> current = users.getStudents().getHead();
-        while (current != null) {
-            Student s = current.getData();
-            if (s.getId() != null && s.getId().equals(userId)) {
-                if (s.getBiography() == null || s.getBiography().isEmpty()) {
-                    s.setBiography("[Tu biografía aquí]");
-                }
-                if (s.getDateBirth() == null) {
-                    s.setDateBirth(LocalDate.of(1900, 1, 1));
-                }
-                return s;
-            }
-            current = current.getNext();
+        return users.findStudentById(userId);
+    }
+
+    // Placeholders the profile screens expect; applied when a student enters the model, under the users write lock
+    private static void applyProfileDefaults(Student student) {
+        if (student.getBiography() == null || student.getBiography().isEmpty()) {
+            student.setBiography("[Tu biografía aquí]");
         }
-            
-        if (userId.contains("@")) {
-            return findOrCreateUserByEmail(userId);
+        if (student.getDateBirth() == null) {
+            student.setDateBirth(LocalDate.of(1900, 1, 1));
         }
-        
-        return null;
     }
 
     public boolean updateStudent(String userId, ProfileResponseDTO updatedUser) {
-        Student studentToUpdate = (Student) getUserById(userId);
+        return usersLock.write(() -> {
+            Student studentToUpdate = (Student) getUserById(userId);
 
-        if (studentToUpdate == null) {
-            return false; // User not found
-        }
+            if (studentToUpdate == null) {
+                return false; // User not found
+            }
 
-        // Update basic fields from ProfileResponseDTO
-        if (updatedUser.getUsername() != null) {
-            studentToUpdate.setUsername(updatedUser.getUsername());
-        }
-        if (updatedUser.getEmail() != null) {
-            studentToUpdate.setEmail(updatedUser.getEmail());
-        }
-        if (updatedUser.getFirstName() != null) {
-            studentToUpdate.setFirstName(updatedUser.getFirstName());
-        }
-        if (updatedUser.getLastName() != null) {
-            studentToUpdate.setLastName(updatedUser.getLastName());
-        }
-        if (updatedUser.getDateBirth() != null) {
-            studentToUpdate.setDateBirth(updatedUser.getDateBirth());
-        }
-        if (updatedUser.getBiography() != null) {
-            studentToUpdate.setBiography(updatedUser.getBiography());
-        }
+            // Update basic fields from ProfileResponseDTO
+            if (updatedUser.getUsername() != null) {
+                studentToUpdate.setUsername(updatedUser.getUsername());
+            }
+            if (updatedUser.getEmail() != null) {
+                studentToUpdate.setEmail(updatedUser.getEmail());
+            }
+            if (updatedUser.getFirstName() != null) {
+                studentToUpdate.setFirstName(updatedUser.getFirstName());
+            }
+            if (updatedUser.getLastName() != null) {
+                studentToUpdate.setLastName(updatedUser.getLastName());
+            }
+            if (updatedUser.getDateBirth() != null) {
+                studentToUpdate.setDateBirth(updatedUser.getDateBirth());
+            }
+            if (updatedUser.getBiography() != null) {
+                studentToUpdate.setBiography(updatedUser.getBiography());
+            }
+            applyProfileDefaults(studentToUpdate);
+            users.reindex(studentToUpdate);
 
-        // For now, we'll assume the in-memory UserFactory's list is the source of truth
-        // and changes to the studentToUpdate object are reflected.
-        // If using a persistent database, uncomment and implement:
-        studentRepository.update(studentToUpdate);
+            // The in-memory UserFactory's list is the source of truth; the database is updated behind it
+            persist(store -> store.saveStudent(studentToUpdate));
+            journal(JournalEvent.StudentSaved.of(studentToUpdate));
 
-        return true; // Successfully updated
+            return true; // Successfully updated
+        });
     }
 
     public void updateUser(String userId, User updated, List<String> interestNames) {
-        // Buscar al moderador
-        Moderator mod = users.getModerator();
-        if (mod.getId() != null && mod.getId().equals(userId)) {
-            if (updated.getUsername() != null) mod.setUsername(updated.getUsername());
-            if (updated.getEmail() != null) mod.setEmail(updated.getEmail());
-            if (updated.getPassword() != null) mod.setPassword(updated.getPassword());
-            return;
-        }
+        usersLock.write(() -> {
+            // Buscar al moderador
+            Moderator mod = users.getModerator();
+            if (mod.getId() != null && mod.getId().equals(userId)) {
+                if (updated.getUsername() != null) mod.setUsername(updated.getUsername());
+                if (updated.getEmail() != null) mod.setEmail(updated.getEmail());
+                if (updated.getPassword() != null) mod.setPassword(updated.getPassword());
+                return;
+            }
         
-        DoublyLinkedNode<Student> current = users.getStudents().getHead();
-        while (current != null) {
-            Student s = current.getData();
-            if (s.getId() != null && s.getId().equals(userId)) {
+            Student s = users.findStudentById(userId);
+            if (s != null) {
                 updateStudentFields(s, updated);
-                
+            
                 boolean interestsChanged = false;
                 if (interestNames != null) {
                     interestsChanged = updateStudentInterests(s, interestNames);
                 }
-                
+            
                 if (interestsChanged) {
                     updateAutomaticStudyGroupsForStudent(s);
                 }
-                
+            
                 return;
             }
-            current = current.getNext();
-        }
         
-        if (userId.contains("@")) {
-            current = users.getStudents().getHead();
-            while (current != null) {
-                Student s = current.getData();
-                if (s.getEmail() != null && s.getEmail().equals(userId)) {
+            if (userId.contains("@")) {
+                s = users.findStudentByEmail(userId);
+                if (s != null) {
                     updateStudentFields(s, updated);
-                    
+                
                     if (interestNames != null && !interestNames.isEmpty()) {
                         updateStudentInterests(s, interestNames);
                     }
-                    
+                
                     return;
                 }
-                current = current.getNext();
-            }
             
-            System.out.println("updateUser: No se encontró el usuario para actualizar, creando uno nuevo");
-            User newUser = findOrCreateUserByEmail(userId);
-            if (newUser instanceof Student) {
-                Student student = (Student)newUser;
-                updateStudentFields(student, updated);
+                System.out.println("updateUser: No se encontró el usuario para actualizar, creando uno nuevo");
+                User newUser = findOrCreateUserByEmail(userId);
+                if (newUser instanceof Student) {
+                    Student student = (Student)newUser;
+                    updateStudentFields(student, updated);
                 
-                if (interestNames != null && !interestNames.isEmpty()) {
-                    updateStudentInterests(student, interestNames);
+                    if (interestNames != null && !interestNames.isEmpty()) {
+                        updateStudentInterests(student, interestNames);
+                    }
                 }
             }
-        }
+        });
     }
 
     public void updateUser(String userId, User updated) {
@@ -726,13 +1312,13 @@ public class TheKnowledgeBay {
 
     private boolean updateStudentInterests(Student target, List<String> interestNames) {
         boolean changed = false;
-        DoublyLinkedList<Interest> newInterests = new DoublyLinkedList<>();
+        DynamicArrayList<Interest> newInterests = new DynamicArrayList<>();
         
         // Keep track of current interest names for comparison
         Set<String> currentInterestNames = new HashSet<>();
         if (target.getInterests() != null) {
-            for (int i = 0; i < target.getInterests().getSize(); i++) {
-                currentInterestNames.add(target.getInterests().get(i).getName());
+            for (Interest interest : target.getInterests()) {
+                currentInterestNames.add(interest.getName());
             }
         }
 
@@ -753,21 +1339,17 @@ public class TheKnowledgeBay {
             }
         }
         target.setInterests(newInterests);
+        users.reindex(target);
+        analytics.studentInterestsChanged(target);
+        interestRegistry.studentInterestsChanged(target);
+        persist(store -> store.saveStudentInterests(target));
+        journal(JournalEvent.StudentSaved.of(target));
         return changed; // Return true if the list of interests was modified
     }
     
     // Helper method to find an interest by name from the global list
     public Interest findInterestByName(String name) {
-        if (name == null || name.trim().isEmpty() || this.interests == null) {
-            return null;
-        }
-        for (int i = 0; i < this.interests.getSize(); i++) {
-            Interest interest = this.interests.get(i);
-            if (interest.getName() != null && interest.getName().equalsIgnoreCase(name.trim())) {
-                return interest;
-            }
-        }
-        return null; // Not found
+        return interestRegistry.findByName(name);
     }
 
     private void updateStudentFields(Student target, User updated) {
@@ -784,86 +1366,162 @@ public class TheKnowledgeBay {
             if (us.getDateBirth() != null) target.setDateBirth(us.getDateBirth());
             if (us.getBiography() != null) target.setBiography(us.getBiography());
         }
+        applyProfileDefaults(target);
+        users.reindex(target);
+        persist(store -> store.saveStudent(target));
+        journal(JournalEvent.StudentSaved.of(target));
     }
 
     // Interest management operations
     public boolean addInterest(Interest interest) {
-        try {
-            if (interest.getName() == null || interest.getName().trim().isEmpty()) {
-                return false;
-            }
+        return usersLock.write(() -> {
+            try {
+                if (interest.getName() == null || interest.getName().trim().isEmpty()) {
+                    return false;
+                }
             
-            // Use provided ID if available and valid, otherwise generate one.
-            if (interest.getIdInterest() == null || interest.getIdInterest().trim().isEmpty()) {
-                interest.setIdInterest(generateInterestId());
-            }
-            // If an ID like UUID was provided by the caller (e.g. TestDataLoaderService),
-            // it will be used. Otherwise, the generated one is used.
+                // Use provided ID if available and valid, otherwise generate one.
+                if (interest.getIdInterest() == null || interest.getIdInterest().trim().isEmpty()) {
+                    interest.setIdInterest(generateInterestId());
+                }
+                // If an ID like UUID was provided by the caller (e.g. TestDataLoaderService),
+                // it will be used. Otherwise, the generated one is used.
 
-            interest.setName(interest.getName().trim());
+                interest.setName(interest.getName().trim());
             
-            // Prevent adding interest with duplicate name to the in-memory list
-            for (int i = 0; i < interests.getSize(); i++) {
-                if (interests.get(i).getName().equalsIgnoreCase(interest.getName())) {
+                // Prevent adding interest with duplicate name to the in-memory list
+                if (!interestRegistry.register(interest)) {
                     System.err.println("Interest with name '" + interest.getName() + "' already exists in memory. Not adding.");
                     return false; // Or update existing, depending on desired behavior
                 }
-            }
 
-            interests.addLast(interest);
-            // Note: This does not save to InterestRepository. 
-            // That happens separately if needed, e.g. via an admin UI or specific service call.
-            return true;
-        } catch (Exception e) {
-            System.err.println("Error adding interest: " + e.getMessage());
-            return false;
-        }
+                persist(store -> store.saveInterest(interest));
+                journal(JournalEvent.InterestSaved.of(interest));
+                return true;
+            } catch (Exception e) {
+                System.err.println("Error adding interest: " + e.getMessage());
+                return false;
+            }
+        });
     }
 
-    public DoublyLinkedList<Interest> getAllInterests() {
-        return interests;
+    public DynamicArrayList<Interest> getAllInterests() {
+        return interestRegistry.getAll();
     }
 
     public Interest getInterestById(String id) {
-        if (id == null || interests.isEmpty()) {
-            return null;
-        }
-        
-        for (int i = 0; i < interests.getSize(); i++) {
-            Interest interest = interests.get(i);
-            if (interest.getIdInterest() != null && interest.getIdInterest().equals(id)) {
-                return interest;
-            }
-        }
-        return null;
+        return interestRegistry.findById(id);
     }
 
     public boolean updateInterest(String id, String newName) {
-        if (id == null || newName == null || newName.trim().isEmpty()) {
-            return false;
-        }
+        return usersLock.write(() -> contentLock.write(() -> helpRequestsLock.write(() -> {
+            if (id == null || newName == null || newName.trim().isEmpty()) {
+                return false;
+            }
         
-        Interest interest = getInterestById(id);
-        if (interest != null) {
-            interest.setName(newName.trim());
+            Interest interest = getInterestById(id);
+            if (interest == null) {
+                return false;
+            }
+            // The analytics counters, the leaderboard and both search indexes are keyed by topic name:
+            // take what is filed under the old name out of them, rename, and file it again
+            List<Student> students = interestRegistry.getStudents(interest);
+            List<Content> contents = new ArrayList<>();
+            for (int contentId : interestRegistry.getContentIds(interest)) {
+                Content content = contentTree.search(Content.builder().contentId(contentId).build());
+                if (content != null) {
+                    contents.add(content);
+                    analytics.contentRemoved(content);
+                    leaderboard.remove(contentId);
+                }
+            }
+            List<HelpRequest> requests = new ArrayList<>();
+            for (int requestId : interestRegistry.getHelpRequestIds(interest)) {
+                HelpRequest request = helpRequestQueue.get(requestId);
+                if (request != null) {
+                    requests.add(request);
+                    analytics.helpRequestRemoved(request);
+                }
+            }
+
+            boolean renamed = interestRegistry.rename(interest, newName.trim());
+
+            for (Content content : contents) {
+                analytics.contentAdded(content);
+                leaderboard.update(content);
+                indexForSearch(content);
+            }
+            for (HelpRequest request : requests) {
+                analytics.helpRequestAdded(request);
+            }
+            for (Student student : students) {
+                analytics.studentInterestsChanged(student);
+                users.reindex(student);
+            }
+            if (renamed) {
+                persist(store -> store.saveInterest(interest));
+                journal(JournalEvent.InterestSaved.of(interest));
+            }
+            return renamed;
+        })));
+    }
+
+    public boolean deleteInterest(String id) {
+        return usersLock.write(() -> contentLock.write(() -> helpRequestsLock.write(() -> {
+            Interest interest = getInterestById(id);
+            if (interest == null) {
+                return false;
+            }
+            // Same as a rename: take everything filed under the topic out of the name keyed indexes,
+            // drop the interest from it, and file it again without the topic
+            List<Student> students = interestRegistry.getStudents(interest);
+            List<Content> contents = new ArrayList<>();
+            for (int contentId : interestRegistry.getContentIds(interest)) {
+                Content content = contentTree.search(Content.builder().contentId(contentId).build());
+                if (content != null) {
+                    contents.add(content);
+                    analytics.contentRemoved(content);
+                    leaderboard.remove(contentId);
+                }
+            }
+            List<HelpRequest> requests = new ArrayList<>();
+            for (int requestId : interestRegistry.getHelpRequestIds(interest)) {
+                HelpRequest request = helpRequestQueue.get(requestId);
+                if (request != null) {
+                    requests.add(request);
+                    analytics.helpRequestRemoved(request);
+                }
+            }
+
+            interestRegistry.removeById(id);
+            analytics.topicDeleted(interest.getName());
+
+            for (Content content : contents) {
+                removeInterest(content.getTopics(), interest);
+                analytics.contentAdded(content);
+                leaderboard.update(content);
+                indexForSearch(content);
+            }
+            for (HelpRequest request : requests) {
+                removeInterest(request.getTopics(), interest);
+                analytics.helpRequestAdded(request);
+            }
+            for (Student student : students) {
+                removeInterest(student.getInterests(), interest);
+                analytics.studentInterestsChanged(student);
+                users.reindex(student);
+            }
+            persist(store -> store.deleteInterest(id));
+            journal(new JournalEvent.InterestDeleted(id));
             return true;
-        }
-        return false;
+        })));
     }
 
-    public boolean deleteInterest(String id) {
-        if (id == null || interests.isEmpty()) {
-            return false;
-        }
-        
-        for (int i = 0; i < interests.getSize(); i++) {
-            Interest interest = interests.get(i);
-            if (interest.getIdInterest() != null && interest.getIdInterest().equals(id)) {
-                interests.removeAt(i);
-                return true;
-            }
+    private static void removeInterest(DynamicArrayList<Interest> list, Interest interest) {
+        if (list != null) {
+            list.removeIf(topic -> topic == interest
+                    || (topic != null && interest.getIdInterest().equals(topic.getIdInterest())));
         }
-        return false;
     }
 
     private String generateInterestId() {
@@ -872,370 +1530,373 @@ public class TheKnowledgeBay {
 
     // Affinity Graph operations
     public void initializeAffinityGraph() {
-        if (affinityGraph == null) {
-            affinityGraph = new UndirectedGraph<>();
-        }
+        usersLock.write(() -> {
+            if (affinityGraph == null) {
+                affinityGraph = new UndirectedGraph<>();
+            }
         
-        // Add all students as vertices
-        DoublyLinkedNode<Student> current = users.getStudents().getHead();
-        while (current != null) {
-            Student student = current.getData();
-            if (student.getId() != null) {
-                affinityGraph.addVertex(student.getId());
+            // Add all students as vertices
+            DoublyLinkedNode<Student> current = users.getStudents().getHead();
+            while (current != null) {
+                Student student = current.getData();
+                if (student.getId() != null) {
+                    affinityGraph.addVertex(student.getId());
+                }
+                current = current.getNext();
             }
-            current = current.getNext();
-        }
         
-        // Create edges based on mutual following in addition to shared interests
-        createAffinityConnections();
+            // Create edges based on mutual following in addition to shared interests
+            createAffinityConnections();
+        });
     }
 
     private void createAffinityConnections() {
-        DoublyLinkedNode<Student> current1 = users.getStudents().getHead();
         System.out.println("[AffinityGraph] Starting createAffinityConnections...");
 
-        while (current1 != null) {
-            Student student1 = current1.getData();
-            if (student1.getId() == null) {
-                current1 = current1.getNext();
+        // Only followed students can be mutual followers, so walk each following list
+        // instead of every student pair: O(total follows) rather than O(n^2).
+        for (Student student1 : users.getStudents()) {
+            if (student1.getId() == null || student1.getFollowing() == null) {
                 continue;
             }
-
-            DoublyLinkedNode<Student> current2 = current1.getNext();
-            
-            while (current2 != null) {
-                Student student2 = current2.getData();
-                if (student2.getId() == null) {
-                    current2 = current2.getNext();
+            for (Student student2 : student1.getFollowing()) {
+                if (student2.getId() == null || !affinityGraph.containsVertex(student2.getId())) {
                     continue;
                 }
 
-                // Updated logic: Edge only if users mutually follow each other.
-                boolean mutuallyFollowing = isUserFollowing(student1.getId(), student2.getId()) && isUserFollowing(student2.getId(), student1.getId());
-
-                if (mutuallyFollowing) {
+                // Edge only if users mutually follow each other.
+                if (student2.isFollowing(student1)) {
                     try {
-                        if (!affinityGraph.edgeExists(student1.getId(), student2.getId())) {
-                           affinityGraph.addEdge(student1.getId(), student2.getId());
-                        } // else edge already exists, do nothing
+                        affinityGraph.addEdge(student1.getId(), student2.getId()); // no-op if the edge exists
                     } catch (Exception e) {
                         System.err.println("Error adding edge to affinity graph for " + student1.getId() + " and " + student2.getId() + ": " + e.getMessage());
                     }
                 }
-                
-                current2 = current2.getNext();
             }
-            current1 = current1.getNext();
         }
         System.out.println("[AffinityGraph] Finished createAffinityConnections.");
     }
 
+    // Interests are compared as bitsets of registered interest ordinals, kept by the InterestRegistry
     private boolean hasSharedInterests(Student student1, Student student2) {
-        if (student1.getInterests() == null || student2.getInterests() == null) {
-            return false;
-        }
-        
-        // Check if they share at least one interest
-        for (int i = 0; i < student1.getInterests().getSize(); i++) {
-            Interest interest1 = student1.getInterests().get(i);
-            for (int j = 0; j < student2.getInterests().getSize(); j++) {
-                Interest interest2 = student2.getInterests().get(j);
-                if (interest1.getName().equals(interest2.getName())) {
-                    return true;
+        return LongBitSet.intersects(student1.getInterestBits(), student2.getInterestBits());
+    }
+
+    /**
+     * Jaccard similarity of two students' interests: shared interests over
+     * interests of either, 0 if a student is unknown or has no interests.
+     */
+    public double getInterestSimilarity(String studentId1, String studentId2) {
+        return usersLock.read(() -> {
+            Student student1 = users.findStudentById(studentId1);
+            Student student2 = users.findStudentById(studentId2);
+            if (student1 == null || student2 == null) {
+                return 0.0;
+            }
+            return LongBitSet.jaccard(student1.getInterestBits(), student2.getInterestBits());
+        });
+    }
+
+    /**
+     * Students sharing interests with the given one, most similar first by
+     * Jaccard similarity; ties keep the students' registration order.
+     *
+     * @param limit the maximum number of students to return
+     */
+    public List<Student> findSimilarStudents(String studentId, int limit) {
+        return usersLock.read(() -> {
+            Student target = users.findStudentById(studentId);
+            if (target == null || target.getInterestBits() == null || limit <= 0) {
+                return new ArrayList<Student>();
+            }
+            // Worst match on top, so it is the one dropped when a better one comes
+            java.util.PriorityQueue<SimilarStudent> best = new java.util.PriorityQueue<>(Math.min(limit, 64) + 1);
+            int order = 0;
+            for (Student student : users.getStudents()) {
+                order++;
+                if (student == target || !hasSharedInterests(target, student)) {
+                    continue;
+                }
+                SimilarStudent match = new SimilarStudent(
+                        LongBitSet.jaccard(target.getInterestBits(), student.getInterestBits()), order, student);
+                if (best.size() < limit) {
+                    best.add(match);
+                } else if (match.compareTo(best.peek()) > 0) {
+                    best.poll();
+                    best.add(match);
                 }
             }
+            Student[] ranked = new Student[best.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = best.poll().student();
+            }
+            return new ArrayList<>(List.of(ranked));
+        });
+    }
+
+    // Ordered from the worst match to the best: lower similarity, then registered later
+    private record SimilarStudent(double similarity, int order, Student student) implements Comparable<SimilarStudent> {
+        @Override
+        public int compareTo(SimilarStudent other) {
+            int bySimilarity = Double.compare(similarity, other.similarity);
+            return bySimilarity != 0 ? bySimilarity : Integer.compare(other.order, order);
         }
-        return false;
+    }
+
+    /**
+     * Students interested in a registered interest, found by name ignoring case.
+     */
+    public List<Student> getStudentsByInterest(String interestName) {
+        Interest interest = interestRegistry.findByName(interestName);
+        return interest == null ? new ArrayList<>() : interestRegistry.getStudents(interest);
     }
 
     public List<Map<String, Object>> getAffinityGraphData() {
-        List<Map<String, Object>> result = new ArrayList<>();
-        
-        if (affinityGraph == null) {
-            initializeAffinityGraph();
-        }
+        ensureAffinityGraph();
+        return usersLock.read(() -> {
+            List<Map<String, Object>> result = new ArrayList<>();
         
-        // Add nodes data
-        List<Map<String, Object>> nodes = new ArrayList<>();
-        List<Map<String, Object>> links = new ArrayList<>();
+            // Add nodes data
+            List<Map<String, Object>> nodes = new ArrayList<>();
+            List<Map<String, Object>> links = new ArrayList<>();
         
-        DoublyLinkedNode<Student> current = users.getStudents().getHead();
-        int groupCounter = 0;
+            DoublyLinkedNode<Student> current = users.getStudents().getHead();
+            int groupCounter = 0;
         
-        while (current != null) {
-            Student student = current.getData();
-            if (student.getId() != null) {
-                Map<String, Object> node = new HashMap<>();
-                node.put("id", student.getId());
-                node.put("label", student.getUsername() != null ? student.getUsername() : student.getId());
-                node.put("group", (groupCounter++) % 4);
+            while (current != null) {
+                Student student = current.getData();
+                if (student.getId() != null) {
+                    Map<String, Object> node = new HashMap<>();
+                    node.put("id", student.getId());
+                    node.put("label", student.getUsername() != null ? student.getUsername() : student.getId());
+                    node.put("group", (groupCounter++) % 4);
                 
-                // Add interests
-                List<String> interestNames = new ArrayList<>();
-                if (student.getInterests() != null) {
-                    for (int i = 0; i < student.getInterests().getSize(); i++) {
-                        interestNames.add(student.getInterests().get(i).getName());
+                    // Add interests
+                    List<String> interestNames = new ArrayList<>();
+                    if (student.getInterests() != null) {
+                        for (Interest interest : student.getInterests()) {
+                            interestNames.add(interest.getName());
+                        }
                     }
-                }
-                node.put("interests", interestNames);
+                    node.put("interests", interestNames);
                 
-                nodes.add(node);
+                    nodes.add(node);
+                }
+                current = current.getNext();
             }
-            current = current.getNext();
-        }
         
-        // Add links based on the graph connections
-        GraphVertex<String> vertex = affinityGraph.getVertices();
-        while (vertex != null) {
-            String sourceId = vertex.getData();
-            Edge<String> edge = vertex.getEdgeList();
-            
-            while (edge != null) {
-                String targetId = edge.getAdjacent().getData();
-                
-                // Only add each edge once (avoid duplicates in undirected graph)
-                if (sourceId.compareTo(targetId) < 0) {
-                    Map<String, Object> link = new HashMap<>();
-                    link.put("source", sourceId);
-                    link.put("target", targetId);
-                    link.put("weight", 1.0);
-                    links.add(link);
+            // Add links based on the graph connections
+            for (String sourceId : affinityGraph.getVertices()) {
+                for (String targetId : affinityGraph.getNeighbors(sourceId)) {
+                    // Only add each edge once (avoid duplicates in undirected graph)
+                    if (sourceId.compareTo(targetId) < 0) {
+                        Map<String, Object> link = new HashMap<>();
+                        link.put("source", sourceId);
+                        link.put("target", targetId);
+                        link.put("weight", 1.0);
+                        links.add(link);
+                    }
                 }
-                
-                edge = edge.getNextEdge();
             }
-            vertex = vertex.getNextVertex();
-        }
         
-        Map<String, Object> graphData = new HashMap<>();
-        graphData.put("nodes", nodes);
-        graphData.put("links", links);
+            Map<String, Object> graphData = new HashMap<>();
+            graphData.put("nodes", nodes);
+            graphData.put("links", links);
         
-        result.add(graphData);
-        return result;
+            result.add(graphData);
+            return result;
+        });
     }
 
     public List<String> findShortestPathBetweenStudents(String studentId1, String studentId2) {
-        if (affinityGraph == null) {
-            initializeAffinityGraph();
-        }
-        
-        // Implement BFS for shortest path
-        Queue<String> queue = new LinkedList<>();
-        Map<String, String> parent = new HashMap<>();
-        Set<String> visited = new HashSet<>();
-        
-        queue.offer(studentId1);
-        visited.add(studentId1);
-        parent.put(studentId1, null);
-        
-        while (!queue.isEmpty()) {
-            String currentId = queue.poll();
+        ensureAffinityGraph();
+        return usersLock.read(() -> {
+            // Implement BFS for shortest path
+            Queue<String> queue = new LinkedList<>();
+            Map<String, String> parent = new HashMap<>();
+            Set<String> visited = new HashSet<>();
+        
+            queue.offer(studentId1);
+            visited.add(studentId1);
+            parent.put(studentId1, null);
+        
+            while (!queue.isEmpty()) {
+                String currentId = queue.poll();
             
-            if (currentId.equals(studentId2)) {
-                // Reconstruct path
-                List<String> path = new ArrayList<>();
-                String node = studentId2;
-                while (node != null) {
-                    path.add(0, node);
-                    node = parent.get(node);
+                if (currentId.equals(studentId2)) {
+                    // Reconstruct path
+                    List<String> path = new ArrayList<>();
+                    String node = studentId2;
+                    while (node != null) {
+                        path.add(0, node);
+                        node = parent.get(node);
+                    }
+                    return path;
                 }
-                return path;
-            }
             
-            // Find neighbors
-            GraphVertex<String> vertex = findGraphVertex(currentId);
-            if (vertex != null) {
-                Edge<String> edge = vertex.getEdgeList();
-                while (edge != null) {
-                    String neighborId = edge.getAdjacent().getData();
-                    if (!visited.contains(neighborId)) {
-                        visited.add(neighborId);
+                // Find neighbors
+                for (String neighborId : affinityGraph.getNeighbors(currentId)) {
+                    if (visited.add(neighborId)) {
                         parent.put(neighborId, currentId);
                         queue.offer(neighborId);
                     }
-                    edge = edge.getNextEdge();
                 }
             }
-        }
         
-        return new ArrayList<>(); // No path found
+            return new ArrayList<>(); // No path found
+        });
     }
 
-    private GraphVertex<String> findGraphVertex(String data) {
-        if (affinityGraph == null) return null;
-        
-        GraphVertex<String> current = affinityGraph.getVertices();
-        while (current != null) {
-            if (current.getData().equals(data)) {
-                return current;
-            }
-            current = current.getNextVertex();
+    /**
+     * Full rebuild of the affinity graph. Follows and unfollows keep the graph
+     * up to date incrementally, so this is only needed as an explicit admin
+     * operation or after bulk-replacing the students.
+     */
+    public void refreshAffinityGraph() {
+        usersLock.write(() -> {
+            affinityGraph = null;
+            initializeAffinityGraph();
+        });
+    }
+
+    // Builds the graph on first use; called before taking the users read lock
+    private void ensureAffinityGraph() {
+        if (affinityGraph == null) {
+            usersLock.write(() -> {
+                if (affinityGraph == null) {
+                    initializeAffinityGraph();
+                }
+            });
         }
-        return null;
     }
 
-    public void refreshAffinityGraph() {
-        affinityGraph = null;
-        initializeAffinityGraph();
+    // Adds or removes the single edge between two students after a follow change
+    private void updateAffinityEdge(Student a, Student b) {
+        if (affinityGraph == null) {
+            initializeAffinityGraph(); // built from the current follow state, already includes this change
+            return;
+        }
+        affinityGraph.addVertex(a.getId());
+        affinityGraph.addVertex(b.getId());
+        if (a.isFollowing(b) && b.isFollowing(a)) {
+            affinityGraph.addEdge(a.getId(), b.getId());
+        } else {
+            affinityGraph.removeEdge(a.getId(), b.getId());
+        }
     }
 
     // Analytics operations
+    // The counters are maintained on write by AnalyticsAggregates, so these only walk the interests
+
     public List<Map<String, Object>> getTopicActivityData() {
-        List<Map<String, Object>> result = new ArrayList<>();
-        Map<String, Integer> interestContentCounts = new HashMap<>();
-        Map<String, Integer> interestHelpRequestCounts = new HashMap<>();
-        
-        System.out.println("Getting topic activity data based on interests...");
+        return usersLock.read(() -> {
+            List<Map<String, Object>> result = new ArrayList<>();
+            DynamicArrayList<Interest> interests = interestRegistry.getAll();
         
-        // Count content by interests (topics)
-        if (contentTree != null && !contentTree.isEmpty()) {
-            DoublyLinkedList<Content> allContent = getAllContent();
-            System.out.println("Analyzing " + allContent.getSize() + " content items for interest matching");
+            // Generate activity data based on all interests in the system
+            for (Interest interest : interests) {
+                String interestName = interest.getName();
             
-            for (int i = 0; i < allContent.getSize(); i++) {
-                Content content = allContent.get(i);
-                if (content.getTopics() != null) {
-                    for (int j = 0; j < content.getTopics().getSize(); j++) {
-                        String topicName = content.getTopics().get(j).getName();
-                        // Match with existing interests
-                        if (isInterestInSystem(topicName)) {
-                            interestContentCounts.put(topicName, interestContentCounts.getOrDefault(topicName, 0) + 1);
-                        }
-                    }
+                int contentCount = analytics.getContentCount(interestName);
+                int helpRequestCount = analytics.getHelpRequestCount(interestName);
+                int totalActivity = contentCount + helpRequestCount;
+            
+                if (totalActivity > 0) { // Only include interests that have activity
+                    Map<String, Object> topicData = new HashMap<>();
+                    topicData.put("topic", interestName);
+                    topicData.put("contents", totalActivity);
+                    result.add(topicData);
                 }
             }
-        }
         
-        // Count help requests by interests
-        if (helpRequestQueue != null && !helpRequestQueue.isEmpty()) {
-            DoublyLinkedList<HelpRequest> allRequests = getAllHelpRequests();
-            System.out.println("Analyzing " + allRequests.getSize() + " help requests for interest matching");
-            
-            for (int i = 0; i < allRequests.getSize(); i++) {
-                HelpRequest request = allRequests.get(i);
-                if (request.getTopics() != null) {
-                    for (int j = 0; j < request.getTopics().getSize(); j++) {
-                        String topicName = request.getTopics().get(j).getName();
-                        // Match with existing interests
-                        if (isInterestInSystem(topicName)) {
-                            interestHelpRequestCounts.put(topicName, interestHelpRequestCounts.getOrDefault(topicName, 0) + 1);
-                        }
+            // If no interests have activity, add a message indicating this
+            if (result.isEmpty() && interests.getSize() > 0) {
+                System.out.println("No activity found for existing interests, showing interests with 0 activity");
+                // Show all interests but with 0 activity to indicate they exist but have no content/help requests
+                for (Interest interest : interests) {
+                    if (result.size() == 5) {
+                        break;
                     }
+                    Map<String, Object> topicData = new HashMap<>();
+                    topicData.put("topic", interest.getName());
+                    topicData.put("contents", 0);
+                    result.add(topicData);
                 }
             }
-        }
-        
-        // Generate activity data based on all interests in the system
-        for (int i = 0; i < interests.getSize(); i++) {
-            Interest interest = interests.get(i);
-            String interestName = interest.getName();
-            
-            int contentCount = interestContentCounts.getOrDefault(interestName, 0);
-            int helpRequestCount = interestHelpRequestCounts.getOrDefault(interestName, 0);
-            int totalActivity = contentCount + helpRequestCount;
-            
-            if (totalActivity > 0) { // Only include interests that have activity
-                Map<String, Object> topicData = new HashMap<>();
-                topicData.put("topic", interestName);
-                topicData.put("contents", totalActivity);
-                result.add(topicData);
-                System.out.println("Interest '" + interestName + "' has " + totalActivity + " activities (" + contentCount + " content, " + helpRequestCount + " help requests)");
-            }
-        }
-        
-        // If no interests have activity, add a message indicating this
-        if (result.isEmpty() && interests.getSize() > 0) {
-            System.out.println("No activity found for existing interests, showing interests with 0 activity");
-            // Show all interests but with 0 activity to indicate they exist but have no content/help requests
-            for (int i = 0; i < Math.min(interests.getSize(), 5); i++) {
-                Interest interest = interests.get(i);
-                Map<String, Object> topicData = new HashMap<>();
-                topicData.put("topic", interest.getName());
-                topicData.put("contents", 0);
-                result.add(topicData);
-            }
-        }
         
-        System.out.println("Topic activity result: " + result.size() + " interests");
-        return result;
-    }
-    
-    private boolean isInterestInSystem(String topicName) {
-        for (int i = 0; i < interests.getSize(); i++) {
-            if (interests.get(i).getName().equals(topicName)) {
-                return true;
-            }
-        }
-        return false;
+            System.out.println("Topic activity result: " + result.size() + " interests");
+            return result;
+        });
     }
 
     public List<Map<String, Object>> getParticipationLevelsData() {
         List<Map<String, Object>> result = new ArrayList<>();
-        Map<String, Integer> weeklyActivity = new HashMap<>();
-        
-        System.out.println("Calculating participation levels by week...");
-        
-        // Calculate activity for the last 4 weeks
         LocalDate now = LocalDate.now();
         
-        // Initialize weeks
-        for (int i = 3; i >= 0; i--) {
-            LocalDate weekStart = now.minusWeeks(i);
-            String weekLabel = "Sem " + (4 - i);
-            weeklyActivity.put(weekLabel, 0);
-        }
-        
-        // Count content by week
-        if (contentTree != null && !contentTree.isEmpty()) {
-            DoublyLinkedList<Content> allContent = getAllContent();
-            for (int i = 0; i < allContent.getSize(); i++) {
-                Content content = allContent.get(i);
-                if (content.getDate() != null) {
-                    String weekLabel = getWeekLabel(content.getDate(), now);
-                    if (weekLabel != null && weeklyActivity.containsKey(weekLabel)) {
-                        weeklyActivity.put(weekLabel, weeklyActivity.get(weekLabel) + 1);
-                    }
-                }
-            }
-        }
-        
-        // Count help requests by week
-        if (helpRequestQueue != null && !helpRequestQueue.isEmpty()) {
-            DoublyLinkedList<HelpRequest> allRequests = getAllHelpRequests();
-            for (int i = 0; i < allRequests.getSize(); i++) {
-                HelpRequest request = allRequests.get(i);
-                if (request.getRequestDate() != null) {
-                    String weekLabel = getWeekLabel(request.getRequestDate(), now);
-                    if (weekLabel != null && weeklyActivity.containsKey(weekLabel)) {
-                        weeklyActivity.put(weekLabel, weeklyActivity.get(weekLabel) + 1);
-                    }
-                }
-            }
-        }
-        
-        // Convert to result format
-        for (int i = 1; i <= 4; i++) {
-            String weekLabel = "Sem " + i;
+        // Activity for the last 4 weeks; "Sem 4" is the week ending today
+        for (int weeksAgo = 3; weeksAgo >= 0; weeksAgo--) {
+            LocalDate weekEnd = now.minusDays(7L * weeksAgo);
+            String weekLabel = "Sem " + (4 - weeksAgo);
+            int activity = analytics.getActivityBetween(weekEnd.minusDays(6), weekEnd);
             Map<String, Object> weekData = new HashMap<>();
             weekData.put("week", weekLabel);
-            weekData.put("activity", weeklyActivity.get(weekLabel));
+            weekData.put("activity", activity);
             result.add(weekData);
-            System.out.println(weekLabel + ": " + weeklyActivity.get(weekLabel) + " activities");
+            System.out.println(weekLabel + ": " + activity + " activities");
         }
         
         return result;
     }
-    
-    private String getWeekLabel(LocalDate activityDate, LocalDate now) {
-        if (activityDate == null) return null;
-        
-        long weeksAgo = java.time.temporal.ChronoUnit.WEEKS.between(activityDate, now);
-        
-        if (weeksAgo >= 0 && weeksAgo <= 3) {
-            return "Sem " + (4 - (int)weeksAgo);
+
+    /**
+     * Activity histogram for a window ending today, read from the bucketed counters.
+     *
+     * @param window      a number of days or weeks, e.g. "7d", "30d" or "52w"
+     * @param granularity "day" or "week"; defaults to the unit of the window
+     * @param topic       only activity tagged with this interest name, or null
+     * @param userId      only activity of this student, or null
+     * @return one entry per bucket, oldest first, with the day it starts and its activity
+     * @throws IllegalArgumentException if the window cannot be parsed or is longer than the history kept
+     */
+    public List<Map<String, Object>> getParticipationLevelsData(String window, String granularity, String topic, String userId) {
+        Matcher matcher = ACTIVITY_WINDOW.matcher(window == null ? "" : window.trim().toLowerCase());
+        if (!matcher.matches() || Integer.parseInt(matcher.group(1)) == 0) {
+            throw new IllegalArgumentException("Invalid window: " + window);
+        }
+        int length = Integer.parseInt(matcher.group(1));
+        boolean weeks = matcher.group(2).equals("w");
+        ActivityGranularity bucket;
+        if (granularity == null || granularity.isBlank()) {
+            bucket = weeks ? ActivityGranularity.WEEK : ActivityGranularity.DAY;
+        } else {
+            try {
+                bucket = ActivityGranularity.valueOf(granularity.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid granularity: " + granularity);
+            }
         }
-        return null;
+
+        LocalDate to = LocalDate.now();
+        LocalDate from;
+        if (!weeks) {
+            from = to.minusDays(length - 1L);
+        } else if (bucket == ActivityGranularity.WEEK) {
+            // n weeks in week buckets means the current week and the n - 1 before it
+            from = to.minusWeeks(length - 1L);
+        } else {
+            from = to.minusWeeks(length).plusDays(1);
+        }
+        int[] activity = analytics.getActivity(bucket, from, to, topic, userId);
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        int first = AnalyticsAggregates.bucketOf(bucket, from);
+        for (int i = 0; i < activity.length; i++) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("period", AnalyticsAggregates.startOf(bucket, first + i).toString());
+            entry.put("activity", activity[i]);
+            result.add(entry);
+        }
+        return result;
     }
 
     private int calculateWeeklyActivity(int week) {
@@ -1251,203 +1912,177 @@ public class TheKnowledgeBay {
 
     // Helper methods for counts
     public int getTotalContentCount() {
-        DoublyLinkedList<Content> contents = getAllContent();
-        return contents != null ? contents.getSize() : 0;
+        return contentLock.read(() -> contentTree != null ? contentTree.getSize() : 0);
     }
 
     public int getTotalHelpRequestsCount() {
-        DoublyLinkedList<HelpRequest> requests = getAllHelpRequests();
-        return requests != null ? requests.getSize() : 0;
+        return helpRequestsLock.read(() -> helpRequestQueue != null ? helpRequestQueue.getSize() : 0);
     }
 
     public int getTotalUsersCount() {
-        int count = 0;
-        DoublyLinkedNode<Student> current = users.getStudents().getHead();
-        while (current != null) {
-            count++;
-            current = current.getNext();
-        }
-        return count;
+        return usersLock.read(() -> users.getStudents().getSize());
     }
 
+    public int getTotalStudyGroupsCount() {
+        return groupsLock.read(studyGroups::getSize);
+    }
+
+    /**
+     * Communities of the affinity graph (students who mutually follow each
+     * other densely), largest first. Students without any affinity edge are
+     * left out. Each community is labelled with the interest most of its
+     * members share.
+     */
     public List<Map<String, Object>> getCommunityDetectionData() {
-        List<Map<String, Object>> result = new ArrayList<>();
-        Map<String, List<String>> interestGroups = new HashMap<>();
-        Map<String, Integer> interestCounts = new HashMap<>();
-        
-        System.out.println("Getting community detection data based on interests...");
-        
-        // Group students by ALL their interests (not just primary)
-        DoublyLinkedNode<Student> current = users.getStudents().getHead();
-        int studentCount = 0;
-        while (current != null) {
-            Student student = current.getData();
-            studentCount++;
-            String studentName = student.getUsername() != null ? student.getUsername() : student.getId();
-            
-            if (student.getInterests() != null && student.getInterests().getSize() > 0) {
-                // Add student to all their interest groups
-                for (int i = 0; i < student.getInterests().getSize(); i++) {
-                    String interestName = student.getInterests().get(i).getName();
-                    interestGroups.computeIfAbsent(interestName, k -> new ArrayList<>()).add(studentName);
-                    interestCounts.put(interestName, interestCounts.getOrDefault(interestName, 0) + 1);
+        List<List<String>> communities = detectCommunities();
+        return usersLock.read(() -> {
+            List<Map<String, Object>> result = new ArrayList<>();
+            int clusterId = 1;
+            for (List<String> community : communities) {
+                if (community.size() < 2) {
+                    break; // sorted by size, only single students remain
                 }
-            }
-            current = current.getNext();
-        }
-        
-        System.out.println("Found " + studentCount + " students distributed across " + interestGroups.size() + " interest groups");
-        
-        // Convert to cluster format based on actual interests in the system
-        int clusterId = 1;
-        for (int i = 0; i < interests.getSize(); i++) {
-            Interest interest = interests.get(i);
-            String interestName = interest.getName();
-            
-            if (interestGroups.containsKey(interestName)) {
-                List<String> studentsInInterest = interestGroups.get(interestName);
-                // Remove duplicates while preserving order
-                List<String> uniqueStudents = new ArrayList<>();
-                for (String student : studentsInInterest) {
-                    if (!uniqueStudents.contains(student)) {
-                        uniqueStudents.add(student);
+                List<String> names = new ArrayList<>();
+                Map<String, Integer> topicVotes = new LinkedHashMap<>();
+                for (String studentId : community) {
+                    Student student = users.findStudentById(studentId);
+                    if (student == null) {
+                        continue;
+                    }
+                    names.add(student.getUsername() != null ? student.getUsername() : student.getId());
+                    if (student.getInterests() != null) {
+                        for (Interest interest : student.getInterests()) {
+                            if (interest != null && interest.getName() != null) {
+                                topicVotes.merge(interest.getName(), 1, Integer::sum);
+                            }
+                        }
                     }
                 }
-                
-                if (!uniqueStudents.isEmpty()) {
-                    Map<String, Object> cluster = new HashMap<>();
-                    cluster.put("id", clusterId++);
-                    cluster.put("topic", interestName);
-                    cluster.put("students", String.join(", ", uniqueStudents));
-                    result.add(cluster);
-                    System.out.println("Interest '" + interestName + "' has " + uniqueStudents.size() + " students: " + uniqueStudents);
+                String topic = "Sin tema";
+                int topVotes = 0;
+                for (Map.Entry<String, Integer> vote : topicVotes.entrySet()) {
+                    if (vote.getValue() > topVotes) {
+                        topic = vote.getKey();
+                        topVotes = vote.getValue();
+                    }
                 }
-            } else {
-                System.out.println("Interest '" + interestName + "' has no students");
+                Map<String, Object> cluster = new HashMap<>();
+                cluster.put("id", clusterId++);
+                cluster.put("topic", topic);
+                cluster.put("students", String.join(", ", names));
+                cluster.put("size", names.size());
+                result.add(cluster);
             }
+
+            System.out.println("Community detection result: " + result.size() + " communities");
+            return result;
+        });
+    }
+
+    // Label propagation runs on a snapshot outside the lock; results are cached per graph version
+    private List<List<String>> detectCommunities() {
+        ensureAffinityGraph();
+        List<List<String>> cached = usersLock.read(() -> communityDetector.getIfCurrent(affinityGraph));
+        if (cached != null) {
+            return cached;
         }
-        
-        System.out.println("Community detection result: " + result.size() + " communities");
-        return result;
+        CsrGraph<String> snapshot = usersLock.read(() -> CsrGraph.of(affinityGraph));
+        return communityDetector.detect(snapshot);
     }
 
     public List<Map<String, Object>> getMostConnectedUsers() {
-        List<Map<String, Object>> result = new ArrayList<>();
-        Map<String, Integer> userConnections = new HashMap<>();
-        
-        System.out.println("Calculating most connected users from affinity graph...");
-        
-        if (affinityGraph == null) {
-            initializeAffinityGraph();
-        }
-        
-        // Count connections for each user in the affinity graph
-        GraphVertex<String> vertex = affinityGraph.getVertices();
-        while (vertex != null) {
-            String userId = vertex.getData();
-            int connectionCount = 0;
-            
-            // Count edges for this user
-            Edge<String> edge = vertex.getEdgeList();
-            while (edge != null) {
-                connectionCount++;
-                edge = edge.getNextEdge();
-            }
-            
-            userConnections.put(userId, connectionCount);
-            vertex = vertex.getNextVertex();
-        }
-        
-        // Convert to list and sort by connection count
-        List<Map.Entry<String, Integer>> sortedUsers = new ArrayList<>(userConnections.entrySet());
-        sortedUsers.sort((a, b) -> Integer.compare(b.getValue(), a.getValue()));
-        
-        // Get top 5 most connected users
-        int limit = Math.min(5, sortedUsers.size());
-        for (int i = 0; i < limit; i++) {
-            Map.Entry<String, Integer> entry = sortedUsers.get(i);
-            User user = getUserById(entry.getKey()); 
-            if (user != null) {
-                Map<String, Object> userData = new HashMap<>();
-                userData.put("id", user.getId());
-                userData.put("username", user.getUsername());
-                userData.put("name", (user instanceof Student ? ((Student)user).getFirstName() : "") + " " + (user instanceof Student ? ((Student)user).getLastName() : "")); 
-                userData.put("connections", entry.getValue());
-                // Generate a generic avatar URL based on username or ID
-                String avatarSeed = user.getUsername() != null ? user.getUsername() : user.getId();
-                userData.put("avatar", "https://avatar.vercel.sh/" + avatarSeed + ".png?size=40"); 
-                result.add(userData);
+        ensureAffinityGraph();
+        return usersLock.read(() -> {
+            List<Map<String, Object>> result = new ArrayList<>();
+
+            // The graph keeps its vertices bucketed by degree, so the top 5 are read directly
+            for (String userId : affinityGraph.topByDegree(5)) {
+                Student user = users.findStudentById(userId);
+                if (user != null) {
+                    Map<String, Object> userData = new HashMap<>();
+                    userData.put("id", user.getId());
+                    userData.put("username", user.getUsername());
+                    userData.put("name", user.getFirstName() + " " + user.getLastName());
+                    userData.put("connections", affinityGraph.degree(userId));
+                    // Generate a generic avatar URL based on username or ID
+                    String avatarSeed = user.getUsername() != null ? user.getUsername() : user.getId();
+                    userData.put("avatar", "https://avatar.vercel.sh/" + avatarSeed + ".png?size=40"); 
+                    result.add(userData);
+                }
             }
-        }
-        return result;
+            return result;
+        });
     }
 
     public Map<String, Object> getFullAnalyticsData() {
-        System.out.println("Getting full analytics data...");
-        Map<String, Object> analytics = new HashMap<>();
-        
-        List<Map<String, Object>> topicActivity = getTopicActivityData();
-        List<Map<String, Object>> participationLevels = getParticipationLevelsData();
+        // Detected outside the read lock: it may build the affinity graph under the write lock
         List<Map<String, Object>> communityClusters = getCommunityDetectionData();
+        return usersLock.read(() -> {
+            System.out.println("Getting full analytics data...");
+            Map<String, Object> analytics = new HashMap<>();
+        
+            List<Map<String, Object>> topicActivity = getTopicActivityData();
+            List<Map<String, Object>> participationLevels = getParticipationLevelsData();
         
-        analytics.put("topicActivity", topicActivity);
-        analytics.put("participationLevels", participationLevels);
-        analytics.put("communityClusters", communityClusters);
+            analytics.put("topicActivity", topicActivity);
+            analytics.put("participationLevels", participationLevels);
+            analytics.put("communityClusters", communityClusters);
         
-        System.out.println("Analytics data prepared - topicActivity: " + topicActivity.size() + 
-                          ", participationLevels: " + participationLevels.size() + 
-                          ", communityClusters: " + communityClusters.size());
+            System.out.println("Analytics data prepared - topicActivity: " + topicActivity.size() + 
+                              ", participationLevels: " + participationLevels.size() + 
+                              ", communityClusters: " + communityClusters.size());
         
-        return analytics;
+            return analytics;
+        });
     }
 
     // Follow/Unfollow logic
     public boolean followUser(String followerId, String followedId) {
-        User followerUser = getUserById(followerId);
-        User followedUser = getUserById(followedId);
+        return usersLock.write(() -> {
+            User followerUser = getUserById(followerId);
+            User followedUser = getUserById(followedId);
 
-        if (followerUser instanceof Student && followedUser instanceof Student) {
-            Student follower = (Student) followerUser;
-            Student followed = (Student) followedUser;
+            if (followerUser instanceof Student && followedUser instanceof Student) {
+                Student follower = (Student) followerUser;
+                Student followed = (Student) followedUser;
 
-            if (follower.getId().equals(followed.getId())) {
-                 // Cannot follow yourself
-                return false;
-            }
+                if (follower.getId().equals(followed.getId())) {
+                     // Cannot follow yourself
+                    return false;
+                }
 
-            follower.addFollowing(followed);
-            followed.addFollower(follower);
-            // Assuming StudentRepository handles persistence if necessary, or if objects are managed in memory primarily.
-            // If explicit save is needed:
-            // studentRepository.update(follower);
-            // studentRepository.update(followed);
-            System.out.println("[UserAction] " + followerId + " now follows " + followedId);
-            refreshAffinityGraph(); // Refresh graph after successful follow
-            System.out.println("[AffinityGraph] Graph refreshed due to follow action.");
-            return true;
-        }
-        return false;
+                follower.addFollowing(followed);
+                followed.addFollower(follower);
+                System.out.println("[UserAction] " + followerId + " now follows " + followedId);
+                persist(store -> store.saveFollow(follower.getId(), followed.getId()));
+                journal(new JournalEvent.Followed(follower.getId(), followed.getId()));
+                updateAffinityEdge(follower, followed);
+                return true;
+            }
+            return false;
+        });
     }
 
     public boolean unfollowUser(String followerId, String unfollowedId) {
-        User followerUser = getUserById(followerId);
-        User unfollowedUser = getUserById(unfollowedId);
-
-        if (followerUser instanceof Student && unfollowedUser instanceof Student) {
-            Student follower = (Student) followerUser;
-            Student unfollowed = (Student) unfollowedUser;
-
-            boolean success = follower.removeFollowing(unfollowed) && unfollowed.removeFollower(follower);
-            if (success) {
-                // studentRepository.update(follower); // Potentially update both if needed
-                // studentRepository.update(unfollowed);
-                System.out.println("[UserAction] " + followerId + " unfollowed " + unfollowedId);
-                refreshAffinityGraph(); // Refresh graph after successful unfollow
-                System.out.println("[AffinityGraph] Graph refreshed due to unfollow action.");
-            }
-            return success;
-        }
-        return false;
+        return usersLock.write(() -> {
+            User followerUser = getUserById(followerId);
+            User unfollowedUser = getUserById(unfollowedId);
+
+            if (followerUser instanceof Student && unfollowedUser instanceof Student) {
+                Student follower = (Student) followerUser;
+                Student unfollowed = (Student) unfollowedUser;
+
+                boolean success = follower.removeFollowing(unfollowed) && unfollowed.removeFollower(follower);
+                if (success) {
+                    System.out.println("[UserAction] " + followerId + " unfollowed " + unfollowedId);
+                    persist(store -> store.deleteFollow(follower.getId(), unfollowed.getId()));
+                    journal(new JournalEvent.Unfollowed(follower.getId(), unfollowed.getId()));
+                    updateAffinityEdge(follower, unfollowed);
+                }
+                return success;
+            }
+            return false;
+        });
     }
 
     public boolean isUserFollowing(String currentUserId, String targetUserId) {
@@ -1458,195 +2093,165 @@ public class TheKnowledgeBay {
         User targetUser = getUserById(targetUserId);
 
         if (currentUser instanceof Student && targetUser instanceof Student) {
-            return ((Student) currentUser).isFollowing((Student) targetUser);
+            return usersLock.read(() -> ((Student) currentUser).isFollowing((Student) targetUser));
         }
         return false;
     }
 
     public DoublyLinkedList<HelpRequest> getAllHelpRequests() {
-        DoublyLinkedList<HelpRequest> result = new DoublyLinkedList<>();
+        return helpRequestsLock.read(() -> {
+            DoublyLinkedList<HelpRequest> result = new DoublyLinkedList<>();
         
-        if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
-            return result;
-        }
-        
-        // Create a copy to preserve the original queue
-        PriorityQueue<HelpRequest> tempQueue = new PriorityQueue<>();
-        
-        // Extract all elements from original queue
-        while (!helpRequestQueue.isEmpty()) {
-            HelpRequest request = helpRequestQueue.dequeue();
-            result.addLast(request);
-            tempQueue.insert(request);
-        }
+            if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
+                return result;
+            }
         
-        // Restore the original queue
-        while (!tempQueue.isEmpty()) {
-            helpRequestQueue.insert(tempQueue.dequeue());
-        }
+            // Ordered, non-destructive walk of the heap
+            for (HelpRequest request : helpRequestQueue) {
+                result.addLast(request);
+            }
         
-        return result;
+            return result;
+        });
     }
 
     public HelpRequest getHelpRequestById(int id) {
-        if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
-            return null;
-        }
-        
-        // Create a temporary queue to search through
-        PriorityQueue<HelpRequest> tempQueue = new PriorityQueue<>();
-        HelpRequest found = null;
-        
-        // Search for the request with the given ID
-        while (!helpRequestQueue.isEmpty()) {
-            HelpRequest request = helpRequestQueue.dequeue();
-            if (request.getRequestId() == id) {
-                found = request;
+        return helpRequestsLock.read(() -> {
+            if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
+                return null;
             }
-            tempQueue.insert(request);
-        }
         
-        // Restore the original queue
-        while (!tempQueue.isEmpty()) {
-            helpRequestQueue.insert(tempQueue.dequeue());
-        }
-        
-        return found;
+            return helpRequestQueue.get(id);
+        });
     }
 
     public boolean markHelpRequestAsCompleted(int requestId, String userId) {
-        if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
-            return false;
-        }
-        
-        PriorityQueue<HelpRequest> tempQueue = new PriorityQueue<>();
-        boolean foundAndUpdated = false;
+        return helpRequestsLock.write(() -> {
+            if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
+                return false;
+            }
         
-        while (!helpRequestQueue.isEmpty()) {
-            HelpRequest request = helpRequestQueue.dequeue();
-            if (request.getRequestId() == requestId && request.getStudent().getId().equals(userId)) {
+            HelpRequest request = helpRequestQueue.get(requestId);
+            if (request != null && request.getStudent().getId().equals(userId)) {
+                // Completion does not take part in the ordering, so no re-sift is needed
                 request.markAsCompleted();
-                foundAndUpdated = true;
+                persist(store -> store.saveHelpRequest(request));
+                journal(new JournalEvent.HelpRequestCompleted(requestId));
+                return true;
             }
-            tempQueue.insert(request);
-        }
-        
-        // Restore the original queue
-        while (!tempQueue.isEmpty()) {
-            helpRequestQueue.insert(tempQueue.dequeue());
-        }
         
-        return foundAndUpdated;
+            return false;
+        });
     }
 
     public boolean updateHelpRequest(int requestId, HelpRequestResponseDTO updatedDto) {
-        if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
-            return false;
-        }
-
-        HelpRequest existingRequest = null;
-        PriorityQueue<HelpRequest> tempQueue = new PriorityQueue<>();
-
-        // Find the request and store others temporarily
-        while (!helpRequestQueue.isEmpty()) {
-            HelpRequest current = helpRequestQueue.dequeue();
-            if (current.getRequestId() == requestId) {
-                existingRequest = current;
-            } else {
-                tempQueue.insert(current);
+        return helpRequestsLock.write(() -> {
+            if (helpRequestQueue == null || helpRequestQueue.isEmpty()) {
+                return false;
             }
-        }
-
-        // Restore non-matching requests to the main queue
-        while (!tempQueue.isEmpty()) {
-            helpRequestQueue.insert(tempQueue.dequeue());
-        }
 
-        if (existingRequest == null) {
-            return false; // Request not found
-        }
+            HelpRequest existingRequest = helpRequestQueue.get(requestId);
+            if (existingRequest == null) {
+                return false; // Request not found
+            }
 
-        // Update the existing request object
-        if (updatedDto.getInformation() != null) {
-            existingRequest.setInformation(updatedDto.getInformation());
-        }
-        if (updatedDto.getUrgency() != null) {
-            try {
-                existingRequest.setUrgency(Urgency.valueOf(updatedDto.getUrgency().toUpperCase()));
-            } catch (IllegalArgumentException e) {
-                System.err.println("Invalid urgency value provided: " + updatedDto.getUrgency());
+            // Update the existing request object
+            if (updatedDto.getInformation() != null) {
+                existingRequest.setInformation(updatedDto.getInformation());
             }
-        }
-        existingRequest.setCompleted(updatedDto.isCompleted());
+            if (updatedDto.getUrgency() != null) {
+                try {
+                    existingRequest.setUrgency(Urgency.valueOf(updatedDto.getUrgency().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Invalid urgency value provided: " + updatedDto.getUrgency());
+                }
+            }
+            existingRequest.setCompleted(updatedDto.isCompleted());
 
-        helpRequestQueue.insert(existingRequest);
-        return true;
+            // Urgency may have changed: move the request to its new position in the heap
+            helpRequestQueue.updatePriority(requestId);
+            persist(store -> store.saveHelpRequest(existingRequest));
+            journal(JournalEvent.HelpRequestSaved.of(existingRequest));
+            return true;
+        });
     }
 
     // Method to get the count of study groups a user is part of
     public int getUserStudyGroupCount(String userId) {
-        if (userId == null || userId.isEmpty()) {
-            return 0;
-        }
-        int count = 0;
-        if (studyGroups != null) {
-            for (int i = 0; i < studyGroups.getSize(); i++) {
-                StudyGroup group = studyGroups.get(i);
-                if (group != null && group.getMembers() != null) {
-                    DoublyLinkedList<Student> members = group.getMembers();
-                    if (members != null) {
-                        for (int j = 0; j < members.getSize(); j++) {
-                            User member = members.get(j);
-                            if (member != null && userId.equals(member.getId())) {
-                                count++;
-                                break; // Found in this group, move to the next group
+        return groupsLock.read(() -> {
+            if (userId == null || userId.isEmpty()) {
+                return 0;
+            }
+            int count = 0;
+            if (studyGroups != null) {
+                for (StudyGroup group : studyGroups) {
+                    if (group != null && group.getMembers() != null) {
+                        DynamicArrayList<Student> members = group.getMembers();
+                        if (members != null) {
+                            for (User member : members) {
+                                if (member != null && userId.equals(member.getId())) {
+                                    count++;
+                                    break; // Found in this group, move to the next group
+                                }
                             }
                         }
                     }
                 }
             }
-        }
-        return count;
+            return count;
+        });
     }
 
     // HelpRequest operations
     public boolean addHelpRequest(HelpRequest helpRequest) {
-        try {
-            System.out.println("TheKnowledgeBay - Agregando solicitud de ayuda...");
-            if (helpRequestQueue == null) {
-                helpRequestQueue = new PriorityQueue<>();
-                System.out.println("TheKnowledgeBay - Inicializando cola de prioridad");
-            }
+        return groupsLock.write(() -> helpRequestsLock.write(() -> {
+            try {
+                System.out.println("TheKnowledgeBay - Agregando solicitud de ayuda...");
+                if (helpRequestQueue == null) {
+                    helpRequestQueue = new PriorityQueue<>(HelpRequest::getRequestId);
+                    System.out.println("TheKnowledgeBay - Inicializando cola de prioridad");
+                }
             
-            int requestId = generateHelpRequestId();
-            helpRequest.setRequestId(requestId);
-            System.out.println("TheKnowledgeBay - ID generado: " + requestId);
+                int requestId = generateHelpRequestId();
+                helpRequest.setRequestId(requestId);
+                System.out.println("TheKnowledgeBay - ID generado: " + requestId);
             
-            helpRequestQueue.insert(helpRequest);
-            System.out.println("TheKnowledgeBay - Solicitud insertada en la cola");
-
-            if (helpRequest.getTopics() != null && !helpRequest.getTopics().isEmpty()) {
-                for (int i = 0; i < helpRequest.getTopics().getSize(); i++) {
-                    Interest topic = helpRequest.getTopics().get(i);
-                    if (topic != null && topic.getName() != null) {
-                        StudyGroup relevantGroup = findStudyGroupByInterestName(topic.getName());
-                        if (relevantGroup != null) {
-                            if (relevantGroup.getAssociatedHelpRequests() == null) {
-                                relevantGroup.setAssociatedHelpRequests(new DoublyLinkedList<>());
-                            }
-                            if (!relevantGroup.getAssociatedHelpRequests().contains(helpRequest)) {
-                                relevantGroup.getAssociatedHelpRequests().addLast(helpRequest);
-                                System.out.println("HelpRequest ID '" + helpRequest.getRequestId() + "' associated with group: " + relevantGroup.getName());
-                            }
+                interestRegistry.canonicalize(helpRequest.getTopics());
+                helpRequestQueue.insert(helpRequest);
+                analytics.helpRequestAdded(helpRequest);
+                interestRegistry.helpRequestAdded(helpRequest);
+                helpRequestsByStudent.add(studentIdOf(helpRequest), requestId);
+                persist(store -> store.saveHelpRequest(helpRequest));
+                journal(JournalEvent.HelpRequestSaved.of(helpRequest));
+                System.out.println("TheKnowledgeBay - Solicitud insertada en la cola");
+
+                linkHelpRequestToStudyGroups(helpRequest);
+                return true;
+            } catch (Exception e) {
+                System.err.println("Error adding help request: " + e.getMessage());
+                e.printStackTrace();
+                return false;
+            }
+        }));
+    }
+
+    // Caller must hold the groups write lock
+    private void linkHelpRequestToStudyGroups(HelpRequest helpRequest) {
+        if (helpRequest.getTopics() != null && !helpRequest.getTopics().isEmpty()) {
+            for (Interest topic : helpRequest.getTopics()) {
+                if (topic != null && topic.getName() != null) {
+                    StudyGroup relevantGroup = findStudyGroupByInterestName(topic.getName());
+                    if (relevantGroup != null) {
+                        if (relevantGroup.getAssociatedHelpRequests() == null) {
+                            relevantGroup.setAssociatedHelpRequests(new DoublyLinkedList<>());
+                        }
+                        if (!relevantGroup.getAssociatedHelpRequests().contains(helpRequest)) {
+                            relevantGroup.getAssociatedHelpRequests().addLast(helpRequest);
+                            System.out.println("HelpRequest ID '" + helpRequest.getRequestId() + "' associated with group: " + relevantGroup.getName());
                         }
                     }
                 }
             }
-            return true;
-        } catch (Exception e) {
-            System.err.println("Error adding help request: " + e.getMessage());
-            e.printStackTrace();
-            return false;
         }
     }
 }
\ No newline at end of file
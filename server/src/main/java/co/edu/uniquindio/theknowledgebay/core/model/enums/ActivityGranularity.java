@@ -0,0 +1,6 @@
+package co.edu.uniquindio.theknowledgebay.core.model.enums;
+
+public enum ActivityGranularity {
+    DAY,
+    WEEK
+}
@@ -0,0 +1,214 @@
+package co.edu.uniquindio.theknowledgebay.core.repository;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads every persisted aggregate at startup.
+ * <p>
+ * Each table is read exactly once with a plain SELECT (no joins, no per-row
+ * lookups) through a cursor with a tuned fetch size. Rows that reference
+ * other rows are stitched into the object graph in memory through id maps,
+ * so the whole load is linear in the number of rows.
+ */
+@Slf4j
+@Repository
+@DependsOn("schemaMigrations")
+public class BootstrapLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The loaded aggregates plus the time each phase took, in load order.
+     */
+    public record Result(List<Student> students,
+                         List<Interest> interests,
+                         List<Content> contents,
+                         List<HelpRequest> helpRequests,
+                         List<Chat> chats,
+                         int messageCount,
+                         Map<String, Long> phaseMillis) {
+
+        public long totalMillis() {
+            return phaseMillis.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    public BootstrapLoader(DataSource dataSource,
+                           @Value("${persistence.bootstrap.fetch-size:1000}") int fetchSize) {
+        // Own template so the fetch size does not leak into the request-time queries
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public Result load() {
+        Map<String, Long> phaseMillis = new LinkedHashMap<>();
+        Map<String, Interest> interestsById = new LinkedHashMap<>();
+        Map<String, Student> studentsById = new LinkedHashMap<>();
+        Map<Integer, Content> contentsById = new LinkedHashMap<>();
+        Map<Integer, HelpRequest> requestsById = new LinkedHashMap<>();
+        Map<Integer, Chat> chatsById = new LinkedHashMap<>();
+        int[] messageCount = {0};
+
+        phase(phaseMillis, "interests", "SELECT id_interest, name FROM interests", rs -> {
+            Interest interest = new Interest(rs.getString("id_interest"), rs.getString("name"));
+            interestsById.put(interest.getIdInterest(), interest);
+        });
+
+        phase(phaseMillis, "students", "SELECT * FROM students", rs -> {
+            Student student = Student.builder()
+                    .id(rs.getString("id"))
+                    .username(rs.getString("username"))
+                    .email(rs.getString("email"))
+                    .password(rs.getString("password"))
+                    .firstName(rs.getString("first_name"))
+                    .lastName(rs.getString("last_name"))
+                    .dateBirth(parseDate(rs.getString("date_birth")))
+                    .biography(rs.getString("biography"))
+                    .build();
+            studentsById.put(student.getId(), student);
+        });
+
+        phase(phaseMillis, "students_interests", "SELECT student_id, interest_id FROM students_interests", rs -> {
+            Student student = studentsById.get(rs.getString("student_id"));
+            Interest interest = interestsById.get(rs.getString("interest_id"));
+            if (student != null && interest != null) {
+                student.getInterests().addLast(interest);
+            }
+        });
+
+        phase(phaseMillis, "follows", "SELECT follower_id, followed_id FROM follows", rs -> {
+            Student follower = studentsById.get(rs.getString("follower_id"));
+            Student followed = studentsById.get(rs.getString("followed_id"));
+            if (follower != null && followed != null) {
+                follower.addFollowing(followed);
+                followed.addFollower(follower);
+            }
+        });
+
+        phase(phaseMillis, "contents", "SELECT * FROM contents", rs -> {
+            String type = rs.getString("content_type");
+            Content content = Content.builder()
+                    .contentId(rs.getInt("content_id"))
+                    .title(rs.getString("title"))
+                    .contentType(type != null ? ContentType.valueOf(type) : null)
+                    .information(rs.getString("information"))
+                    .author(studentsById.get(rs.getString("author_id")))
+                    .likeCount(rs.getInt("like_count"))
+                    .date(parseDate(rs.getString("date")))
+                    .topics(new DynamicArrayList<>())
+                    .comments(new DoublyLinkedList<>())
+                    .build();
+            contentsById.put(content.getContentId(), content);
+        });
+
+        phase(phaseMillis, "content_topics", "SELECT content_id, interest_id FROM content_topics", rs -> {
+            Content content = contentsById.get(rs.getInt("content_id"));
+            Interest topic = interestsById.get(rs.getString("interest_id"));
+            if (content != null && topic != null) {
+                content.getTopics().addLast(topic);
+            }
+        });
+
+        phase(phaseMillis, "content_likes", "SELECT content_id, student_id FROM content_likes", rs -> {
+            Content content = contentsById.get(rs.getInt("content_id"));
+            Student student = studentsById.get(rs.getString("student_id"));
+            if (content != null && student != null) {
+                content.getLikers().put(student.getId(), student); // like_count is stored separately
+            }
+        });
+
+        phase(phaseMillis, "help_requests", "SELECT * FROM help_requests", rs -> {
+            HelpRequest request = HelpRequest.builder()
+                    .requestId(rs.getInt("request_id"))
+                    .information(rs.getString("information"))
+                    .urgency(Urgency.valueOf(rs.getString("urgency")))
+                    .student(studentsById.get(rs.getString("student_id")))
+                    .isCompleted(rs.getInt("is_completed") != 0)
+                    .requestDate(parseDate(rs.getString("request_date")))
+                    .topics(new DynamicArrayList<>())
+                    .comments(new DoublyLinkedList<>())
+                    .build();
+            requestsById.put(request.getRequestId(), request);
+        });
+
+        phase(phaseMillis, "help_request_topics", "SELECT request_id, interest_id FROM help_request_topics", rs -> {
+            HelpRequest request = requestsById.get(rs.getInt("request_id"));
+            Interest topic = interestsById.get(rs.getString("interest_id"));
+            if (request != null && topic != null) {
+                request.getTopics().addLast(topic);
+            }
+        });
+
+        phase(phaseMillis, "chats", "SELECT chat_id, student_a_id, student_b_id FROM chats", rs -> {
+            Student a = studentsById.get(rs.getString("student_a_id"));
+            Student b = studentsById.get(rs.getString("student_b_id"));
+            if (a != null && b != null) {
+                int chatId = rs.getInt("chat_id");
+                chatsById.put(chatId, Chat.builder().chatId(chatId).studentA(a).studentB(b)
+                        .messages(new DoublyLinkedList<>()).build());
+            }
+        });
+
+        // Ordered by the primary key so each chat's messages come back in sending order
+        phase(phaseMillis, "messages", "SELECT * FROM messages ORDER BY message_id", rs -> {
+            Chat chat = chatsById.get(rs.getInt("chat_id"));
+            if (chat != null) {
+                String timestamp = rs.getString("timestamp");
+                chat.getMessages().addLast(Message.builder()
+                        .messageId(rs.getInt("message_id"))
+                        .text(rs.getString("text"))
+                        .sender(studentsById.get(rs.getString("sender_id")))
+                        .timestamp(timestamp != null ? LocalDateTime.parse(timestamp) : null)
+                        .build());
+                messageCount[0]++;
+            }
+        });
+
+        Result result = new Result(
+                new ArrayList<>(studentsById.values()),
+                new ArrayList<>(interestsById.values()),
+                new ArrayList<>(contentsById.values()),
+                new ArrayList<>(requestsById.values()),
+                new ArrayList<>(chatsById.values()),
+                messageCount[0],
+                phaseMillis);
+        log.info("Bootstrap loaded {} students, {} interests, {} contents, {} help requests, {} chats, {} messages in {} ms {}",
+                result.students().size(), result.interests().size(), result.contents().size(),
+                result.helpRequests().size(), result.chats().size(), result.messageCount(),
+                result.totalMillis(), phaseMillis);
+        return result;
+    }
+
+    private void phase(Map<String, Long> phaseMillis, String name, String sql, RowCallbackHandler handler) {
+        long start = System.nanoTime();
+        jdbcTemplate.query(sql, handler);
+        phaseMillis.put(name, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value == null || value.isEmpty() ? null : LocalDate.parse(value);
+    }
+}
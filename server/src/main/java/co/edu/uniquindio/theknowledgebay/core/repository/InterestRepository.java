@@ -25,7 +25,7 @@ public class InterestRepository {
         @Override
         public Interest mapRow(ResultSet rs, int rowNum) throws SQLException {
             Interest interest = new Interest();
-            interest.setIdInterest(String.valueOf(rs.getInt("id_interest")));
+            interest.setIdInterest(rs.getString("id_interest"));
             interest.setName(rs.getString("name"));
             return interest;
         }
@@ -36,7 +36,7 @@ public class InterestRepository {
         return jdbcTemplate.query(sql, new InterestRowMapper());
     }
 
-    public Interest findById(int id) {
+    public Interest findById(String id) {
         String sql = "SELECT * FROM interests WHERE id_interest = ?";
         return jdbcTemplate.queryForObject(sql, new InterestRowMapper(), id);
     }
@@ -47,8 +47,8 @@ public class InterestRepository {
     }
 
     public int save(Interest interest) {
-        String sql = "INSERT INTO interests(name) VALUES(?)";
-        return jdbcTemplate.update(sql, interest.getName());
+        String sql = "INSERT INTO interests(id_interest, name) VALUES(?, ?)";
+        return jdbcTemplate.update(sql, interest.getIdInterest(), interest.getName());
     }
 
     // Actualizar un interés existente
@@ -58,7 +58,7 @@ public class InterestRepository {
     }
 
     // Eliminar por ID
-    public int deleteById(int id) {
+    public int deleteById(String id) {
         String sql = "DELETE FROM interests WHERE id_interest = ?";
         return jdbcTemplate.update(sql, id);
     }
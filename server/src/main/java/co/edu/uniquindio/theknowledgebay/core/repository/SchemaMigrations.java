@@ -0,0 +1,116 @@
+package co.edu.uniquindio.theknowledgebay.core.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Brings databases created by older versions of schema.sql up to date.
+ * <p>
+ * schema.sql only uses {@code CREATE TABLE IF NOT EXISTS}, so a change to a
+ * table never reaches a database that already has it. Each step here checks
+ * {@code PRAGMA table_info} first and does nothing when the table is already
+ * current, so it is safe to run on every startup. New columns are added
+ * with {@code ALTER TABLE ... ADD COLUMN}. SQLite cannot change a
+ * column's type in place, so those tables are rebuilt: created again under a
+ * temporary name with the new column types, filled from the old table,
+ * and swapped in. Runs after schema.sql and before anything reads or writes
+ * the tables.
+ */
+@Slf4j
+@Repository
+@DependsOnDatabaseInitialization
+public class SchemaMigrations {
+
+    // Columns holding the model's string ids (student emails, interest UUIDs), which INTEGER columns reject or mangle
+    private static final Map<String, List<String>> TEXT_ID_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        TEXT_ID_COLUMNS.put("students", List.of("id"));
+        TEXT_ID_COLUMNS.put("interests", List.of("id_interest"));
+        TEXT_ID_COLUMNS.put("students_interests", List.of("student_id", "interest_id"));
+        TEXT_ID_COLUMNS.put("comments", List.of("author_id"));
+        TEXT_ID_COLUMNS.put("contents", List.of("author_id"));
+        TEXT_ID_COLUMNS.put("content_topics", List.of("interest_id"));
+        TEXT_ID_COLUMNS.put("content_likes", List.of("student_id"));
+        TEXT_ID_COLUMNS.put("help_requests", List.of("student_id"));
+        TEXT_ID_COLUMNS.put("help_request_topics", List.of("interest_id"));
+        TEXT_ID_COLUMNS.put("study_groups", List.of("topic_id"));
+        TEXT_ID_COLUMNS.put("study_group_members", List.of("student_id"));
+        TEXT_ID_COLUMNS.put("chats", List.of("student_a_id", "student_b_id"));
+        TEXT_ID_COLUMNS.put("messages", List.of("sender_id"));
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public SchemaMigrations(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        transactionTemplate.executeWithoutResult(status -> {
+            addColumnIfMissing("contents", "content_type", "TEXT");
+            TEXT_ID_COLUMNS.forEach(this::convertToText);
+        });
+    }
+
+    private void addColumnIfMissing(String table, String column, String type) {
+        Map<String, String> types = columnTypes(table);
+        if (types.isEmpty() || types.containsKey(column)) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + type);
+        log.info("Schema migration: added {}.{}", table, column);
+    }
+
+    private void convertToText(String table, List<String> columns) {
+        Map<String, String> types = columnTypes(table);
+        List<String> pending = columns.stream()
+                .filter(column -> types.containsKey(column) && !"TEXT".equalsIgnoreCase(types.get(column)))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        String ddl = jdbcTemplate.queryForObject(
+                "SELECT sql FROM sqlite_master WHERE type = 'table' AND name = ?", String.class, table);
+        String rebuilt = table + "_migrated";
+        ddl = ddl.replaceFirst("(?i)^CREATE TABLE\\s+\"?" + table + "\"?", "CREATE TABLE " + rebuilt);
+        for (String column : pending) {
+            // An INTEGER PRIMARY KEY is a rowid alias; as TEXT it stays the primary key but loses AUTOINCREMENT
+            Matcher matcher = Pattern.compile("(?i)\\b" + column + "\\s+INTEGER(\\s+PRIMARY\\s+KEY)?(\\s+AUTOINCREMENT)?")
+                    .matcher(ddl);
+            if (matcher.find()) {
+                String definition = column + " TEXT" + (matcher.group(1) != null ? " PRIMARY KEY" : "");
+                ddl = ddl.substring(0, matcher.start()) + definition + ddl.substring(matcher.end());
+            }
+        }
+
+        jdbcTemplate.execute(ddl);
+        jdbcTemplate.execute("INSERT INTO " + rebuilt + " SELECT * FROM " + table);
+        jdbcTemplate.execute("DROP TABLE " + table);
+        jdbcTemplate.execute("ALTER TABLE " + rebuilt + " RENAME TO " + table);
+        log.info("Schema migration: {}.{} converted to TEXT", table, pending);
+    }
+
+    // Declared type of each column, by column name
+    private Map<String, String> columnTypes(String table) {
+        Map<String, String> types = new LinkedHashMap<>();
+        jdbcTemplate.query("PRAGMA table_info(" + table + ")",
+                (RowCallbackHandler) rs -> types.put(rs.getString("name"), rs.getString("type")));
+        return types;
+    }
+}
@@ -26,37 +26,21 @@ public class StudentRepository {
         return jdbcTemplate.query(sql, studentRowMapper);
     }
 
-    public Student findById(int id) {
+    public Student findById(String id) {
         String sql = "SELECT * FROM students WHERE id = ?";
         return jdbcTemplate.queryForObject(sql, studentRowMapper, id);
     }
 
     public void save(Student student) {
-        if (student.getId() != null && !student.getId().isEmpty()) {
-            // Si el estudiante tiene ID, usar INSERT con ID específico
-            String sql = """
-                    INSERT INTO students (id, username, email, password, first_name, last_name, date_birth, biography)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?)
-                    """;
-
-            jdbcTemplate.update(sql,
-                    student.getId(),
-                    student.getUsername(),
-                    student.getEmail(),
-                    student.getPassword(),
-                    student.getFirstName(),
-                    student.getLastName(),
-                    student.getDateBirth() == null ? null : student.getDateBirth().toString(),
-                    student.getBiography()
-            );
-        } else {
-            // Si no tiene ID, usar INSERT sin ID (autoincrement)
+        // Los IDs son texto; sin ID se usa el email, como en TheKnowledgeBay.addStudent
+        String id = student.getId() != null && !student.getId().isEmpty() ? student.getId() : student.getEmail();
         String sql = """
-                INSERT INTO students (username, email, password, first_name, last_name, date_birth, biography)
-                VALUES (?, ?, ?, ?, ?, ?, ?)
+                INSERT INTO students (id, username, email, password, first_name, last_name, date_birth, biography)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
                 """;
 
         jdbcTemplate.update(sql,
+                id,
                 student.getUsername(),
                 student.getEmail(),
                 student.getPassword(),
@@ -65,7 +49,6 @@ public class StudentRepository {
                 student.getDateBirth() == null ? null : student.getDateBirth().toString(),
                 student.getBiography()
         );
-        }
     }
 
     private final RowMapper<Student> studentRowMapper = (rs, rowNum) -> {
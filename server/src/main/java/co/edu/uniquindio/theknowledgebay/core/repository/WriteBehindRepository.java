@@ -0,0 +1,380 @@
+package co.edu.uniquindio.theknowledgebay.core.repository;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.WriteBehindProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind persistence of the in-memory model.
+ * <p>
+ * TheKnowledgeBay records every mutation here as a row-level SQL write. The
+ * values are captured when the write is recorded, so later changes to the
+ * model objects do not leak into it. Writes wait in a bounded queue and a
+ * background thread flushes them in batches, each batch in one transaction,
+ * grouping consecutive writes with the same statement into a
+ * {@code JdbcTemplate.batchUpdate}. A batch that fails is retried write by
+ * write so one bad row does not drop the rest.
+ * <p>
+ * Writes are recorded while TheKnowledgeBay holds its aggregate locks, so a
+ * producer never waits on a full queue for longer than
+ * {@code offerTimeoutMs}. After that it drains the queue and writes it, then
+ * its own write, on its own thread. Draining first keeps the writes in the
+ * order they were recorded.
+ * <p>
+ * Saves are upserts on the primary key ({@code INSERT ... ON CONFLICT(id) DO
+ * UPDATE}), so replaying a write is harmless. {@code INSERT OR REPLACE} is not
+ * used: it also resolves conflicts on the UNIQUE username, email and name
+ * columns by deleting the other row. A write that collides with a different
+ * row on one of those columns fails instead, is counted and logged.
+ */
+@Slf4j
+@Repository
+@DependsOn("schemaMigrations")
+public class WriteBehindRepository {
+
+    private static final String UPSERT_STUDENT = """
+            INSERT INTO students (id, username, email, password, first_name, last_name, date_birth, biography)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT(id) DO UPDATE SET username = excluded.username, email = excluded.email,
+                password = excluded.password, first_name = excluded.first_name, last_name = excluded.last_name,
+                date_birth = excluded.date_birth, biography = excluded.biography
+            """;
+    private static final String DELETE_STUDENT_INTERESTS = "DELETE FROM students_interests WHERE student_id = ?";
+    private static final String INSERT_STUDENT_INTEREST = "INSERT OR IGNORE INTO students_interests (student_id, interest_id) VALUES (?, ?)";
+    private static final String INSERT_FOLLOW = "INSERT OR IGNORE INTO follows (follower_id, followed_id) VALUES (?, ?)";
+    private static final String DELETE_FOLLOW = "DELETE FROM follows WHERE follower_id = ? AND followed_id = ?";
+    private static final String UPSERT_INTEREST = """
+            INSERT INTO interests (id_interest, name) VALUES (?, ?)
+            ON CONFLICT(id_interest) DO UPDATE SET name = excluded.name
+            """;
+    private static final String DELETE_INTEREST = "DELETE FROM interests WHERE id_interest = ?";
+    private static final String DELETE_INTEREST_STUDENTS = "DELETE FROM students_interests WHERE interest_id = ?";
+    private static final String DELETE_INTEREST_CONTENTS = "DELETE FROM content_topics WHERE interest_id = ?";
+    private static final String DELETE_INTEREST_HELP_REQUESTS = "DELETE FROM help_request_topics WHERE interest_id = ?";
+    private static final String UPSERT_CONTENT = """
+            INSERT INTO contents (content_id, title, content_type, information, author_id, like_count, date)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT(content_id) DO UPDATE SET title = excluded.title, content_type = excluded.content_type,
+                information = excluded.information, author_id = excluded.author_id,
+                like_count = excluded.like_count, date = excluded.date
+            """;
+    private static final String INSERT_CONTENT_TOPIC = "INSERT OR IGNORE INTO content_topics (content_id, interest_id) VALUES (?, ?)";
+    private static final String DELETE_CONTENT = "DELETE FROM contents WHERE content_id = ?";
+    private static final String DELETE_CONTENT_TOPICS = "DELETE FROM content_topics WHERE content_id = ?";
+    private static final String DELETE_CONTENT_LIKES = "DELETE FROM content_likes WHERE content_id = ?";
+    private static final String INSERT_LIKE = "INSERT OR IGNORE INTO content_likes (content_id, student_id) VALUES (?, ?)";
+    private static final String DELETE_LIKE = "DELETE FROM content_likes WHERE content_id = ? AND student_id = ?";
+    private static final String UPDATE_LIKE_COUNT = "UPDATE contents SET like_count = ? WHERE content_id = ?";
+    private static final String UPSERT_HELP_REQUEST = """
+            INSERT INTO help_requests (request_id, information, urgency, student_id, is_completed, request_date)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT(request_id) DO UPDATE SET information = excluded.information, urgency = excluded.urgency,
+                student_id = excluded.student_id, is_completed = excluded.is_completed,
+                request_date = excluded.request_date
+            """;
+    private static final String INSERT_HELP_REQUEST_TOPIC = "INSERT OR IGNORE INTO help_request_topics (request_id, interest_id) VALUES (?, ?)";
+    private static final String DELETE_HELP_REQUEST = "DELETE FROM help_requests WHERE request_id = ?";
+    private static final String DELETE_HELP_REQUEST_TOPICS = "DELETE FROM help_request_topics WHERE request_id = ?";
+    private static final String UPSERT_CHAT = """
+            INSERT INTO chats (chat_id, student_a_id, student_b_id) VALUES (?, ?, ?)
+            ON CONFLICT(chat_id) DO UPDATE SET student_a_id = excluded.student_a_id, student_b_id = excluded.student_b_id
+            """;
+    private static final String UPSERT_MESSAGE = """
+            INSERT INTO messages (message_id, text, sender_id, timestamp, chat_id) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT(message_id) DO UPDATE SET text = excluded.text, sender_id = excluded.sender_id,
+                timestamp = excluded.timestamp, chat_id = excluded.chat_id
+            """;
+
+    private record PendingWrite(String sql, Object[] args) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindProperties properties;
+    private final BlockingQueue<PendingWrite> queue;
+    // Held while writing drained writes, so the flusher and an overflowing producer never interleave
+    private final Object writeLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicLong flushedWrites = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong overflowWrites = new AtomicLong();
+    private volatile long lastFlushMillis;
+    private ScheduledExecutorService flusher;
+
+    public WriteBehindRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 WriteBehindProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "write-behind-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.flushIntervalMs();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the flusher and writes whatever is still queued.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        flush();
+    }
+
+    // Student writes
+
+    public void saveStudent(Student student) {
+        enqueue(UPSERT_STUDENT,
+                student.getId(),
+                student.getUsername(),
+                student.getEmail(),
+                student.getPassword(),
+                student.getFirstName(),
+                student.getLastName(),
+                student.getDateBirth() == null ? null : student.getDateBirth().toString(),
+                student.getBiography());
+    }
+
+    public void saveStudentInterests(Student student) {
+        enqueue(DELETE_STUDENT_INTERESTS, student.getId());
+        for (Interest interest : nonNull(student.getInterests())) {
+            enqueue(INSERT_STUDENT_INTEREST, student.getId(), interest.getIdInterest());
+        }
+    }
+
+    public void saveFollow(String followerId, String followedId) {
+        enqueue(INSERT_FOLLOW, followerId, followedId);
+    }
+
+    public void deleteFollow(String followerId, String followedId) {
+        enqueue(DELETE_FOLLOW, followerId, followedId);
+    }
+
+    // Interest writes
+
+    public void saveInterest(Interest interest) {
+        enqueue(UPSERT_INTEREST, interest.getIdInterest(), interest.getName());
+    }
+
+    public void deleteInterest(String interestId) {
+        enqueue(DELETE_INTEREST_STUDENTS, interestId);
+        enqueue(DELETE_INTEREST_CONTENTS, interestId);
+        enqueue(DELETE_INTEREST_HELP_REQUESTS, interestId);
+        enqueue(DELETE_INTEREST, interestId);
+    }
+
+    // Content writes
+
+    public void saveContent(Content content) {
+        enqueue(UPSERT_CONTENT,
+                content.getContentId(),
+                content.getTitle(),
+                content.getContentType() == null ? null : content.getContentType().name(),
+                content.getInformation() == null ? "" : content.getInformation(),
+                content.getAuthor() == null ? null : content.getAuthor().getId(),
+                content.getLikeCount(),
+                (content.getDate() == null ? LocalDate.now() : content.getDate()).toString());
+        enqueue(DELETE_CONTENT_TOPICS, content.getContentId());
+        for (Interest topic : nonNull(content.getTopics())) {
+            enqueue(INSERT_CONTENT_TOPIC, content.getContentId(), topic.getIdInterest());
+        }
+    }
+
+    public void deleteContent(int contentId) {
+        enqueue(DELETE_CONTENT_TOPICS, contentId);
+        enqueue(DELETE_CONTENT_LIKES, contentId);
+        enqueue(DELETE_CONTENT, contentId);
+    }
+
+    public void saveLike(int contentId, String studentId, int likeCount) {
+        enqueue(INSERT_LIKE, contentId, studentId);
+        enqueue(UPDATE_LIKE_COUNT, likeCount, contentId);
+    }
+
+    public void deleteLike(int contentId, String studentId, int likeCount) {
+        enqueue(DELETE_LIKE, contentId, studentId);
+        enqueue(UPDATE_LIKE_COUNT, likeCount, contentId);
+    }
+
+    // Help request writes
+
+    public void saveHelpRequest(HelpRequest request) {
+        enqueue(UPSERT_HELP_REQUEST,
+                request.getRequestId(),
+                request.getInformation() == null ? "" : request.getInformation(),
+                request.getUrgency() == null ? null : request.getUrgency().name(),
+                request.getStudent() == null ? null : request.getStudent().getId(),
+                request.isCompleted() ? 1 : 0,
+                (request.getRequestDate() == null ? LocalDate.now() : request.getRequestDate()).toString());
+        enqueue(DELETE_HELP_REQUEST_TOPICS, request.getRequestId());
+        for (Interest topic : nonNull(request.getTopics())) {
+            enqueue(INSERT_HELP_REQUEST_TOPIC, request.getRequestId(), topic.getIdInterest());
+        }
+    }
+
+    public void deleteHelpRequest(int requestId) {
+        enqueue(DELETE_HELP_REQUEST_TOPICS, requestId);
+        enqueue(DELETE_HELP_REQUEST, requestId);
+    }
+
+    // Chat writes
+
+    public void saveChat(Chat chat) {
+        enqueue(UPSERT_CHAT, chat.getChatId(), chat.getStudentA().getId(), chat.getStudentB().getId());
+    }
+
+    public void saveMessage(Chat chat, Message message) {
+        enqueue(UPSERT_MESSAGE,
+                message.getMessageId(),
+                message.getText(),
+                message.getSender() == null ? null : message.getSender().getId(),
+                message.getTimestamp() == null ? null : message.getTimestamp().toString(),
+                chat.getChatId());
+    }
+
+    /**
+     * Writes queued so far, in the order they were recorded.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        synchronized (writeLock) {
+            drainAndWrite();
+        }
+    }
+
+    // Caller holds writeLock
+    private void drainAndWrite() {
+        List<PendingWrite> batch = new ArrayList<>(properties.batchSize());
+        while (queue.drainTo(batch, properties.batchSize()) > 0) {
+            long start = System.currentTimeMillis();
+            writeBatch(batch);
+            lastFlushMillis = System.currentTimeMillis() - start;
+            batch.clear();
+        }
+    }
+
+    /**
+     * Queue depth and flush counters, for monitoring.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.enabled());
+        stats.put("queueDepth", queue.size());
+        stats.put("queueCapacity", properties.queueCapacity());
+        stats.put("batchSize", properties.batchSize());
+        stats.put("flushIntervalMs", properties.flushIntervalMs());
+        stats.put("flushedWrites", flushedWrites.get());
+        stats.put("flushedBatches", flushedBatches.get());
+        stats.put("failedWrites", failedWrites.get());
+        stats.put("overflowWrites", overflowWrites.get());
+        stats.put("lastFlushMillis", lastFlushMillis);
+        return stats;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void enqueue(String sql, Object... args) {
+        PendingWrite write = new PendingWrite(sql, args);
+        if (!properties.enabled()) {
+            writeBatch(List.of(write));
+            return;
+        }
+        boolean queued;
+        try {
+            queued = queue.offer(write, properties.offerTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            // Queue still full: write the backlog and this write here rather than stall the caller's locks
+            overflowWrites.incrementAndGet();
+            log.warn("Write-behind queue full, writing {} pending writes on the caller thread", queue.size() + 1);
+            synchronized (writeLock) {
+                drainAndWrite();
+                writeBatch(List.of(write));
+            }
+            return;
+        }
+        if (flusher != null && queue.size() >= properties.batchSize() && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int i = 0;
+                while (i < batch.size()) {
+                    // Consecutive writes with the same statement go in one JDBC batch
+                    String sql = batch.get(i).sql();
+                    List<Object[]> args = new ArrayList<>();
+                    while (i < batch.size() && batch.get(i).sql().equals(sql)) {
+                        args.add(batch.get(i).args());
+                        i++;
+                    }
+                    jdbcTemplate.batchUpdate(sql, args);
+                }
+            });
+            flushedWrites.addAndGet(batch.size());
+            flushedBatches.incrementAndGet();
+        } catch (DataAccessException e) {
+            log.warn("Write-behind batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingWrite write : batch) {
+                try {
+                    jdbcTemplate.update(write.sql(), write.args());
+                    flushedWrites.incrementAndGet();
+                } catch (DataAccessException rowError) {
+                    failedWrites.incrementAndGet();
+                    log.error("Dropping write-behind write {}: {}", write.sql().trim(), rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    private static <T> Iterable<T> nonNull(Iterable<T> list) {
+        return list != null ? list : List.of();
+    }
+}
@@ -0,0 +1,385 @@
+package co.edu.uniquindio.theknowledgebay.core.repository.journal;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.StudyGroup;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.IntArrayList;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A change to the in-memory model, in the form it is written to the journal
+ * and to snapshots. Events only carry ids and plain values, so they can be
+ * decoded before the objects they refer to exist.
+ * <p>
+ * Every event is an upsert or carries its resulting state (e.g. the like
+ * count after a like), so applying one twice leaves the model unchanged.
+ * A snapshot is simply the list of events that rebuilds the whole model.
+ */
+public sealed interface JournalEvent {
+
+    void write(DataOutput out) throws IOException;
+
+    record InterestSaved(String id, String name) implements JournalEvent {
+        public static InterestSaved of(Interest interest) {
+            return new InterestSaved(interest.getIdInterest(), interest.getName());
+        }
+
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(1);
+            writeString(out, id);
+            writeString(out, name);
+        }
+    }
+
+    record InterestDeleted(String id) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(16);
+            writeString(out, id);
+        }
+    }
+
+    record StudentSaved(String id, String username, String email, String password, String firstName,
+                        String lastName, LocalDate dateBirth, String biography,
+                        List<String> interestIds) implements JournalEvent {
+        public static StudentSaved of(Student s) {
+            return new StudentSaved(s.getId(), s.getUsername(), s.getEmail(), s.getPassword(), s.getFirstName(),
+                    s.getLastName(), s.getDateBirth(), s.getBiography(), idsOf(s.getInterests()));
+        }
+
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(2);
+            writeString(out, id);
+            writeString(out, username);
+            writeString(out, email);
+            writeString(out, password);
+            writeString(out, firstName);
+            writeString(out, lastName);
+            writeDate(out, dateBirth);
+            writeString(out, biography);
+            writeStrings(out, interestIds);
+        }
+    }
+
+    record Followed(String followerId, String followedId) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(3);
+            writeString(out, followerId);
+            writeString(out, followedId);
+        }
+    }
+
+    record Unfollowed(String followerId, String followedId) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(4);
+            writeString(out, followerId);
+            writeString(out, followedId);
+        }
+    }
+
+    record ContentSaved(int contentId, String title, ContentType contentType, String information, String authorId,
+                        LocalDate date, List<String> topicIds, int likeCount) implements JournalEvent {
+        public static ContentSaved of(Content c) {
+            return new ContentSaved(c.getContentId(), c.getTitle(), c.getContentType(), c.getInformation(),
+                    c.getAuthor() != null ? c.getAuthor().getId() : null, c.getDate(),
+                    idsOf(c.getTopics()), c.getLikeCount());
+        }
+
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(5);
+            out.writeInt(contentId);
+            writeString(out, title);
+            writeString(out, contentType != null ? contentType.name() : null);
+            writeString(out, information);
+            writeString(out, authorId);
+            writeDate(out, date);
+            writeStrings(out, topicIds);
+            out.writeInt(likeCount);
+        }
+    }
+
+    record ContentDeleted(int contentId) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(6);
+            out.writeInt(contentId);
+        }
+    }
+
+    record Liked(int contentId, String studentId, int likeCount) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(7);
+            out.writeInt(contentId);
+            writeString(out, studentId);
+            out.writeInt(likeCount);
+        }
+    }
+
+    record Unliked(int contentId, String studentId, int likeCount) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(8);
+            out.writeInt(contentId);
+            writeString(out, studentId);
+            out.writeInt(likeCount);
+        }
+    }
+
+    record HelpRequestSaved(int requestId, String information, Urgency urgency, String studentId, boolean completed,
+                            LocalDate requestDate, List<String> topicIds) implements JournalEvent {
+        public static HelpRequestSaved of(HelpRequest r) {
+            return new HelpRequestSaved(r.getRequestId(), r.getInformation(), r.getUrgency(),
+                    r.getStudent() != null ? r.getStudent().getId() : null, r.isCompleted(), r.getRequestDate(),
+                    idsOf(r.getTopics()));
+        }
+
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(9);
+            out.writeInt(requestId);
+            writeString(out, information);
+            writeString(out, urgency != null ? urgency.name() : null);
+            writeString(out, studentId);
+            out.writeBoolean(completed);
+            writeDate(out, requestDate);
+            writeStrings(out, topicIds);
+        }
+    }
+
+    record HelpRequestCompleted(int requestId) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(10);
+            out.writeInt(requestId);
+        }
+    }
+
+    record HelpRequestDeleted(int requestId) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(11);
+            out.writeInt(requestId);
+        }
+    }
+
+    record ChatOpened(int chatId, String studentAId, String studentBId) implements JournalEvent {
+        public static ChatOpened of(Chat chat) {
+            return new ChatOpened(chat.getChatId(), chat.getStudentA().getId(), chat.getStudentB().getId());
+        }
+
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(12);
+            out.writeInt(chatId);
+            writeString(out, studentAId);
+            writeString(out, studentBId);
+        }
+    }
+
+    record MessageSent(int chatId, int messageId, String text, String senderId,
+                       LocalDateTime timestamp) implements JournalEvent {
+        public static MessageSent of(Chat chat, Message m) {
+            return new MessageSent(chat.getChatId(), m.getMessageId(), m.getText(),
+                    m.getSender() != null ? m.getSender().getId() : null, m.getTimestamp());
+        }
+
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(13);
+            out.writeInt(chatId);
+            out.writeInt(messageId);
+            writeString(out, text);
+            writeString(out, senderId);
+            writeString(out, timestamp != null ? timestamp.toString() : null);
+        }
+    }
+
+    /**
+     * Snapshot only: groups are derived state, stored so recovery does not
+     * have to recompute them for every student.
+     */
+    record StudyGroupSaved(String id, String name, String topicId, LocalDate date, boolean hidden,
+                           List<String> memberIds, IntArrayList contentIds,
+                           IntArrayList helpRequestIds) implements JournalEvent {
+        public static StudyGroupSaved of(StudyGroup g) {
+            List<String> members = new ArrayList<>();
+            for (Student s : g.getMembers()) {
+                members.add(s.getId());
+            }
+            IntArrayList contents = new IntArrayList();
+            if (g.getAssociatedContents() != null) {
+                for (Content c : g.getAssociatedContents()) {
+                    contents.add(c.getContentId());
+                }
+            }
+            IntArrayList requests = new IntArrayList();
+            if (g.getAssociatedHelpRequests() != null) {
+                for (HelpRequest r : g.getAssociatedHelpRequests()) {
+                    requests.add(r.getRequestId());
+                }
+            }
+            return new StudyGroupSaved(g.getId(), g.getName(),
+                    g.getTopic() != null ? g.getTopic().getIdInterest() : null, g.getDate(), g.isHidden(),
+                    members, contents, requests);
+        }
+
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(14);
+            writeString(out, id);
+            writeString(out, name);
+            writeString(out, topicId);
+            writeDate(out, date);
+            out.writeBoolean(hidden);
+            writeStrings(out, memberIds);
+            writeInts(out, contentIds);
+            writeInts(out, helpRequestIds);
+        }
+    }
+
+    /**
+     * Snapshot only: one edge of the affinity graph.
+     */
+    record AffinityEdge(String studentA, String studentB) implements JournalEvent {
+        @Override
+        public void write(DataOutput out) throws IOException {
+            out.writeByte(15);
+            writeString(out, studentA);
+            writeString(out, studentB);
+        }
+    }
+
+    /**
+     * Decodes the event written by {@link #write(DataOutput)}.
+     *
+     * @throws IOException if the data is truncated or the tag is unknown
+     */
+    static JournalEvent read(DataInput in) throws IOException {
+        int tag = in.readByte();
+        return switch (tag) {
+            case 1 -> new InterestSaved(readString(in), readString(in));
+            case 2 -> new StudentSaved(readString(in), readString(in), readString(in), readString(in),
+                    readString(in), readString(in), readDate(in), readString(in), readStrings(in));
+            case 3 -> new Followed(readString(in), readString(in));
+            case 4 -> new Unfollowed(readString(in), readString(in));
+            case 5 -> new ContentSaved(in.readInt(), readString(in), readEnum(in, ContentType::valueOf),
+                    readString(in), readString(in), readDate(in), readStrings(in), in.readInt());
+            case 6 -> new ContentDeleted(in.readInt());
+            case 7 -> new Liked(in.readInt(), readString(in), in.readInt());
+            case 8 -> new Unliked(in.readInt(), readString(in), in.readInt());
+            case 9 -> new HelpRequestSaved(in.readInt(), readString(in), readEnum(in, Urgency::valueOf),
+                    readString(in), in.readBoolean(), readDate(in), readStrings(in));
+            case 10 -> new HelpRequestCompleted(in.readInt());
+            case 11 -> new HelpRequestDeleted(in.readInt());
+            case 12 -> new ChatOpened(in.readInt(), readString(in), readString(in));
+            case 13 -> new MessageSent(in.readInt(), in.readInt(), readString(in), readString(in),
+                    readEnum(in, LocalDateTime::parse));
+            case 14 -> new StudyGroupSaved(readString(in), readString(in), readString(in), readDate(in),
+                    in.readBoolean(), readStrings(in), readInts(in), readInts(in));
+            case 15 -> new AffinityEdge(readString(in), readString(in));
+            case 16 -> new InterestDeleted(readString(in));
+            default -> throw new IOException("Unknown journal event tag " + tag);
+        };
+    }
+
+    private static List<String> idsOf(DynamicArrayList<Interest> interests) {
+        List<String> ids = new ArrayList<>();
+        if (interests != null) {
+            for (Interest interest : interests) {
+                if (interest != null) {
+                    ids.add(interest.getIdInterest());
+                }
+            }
+        }
+        return ids;
+    }
+
+    // Length-prefixed UTF-8 instead of writeUTF, which is capped at 64 KB
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        out.writeLong(date != null ? date.toEpochDay() : Long.MIN_VALUE);
+    }
+
+    private static LocalDate readDate(DataInput in) throws IOException {
+        long day = in.readLong();
+        return day == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(day);
+    }
+
+    private static <T> T readEnum(DataInput in, Function<String, T> parser) throws IOException {
+        String value = readString(in);
+        return value != null ? parser.apply(value) : null;
+    }
+
+    private static void writeStrings(DataOutput out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(in));
+        }
+        return values;
+    }
+
+    private static void writeInts(DataOutput out, IntArrayList values) throws IOException {
+        out.writeInt(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            out.writeInt(values.get(i));
+        }
+    }
+
+    private static IntArrayList readInts(DataInput in) throws IOException {
+        int size = in.readInt();
+        IntArrayList values = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            values.add(in.readInt());
+        }
+        return values;
+    }
+}
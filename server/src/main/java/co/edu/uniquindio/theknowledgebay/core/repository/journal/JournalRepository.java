@@ -0,0 +1,294 @@
+package co.edu.uniquindio.theknowledgebay.core.repository.journal;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.JournalProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Snapshot + journal storage of the in-memory model, an alternative to
+ * loading everything back from SQLite.
+ * <p>
+ * Every mutation is appended to the current journal file. A snapshot is
+ * taken in two steps: while the model is locked, {@link #rotate()} starts a
+ * new journal generation and the caller captures the model as events; then
+ * {@link #writeSnapshot(long, List)} stores them and deletes the journals
+ * the snapshot covers. Recovery loads the snapshot and replays the journals
+ * written since, oldest first.
+ * <p>
+ * Chats and messages are not behind the model locks, so a message sent
+ * during a snapshot may appear both in the snapshot and in the next
+ * journal. Events are idempotent, which makes the duplicate harmless.
+ */
+@Slf4j
+@Repository
+public class JournalRepository {
+
+    private static final int SNAPSHOT_MAGIC = 0x544B4253; // "TKBS"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+    private static final Pattern JOURNAL_FILE = Pattern.compile("journal-(\\d+)\\.log");
+
+    private final JournalProperties properties;
+    private final Path directory;
+    private final AtomicLong appendedEvents = new AtomicLong();
+    private final AtomicLong snapshots = new AtomicLong();
+    private volatile MappedJournal current;
+    private volatile long generation;
+    private volatile long lastSnapshotMillis;
+    private volatile long lastSnapshotEvents;
+    private ScheduledExecutorService scheduler;
+
+    public JournalRepository(JournalProperties properties) {
+        this.properties = properties;
+        this.directory = Paths.get(properties.directory());
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * @return true if a snapshot or a journal is stored to recover from
+     */
+    public boolean hasData() {
+        return isEnabled() && (Files.exists(directory.resolve(SNAPSHOT_FILE)) || !journalFiles(0).isEmpty());
+    }
+
+    /**
+     * Appends an event to the current journal. Does nothing before the first
+     * {@link #rotate()}, i.e. while the model is still being loaded.
+     */
+    public void append(JournalEvent event) {
+        MappedJournal journal = current;
+        if (journal != null) {
+            journal.append(event);
+            appendedEvents.incrementAndGet();
+        }
+    }
+
+    /**
+     * Feeds the latest snapshot and then every later journal, oldest first,
+     * to the given sinks.
+     *
+     * @param snapshotSink receives the events of the snapshot
+     * @param journalSink  receives the events journaled after it
+     * @return the number of events replayed
+     */
+    public long recover(Consumer<JournalEvent> snapshotSink, Consumer<JournalEvent> journalSink) {
+        long start = System.currentTimeMillis();
+        long snapshotGeneration = 0;
+        long events = 0;
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            try (InputStream file = Files.newInputStream(snapshot)) {
+                CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file, 1 << 16), new CRC32());
+                DataInputStream in = new DataInputStream(checked);
+                if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                    throw new IllegalStateException("Unrecognized snapshot file " + snapshot);
+                }
+                snapshotGeneration = in.readLong();
+                long count = in.readLong();
+                for (long i = 0; i < count; i++) {
+                    snapshotSink.accept(JournalEvent.read(in));
+                }
+                long expected = checked.getChecksum().getValue();
+                if (in.readLong() != expected) {
+                    throw new IllegalStateException("Snapshot " + snapshot + " is corrupt");
+                }
+                events += count;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read snapshot " + snapshot, e);
+            }
+        }
+        long snapshotEvents = events;
+        List<Path> journals = journalFiles(snapshotGeneration);
+        for (Path journal : journals) {
+            events += MappedJournal.replay(journal, journalSink);
+        }
+        log.info("Recovered {} snapshot events and {} journal events from {} journal(s) in {} ms",
+                snapshotEvents, events - snapshotEvents, journals.size(), System.currentTimeMillis() - start);
+        return events;
+    }
+
+    /**
+     * Starts a new journal generation. Must be called while the model is
+     * locked against writes, right before it is captured for a snapshot.
+     *
+     * @return the generation the snapshot must record
+     */
+    public synchronized long rotate() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal directory " + directory, e);
+        }
+        if (generation == 0) {
+            List<Path> existing = journalFiles(0);
+            generation = existing.isEmpty() ? 0 : generationOf(existing.get(existing.size() - 1));
+        }
+        generation++;
+        MappedJournal previous = current;
+        current = MappedJournal.create(directory.resolve("journal-" + generation + ".log"), properties.growBytes());
+        if (previous != null) {
+            previous.close();
+        }
+        return generation;
+    }
+
+    /**
+     * Stores a snapshot that covers every journal older than the generation,
+     * then deletes those journals. The file is written aside and moved into
+     * place, so a crash never leaves a half-written snapshot behind.
+     */
+    public void writeSnapshot(long snapshotGeneration, List<JournalEvent> events) {
+        long start = System.currentTimeMillis();
+        Path target = directory.resolve(SNAPSHOT_FILE);
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try {
+            try (FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                CheckedOutputStream checked = new CheckedOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(file), 1 << 16), new CRC32());
+                DataOutputStream out = new DataOutputStream(checked);
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(snapshotGeneration);
+                out.writeLong(events.size());
+                for (JournalEvent event : events) {
+                    event.write(out);
+                }
+                out.writeLong(checked.getChecksum().getValue());
+                out.flush();
+                file.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            for (Path journal : journalFiles(0)) {
+                if (generationOf(journal) < snapshotGeneration) {
+                    Files.deleteIfExists(journal);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot " + target, e);
+        }
+        snapshots.incrementAndGet();
+        lastSnapshotEvents = events.size();
+        lastSnapshotMillis = System.currentTimeMillis() - start;
+        log.info("Snapshot of {} events written in {} ms (generation {})", events.size(), lastSnapshotMillis,
+                snapshotGeneration);
+    }
+
+    /**
+     * Starts taking snapshots and forcing the journal to disk in the background.
+     *
+     * @param snapshotTask captures the model and calls back into this repository
+     */
+    public synchronized void startBackgroundTasks(Runnable snapshotTask) {
+        if (!isEnabled() || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "journal-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long snapshotInterval = properties.snapshotIntervalMs();
+        long syncInterval = properties.syncIntervalMs();
+        scheduler.scheduleWithFixedDelay(() -> runSafely("snapshot", snapshotTask),
+                snapshotInterval, snapshotInterval, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runSafely("sync", this::force),
+                syncInterval, syncInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public void force() {
+        MappedJournal journal = current;
+        if (journal != null) {
+            journal.force();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        MappedJournal journal = current;
+        stats.put("enabled", isEnabled());
+        stats.put("generation", generation);
+        stats.put("journalBytes", journal != null ? journal.size() : 0);
+        stats.put("appendedEvents", appendedEvents.get());
+        stats.put("snapshots", snapshots.get());
+        stats.put("lastSnapshotEvents", lastSnapshotEvents);
+        stats.put("lastSnapshotMillis", lastSnapshotMillis);
+        return stats;
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            scheduler = null;
+        }
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+
+    private void runSafely(String task, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            log.error("Journal {} failed", task, e);
+        }
+    }
+
+    // Journal files of at least the given generation, oldest first
+    private List<Path> journalFiles(long fromGeneration) {
+        List<Path> files = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (var stream = Files.list(directory)) {
+            stream.filter(p -> JOURNAL_FILE.matcher(p.getFileName().toString()).matches())
+                    .filter(p -> generationOf(p) >= fromGeneration)
+                    .sorted((a, b) -> Long.compare(generationOf(a), generationOf(b)))
+                    .forEach(files::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list journal directory " + directory, e);
+        }
+        return files;
+    }
+
+    private static long generationOf(Path journal) {
+        Matcher matcher = JOURNAL_FILE.matcher(journal.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+}
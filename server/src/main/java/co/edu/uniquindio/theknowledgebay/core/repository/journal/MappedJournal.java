@@ -0,0 +1,160 @@
+package co.edu.uniquindio.theknowledgebay.core.repository.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * One append-only journal file, written through a memory-mapped buffer.
+ * <p>
+ * Each record is framed as {@code [int length][int crc32][payload]}. The file
+ * grows in fixed steps and the unused tail stays zeroed, so a zero length
+ * marks the end. A record that was only partly written when the process died
+ * fails its checksum; reading stops there and everything before it is kept.
+ * <p>
+ * Appends land in the OS page cache as soon as they are copied into the
+ * mapping, so they survive a crash of the JVM; {@link #force()} additionally
+ * makes them durable against a crash of the machine.
+ */
+public class MappedJournal implements AutoCloseable {
+
+    private static final int HEADER_BYTES = 8;
+
+    private final Path file;
+    private final long growBytes;
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long mappedBytes;
+    private int position;
+
+    private MappedJournal(Path file, long growBytes) throws IOException {
+        this.file = file;
+        this.growBytes = growBytes;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        remap(growBytes);
+    }
+
+    /**
+     * Creates a new, empty journal file.
+     *
+     * @param file      the file to create; it must not exist yet
+     * @param growBytes how much the mapping grows each time it fills up
+     */
+    public static MappedJournal create(Path file, long growBytes) {
+        try {
+            return new MappedJournal(file, growBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create journal " + file, e);
+        }
+    }
+
+    /**
+     * Appends one event.
+     */
+    public synchronized void append(JournalEvent event) {
+        byte[] payload = encode(event);
+        int needed = HEADER_BYTES + payload.length;
+        if (position + needed > mappedBytes) {
+            remap(Math.max(mappedBytes + growBytes, position + needed + growBytes));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        // Length last: until it is set the slot still reads as the end of the journal
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.put(position + HEADER_BYTES, payload);
+        buffer.putInt(position, payload.length);
+        position += needed;
+    }
+
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    /**
+     * @return bytes used by the records written so far
+     */
+    public synchronized long size() {
+        return position;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close journal " + file, e);
+        }
+    }
+
+    /**
+     * Reads the records of a journal file in order, stopping at the end of
+     * the written data or at the first torn record.
+     *
+     * @return the number of records read
+     */
+    public static long replay(Path file, Consumer<JournalEvent> sink) {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer data = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            long count = 0;
+            while (data.remaining() >= HEADER_BYTES) {
+                int length = data.getInt();
+                int checksum = data.getInt();
+                if (length <= 0 || length > data.remaining()) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                data.get(payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                sink.accept(JournalEvent.read(new DataInputStream(new ByteArrayInputStream(payload))));
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read journal " + file, e);
+        }
+    }
+
+    static byte[] encode(JournalEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            event.write(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void remap(long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Journal " + file + " is full; take a snapshot to start a new one");
+        }
+        try {
+            if (buffer != null) {
+                buffer.force();
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            mappedBytes = size;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot grow journal " + file, e);
+        }
+    }
+}
@@ -5,8 +5,7 @@ import co.edu.uniquindio.theknowledgebay.core.model.Moderator;
 import co.edu.uniquindio.theknowledgebay.core.model.Student;
 import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
 import co.edu.uniquindio.theknowledgebay.core.model.User;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,17 +33,8 @@ public class AuthService {
         if (moderator != null && moderator.getEmail().equalsIgnoreCase(email)) {
             return Optional.of(moderator);
         }
-        // Manual iteration using data from TheKnowledgeBay
-        DoublyLinkedNode<Student> current = domain.getUsers().getStudents().getHead();
-        while (current != null) {
-            Student student = current.getData();
-            if (student.getEmail().equalsIgnoreCase(email)) {
-                return Optional.of(student);
-            }
-            current = current.getNext();
-        }
-
-        return Optional.empty();
+        // Case-insensitive lookup in the user directory
+        return Optional.ofNullable(domain.findStudentByEmail(email));
     }
 
     public Optional<User> findUserByUsername(String username) {
@@ -52,17 +42,8 @@ public class AuthService {
         if (moderator != null && moderator.getUsername().equalsIgnoreCase(username)) {
             return Optional.of(moderator);
         }
-        // Manual iteration using data from TheKnowledgeBay
-        DoublyLinkedNode<Student> current = domain.getUsers().getStudents().getHead();
-        while (current != null) {
-            Student student = current.getData();
-            if (student.getUsername().equalsIgnoreCase(username)) {
-                return Optional.of(student);
-            }
-            current = current.getNext();
-        }
-
-        return Optional.empty();
+        // Case-insensitive lookup in the user directory
+        return Optional.ofNullable(domain.findStudentByUsername(username));
     }
 
     public String[] registerStudent(Student student) {
@@ -83,7 +64,7 @@ public class AuthService {
         }
         // Ensure interests list is initialized if it's null, though it should be set by controller
         if (student.getInterests() == null) {
-            student.setInterests(new DoublyLinkedList<>());
+            student.setInterests(new DynamicArrayList<>());
         }
 
         domain.addStudent(student); // Adds student to UserFactory and persists (if configured)
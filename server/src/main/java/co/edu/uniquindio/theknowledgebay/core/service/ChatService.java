@@ -2,20 +2,18 @@ package co.edu.uniquindio.theknowledgebay.core.service;
 
 import co.edu.uniquindio.theknowledgebay.api.dto.ChatContactDTO;
 import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.ChatRegistry;
 import co.edu.uniquindio.theknowledgebay.core.model.Message;
 import co.edu.uniquindio.theknowledgebay.core.model.Student;
 import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
 import co.edu.uniquindio.theknowledgebay.core.model.User;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
@@ -23,22 +21,6 @@ import java.util.Collections;
 public class ChatService {
 
     private final TheKnowledgeBay theKnowledgeBay;
-    private static int messageIdCounter = 1;
-    private static int chatIdCounter = 1;
-
-    /**
-     * Returns a normalized chat key for two users, ensuring the same key
-     * regardless of the order of user IDs.
-     *
-     * @param userId1 First user ID
-     * @param userId2 Second user ID
-     * @return A normalized key for the chat
-     */
-    private String getNormalizedChatKey(String userId1, String userId2) {
-        String[] ids = {userId1, userId2};
-        Arrays.sort(ids);
-        return ids[0] + "_" + ids[1];
-    }
 
     /**
      * Finds an existing chat between two users or creates a new one if it doesn't exist.
@@ -48,32 +30,26 @@ public class ChatService {
      * @return The existing or newly created Chat
      */
     private Chat findOrCreateChat(Student user1, Student user2) {
-        String chatKey = getNormalizedChatKey(user1.getId(), user2.getId());
-        
-        DoublyLinkedNode<Chat> current = theKnowledgeBay.getChats().getHead();
-        while (current != null) {
-            Chat chat = current.getData();
-            String existingChatKey = getNormalizedChatKey(
-                    chat.getStudentA().getId(),
-                    chat.getStudentB().getId());
-            
-            if (chatKey.equals(existingChatKey)) {
-                return chat;
-            }
-            current = current.getNext();
+        ChatRegistry registry = theKnowledgeBay.getChatRegistry();
+        Chat chat = registry.find(user1.getId(), user2.getId());
+        if (chat != null) {
+            return chat;
         }
-        
+
         Chat newChat = Chat.builder()
-                .chatId(chatIdCounter++)
+                .chatId(theKnowledgeBay.generateChatId())
                 .studentA(user1)
                 .studentB(user2)
                 .messages(new DoublyLinkedList<>())
                 .build();
-        
-        theKnowledgeBay.getChats().addLast(newChat);
-        log.info("Created new chat between {} and {}", user1.getId(), user2.getId());
-        
-        return newChat;
+
+        // Another request may have created the chat in the meantime; addChat keeps the first one
+        Chat registered = theKnowledgeBay.addChat(newChat);
+        if (registered == newChat) {
+            log.info("Created new chat between {} and {}", user1.getId(), user2.getId());
+        }
+
+        return registered;
     }
 
     /**
@@ -99,13 +75,13 @@ public class ChatService {
         Chat chat = findOrCreateChat(sender, receiver);
         
         Message message = Message.builder()
-                .messageId(messageIdCounter++)
+                .messageId(theKnowledgeBay.generateMessageId())
                 .text(text)
                 .sender(sender)
                 .timestamp(LocalDateTime.now())
                 .build();
         
-        chat.getMessages().addLast(message);
+        theKnowledgeBay.addMessage(chat, message);
         log.info("Message sent from {} to {}: {}", senderUserId, receiverUserId, text);
         
         return message;
@@ -119,22 +95,8 @@ public class ChatService {
      * @return List of messages
      */
     public DoublyLinkedList<Message> getMessagesForChat(String userId1, String userId2) {
-        String chatKey = getNormalizedChatKey(userId1, userId2);
-        
-        DoublyLinkedNode<Chat> current = theKnowledgeBay.getChats().getHead();
-        while (current != null) {
-            Chat chat = current.getData();
-            String existingChatKey = getNormalizedChatKey(
-                    chat.getStudentA().getId(),
-                    chat.getStudentB().getId());
-            
-            if (chatKey.equals(existingChatKey)) {
-                return chat.getMessages();
-            }
-            current = current.getNext();
-        }
-        
-        return new DoublyLinkedList<>();
+        Chat chat = theKnowledgeBay.getChatRegistry().find(userId1, userId2);
+        return chat != null ? chat.getMessagesSnapshot() : new DoublyLinkedList<>();
     }
 
     /**
@@ -145,45 +107,24 @@ public class ChatService {
      */
     public DoublyLinkedList<ChatContactDTO> getChatContactsWithLastMessage(String userId) {
         DoublyLinkedList<ChatContactDTO> contacts = new DoublyLinkedList<>();
-        
-        DoublyLinkedNode<Chat> current = theKnowledgeBay.getChats().getHead();
-        while (current != null) {
-            Chat chat = current.getData();
-            
-            // Check if this user is part of this chat
-            if (chat.getStudentA().getId().equals(userId) || 
-                chat.getStudentB().getId().equals(userId)) {
-                
-                // Get the other student (contact)
-                Student contact = chat.getStudentA().getId().equals(userId) ? 
-                        chat.getStudentB() : chat.getStudentA();
-                
-                // Get the last message (if any)
-                Message lastMessage = null;
-                if (chat.getMessages() != null && !chat.getMessages().isEmpty()) {
-                    DoublyLinkedNode<Message> messageCurrent = chat.getMessages().getHead();
-                    while (messageCurrent != null && messageCurrent.getNext() != null) {
-                        messageCurrent = messageCurrent.getNext();
-                    }
-                    
-                    if (messageCurrent != null) {
-                        lastMessage = messageCurrent.getData();
-                    }
-                }
-                
-                ChatContactDTO contactDTO = ChatContactDTO.builder()
-                        .contactId(contact.getId())  // Use ID instead of email
-                        .username(contact.getUsername())
-                        .lastMessageText(lastMessage != null ? lastMessage.getText() : "")
-                        .lastMessageTimestamp(lastMessage != null ? lastMessage.getTimestamp() : null)
-                        .build();
-                
-                contacts.addLast(contactDTO);
-            }
-            
-            current = current.getNext();
+
+        for (Chat chat : theKnowledgeBay.getChatRegistry().getInbox(userId)) {
+            // Get the other student (contact)
+            Student contact = chat.getStudentA().getId().equals(userId) ?
+                    chat.getStudentB() : chat.getStudentA();
+
+            Message lastMessage = chat.getLastMessage();
+
+            ChatContactDTO contactDTO = ChatContactDTO.builder()
+                    .contactId(contact.getId())  // Use ID instead of email
+                    .username(contact.getUsername())
+                    .lastMessageText(lastMessage != null ? lastMessage.getText() : "")
+                    .lastMessageTimestamp(lastMessage != null ? lastMessage.getTimestamp() : null)
+                    .build();
+
+            contacts.addLast(contactDTO);
         }
-        
+
         return contacts;
     }
-}
\ No newline at end of file
+}
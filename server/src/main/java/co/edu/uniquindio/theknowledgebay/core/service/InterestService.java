@@ -5,7 +5,7 @@ import co.edu.uniquindio.theknowledgebay.api.dto.InterestDTO;
 import co.edu.uniquindio.theknowledgebay.core.model.Interest;
 import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
 import co.edu.uniquindio.theknowledgebay.core.repository.InterestRepository;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -23,12 +23,11 @@ public class InterestService {
     }
 
     public List<InterestDTO> getAllInterests() {
-        DoublyLinkedList<Interest> interests = theKnowledgeBay.getAllInterests();
+        DynamicArrayList<Interest> interests = theKnowledgeBay.getAllInterests();
         List<InterestDTO> response = new ArrayList<>();
 
         if (interests != null) {
-            for (int i = 0; i < interests.getSize(); i++) {
-                Interest interest = interests.get(i);
+            for (Interest interest : interests) {
                 response.add(mapToDTO(interest));
             }
         }
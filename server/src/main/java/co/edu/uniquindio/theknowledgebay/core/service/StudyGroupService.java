@@ -52,8 +52,8 @@ public class StudyGroupService {
         DoublyLinkedList<StudyGroup> groupsFromCore = theKnowledgeBay.getStudyGroups();
         List<StudyGroupDTO> dtos = new ArrayList<>();
         if (groupsFromCore != null) {
-            for (int i = 0; i < groupsFromCore.getSize(); i++) {
-                dtos.add(mapToDTO(groupsFromCore.get(i)));
+            for (StudyGroup group : groupsFromCore) {
+                dtos.add(mapToDTO(group));
             }
         }
         // If manual groups were also supported and stored elsewhere in this service, merge here.
@@ -64,8 +64,7 @@ public class StudyGroupService {
     public Optional<StudyGroupDTO> getGroupById(String groupId) {
         DoublyLinkedList<StudyGroup> groupsFromCore = theKnowledgeBay.getStudyGroups();
         if (groupsFromCore != null) {
-            for (int i = 0; i < groupsFromCore.getSize(); i++) {
-                StudyGroup groupModel = groupsFromCore.get(i);
+            for (StudyGroup groupModel : groupsFromCore) {
                 if (groupModel.getId().equals(groupId)) {
                     // Note: The StudyGroupDTO currently doesn't include posts.
                     // Posts are fetched via getPostsByGroupId.
@@ -87,8 +86,7 @@ public class StudyGroupService {
         // Map associated content
         DoublyLinkedList<Content> contents = groupModel.getAssociatedContents();
         if (contents != null) {
-            for (int i = 0; i < contents.getSize(); i++) {
-                Content content = contents.get(i);
+            for (Content content : contents) {
                 if (content != null) {
                     allPosts.add(mapContentToPostDTO(content));
                 }
@@ -98,8 +96,7 @@ public class StudyGroupService {
         // Map associated help requests
         DoublyLinkedList<HelpRequest> helpRequests = groupModel.getAssociatedHelpRequests();
         if (helpRequests != null) {
-            for (int i = 0; i < helpRequests.getSize(); i++) {
-                HelpRequest hr = helpRequests.get(i);
+            for (HelpRequest hr : helpRequests) {
                 if (hr != null) {
                     allPosts.add(mapHelpRequestToPostDTO(hr));
                 }
@@ -127,8 +124,7 @@ public class StudyGroupService {
     private StudyGroup findStudyGroupModelById(String groupId) {
         DoublyLinkedList<StudyGroup> groupsFromCore = theKnowledgeBay.getStudyGroups();
         if (groupsFromCore != null) {
-            for (int i = 0; i < groupsFromCore.getSize(); i++) {
-                StudyGroup groupModel = groupsFromCore.get(i);
+            for (StudyGroup groupModel : groupsFromCore) {
                 if (groupModel != null && groupModel.getId().equals(groupId)) {
                     return groupModel;
                 }
@@ -213,8 +209,7 @@ public class StudyGroupService {
         boolean groupExists = false;
         DoublyLinkedList<StudyGroup> coreGroups = theKnowledgeBay.getStudyGroups();
         if (coreGroups != null) {
-            for (int i = 0; i < coreGroups.getSize(); i++) {
-                StudyGroup sg = coreGroups.get(i);
+            for (StudyGroup sg : coreGroups) {
                 if (sg != null && sg.getId() != null && sg.getId().equals(groupId)) {
                     groupExists = true;
                     break;
@@ -337,8 +332,7 @@ public class StudyGroupService {
     private List<CommentDTO> mapCommentsToDTO(DoublyLinkedList<Comment> comments) {
         List<CommentDTO> commentDTOs = new ArrayList<>();
         if (comments != null) {
-            for (int i = 0; i < comments.getSize(); i++) {
-                Comment comment = comments.get(i);
+            for (Comment comment : comments) {
                 if (comment != null) {
                     CommentDTO commentDTO = mapCommentToDTO(comment);
                     if (commentDTO != null) {
@@ -0,0 +1,25 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the snapshot + journal storage of the in-memory model.
+ *
+ * @param enabled            when false nothing is journaled and startup always loads from SQLite
+ * @param directory          where the snapshot and the journal files are kept
+ * @param growBytes          how much a journal file's mapping grows each time it fills up
+ * @param snapshotIntervalMs delay between scheduled snapshots; each one starts a new journal
+ * @param syncIntervalMs     delay between forcing the journal to disk
+ */
+@ConfigurationProperties(prefix = "persistence.journal")
+public record JournalProperties(Boolean enabled, String directory, Long growBytes, Long snapshotIntervalMs,
+                                Long syncIntervalMs) {
+
+    public JournalProperties {
+        if (enabled == null) enabled = false;
+        if (directory == null || directory.isBlank()) directory = "data/journal";
+        if (growBytes == null || growBytes <= 0) growBytes = 16L * 1024 * 1024;
+        if (snapshotIntervalMs == null || snapshotIntervalMs <= 0) snapshotIntervalMs = 300_000L;
+        if (syncIntervalMs == null || syncIntervalMs <= 0) syncIntervalMs = 1_000L;
+    }
+}
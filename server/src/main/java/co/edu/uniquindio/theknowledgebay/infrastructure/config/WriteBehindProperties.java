@@ -0,0 +1,25 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the write-behind pipeline that flushes in-memory changes to SQLite.
+ *
+ * @param enabled          when false every write is executed immediately on the caller thread
+ * @param queueCapacity    maximum pending writes
+ * @param batchSize        maximum writes flushed in one transaction
+ * @param flushIntervalMs  delay between scheduled flushes
+ * @param offerTimeoutMs   how long a producer waits for room in a full queue before writing on its own thread
+ */
+@ConfigurationProperties(prefix = "persistence.write-behind")
+public record WriteBehindProperties(Boolean enabled, Integer queueCapacity, Integer batchSize, Long flushIntervalMs,
+                                    Long offerTimeoutMs) {
+
+    public WriteBehindProperties {
+        if (enabled == null) enabled = true;
+        if (queueCapacity == null || queueCapacity <= 0) queueCapacity = 10_000;
+        if (batchSize == null || batchSize <= 0) batchSize = 500;
+        if (flushIntervalMs == null || flushIntervalMs <= 0) flushIntervalMs = 1_000L;
+        if (offerTimeoutMs == null || offerTimeoutMs < 0) offerTimeoutMs = 50L;
+    }
+}
@@ -0,0 +1,58 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.concurrent;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Read/write lock guarding one aggregate of the in-memory model (users,
+ * content, help requests, ...). Readers of the same aggregate run in
+ * parallel, writers are exclusive. Both kinds of lock are reentrant, and a
+ * thread holding the write lock may also read.
+ * <p>
+ * A read lock cannot be upgraded: asking for the write lock while holding
+ * only the read lock would deadlock, so it fails fast instead.
+ * When several aggregates are locked together they must always be taken in
+ * the same order (see TheKnowledgeBay).
+ */
+public class AggregateLock {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void read(Runnable action) {
+        read(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * @throws IllegalStateException if the calling thread holds only the read lock
+     */
+    public <T> T write(Supplier<T> action) {
+        if (lock.getReadHoldCount() > 0 && !lock.isWriteLockedByCurrentThread()) {
+            throw new IllegalStateException("Cannot upgrade a read lock to a write lock");
+        }
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void write(Runnable action) {
+        write(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
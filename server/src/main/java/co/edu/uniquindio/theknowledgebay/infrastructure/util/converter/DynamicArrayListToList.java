@@ -0,0 +1,20 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.converter;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DynamicArrayListToList {
+
+    /**
+     * Converts a DynamicArrayList to an ArrayList.
+     *
+     * @param <T> the type of elements in the list
+     * @param dynamicArrayList the DynamicArrayList to convert
+     * @return a new ArrayList containing all elements, empty if the input is null
+     */
+    public static <T> List<T> convert(DynamicArrayList<T> dynamicArrayList) {
+        return dynamicArrayList != null ? dynamicArrayList.toList() : new ArrayList<>();
+    }
+}
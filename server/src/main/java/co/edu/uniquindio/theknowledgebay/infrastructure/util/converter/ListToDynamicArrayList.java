@@ -0,0 +1,23 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.converter;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+
+import java.util.List;
+
+public class ListToDynamicArrayList {
+    /**
+     * Converts a List to a DynamicArrayList.
+     *
+     * @param <T> the type of elements in the list
+     * @param list the List to convert
+     * @return a new DynamicArrayList containing all elements from the input List
+     */
+    public static <T> DynamicArrayList<T> convert(List<T> list) {
+        if (list == null) {
+            return new DynamicArrayList<>();
+        }
+        DynamicArrayList<T> dynamicArrayList = new DynamicArrayList<>(list.size());
+        dynamicArrayList.addAll(list);
+        return dynamicArrayList;
+    }
+}
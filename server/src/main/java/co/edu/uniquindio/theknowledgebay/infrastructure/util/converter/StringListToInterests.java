@@ -1,7 +1,7 @@
 package co.edu.uniquindio.theknowledgebay.infrastructure.util.converter;
 
 import co.edu.uniquindio.theknowledgebay.core.model.Interest;
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import java.util.List;
 
 import java.util.ArrayList;
@@ -9,13 +9,13 @@ import java.util.List;
 
 public class StringListToInterests {
 
-    public static DoublyLinkedList<Interest> convert(List<String> list) {
+    public static DynamicArrayList<Interest> convert(List<String> list) {
 
         if (list == null) {
-            return new DoublyLinkedList<>();
+            return new DynamicArrayList<>();
         }
 
-        DoublyLinkedList<Interest> interests = new DoublyLinkedList<>();
+        DynamicArrayList<Interest> interests = new DynamicArrayList<>();
         for (String s : list) {
             if (s != null && !s.trim().isEmpty()) {
                 Interest interest = new Interest();
@@ -0,0 +1,106 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.bitsets;
+
+/**
+ * Operations on bitsets stored as bare {@code long[]} words, bit {@code i}
+ * being bit {@code i % 64} of word {@code i / 64}. A null or short array
+ * reads as all zeros past its end, so sets of different lengths can be
+ * combined directly.
+ * <p>
+ * Intersections and unions are computed a word at a time with AND, OR and
+ * {@link Long#bitCount}, so comparing two sets of up to 64 elements costs a
+ * handful of instructions and no allocation.
+ */
+public final class LongBitSet {
+
+    private static final long[] EMPTY = new long[0];
+
+    private LongBitSet() {
+    }
+
+    /**
+     * @return a bitset with exactly the given bits set, as short as possible.
+     * @throws IllegalArgumentException if an index is negative
+     */
+    public static long[] of(int... indexes) {
+        int max = -1;
+        for (int index : indexes) {
+            if (index < 0) {
+                throw new IllegalArgumentException("Negative bit index: " + index);
+            }
+            max = Math.max(max, index);
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        long[] words = new long[(max >>> 6) + 1];
+        for (int index : indexes) {
+            words[index >>> 6] |= 1L << index;
+        }
+        return words;
+    }
+
+    public static boolean get(long[] words, int index) {
+        int word = index >>> 6;
+        return index >= 0 && words != null && word < words.length && (words[word] & (1L << index)) != 0;
+    }
+
+    /**
+     * Clears a bit in place; does nothing if it is past the end.
+     */
+    public static void clear(long[] words, int index) {
+        int word = index >>> 6;
+        if (index >= 0 && words != null && word < words.length) {
+            words[word] &= ~(1L << index);
+        }
+    }
+
+    public static int cardinality(long[] words) {
+        int count = 0;
+        if (words != null) {
+            for (long word : words) {
+                count += Long.bitCount(word);
+            }
+        }
+        return count;
+    }
+
+    public static boolean intersects(long[] a, long[] b) {
+        if (a == null || b == null) {
+            return false;
+        }
+        int common = Math.min(a.length, b.length);
+        for (int i = 0; i < common; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static int intersectionSize(long[] a, long[] b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        int common = Math.min(a.length, b.length);
+        int count = 0;
+        for (int i = 0; i < common; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    public static int unionSize(long[] a, long[] b) {
+        return cardinality(a) + cardinality(b) - intersectionSize(a, b);
+    }
+
+    /**
+     * @return |a ∩ b| / |a ∪ b|, or 0 if both sets are empty.
+     */
+    public static double jaccard(long[] a, long[] b) {
+        int shared = intersectionSize(a, b);
+        if (shared == 0) {
+            return 0;
+        }
+        return (double) shared / (cardinality(a) + cardinality(b) - shared);
+    }
+}
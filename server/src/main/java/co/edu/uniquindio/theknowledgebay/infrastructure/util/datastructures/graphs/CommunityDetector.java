@@ -0,0 +1,181 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Finds communities (densely connected groups of vertices) with parallel
+ * label propagation on a fork-join pool.
+ * <p>
+ * Every vertex starts with its own label. In each round, every vertex takes
+ * the label most common among its neighbours and itself, the smallest one on
+ * ties. Rounds are synchronous: labels are read from one array and written to
+ * another, so vertex ranges are processed in parallel without coordination and
+ * the result does not depend on the thread count. Rounds stop when no label
+ * changes or after {@code maxRounds}. Each round is O(E log d) for maximum
+ * degree d.
+ * <p>
+ * The last result is cached together with the graph and version it was
+ * computed from, and is reused until the graph changes.
+ *
+ * @param <T> the type of data stored in the vertices.
+ */
+public class CommunityDetector<T> {
+
+    private static final int DEFAULT_MAX_ROUNDS = 20;
+    // Vertices processed by one fork-join leaf
+    private static final int LEAF_SIZE = 2048;
+
+    private final ForkJoinPool pool;
+    private final int maxRounds;
+
+    private UndirectedGraph<T> cachedSource;
+    private long cachedVersion;
+    private List<List<T>> cached;
+
+    public CommunityDetector() {
+        this(ForkJoinPool.commonPool(), DEFAULT_MAX_ROUNDS);
+    }
+
+    public CommunityDetector(ForkJoinPool pool, int maxRounds) {
+        this.pool = pool;
+        this.maxRounds = maxRounds;
+    }
+
+    /**
+     * Returns the cached communities if they were computed from the current
+     * version of this graph. The caller must keep the graph from changing meanwhile.
+     *
+     * @return the communities, or null if they must be detected again.
+     */
+    public synchronized List<List<T>> getIfCurrent(UndirectedGraph<T> graph) {
+        return cached != null && cachedSource == graph && cachedVersion == graph.getVersion() ? cached : null;
+    }
+
+    /**
+     * Detects the communities of a snapshot and caches them under its graph and version.
+     *
+     * @return the communities, largest first, each listing its vertices in graph order.
+     */
+    public List<List<T>> detect(CsrGraph<T> graph) {
+        List<List<T>> communities = Collections.unmodifiableList(group(graph, propagate(graph)));
+        synchronized (this) {
+            cachedSource = graph.getSource();
+            cachedVersion = graph.getVersion();
+            cached = communities;
+        }
+        return communities;
+    }
+
+    /**
+     * Runs label propagation without touching the cache.
+     *
+     * @return the final label of each vertex; vertices sharing a label form a community.
+     */
+    public int[] propagate(CsrGraph<T> graph) {
+        int n = graph.getVertexCount();
+        int[] labels = new int[n];
+        for (int v = 0; v < n; v++) {
+            labels[v] = v;
+        }
+        int[] next = new int[n];
+        int scratchSize = graph.maxDegree() + 1;
+        for (int round = 0; round < maxRounds; round++) {
+            int changed = pool.invoke(new Round(graph, labels, next, scratchSize, 0, n));
+            int[] swap = labels;
+            labels = next;
+            next = swap;
+            if (changed == 0) {
+                break;
+            }
+        }
+        return labels;
+    }
+
+    private static <T> List<List<T>> group(CsrGraph<T> graph, int[] labels) {
+        int n = graph.getVertexCount();
+        // Labels are vertex numbers, so they index the community table directly
+        int[] community = new int[n];
+        Arrays.fill(community, -1);
+        List<List<T>> communities = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            int label = labels[v];
+            if (community[label] < 0) {
+                community[label] = communities.size();
+                communities.add(new ArrayList<>());
+            }
+            communities.get(community[label]).add(graph.getVertex(v));
+        }
+        communities.sort((a, b) -> Integer.compare(b.size(), a.size()));
+        return communities;
+    }
+
+    // One propagation round over a range of vertices; returns how many labels changed
+    private static final class Round extends RecursiveTask<Integer> {
+        private final CsrGraph<?> graph;
+        private final int[] labels;
+        private final int[] next;
+        private final int scratchSize;
+        private final int from;
+        private final int to;
+
+        Round(CsrGraph<?> graph, int[] labels, int[] next, int scratchSize, int from, int to) {
+            this.graph = graph;
+            this.labels = labels;
+            this.next = next;
+            this.scratchSize = scratchSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                Round left = new Round(graph, labels, next, scratchSize, from, middle);
+                left.fork();
+                int right = new Round(graph, labels, next, scratchSize, middle, to).compute();
+                return left.join() + right;
+            }
+            int[] scratch = new int[scratchSize];
+            int changed = 0;
+            for (int v = from; v < to; v++) {
+                int label = mostCommonLabel(v, scratch);
+                next[v] = label;
+                if (label != labels[v]) {
+                    changed++;
+                }
+            }
+            return changed;
+        }
+
+        private int mostCommonLabel(int v, int[] scratch) {
+            int degree = graph.degree(v);
+            if (degree == 0) {
+                return labels[v];
+            }
+            int first = graph.firstEdge(v);
+            scratch[0] = labels[v];
+            for (int i = 0; i < degree; i++) {
+                scratch[i + 1] = labels[graph.getNeighbor(first + i)];
+            }
+            Arrays.sort(scratch, 0, degree + 1);
+            // Runs of equal labels; the first longest run is the smallest most common label
+            int best = scratch[0];
+            int bestCount = 0;
+            int run = 0;
+            for (int i = 0; i <= degree; i++) {
+                run = i > 0 && scratch[i] == scratch[i - 1] ? run + 1 : 1;
+                if (run > bestCount) {
+                    bestCount = run;
+                    best = scratch[i];
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable compressed sparse row (CSR) copy of an {@link UndirectedGraph}.
+ * <p>
+ * Vertices are numbered 0..n-1 in the graph's iteration order; the
+ * neighbours of vertex {@code v} are {@code targets[offsets[v]]} up to
+ * {@code targets[offsets[v + 1]]}. Each undirected edge appears once in the
+ * list of each endpoint. The arrays can be read from many threads at once,
+ * which makes this the input of the parallel graph algorithms.
+ *
+ * @param <T> the type of data stored in the vertices.
+ */
+public final class CsrGraph<T> {
+
+    private final Object[] vertices;
+    private final int[] offsets;
+    private final int[] targets;
+    @Getter
+    private final UndirectedGraph<T> source;
+    @Getter
+    private final long version;
+
+    private CsrGraph(Object[] vertices, int[] offsets, int[] targets, UndirectedGraph<T> source, long version) {
+        this.vertices = vertices;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.source = source;
+        this.version = version;
+    }
+
+    /**
+     * Copies a graph. The caller must keep the graph from changing meanwhile.
+     *
+     * @param graph the graph to copy.
+     * @return the snapshot, remembering the graph and the version it was taken at.
+     */
+    public static <T> CsrGraph<T> of(UndirectedGraph<T> graph) {
+        int n = graph.getVertexCount();
+        Object[] vertices = new Object[n];
+        Map<T, Integer> index = new HashMap<>(n * 2);
+        int v = 0;
+        for (T vertex : graph.getVertices()) {
+            vertices[v] = vertex;
+            index.put(vertex, v++);
+        }
+        int[] offsets = new int[n + 1];
+        for (v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + graph.degree(vertexAt(vertices, v));
+        }
+        int[] targets = new int[offsets[n]];
+        for (v = 0; v < n; v++) {
+            int next = offsets[v];
+            for (T neighbor : graph.getNeighbors(vertexAt(vertices, v))) {
+                targets[next++] = index.get(neighbor);
+            }
+        }
+        return new CsrGraph<>(vertices, offsets, targets, graph, graph.getVersion());
+    }
+
+    /**
+     * Builds a snapshot directly from edge endpoints, for generated graphs.
+     * Edges must not repeat; self-loops are allowed.
+     *
+     * @param vertices the vertex data, indexed by vertex number.
+     * @param from     the first endpoint of each edge.
+     * @param to       the second endpoint of each edge.
+     */
+    public static <T> CsrGraph<T> fromEdges(List<T> vertices, int[] from, int[] to) {
+        int n = vertices.size();
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < from.length; e++) {
+            offsets[from[e] + 1]++;
+            if (from[e] != to[e]) {
+                offsets[to[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] next = offsets.clone();
+        int[] targets = new int[offsets[n]];
+        for (int e = 0; e < from.length; e++) {
+            targets[next[from[e]]++] = to[e];
+            if (from[e] != to[e]) {
+                targets[next[to[e]]++] = from[e];
+            }
+        }
+        return new CsrGraph<>(vertices.toArray(), offsets, targets, null, 0);
+    }
+
+    public int getVertexCount() {
+        return vertices.length;
+    }
+
+    public T getVertex(int v) {
+        return vertexAt(vertices, v);
+    }
+
+    public int degree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * @return the edge number of the first neighbour of the vertex; the others
+     * follow up to {@code firstEdge(v) + degree(v)}, see {@link #getNeighbor(int)}.
+     */
+    public int firstEdge(int v) {
+        return offsets[v];
+    }
+
+    public int getNeighbor(int edge) {
+        return targets[edge];
+    }
+
+    public int maxDegree() {
+        int max = 0;
+        for (int v = 0; v < vertices.length; v++) {
+            max = Math.max(max, degree(v));
+        }
+        return max;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T vertexAt(Object[] vertices, int v) {
+        return (T) vertices[v];
+    }
+}
@@ -0,0 +1,188 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Vertices grouped by degree, for top-K queries by degree.
+ * <p>
+ * Each non-empty degree has a bucket holding its vertices, and the buckets
+ * form a doubly linked list sorted from the highest degree down. A degree
+ * changes by one at a time, so a vertex always moves to the neighbouring
+ * bucket, creating it if needed: every update is O(1), and the top K
+ * vertices are read in O(K) by walking the buckets from the head. Within a
+ * bucket, vertices keep the order in which they reached that degree.
+ *
+ * @param <T> the type of data stored in the vertices.
+ */
+public class DegreeIndex<T> {
+
+    private static final class Bucket<T> {
+        private final int degree;
+        private final Set<T> vertices = new LinkedHashSet<>();
+        private Bucket<T> higher;
+        private Bucket<T> lower;
+
+        private Bucket(int degree) {
+            this.degree = degree;
+        }
+    }
+
+    private final Map<T, Bucket<T>> bucketOf = new HashMap<>();
+    private Bucket<T> highest;
+    private Bucket<T> lowest;
+
+    /**
+     * Starts tracking a vertex with degree 0. Does nothing if it is already tracked.
+     */
+    public void add(T vertex) {
+        if (bucketOf.containsKey(vertex)) {
+            return;
+        }
+        Bucket<T> bucket = lowest;
+        if (bucket == null || bucket.degree != 0) {
+            bucket = new Bucket<>(0);
+            linkBelow(bucket, lowest);
+        }
+        bucket.vertices.add(vertex);
+        bucketOf.put(vertex, bucket);
+    }
+
+    /**
+     * Stops tracking a vertex.
+     */
+    public void remove(T vertex) {
+        Bucket<T> bucket = bucketOf.remove(vertex);
+        if (bucket != null) {
+            leave(bucket, vertex);
+        }
+    }
+
+    /**
+     * Raises the degree of a tracked vertex by one.
+     */
+    public void increment(T vertex) {
+        Bucket<T> bucket = bucketOf.get(vertex);
+        if (bucket == null) {
+            return;
+        }
+        Bucket<T> target = bucket.higher;
+        if (target == null || target.degree != bucket.degree + 1) {
+            target = new Bucket<>(bucket.degree + 1);
+            linkAbove(target, bucket);
+        }
+        move(vertex, bucket, target);
+    }
+
+    /**
+     * Lowers the degree of a tracked vertex by one; a degree never goes below 0.
+     */
+    public void decrement(T vertex) {
+        Bucket<T> bucket = bucketOf.get(vertex);
+        if (bucket == null || bucket.degree == 0) {
+            return;
+        }
+        Bucket<T> target = bucket.lower;
+        if (target == null || target.degree != bucket.degree - 1) {
+            target = new Bucket<>(bucket.degree - 1);
+            linkBelow(target, bucket);
+        }
+        move(vertex, bucket, target);
+    }
+
+    /**
+     * @return the degree of a vertex, 0 if it is not tracked.
+     */
+    public int degree(T vertex) {
+        Bucket<T> bucket = bucketOf.get(vertex);
+        return bucket != null ? bucket.degree : 0;
+    }
+
+    /**
+     * Returns up to k vertices with the highest degrees, highest first.
+     *
+     * @param k how many vertices to return.
+     * @return the vertices, at most k of them.
+     */
+    public List<T> top(int k) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(k, bucketOf.size())));
+        for (Bucket<T> bucket = highest; bucket != null && result.size() < k; bucket = bucket.lower) {
+            for (T vertex : bucket.vertices) {
+                if (result.size() == k) {
+                    break;
+                }
+                result.add(vertex);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return bucketOf.size();
+    }
+
+    public void clear() {
+        bucketOf.clear();
+        highest = null;
+        lowest = null;
+    }
+
+    private void move(T vertex, Bucket<T> from, Bucket<T> to) {
+        to.vertices.add(vertex);
+        bucketOf.put(vertex, to);
+        leave(from, vertex);
+    }
+
+    private void leave(Bucket<T> bucket, T vertex) {
+        bucket.vertices.remove(vertex);
+        if (bucket.vertices.isEmpty()) {
+            unlink(bucket);
+        }
+    }
+
+    // Inserts a bucket right above another
+    private void linkAbove(Bucket<T> bucket, Bucket<T> below) {
+        bucket.lower = below;
+        bucket.higher = below.higher;
+        if (below.higher != null) {
+            below.higher.lower = bucket;
+        } else {
+            highest = bucket;
+        }
+        below.higher = bucket;
+    }
+
+    // Inserts a bucket right below another, or as the only one if there is none
+    private void linkBelow(Bucket<T> bucket, Bucket<T> above) {
+        if (above == null) {
+            highest = bucket;
+            lowest = bucket;
+            return;
+        }
+        bucket.higher = above;
+        bucket.lower = above.lower;
+        if (above.lower != null) {
+            above.lower.higher = bucket;
+        } else {
+            lowest = bucket;
+        }
+        above.lower = bucket;
+    }
+
+    private void unlink(Bucket<T> bucket) {
+        if (bucket.higher != null) {
+            bucket.higher.lower = bucket.lower;
+        } else {
+            highest = bucket.lower;
+        }
+        if (bucket.lower != null) {
+            bucket.lower.higher = bucket.higher;
+        } else {
+            lowest = bucket.higher;
+        }
+    }
+}
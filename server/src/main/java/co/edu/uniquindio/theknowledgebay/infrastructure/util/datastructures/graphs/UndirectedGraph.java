@@ -1,21 +1,35 @@
 package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs;
 
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.Edge;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.GraphVertex;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * A generic undirected graph implementation.
- * The graph maintains a linked list of vertices. Each vertex maintains its own linked list of adjacent edges.
+ * Vertices are kept in a hash map keyed by their data, and each vertex keeps a
+ * hash set of its neighbours, so vertex lookup, edge insertion, removal and
+ * existence checks are O(1). Iteration follows insertion order.
+ * A {@link DegreeIndex} is kept alongside, so the vertices with the most
+ * edges are found without scanning the graph.
+ * Every structural change bumps a version number, so derived results (e.g.
+ * detected communities) can be cached until the graph changes.
  *
- * @param <T> the type of data stored in the vertices.
+ * @param <T> the type of data stored in the vertices; must have consistent equals/hashCode.
  */
-@Data
 @NoArgsConstructor
 public class UndirectedGraph<T> {
-    private GraphVertex<T> vertices;  // Head of the linked list of vertices.
-    private int vertexCount;
+    private final Map<T, GraphVertex<T>> vertices = new LinkedHashMap<>();
+    private final DegreeIndex<T> degrees = new DegreeIndex<>();
+    @Getter
+    private int edgeCount;
+    @Getter
+    private long version;
 
     /**
      * Adds a new vertex to the graph.
@@ -23,48 +37,91 @@ public class UndirectedGraph<T> {
      * @param data the data for the new vertex.
      */
     public void addVertex(T data) {
-        if (findVertex(data) != null) {
-            return; // Vertex already exists.
+        if (vertices.putIfAbsent(data, new GraphVertex<>(data)) == null) {
+            degrees.add(data);
+            version++;
         }
-        GraphVertex<T> newVertex = new GraphVertex<>(data);
-        newVertex.setNextVertex(vertices);
-        vertices = newVertex;
-        vertexCount++;
     }
 
-    private GraphVertex<T> findVertex(T data) {
-        GraphVertex<T> current = vertices;
-        while (current != null) {
-            if (current.getData().equals(data)) {
-                return current;
+    /**
+     * Removes a vertex and all its edges.
+     *
+     * @param data the data of the vertex to remove.
+     * @return true if the vertex existed, false otherwise.
+     */
+    public boolean removeVertex(T data) {
+        GraphVertex<T> vertex = vertices.remove(data);
+        if (vertex == null) {
+            return false;
+        }
+        for (T neighbor : vertex.getAdjacent()) {
+            if (!neighbor.equals(data)) { // a self-loop has no other endpoint to update
+                vertices.get(neighbor).getAdjacent().remove(data);
+                degrees.decrement(neighbor);
             }
-            current = current.getNextVertex();
+            edgeCount--;
         }
-        return null;
+        degrees.remove(data);
+        version++;
+        return true;
+    }
+
+    /**
+     * Checks if the graph has a vertex with the given data.
+     *
+     * @param data the data to look for.
+     * @return true if present, false otherwise.
+     */
+    public boolean containsVertex(T data) {
+        return vertices.containsKey(data);
     }
 
     /**
      * Adds an undirected edge between the vertices containing data1 and data2.
+     * Adding an edge that already exists has no effect.
      *
      * @param data1 the data of the first vertex.
      * @param data2 the data of the second vertex.
      * @throws RuntimeException if one or both vertices are not found.
      */
     public void addEdge(T data1, T data2) {
-        GraphVertex<T> vertex1 = findVertex(data1);
-        GraphVertex<T> vertex2 = findVertex(data2);
+        GraphVertex<T> vertex1 = vertices.get(data1);
+        GraphVertex<T> vertex2 = vertices.get(data2);
         if (vertex1 == null || vertex2 == null) {
             throw new RuntimeException("One or both vertices not found");
         }
-        // Add edge from vertex1 to vertex2.
-        Edge<T> newEdge1 = new Edge<>(vertex2);
-        newEdge1.setNextEdge(vertex1.getEdgeList());
-        vertex1.setEdgeList(newEdge1);
+        if (vertex1.getAdjacent().add(data2)) {
+            vertex2.getAdjacent().add(data1);
+            degrees.increment(data1);
+            if (!data1.equals(data2)) {
+                degrees.increment(data2);
+            }
+            edgeCount++;
+            version++;
+        }
+    }
 
-        // Since the graph is undirected, add edge from vertex2 to vertex1.
-        Edge<T> newEdge2 = new Edge<>(vertex1);
-        newEdge2.setNextEdge(vertex2.getEdgeList());
-        vertex2.setEdgeList(newEdge2);
+    /**
+     * Removes the undirected edge between two vertices.
+     *
+     * @param data1 the data of the first vertex.
+     * @param data2 the data of the second vertex.
+     * @return true if the edge existed, false otherwise.
+     */
+    public boolean removeEdge(T data1, T data2) {
+        GraphVertex<T> vertex1 = vertices.get(data1);
+        GraphVertex<T> vertex2 = vertices.get(data2);
+        if (vertex1 == null || vertex2 == null || !vertex1.getAdjacent().remove(data2)) {
+            return false;
+        }
+        vertex2.getAdjacent().remove(data1);
+        degrees.decrement(data1);
+        if (!data1.equals(data2)) {
+            degrees.decrement(data2);
+        }
+        edgeCount--;
+        version++;
+        return true;
     }
 
     /**
@@ -75,21 +132,54 @@ public class UndirectedGraph<T> {
      * @return true if an edge exists, false otherwise.
      */
     public boolean edgeExists(T data1, T data2) {
-        GraphVertex<T> vertex1 = findVertex(data1);
-        GraphVertex<T> vertex2 = findVertex(data2);
+        GraphVertex<T> vertex1 = vertices.get(data1);
+        return vertex1 != null && vertex1.getAdjacent().contains(data2);
+    }
 
-        if (vertex1 == null || vertex2 == null) {
-            return false; // One or both vertices not found, so no edge can exist.
-        }
+    /**
+     * Returns the neighbours of a vertex.
+     *
+     * @param data the data of the vertex.
+     * @return a read-only view of the adjacent vertices, empty if the vertex is absent.
+     */
+    public Set<T> getNeighbors(T data) {
+        GraphVertex<T> vertex = vertices.get(data);
+        return vertex != null ? Collections.unmodifiableSet(vertex.getAdjacent()) : Collections.emptySet();
+    }
 
-        Edge<T> currentEdge = vertex1.getEdgeList();
-        while (currentEdge != null) {
-            if (currentEdge.getAdjacent().equals(vertex2)) {
-                return true; // Edge found
-            }
-            currentEdge = currentEdge.getNextEdge();
-        }
-        return false; // Edge not found
+    /**
+     * Returns the number of edges touching a vertex.
+     *
+     * @param data the data of the vertex.
+     * @return the degree, 0 if the vertex is absent.
+     */
+    public int degree(T data) {
+        GraphVertex<T> vertex = vertices.get(data);
+        return vertex != null ? vertex.getAdjacent().size() : 0;
+    }
+
+    /**
+     * Returns the vertices with the most edges, highest degree first; ties
+     * keep the order in which the vertices reached that degree. O(k).
+     *
+     * @param k how many vertices to return.
+     * @return at most k vertices.
+     */
+    public List<T> topByDegree(int k) {
+        return degrees.top(k);
+    }
+
+    /**
+     * Returns the data of every vertex in insertion order.
+     *
+     * @return a read-only view of the vertex set.
+     */
+    public Set<T> getVertices() {
+        return Collections.unmodifiableSet(vertices.keySet());
+    }
+
+    public int getVertexCount() {
+        return vertices.size();
     }
 
     /**
@@ -99,17 +189,13 @@ public class UndirectedGraph<T> {
      */
     public String display() {
         StringBuilder sb = new StringBuilder();
-        GraphVertex<T> vertex = vertices;
-        while (vertex != null) {
+        for (GraphVertex<T> vertex : vertices.values()) {
             sb.append(vertex.getData()).append(": ");
-            Edge<T> edge = vertex.getEdgeList();
-            while (edge != null) {
-                sb.append(edge.getAdjacent().getData()).append(" ");
-                edge = edge.getNextEdge();
+            for (T neighbor : vertex.getAdjacent()) {
+                sb.append(neighbor).append(" ");
             }
             sb.append("\n");
-            vertex = vertex.getNextVertex();
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,30 @@
 package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists;
 
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 
 /**
  * A generic doubly linked list implementation.
+ * <p>
+ * Prefer walking the list with for-each, {@link #forEach}, {@link #cursor()}
+ * or {@link #toArray} over {@code get(i)} in a loop. {@link #get(int)} starts
+ * from the head, the tail or the last position it returned, whichever is
+ * nearest, so a sequential get loop is linear overall, but only as long as
+ * nothing removes from the list in between.
  *
  * @param <T> the type of elements stored in the list
  */
@@ -19,6 +35,17 @@ public class DoublyLinkedList<T> implements Iterable<T>{
     private DoublyLinkedNode<T> tail;
     private int size;
 
+    // Last position returned by get(int). Replaced as a whole in one write, so
+    // concurrent readers under a read lock see either the old or the new pair.
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Position<T> lastAccess;
+
+    private record Position<T>(DoublyLinkedNode<T> node, int index) {
+    }
+
     /**
      * Adds an element at the beginning of the list.
      *
@@ -34,6 +61,10 @@ public class DoublyLinkedList<T> implements Iterable<T>{
             head.setPrevious(newNode);
             head = newNode;
         }
+        Position<T> cached = lastAccess;
+        if (cached != null) {
+            lastAccess = new Position<>(cached.node(), cached.index() + 1);
+        }
         size++;
     }
 
@@ -61,29 +92,10 @@ public class DoublyLinkedList<T> implements Iterable<T>{
      * @param data the element to remove
      */
     public boolean remove(T data) {
-        if (head == null) return false; // Element not found in empty list
         DoublyLinkedNode<T> current = head;
         while (current != null) {
             if (current.getData().equals(data)) {
-                if (current == head && current == tail) {
-                    head = null;
-                    tail = null;
-                } else if (current == head) {
-                    head = head.getNext();
-                    if (head != null) { // List might become empty
-                        head.setPrevious(null);
-                    } else {
-                        tail = null; // List became empty
-                    }
-                } else if (current == tail) {
-                    tail = tail.getPrevious();
-                    // No need to check for null tail here as previous node must exist
-                    tail.setNext(null);
-                } else {
-                    current.getPrevious().setNext(current.getNext());
-                    current.getNext().setPrevious(current.getPrevious());
-                }
-                size--;
+                unlink(current);
                 return true; // Element found and removed
             }
             current = current.getNext();
@@ -157,11 +169,8 @@ public class DoublyLinkedList<T> implements Iterable<T>{
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
 
-        DoublyLinkedNode<T> current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.getNext();
-        }
-
+        DoublyLinkedNode<T> current = nodeAt(index);
+        lastAccess = new Position<>(current, index);
         return current.getData();
     }
 
@@ -177,49 +186,9 @@ public class DoublyLinkedList<T> implements Iterable<T>{
             throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
 
-        // Special case: single element list
-        if (size == 1) {
-            T data = head.getData();
-            head = null;
-            tail = null;
-            size = 0;
-            return data;
-        }
-
-        // Special case: remove head
-        if (index == 0) {
-            T data = head.getData();
-            head = head.getNext();
-            if (head != null) {
-                head.setPrevious(null);
-            } else {
-                tail = null;
-            }
-            size--;
-            return data;
-        }
-
-        // Special case: remove tail
-        if (index == size - 1) {
-            T data = tail.getData();
-            tail = tail.getPrevious();
-            tail.setNext(null);
-            size--;
-            return data;
-        }
-
-        // General case: middle element
-        DoublyLinkedNode<T> current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.getNext();
-        }
-
-        T data = current.getData();
-        current.getPrevious().setNext(current.getNext());
-        current.getNext().setPrevious(current.getPrevious());
-        size--;
-
-        return data;
+        DoublyLinkedNode<T> current = nodeAt(index);
+        unlink(current);
+        return current.getData();
     }
 
     /**
@@ -263,32 +232,166 @@ public class DoublyLinkedList<T> implements Iterable<T>{
      *
      * @return an iterator
      */
+    @Override
+    public Iterator<T> iterator() {
+        return new Cursor();
+    }
 
+    /**
+     * Returns an iterator that also tells the index of the last element
+     * returned and can remove it in O(1).
+     *
+     * @return a cursor positioned before the first element
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
 
+    /**
+     * Performs the action for each element, from head to tail.
+     *
+     * @param action the action to perform
+     */
     @Override
-    public Iterator<T> iterator() {
-        return new DoublyLinkedListIterator();
+    public void forEach(Consumer<? super T> action) {
+        for (DoublyLinkedNode<T> current = head; current != null; current = current.getNext()) {
+            action.accept(current.getData());
+        }
     }
 
     /**
-     * Clears the list.
+     * Copies the elements into an array, from head to tail.
+     *
+     * @param generator creates an array of the requested length, e.g. {@code String[]::new}
+     * @return the array
+     */
+    public T[] toArray(IntFunction<T[]> generator) {
+        T[] array = generator.apply(size);
+        int i = 0;
+        for (DoublyLinkedNode<T> current = head; current != null; current = current.getNext()) {
+            array[i++] = current.getData();
+        }
+        return array;
+    }
+
+    /**
+     * Copies the elements into a new {@link ArrayList}, from head to tail.
+     *
+     * @return the list
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Appends every element of the source at the end of the list.
+     *
+     * @param source the elements to add
      */
+    public void addAll(Iterable<? extends T> source) {
+        for (T data : source) {
+            addLast(data);
+        }
+    }
+
+    /**
+     * Removes every element matching the filter in a single pass.
+     *
+     * @param filter decides which elements to remove
+     * @return true if any element was removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        boolean removed = false;
+        DoublyLinkedNode<T> current = head;
+        while (current != null) {
+            DoublyLinkedNode<T> next = current.getNext();
+            if (filter.test(current.getData())) {
+                unlink(current);
+                removed = true;
+            }
+            current = next;
+        }
+        return removed;
+    }
 
+    /**
+     * Clears the list.
+     */
     public void clear() {
         head = null;
         tail = null;
         size = 0;
+        lastAccess = null;
+    }
+
+    public void setHead(DoublyLinkedNode<T> head) {
+        this.head = head;
+        lastAccess = null;
+    }
+
+    public void setTail(DoublyLinkedNode<T> tail) {
+        this.tail = tail;
+        lastAccess = null;
+    }
+
+    // Walks to the node at a valid index from the nearest known position
+    private DoublyLinkedNode<T> nodeAt(int index) {
+        DoublyLinkedNode<T> current;
+        int position;
+        Position<T> cached = lastAccess;
+        int fromTail = size - 1 - index;
+        if (cached != null && Math.abs(cached.index() - index) < Math.min(index, fromTail)) {
+            current = cached.node();
+            position = cached.index();
+        } else if (index <= fromTail) {
+            current = head;
+            position = 0;
+        } else {
+            current = tail;
+            position = size - 1;
+        }
+        while (position < index) {
+            current = current.getNext();
+            position++;
+        }
+        while (position > index) {
+            current = current.getPrevious();
+            position--;
+        }
+        return current;
+    }
+
+    private void unlink(DoublyLinkedNode<T> node) {
+        DoublyLinkedNode<T> previous = node.getPrevious();
+        DoublyLinkedNode<T> next = node.getNext();
+        if (previous == null) {
+            head = next;
+        } else {
+            previous.setNext(next);
+        }
+        if (next == null) {
+            tail = previous;
+        } else {
+            next.setPrevious(previous);
+        }
+        size--;
+        lastAccess = null;
     }
 
     /**
-     * Iterator implementation for DoublyLinkedList.
+     * Iterator over the list that knows the index of the element it last
+     * returned and can remove it without walking the list again.
      */
-    private class DoublyLinkedListIterator implements Iterator<T> {
-        private DoublyLinkedNode<T> current = head;
+    public class Cursor implements Iterator<T> {
+        private DoublyLinkedNode<T> next = head;
+        private DoublyLinkedNode<T> last;
+        private int index = -1;
 
         @Override
         public boolean hasNext() {
-            return current != null;
+            return next != null;
         }
 
         @Override
@@ -296,9 +399,32 @@ public class DoublyLinkedList<T> implements Iterable<T>{
             if (!hasNext()) {
                 throw new NoSuchElementException();
             }
-            T data = current.getData();
-            current = current.getNext();
-            return data;
+            last = next;
+            next = next.getNext();
+            index++;
+            return last.getData();
+        }
+
+        /**
+         * @return the index of the element last returned by {@link #next()}, -1 before the first call.
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Removes the element last returned by {@link #next()}.
+         *
+         * @throws IllegalStateException if next() was not called, or the element was already removed
+         */
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            unlink(last);
+            last = null;
+            index--;
         }
     }
 }
@@ -0,0 +1,369 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * A generic growable list backed by an array.
+ * <p>
+ * It offers the same operations as {@link DoublyLinkedList}, but keeps the
+ * elements in one contiguous array instead of a node per element: it uses
+ * less memory, iterates cache-friendly and reads any index in O(1). Adding at
+ * the end is amortized O(1); adding at the front and removing shift the
+ * elements after the position, so it suits read-mostly collections such as
+ * topics, interests and group members.
+ *
+ * @param <T> the type of elements stored in the list
+ */
+public class DynamicArrayList<T> implements Iterable<T> {
+
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final Object[] EMPTY = {};
+
+    private Object[] elements = EMPTY;
+    private int size;
+    // Bumped by every structural change so iterators can fail fast
+    private int modCount;
+
+    public DynamicArrayList() {
+    }
+
+    /**
+     * Creates an empty list with room for the given number of elements.
+     *
+     * @param capacity the initial capacity
+     */
+    public DynamicArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity: " + capacity);
+        }
+        elements = capacity == 0 ? EMPTY : new Object[capacity];
+    }
+
+    /**
+     * Adds an element at the beginning of the list.
+     *
+     * @param data the element to add
+     */
+    public void addFirst(T data) {
+        insertAt(0, data);
+    }
+
+    /**
+     * Adds an element at the end of the list.
+     *
+     * @param data the element to add
+     */
+    public void addLast(T data) {
+        ensureCapacity(size + 1);
+        elements[size++] = data;
+        modCount++;
+    }
+
+    /**
+     * Adds an element at the given index, shifting the following ones.
+     *
+     * @param index where the element goes, between 0 and the size
+     * @param data  the element to add
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void insertAt(int index, T data) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = data;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Appends every element of the source at the end of the list.
+     *
+     * @param source the elements to add
+     */
+    public void addAll(Iterable<? extends T> source) {
+        for (T data : source) {
+            addLast(data);
+        }
+    }
+
+    /**
+     * Removes the first occurrence of the specified element.
+     *
+     * @param data the element to remove
+     * @return true if the element was found and removed
+     */
+    public boolean remove(T data) {
+        int index = indexOf(data);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Removes the element at the specified index.
+     *
+     * @param index the index of the element to remove
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T removeAt(int index) {
+        checkIndex(index);
+        T data = elementAt(index);
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return data;
+    }
+
+    /**
+     * Removes every element matching the filter in a single pass.
+     *
+     * @param filter decides which elements to remove
+     * @return true if any element was removed
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            T data = elementAt(i);
+            if (!filter.test(data)) {
+                elements[kept++] = data;
+            }
+        }
+        if (kept == size) {
+            return false;
+        }
+        Arrays.fill(elements, kept, size, null);
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns the element at the specified index in O(1).
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return elementAt(index);
+    }
+
+    /**
+     * Replaces the element at the specified index.
+     *
+     * @return the element previously at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public T set(int index, T data) {
+        checkIndex(index);
+        T previous = elementAt(index);
+        elements[index] = data;
+        return previous;
+    }
+
+    /**
+     * Checks whether the list contains the specified element.
+     *
+     * @param data the element to search for
+     * @return true if found, false otherwise
+     */
+    public boolean contains(T data) {
+        return indexOf(data) >= 0;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified element.
+     *
+     * @param data the element to search for
+     * @return the index if found, or -1 otherwise
+     */
+    public int indexOf(T data) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[i], data)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Clears the list, keeping its capacity.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Performs the action for each element, in order.
+     *
+     * @param action the action to perform
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        int expected = modCount;
+        for (int i = 0; i < size; i++) {
+            action.accept(elementAt(i));
+        }
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Copies the elements into an array, in order.
+     *
+     * @param generator creates an array of the requested length, e.g. {@code String[]::new}
+     * @return the array
+     */
+    public T[] toArray(IntFunction<T[]> generator) {
+        T[] array = generator.apply(size);
+        System.arraycopy(elements, 0, array, 0, size);
+        return array;
+    }
+
+    /**
+     * Copies the elements into a new {@link ArrayList}, in order.
+     *
+     * @return the list
+     */
+    public List<T> toList() {
+        List<T> list = new ArrayList<>(size);
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Returns a string representation of the list in order.
+     *
+     * @return a string showing the elements in forward order
+     */
+    public String displayForward() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elements[i]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayIterator();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DynamicArrayList<?> other) || other.size != size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(elements[i], other.elements[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Objects.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + displayForward() + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    // Grows by half, like java.util.ArrayList, so appends stay amortized O(1)
+    private void ensureCapacity(int needed) {
+        if (needed > elements.length) {
+            int capacity = Math.max(needed, Math.max(DEFAULT_CAPACITY, elements.length + (elements.length >> 1)));
+            elements = Arrays.copyOf(elements, capacity);
+        }
+    }
+
+    /**
+     * Iterator over the list; its remove() shifts the following elements.
+     */
+    private class ArrayIterator implements Iterator<T> {
+        private int next;
+        private int last = -1;
+        private int expected = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expected) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return elementAt(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expected) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expected = modCount;
+        }
+    }
+}
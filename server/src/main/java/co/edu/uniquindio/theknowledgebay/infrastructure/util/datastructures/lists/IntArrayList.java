@@ -0,0 +1,156 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A growable list of {@code int}s backed by an {@code int[]}, for ids.
+ * <p>
+ * Unlike a list of {@link Integer}s it stores no object per element, so a
+ * list of n ids costs about 4n bytes and is read without unboxing.
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int[] EMPTY = {};
+
+    private int[] values = EMPTY;
+    private int size;
+
+    public IntArrayList() {
+    }
+
+    /**
+     * Creates an empty list with room for the given number of values.
+     *
+     * @param capacity the initial capacity
+     */
+    public IntArrayList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity: " + capacity);
+        }
+        values = capacity == 0 ? EMPTY : new int[capacity];
+    }
+
+    /**
+     * Creates a list holding a copy of the given values.
+     */
+    public static IntArrayList of(int... values) {
+        IntArrayList list = new IntArrayList(values.length);
+        System.arraycopy(values, 0, list.values, 0, values.length);
+        list.size = values.length;
+        return list;
+    }
+
+    /**
+     * Adds a value at the end of the list.
+     */
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, values.length + (values.length >> 1)));
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Replaces the value at an index.
+     *
+     * @return the value previously at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * Removes the value at an index, shifting the following ones.
+     *
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int value = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return value;
+    }
+
+    /**
+     * @return the index of the first occurrence of the value, or -1.
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    /**
+     * @return a copy of the values, in order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof IntArrayList other
+                && Arrays.equals(values, 0, size, other.values, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + values[i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
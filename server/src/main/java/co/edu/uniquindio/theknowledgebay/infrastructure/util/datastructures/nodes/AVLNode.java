@@ -0,0 +1,29 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A node in the AVL tree. Keeps a parent link so the tree can be
+ * rebalanced and traversed without recursion.
+ *
+ * @param <T> the type of data stored, must be Comparable.
+ */
+@Data
+@NoArgsConstructor
+public class AVLNode<T extends Comparable<T>> {
+    private T data;
+    private AVLNode<T> left;
+    private AVLNode<T> right;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private AVLNode<T> parent;
+    private int height;
+
+    public AVLNode(T data) {
+        this.data = data;
+        this.height = 1;
+    }
+}
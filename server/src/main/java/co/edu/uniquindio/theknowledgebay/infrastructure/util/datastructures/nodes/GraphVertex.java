@@ -3,10 +3,13 @@ package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nod
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * Represents a vertex in the undirected graph.
- * It stores the vertex data, a pointer to the first edge (adjacency list),
- * and a pointer to the next vertex in the graph's vertex list.
+ * It stores the vertex data and the set of adjacent vertices' data,
+ * so membership checks on the adjacency are O(1).
  *
  * @param <T> the type of data stored in the vertex.
  */
@@ -14,12 +17,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class GraphVertex<T> {
     private T data;
-    private GraphVertex<T> nextVertex;
-    private Edge<T> edgeList;
+    private Set<T> adjacent = new LinkedHashSet<>();
 
     public GraphVertex(T data) {
         this.data = data;
-        this.nextVertex = null;
-        this.edgeList = null;
     }
 }
@@ -1,20 +1,58 @@
 package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.queues;
 
-import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.Node;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
 /**
- * A generic priority queue implemented via a sorted singly linked list.
- * Lower values (per natural ordering) have higher priority.
+ * A generic priority queue backed by an array binary heap.
+ * Lower values (per natural ordering) have higher priority; elements that
+ * compare equal come out in insertion order.
+ * <p>
+ * When built with a key extractor the queue also keeps a key-to-slot index,
+ * so elements can be looked up in O(1) and removed or re-prioritized in
+ * O(log n) without draining the queue.
  *
  * @param <T> the type of elements held in this queue, must be Comparable
  */
-@Data
 @NoArgsConstructor
-public class PriorityQueue<T extends Comparable<T>> {
-    private Node<T> head;
+public class PriorityQueue<T extends Comparable<T>> implements Iterable<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Entry<T>[] heap = newArray(INITIAL_CAPACITY);
+    @Getter
     private int size;
+    private long insertions;
+    private int modCount;
+    private Function<? super T, ?> keyExtractor;
+    private Map<Object, Integer> slots;
+
+    private static final class Entry<T> {
+        private final T data;
+        private final long order;
+        private Object key;
+
+        private Entry(T data, long order) {
+            this.data = data;
+            this.order = order;
+        }
+    }
+
+    /**
+     * Creates a priority queue that indexes its elements by the given key.
+     *
+     * @param keyExtractor returns the unique key of an element, e.g. its id
+     */
+    public PriorityQueue(Function<? super T, ?> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+        this.slots = new HashMap<>();
+    }
 
     /**
      * Checks if the priority queue is empty.
@@ -22,29 +60,30 @@ public class PriorityQueue<T extends Comparable<T>> {
      * @return true if empty, false otherwise.
      */
     public boolean isEmpty() {
-        return head == null;
+        return size == 0;
     }
 
     /**
      * Inserts an element into the priority queue at the correct position.
+     * In a keyed queue an element whose key is already present replaces it.
      *
      * @param data the data to be inserted.
      */
     public void insert(T data) {
-        Node<T> newNode = new Node<>(data);
-        if (isEmpty() || head.getData().compareTo(data) > 0) {
-            // Insert at the beginning if empty or if new node has higher priority.
-            newNode.setNext(head);
-            head = newNode;
-        } else {
-            Node<T> current = head;
-            while (current.getNext() != null && current.getNext().getData().compareTo(data) <= 0) {
-                current = current.getNext();
-            }
-            newNode.setNext(current.getNext());
-            current.setNext(newNode);
+        Entry<T> entry = new Entry<>(data, insertions++);
+        if (keyExtractor != null) {
+            entry.key = keyExtractor.apply(data);
+            removeByKey(entry.key);
+        }
+        if (size == heap.length) {
+            Entry<T>[] grown = newArray(heap.length * 2);
+            System.arraycopy(heap, 0, grown, 0, size);
+            heap = grown;
         }
+        place(entry, size);
         size++;
+        siftUp(size - 1);
+        modCount++;
     }
 
     /**
@@ -57,10 +96,7 @@ public class PriorityQueue<T extends Comparable<T>> {
         if (isEmpty()) {
             throw new RuntimeException("PriorityQueue is empty");
         }
-        T data = head.getData();
-        head = head.getNext();
-        size--;
-        return data;
+        return removeAt(0);
     }
 
     /**
@@ -73,24 +109,183 @@ public class PriorityQueue<T extends Comparable<T>> {
         if (isEmpty()) {
             throw new RuntimeException("PriorityQueue is empty");
         }
-        return head.getData();
+        return heap[0].data;
     }
 
     /**
      * Removes all elements from the priority queue.
      */
     public void clear() {
-        head = null;
+        heap = newArray(INITIAL_CAPACITY);
         size = 0;
+        if (slots != null) {
+            slots.clear();
+        }
+        modCount++;
     }
 
     public T dequeue() {
-        if (isEmpty()) {
-            throw new RuntimeException("PriorityQueue is empty");
+        return poll();
+    }
+
+    /**
+     * Returns the element stored under the given key.
+     *
+     * @param key the element key
+     * @return the element, or null if absent or the queue is not keyed
+     */
+    public T get(Object key) {
+        Integer slot = slots != null ? slots.get(key) : null;
+        return slot != null ? heap[slot].data : null;
+    }
+
+    /**
+     * Checks if an element with the given key is present.
+     *
+     * @param key the element key
+     * @return true if present, false otherwise.
+     */
+    public boolean containsKey(Object key) {
+        return slots != null && slots.containsKey(key);
+    }
+
+    /**
+     * Removes the element stored under the given key.
+     *
+     * @param key the element key
+     * @return the removed element, or null if it was not present
+     */
+    public T removeByKey(Object key) {
+        Integer slot = slots != null ? slots.get(key) : null;
+        return slot != null ? removeAt(slot) : null;
+    }
+
+    /**
+     * Restores the heap order after the priority of a stored element changed
+     * in place (the element was mutated). Works for both increase and decrease.
+     *
+     * @param key the key of the changed element
+     * @return true if the element was found, false otherwise.
+     */
+    public boolean updatePriority(Object key) {
+        Integer slot = slots != null ? slots.get(key) : null;
+        if (slot == null) {
+            return false;
         }
-        T data = head.getData();
-        head = head.getNext();
+        siftDown(siftUp(slot));
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns an iterator over the elements in priority order without
+     * removing them. Only the heap positions reached so far are kept in a
+     * side heap, so reading the first k elements costs O(k log k).
+     *
+     * @return a non-destructive ordered iterator
+     * @throws ConcurrentModificationException on use after the queue changed
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private final java.util.PriorityQueue<Integer> frontier =
+                    new java.util.PriorityQueue<>((a, b) -> compare(heap[a], heap[b]));
+
+            {
+                if (size > 0) {
+                    frontier.add(0);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !frontier.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                Integer slot = frontier.poll();
+                if (slot == null) {
+                    throw new NoSuchElementException();
+                }
+                int left = 2 * slot + 1;
+                if (left < size) {
+                    frontier.add(left);
+                }
+                if (left + 1 < size) {
+                    frontier.add(left + 1);
+                }
+                return heap[slot].data;
+            }
+        };
+    }
+
+    private T removeAt(int slot) {
+        Entry<T> removed = heap[slot];
         size--;
-        return data;
+        if (slot != size) {
+            place(heap[size], slot);
+            heap[size] = null;
+            siftDown(siftUp(slot));
+        } else {
+            heap[size] = null;
+        }
+        if (slots != null) {
+            slots.remove(removed.key);
+        }
+        modCount++;
+        return removed.data;
+    }
+
+    private int siftUp(int slot) {
+        Entry<T> entry = heap[slot];
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (compare(entry, heap[parent]) >= 0) {
+                break;
+            }
+            place(heap[parent], slot);
+            slot = parent;
+        }
+        place(entry, slot);
+        return slot;
+    }
+
+    private void siftDown(int slot) {
+        Entry<T> entry = heap[slot];
+        int half = size / 2;
+        while (slot < half) {
+            int child = 2 * slot + 1;
+            if (child + 1 < size && compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (compare(entry, heap[child]) <= 0) {
+                break;
+            }
+            place(heap[child], slot);
+            slot = child;
+        }
+        place(entry, slot);
+    }
+
+    private void place(Entry<T> entry, int slot) {
+        heap[slot] = entry;
+        if (slots != null) {
+            slots.put(entry.key, slot);
+        }
+    }
+
+    private int compare(Entry<T> a, Entry<T> b) {
+        int cmp = a.data.compareTo(b.data);
+        return cmp != 0 ? cmp : Long.compare(a.order, b.order);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Entry<T>[] newArray(int capacity) {
+        return (Entry<T>[]) new Entry[capacity];
     }
 }
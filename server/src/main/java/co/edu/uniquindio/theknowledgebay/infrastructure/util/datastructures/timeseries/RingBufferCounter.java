@@ -0,0 +1,108 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.timeseries;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size time series of counters, one per time bucket (e.g. a day or a
+ * week, numbered consecutively), kept in a circular array.
+ * <p>
+ * Bucket {@code b} lives in slot {@code b % capacity}, and each slot
+ * remembers which bucket it currently holds, so a slot is recycled lazily the
+ * first time a newer bucket maps to it. Only the last {@code capacity}
+ * buckets up to the newest one written are kept; writes to older buckets are
+ * ignored. Updates are O(1) and reading a range is O(buckets in the range).
+ * Not thread-safe.
+ */
+public class RingBufferCounter {
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private final int[] bucketIds;
+    private final int[] counts;
+    @Getter
+    private int latest = EMPTY;
+
+    /**
+     * @param capacity how many consecutive buckets are kept
+     */
+    public RingBufferCounter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        bucketIds = new int[capacity];
+        counts = new int[capacity];
+        Arrays.fill(bucketIds, EMPTY);
+    }
+
+    public int capacity() {
+        return counts.length;
+    }
+
+    /**
+     * Adds a delta to the counter of a bucket.
+     *
+     * @return false if the bucket is older than the kept history and was ignored
+     */
+    public boolean add(int bucket, int delta) {
+        if (latest != EMPTY && bucket <= latest - counts.length) {
+            return false;
+        }
+        if (latest == EMPTY || bucket > latest) {
+            latest = bucket;
+        }
+        int slot = slotOf(bucket);
+        // Any other id in this slot is at least one full turn older, so it can be dropped
+        if (bucketIds[slot] != bucket) {
+            bucketIds[slot] = bucket;
+            counts[slot] = 0;
+        }
+        counts[slot] += delta;
+        return true;
+    }
+
+    /**
+     * @return the count of a bucket, 0 if nothing was recorded or it fell out of the history
+     */
+    public int get(int bucket) {
+        if (latest == EMPTY || bucket <= latest - counts.length) {
+            return 0;
+        }
+        int slot = slotOf(bucket);
+        return bucketIds[slot] == bucket ? counts[slot] : 0;
+    }
+
+    /**
+     * Sums the buckets from {@code from} to {@code to}, both included.
+     */
+    public int sum(int from, int to) {
+        int total = 0;
+        for (int bucket = from; bucket <= to; bucket++) {
+            total += get(bucket);
+        }
+        return total;
+    }
+
+    /**
+     * Copies the buckets from {@code from} to {@code to}, both included, into
+     * an array with one entry per bucket.
+     */
+    public int[] range(int from, int to) {
+        int[] result = new int[Math.max(0, to - from + 1)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(from + i);
+        }
+        return result;
+    }
+
+    public void clear() {
+        Arrays.fill(bucketIds, EMPTY);
+        Arrays.fill(counts, 0);
+        latest = EMPTY;
+    }
+
+    private int slotOf(int bucket) {
+        return Math.floorMod(bucket, counts.length);
+    }
+}
@@ -0,0 +1,305 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.AVLNode;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A self-balancing (AVL) binary search tree. Insert, search and remove are
+ * iterative and O(log n) regardless of insertion order, so sequential keys
+ * do not degrade it into a list the way they do a plain BST.
+ *
+ * @param <T> the type of elements stored in the tree, must be Comparable.
+ */
+@Data
+@NoArgsConstructor
+public class AVLTree<T extends Comparable<T>> implements Iterable<T> {
+    private AVLNode<T> root;
+    private int size;
+
+    /**
+     * Inserts a new element into the tree. Duplicates are ignored.
+     *
+     * @param data the data to insert.
+     */
+    public void insert(T data) {
+        if (root == null) {
+            root = new AVLNode<>(data);
+            size++;
+            return;
+        }
+        AVLNode<T> current = root;
+        AVLNode<T> parent = null;
+        int cmp = 0;
+        while (current != null) {
+            parent = current;
+            cmp = data.compareTo(current.getData());
+            if (cmp < 0) {
+                current = current.getLeft();
+            } else if (cmp > 0) {
+                current = current.getRight();
+            } else {
+                return;
+            }
+        }
+        AVLNode<T> newNode = new AVLNode<>(data);
+        newNode.setParent(parent);
+        if (cmp < 0) {
+            parent.setLeft(newNode);
+        } else {
+            parent.setRight(newNode);
+        }
+        size++;
+        rebalanceFrom(parent);
+    }
+
+    /**
+     * Checks if the tree contains a specific element.
+     *
+     * @param data the element to search for.
+     * @return true if found, false otherwise.
+     */
+    public boolean contains(T data) {
+        return findNode(data) != null;
+    }
+
+    /**
+     * Searches for a specific element in the tree and returns it.
+     *
+     * @param data the element to search for.
+     * @return the element if found, null otherwise.
+     */
+    public T search(T data) {
+        AVLNode<T> node = findNode(data);
+        return node != null ? node.getData() : null;
+    }
+
+    /**
+     * Removes an element from the tree.
+     *
+     * @param data the element to remove.
+     */
+    public void remove(T data) {
+        removeAndCheck(data);
+    }
+
+    /**
+     * Removes an element from the tree.
+     *
+     * @param data the element to remove.
+     * @return true if the element was present, false otherwise.
+     */
+    public boolean removeAndCheck(T data) {
+        AVLNode<T> node = findNode(data);
+        if (node == null) {
+            return false;
+        }
+        if (node.getLeft() != null && node.getRight() != null) {
+            // Two children: move the in-order successor's data here and unlink the successor instead
+            AVLNode<T> successor = minNode(node.getRight());
+            node.setData(successor.getData());
+            node = successor;
+        }
+        AVLNode<T> child = node.getLeft() != null ? node.getLeft() : node.getRight();
+        AVLNode<T> parent = node.getParent();
+        if (child != null) {
+            child.setParent(parent);
+        }
+        replaceChild(parent, node, child);
+        size--;
+        rebalanceFrom(parent);
+        return true;
+    }
+
+    /**
+     * Checks if the tree is empty.
+     *
+     * @return true if the tree is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the height of the tree (0 when empty).
+     *
+     * @return the height of the root node.
+     */
+    public int getHeight() {
+        return height(root);
+    }
+
+    /**
+     * Removes all elements from the tree.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Performs an in-order traversal and adds all elements to the provided list.
+     *
+     * @param list the list to add elements to.
+     */
+    public void inOrderTraversal(DoublyLinkedList<T> list) {
+        for (T data : this) {
+            list.addLast(data);
+        }
+    }
+
+    /**
+     * Returns an in-order traversal of the tree as a String.
+     *
+     * @return a string representing the in-order traversal.
+     */
+    public String inOrder() {
+        StringBuilder sb = new StringBuilder();
+        for (T data : this) {
+            sb.append(data).append(" ");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns an iterator over the elements in ascending order.
+     *
+     * @return an in-order iterator.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private AVLNode<T> next = root != null ? minNode(root) : null;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T data = next.getData();
+                next = successor(next);
+                return data;
+            }
+        };
+    }
+
+    private AVLNode<T> findNode(T data) {
+        AVLNode<T> current = root;
+        while (current != null) {
+            int cmp = data.compareTo(current.getData());
+            if (cmp < 0) {
+                current = current.getLeft();
+            } else if (cmp > 0) {
+                current = current.getRight();
+            } else {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    private AVLNode<T> minNode(AVLNode<T> node) {
+        AVLNode<T> current = node;
+        while (current.getLeft() != null) {
+            current = current.getLeft();
+        }
+        return current;
+    }
+
+    private AVLNode<T> successor(AVLNode<T> node) {
+        if (node.getRight() != null) {
+            return minNode(node.getRight());
+        }
+        AVLNode<T> current = node;
+        AVLNode<T> parent = node.getParent();
+        while (parent != null && current == parent.getRight()) {
+            current = parent;
+            parent = parent.getParent();
+        }
+        return parent;
+    }
+
+    // Walks up from the given node fixing heights and rotating where the balance factor exceeds 1
+    private void rebalanceFrom(AVLNode<T> node) {
+        AVLNode<T> current = node;
+        while (current != null) {
+            updateHeight(current);
+            int balance = balance(current);
+            if (balance > 1) {
+                if (balance(current.getLeft()) < 0) {
+                    rotateLeft(current.getLeft());
+                }
+                current = rotateRight(current);
+            } else if (balance < -1) {
+                if (balance(current.getRight()) > 0) {
+                    rotateRight(current.getRight());
+                }
+                current = rotateLeft(current);
+            }
+            current = current.getParent();
+        }
+    }
+
+    private AVLNode<T> rotateRight(AVLNode<T> node) {
+        AVLNode<T> pivot = node.getLeft();
+        AVLNode<T> moved = pivot.getRight();
+        node.setLeft(moved);
+        if (moved != null) {
+            moved.setParent(node);
+        }
+        pivot.setParent(node.getParent());
+        replaceChild(node.getParent(), node, pivot);
+        pivot.setRight(node);
+        node.setParent(pivot);
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    private AVLNode<T> rotateLeft(AVLNode<T> node) {
+        AVLNode<T> pivot = node.getRight();
+        AVLNode<T> moved = pivot.getLeft();
+        node.setRight(moved);
+        if (moved != null) {
+            moved.setParent(node);
+        }
+        pivot.setParent(node.getParent());
+        replaceChild(node.getParent(), node, pivot);
+        pivot.setLeft(node);
+        node.setParent(pivot);
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    private void replaceChild(AVLNode<T> parent, AVLNode<T> oldChild, AVLNode<T> newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.getLeft() == oldChild) {
+            parent.setLeft(newChild);
+        } else {
+            parent.setRight(newChild);
+        }
+    }
+
+    private int height(AVLNode<T> node) {
+        return node == null ? 0 : node.getHeight();
+    }
+
+    private int balance(AVLNode<T> node) {
+        return node == null ? 0 : height(node.getLeft()) - height(node.getRight());
+    }
+
+    private void updateHeight(AVLNode<T> node) {
+        node.setHeight(1 + Math.max(height(node.getLeft()), height(node.getRight())));
+    }
+}
@@ -0,0 +1,263 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * An AVL tree whose nodes also store the size of their subtree, so elements
+ * can be found by rank. Insert, remove, {@link #select(int)} and
+ * {@link #rank(Object)} are O(log n), and a page of {@code limit} elements
+ * starting at any rank is read in O(log n + limit).
+ * <p>
+ * Elements are ordered by the comparator given at construction; elements
+ * that compare equal are treated as duplicates and stored once.
+ *
+ * @param <T> the type of elements stored in the tree.
+ */
+public class OrderStatisticTree<T> {
+
+    private static final class Node<T> {
+        private final T data;
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+        private int size = 1;
+
+        private Node(T data) {
+            this.data = data;
+        }
+    }
+
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+    private boolean changed;
+
+    public OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Inserts an element.
+     *
+     * @return false if an equal element was already present.
+     */
+    public boolean insert(T data) {
+        changed = false;
+        root = insert(root, data);
+        return changed;
+    }
+
+    /**
+     * Removes the element equal to the given one.
+     *
+     * @return true if an element was removed.
+     */
+    public boolean remove(T data) {
+        changed = false;
+        root = remove(root, data);
+        return changed;
+    }
+
+    /**
+     * Returns the element at a rank, 0 being the smallest.
+     *
+     * @throws IndexOutOfBoundsException if the rank is not below the size.
+     */
+    public T select(int rank) {
+        if (rank < 0 || rank >= size()) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of " + size());
+        }
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank > leftSize) {
+                rank -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.data;
+            }
+        }
+    }
+
+    /**
+     * @return how many elements are smaller than the given one.
+     */
+    public int rank(T data) {
+        int rank = 0;
+        Node<T> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(data, node.data);
+            if (cmp <= 0) {
+                node = node.left;
+            } else {
+                rank += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns up to {@code limit} elements in order, starting at a rank.
+     *
+     * @param offset the rank of the first element.
+     * @param limit  the maximum number of elements.
+     * @return the elements, empty if the offset is past the end.
+     */
+    public List<T> page(int offset, int limit) {
+        if (offset < 0 || limit <= 0 || offset >= size()) {
+            return new ArrayList<>();
+        }
+        List<T> result = new ArrayList<>(Math.min(limit, size() - offset));
+        // Descend to the element at the offset, stacking the ancestors still to be visited
+        Deque<Node<T>> pending = new ArrayDeque<>();
+        Node<T> node = root;
+        int rank = offset;
+        while (node != null) {
+            int leftSize = sizeOf(node.left);
+            if (rank < leftSize) {
+                pending.push(node);
+                node = node.left;
+            } else if (rank > leftSize) {
+                rank -= leftSize + 1;
+                node = node.right;
+            } else {
+                pending.push(node);
+                break;
+            }
+        }
+        // Regular in-order walk from there
+        while (!pending.isEmpty() && result.size() < limit) {
+            Node<T> next = pending.pop();
+            result.add(next.data);
+            for (Node<T> child = next.right; child != null; child = child.left) {
+                pending.push(child);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public int getHeight() {
+        return heightOf(root);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    private Node<T> insert(Node<T> node, T data) {
+        if (node == null) {
+            changed = true;
+            return new Node<>(data);
+        }
+        int cmp = comparator.compare(data, node.data);
+        if (cmp < 0) {
+            node.left = insert(node.left, data);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, data);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    private Node<T> remove(Node<T> node, T data) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(data, node.data);
+        if (cmp < 0) {
+            node.left = remove(node.left, data);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, data);
+        } else {
+            changed = true;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Replace with the smallest element of the right subtree
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node<T> replacement = new Node<>(successor.data);
+            replacement.right = removeMin(node.right);
+            replacement.left = node.left;
+            return balance(replacement);
+        }
+        return balance(node);
+    }
+
+    private Node<T> removeMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private Node<T> balance(Node<T> node) {
+        update(node);
+        int factor = heightOf(node.left) - heightOf(node.right);
+        if (factor > 1) {
+            if (heightOf(node.left.left) < heightOf(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (heightOf(node.right.right) < heightOf(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.height = 1 + Math.max(heightOf(node.left), heightOf(node.right));
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+}
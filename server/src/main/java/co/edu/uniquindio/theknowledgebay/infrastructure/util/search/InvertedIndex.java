@@ -0,0 +1,285 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.search;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.IntArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * An in-memory inverted index over short documents, ranked with BM25.
+ * <p>
+ * Every document gets an internal number in the order it was indexed. Each
+ * term keeps a posting list of (document number, term frequency) pairs,
+ * stored as delta-encoded variable-length ints in a byte array: a posting
+ * usually takes two or three bytes. Numbers only grow, so indexing a
+ * document appends to the end of its terms' lists.
+ * <p>
+ * Removing or replacing a document only marks its number as dead; a dead
+ * document is skipped when the postings are read, and its number is never
+ * reused. Once dead numbers outnumber live ones, every list is rewritten
+ * without them. Until then the document frequencies used for IDF still count
+ * dead documents, which only changes scores slightly.
+ * <p>
+ * Not thread-safe. Searching does not modify the index, so concurrent
+ * searches are safe when no writer is active.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_DEAD_TO_COMPACT = 64;
+
+    /**
+     * A piece of text to index; each of its terms counts {@code weight} times.
+     */
+    public record Field(String text, int weight) {
+    }
+
+    public record Hit(int id, double score) {
+    }
+
+    /**
+     * A page of hits, best first, and how many documents matched in total.
+     */
+    public record Result(int total, List<Hit> hits) {
+    }
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Integer, Integer> numberOf = new HashMap<>();
+    private IntArrayList ids = new IntArrayList();
+    private IntArrayList lengths = new IntArrayList();
+    private BitSet live = new BitSet();
+    private long liveLength;
+
+    /**
+     * Indexes a document, replacing the previous version with the same id.
+     *
+     * @param id     the document id, e.g. a content id
+     * @param fields the document text
+     */
+    public void put(int id, Field... fields) {
+        remove(id);
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (Field field : fields) {
+            for (String term : TextAnalyzer.analyze(field.text())) {
+                frequencies.merge(term, field.weight(), Integer::sum);
+                length += field.weight();
+            }
+        }
+        int number = ids.size();
+        ids.add(id);
+        lengths.add(length);
+        live.set(number);
+        numberOf.put(id, number);
+        liveLength += length;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new Postings()).append(number, entry.getValue());
+        }
+    }
+
+    /**
+     * @return true if the document was indexed.
+     */
+    public boolean remove(int id) {
+        Integer number = numberOf.remove(id);
+        if (number == null) {
+            return false;
+        }
+        live.clear(number);
+        liveLength -= lengths.get(number);
+        int dead = ids.size() - numberOf.size();
+        if (dead >= MIN_DEAD_TO_COMPACT && dead > numberOf.size()) {
+            compact();
+        }
+        return true;
+    }
+
+    /**
+     * Ranks the documents matching any term of the query with BM25.
+     *
+     * @param query  free text, analyzed like the documents
+     * @param offset how many of the best hits to skip
+     * @param limit  the maximum number of hits to return
+     */
+    public Result search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        int documents = numberOf.size();
+        if (terms.isEmpty() || documents == 0) {
+            return new Result(0, new ArrayList<>());
+        }
+        double averageLength = Math.max(1.0, (double) liveLength / documents);
+        float[] scores = new float[ids.size()];
+        BitSet matched = new BitSet(ids.size());
+        IntArrayList matches = new IntArrayList();
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            int df = Math.min(list.documents, documents);
+            double idf = Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+            Reader reader = new Reader(list);
+            while (reader.next()) {
+                int number = reader.number;
+                if (!live.get(number)) {
+                    continue;
+                }
+                int frequency = reader.frequency;
+                double norm = K1 * (1 - B + B * lengths.get(number) / averageLength);
+                scores[number] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                if (!matched.get(number)) {
+                    matched.set(number);
+                    matches.add(number);
+                }
+            }
+        }
+        int total = matches.size();
+        if (offset < 0 || limit <= 0 || offset >= total) {
+            return new Result(total, new ArrayList<>());
+        }
+        // Keep the best offset + limit in a min-heap; ties go to the older document
+        int wanted = (int) Math.min((long) offset + limit, total);
+        PriorityQueue<Integer> best = new PriorityQueue<>(wanted, (a, b) -> scores[a] != scores[b]
+                ? Float.compare(scores[a], scores[b]) : Integer.compare(b, a));
+        for (int i = 0; i < total; i++) {
+            best.add(matches.get(i));
+            if (best.size() > wanted) {
+                best.poll();
+            }
+        }
+        Hit[] ranked = new Hit[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            int number = best.poll();
+            ranked[i] = new Hit(ids.get(number), scores[number]);
+        }
+        return new Result(total, new ArrayList<>(List.of(ranked).subList(offset, ranked.length)));
+    }
+
+    /**
+     * @return how many documents are indexed.
+     */
+    public int size() {
+        return numberOf.size();
+    }
+
+    /**
+     * @return how many distinct terms have postings, including terms of dead documents.
+     */
+    public int getTermCount() {
+        return postings.size();
+    }
+
+    public void clear() {
+        postings.clear();
+        numberOf.clear();
+        ids = new IntArrayList();
+        lengths = new IntArrayList();
+        live = new BitSet();
+        liveLength = 0;
+    }
+
+    // Renumbers the live documents densely and rewrites every posting list without the dead ones
+    private void compact() {
+        int[] renumbered = new int[ids.size()];
+        IntArrayList compactIds = new IntArrayList(numberOf.size());
+        IntArrayList compactLengths = new IntArrayList(numberOf.size());
+        for (int number = 0; number < ids.size(); number++) {
+            if (live.get(number)) {
+                renumbered[number] = compactIds.size();
+                compactIds.add(ids.get(number));
+                compactLengths.add(lengths.get(number));
+            } else {
+                renumbered[number] = -1;
+            }
+        }
+        postings.entrySet().removeIf(entry -> {
+            Postings compacted = entry.getValue().without(renumbered);
+            entry.setValue(compacted);
+            return compacted.documents == 0;
+        });
+        for (Map.Entry<Integer, Integer> entry : numberOf.entrySet()) {
+            entry.setValue(renumbered[entry.getValue()]);
+        }
+        ids = compactIds;
+        lengths = compactLengths;
+        live = new BitSet(compactIds.size());
+        live.set(0, compactIds.size());
+    }
+
+    // Delta + varint encoded (document number, frequency) pairs, in number order
+    private static final class Postings {
+        private byte[] data = new byte[8];
+        private int length;
+        private int last = -1;
+        private int documents;
+
+        void append(int number, int frequency) {
+            writeVarInt(number - last);
+            writeVarInt(frequency);
+            last = number;
+            documents++;
+        }
+
+        Postings without(int[] renumbered) {
+            Postings compacted = new Postings();
+            Reader reader = new Reader(this);
+            while (reader.next()) {
+                if (renumbered[reader.number] >= 0) {
+                    compacted.append(renumbered[reader.number], reader.frequency);
+                }
+            }
+            return compacted;
+        }
+
+        private void writeVarInt(int value) {
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+
+    // Decodes a posting list one pair at a time, without allocating per posting
+    private static final class Reader {
+        private final Postings list;
+        private int position;
+        private int number = -1;
+        private int frequency;
+
+        Reader(Postings list) {
+            this.list = list;
+        }
+
+        boolean next() {
+            if (position >= list.length) {
+                return false;
+            }
+            number += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = list.data[position++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package co.edu.uniquindio.theknowledgebay.infrastructure.util.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into search terms: lower-cased, with accents folded (so
+ * "análisis" and "analisis" match, and "ñ" matches "n"), split on anything
+ * that is not a letter or digit, dropping one-character tokens and common
+ * Spanish and English stop words.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            // Spanish, already accent-folded
+            "de", "la", "que", "el", "en", "los", "se", "del", "las", "un", "por", "con", "no", "una",
+            "su", "para", "es", "al", "lo", "como", "mas", "pero", "sus", "le", "ya", "este", "si",
+            "porque", "esta", "entre", "cuando", "muy", "sin", "sobre", "tambien", "me", "hay", "donde",
+            "desde", "todo", "nos", "durante", "uno", "ni", "ese", "eso", "otro", "y", "o",
+            // English
+            "the", "and", "of", "to", "in", "is", "it", "for", "on", "that", "with", "as", "are", "be",
+            "this", "an", "by", "or", "at", "from");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * @return the terms of the text, in order and with repeats; empty for null text.
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        String folded = fold(text);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String term = folded.substring(start, i);
+                if (term.length() > 1 && !STOP_WORDS.contains(term)) {
+                    terms.add(term);
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Lower-cases the text and strips its diacritics.
+     */
+    public static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
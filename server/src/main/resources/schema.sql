@@ -1,6 +1,6 @@
 -- Estudiantes
 CREATE TABLE IF NOT EXISTS students (
-                                        id INTEGER PRIMARY KEY AUTOINCREMENT,
+                                        id TEXT PRIMARY KEY,
                                         username TEXT NOT NULL UNIQUE,
                                         email TEXT NOT NULL UNIQUE,
                                         password TEXT NOT NULL,
@@ -11,16 +11,25 @@ CREATE TABLE IF NOT EXISTS students (
 );
 
 CREATE TABLE IF NOT EXISTS students_interests (
-                                                student_id INTEGER,
-                                                interest_id INTEGER,
+                                                student_id TEXT,
+                                                interest_id TEXT,
                                                 PRIMARY KEY (student_id, interest_id),
                                                 FOREIGN KEY (student_id) REFERENCES students(id),
                                                 FOREIGN KEY (interest_id) REFERENCES interests(id_interest)
 );
 
+-- Seguidores entre estudiantes
+CREATE TABLE IF NOT EXISTS follows (
+                                       follower_id TEXT,
+                                       followed_id TEXT,
+                                       PRIMARY KEY (follower_id, followed_id),
+                                       FOREIGN KEY (follower_id) REFERENCES students(id),
+                                       FOREIGN KEY (followed_id) REFERENCES students(id)
+);
+
 -- Intereses
 CREATE TABLE IF NOT EXISTS interests (
-                                         id_interest INTEGER PRIMARY KEY AUTOINCREMENT,
+                                         id_interest TEXT PRIMARY KEY,
                                          name TEXT NOT NULL UNIQUE
 );
 
@@ -28,7 +37,7 @@ CREATE TABLE IF NOT EXISTS interests (
 CREATE TABLE IF NOT EXISTS comments (
                                         comment_id INTEGER PRIMARY KEY AUTOINCREMENT,
                                         text TEXT NOT NULL,
-                                        author_id INTEGER NOT NULL,
+                                        author_id TEXT NOT NULL,
                                         date DATE NOT NULL,
                                         FOREIGN KEY (author_id) REFERENCES students(id)
 );
@@ -37,8 +46,9 @@ CREATE TABLE IF NOT EXISTS comments (
 CREATE TABLE IF NOT EXISTS contents (
                                         content_id INTEGER PRIMARY KEY AUTOINCREMENT,
                                         title TEXT NOT NULL,
+                                        content_type TEXT,
                                         information TEXT NOT NULL,
-                                        author_id INTEGER NOT NULL,
+                                        author_id TEXT NOT NULL,
                                         like_count INTEGER DEFAULT 0,
                                         date DATE NOT NULL,
                                         FOREIGN KEY (author_id) REFERENCES students(id)
@@ -47,7 +57,7 @@ CREATE TABLE IF NOT EXISTS contents (
 -- Temas de un contenido (muchos-a-muchos)
 CREATE TABLE IF NOT EXISTS content_topics (
                                               content_id INTEGER,
-                                              interest_id INTEGER,
+                                              interest_id TEXT,
                                               PRIMARY KEY (content_id, interest_id),
                                               FOREIGN KEY (content_id) REFERENCES contents(content_id),
                                               FOREIGN KEY (interest_id) REFERENCES interests(id_interest)
@@ -56,7 +66,7 @@ CREATE TABLE IF NOT EXISTS content_topics (
 -- Likes de estudiantes a contenidos
 CREATE TABLE IF NOT EXISTS content_likes (
                                              content_id INTEGER,
-                                             student_id INTEGER,
+                                             student_id TEXT,
                                              PRIMARY KEY (content_id, student_id),
                                              FOREIGN KEY (content_id) REFERENCES contents(content_id),
                                              FOREIGN KEY (student_id) REFERENCES students(id)
@@ -76,7 +86,7 @@ CREATE TABLE IF NOT EXISTS help_requests (
                                              request_id INTEGER PRIMARY KEY AUTOINCREMENT,
                                              information TEXT NOT NULL,
                                              urgency TEXT NOT NULL,
-                                             student_id INTEGER NOT NULL,
+                                             student_id TEXT NOT NULL,
                                              is_completed INTEGER NOT NULL,
                                              request_date DATE NOT NULL,
                                              FOREIGN KEY (student_id) REFERENCES students(id)
@@ -85,7 +95,7 @@ CREATE TABLE IF NOT EXISTS help_requests (
 -- Temas de los pedidos
 CREATE TABLE IF NOT EXISTS help_request_topics (
                                                    request_id INTEGER,
-                                                   interest_id INTEGER,
+                                                   interest_id TEXT,
                                                    PRIMARY KEY (request_id, interest_id),
                                                    FOREIGN KEY (request_id) REFERENCES help_requests(request_id),
                                                    FOREIGN KEY (interest_id) REFERENCES interests(id_interest)
@@ -104,7 +114,7 @@ CREATE TABLE IF NOT EXISTS help_request_comments (
 CREATE TABLE IF NOT EXISTS study_groups (
                                             group_id INTEGER PRIMARY KEY AUTOINCREMENT,
                                             name TEXT NOT NULL,
-                                            topic_id INTEGER,
+                                            topic_id TEXT,
                                             date DATE NOT NULL,
                                             hidden INTEGER NOT NULL,
                                             FOREIGN KEY (topic_id) REFERENCES interests(id_interest)
@@ -113,7 +123,7 @@ CREATE TABLE IF NOT EXISTS study_groups (
 -- Miembros del grupo
 CREATE TABLE IF NOT EXISTS study_group_members (
                                                    group_id INTEGER,
-                                                   student_id INTEGER,
+                                                   student_id TEXT,
                                                    PRIMARY KEY (group_id, student_id),
                                                    FOREIGN KEY (group_id) REFERENCES study_groups(group_id),
                                                    FOREIGN KEY (student_id) REFERENCES students(id)
@@ -140,8 +150,8 @@ CREATE TABLE IF NOT EXISTS study_group_help_requests (
 -- Chats entre estudiantes
 CREATE TABLE IF NOT EXISTS chats (
                                      chat_id INTEGER PRIMARY KEY AUTOINCREMENT,
-                                     student_a_id INTEGER NOT NULL,
-                                     student_b_id INTEGER NOT NULL,
+                                     student_a_id TEXT NOT NULL,
+                                     student_b_id TEXT NOT NULL,
                                      FOREIGN KEY (student_a_id) REFERENCES students(id),
                                      FOREIGN KEY (student_b_id) REFERENCES students(id)
 );
@@ -150,7 +160,7 @@ CREATE TABLE IF NOT EXISTS chats (
 CREATE TABLE IF NOT EXISTS messages (
                                         message_id INTEGER PRIMARY KEY AUTOINCREMENT,
                                         text TEXT NOT NULL,
-                                        sender_id INTEGER NOT NULL,
+                                        sender_id TEXT NOT NULL,
                                         timestamp DATETIME NOT NULL,
                                         chat_id INTEGER NOT NULL,
                                         FOREIGN KEY (sender_id) REFERENCES students(id),
@@ -0,0 +1,93 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees.AVLTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AVLTreeTest {
+
+    private AVLTree<Integer> tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new AVLTree<>();
+    }
+
+    @Test
+    void testSequentialInsertStaysBalanced() {
+        int n = 100_000;
+        for (int i = 1; i <= n; i++) {
+            tree.insert(i);
+        }
+        assertEquals(n, tree.getSize());
+        // AVL height bound: 1.44 * log2(n + 2)
+        assertTrue(tree.getHeight() <= 1.45 * (Math.log(n + 2) / Math.log(2)));
+        assertEquals(50_000, tree.search(50_000));
+        assertNull(tree.search(n + 1));
+    }
+
+    @Test
+    void testDuplicatesAreIgnored() {
+        tree.insert(5);
+        tree.insert(5);
+        assertEquals(1, tree.getSize());
+    }
+
+    @Test
+    void testRemove() {
+        for (int i = 1; i <= 10; i++) {
+            tree.insert(i);
+        }
+        assertTrue(tree.removeAndCheck(4));
+        assertFalse(tree.removeAndCheck(4));
+        assertFalse(tree.contains(4));
+        assertEquals(9, tree.getSize());
+        tree.remove(1);
+        tree.remove(10);
+        assertEquals("2 3 5 6 7 8 9 ", tree.inOrder());
+    }
+
+    @Test
+    void testRandomOperationsKeepOrderAndBalance() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                tree.insert(value);
+                if (!expected.contains(value)) {
+                    expected.add(value);
+                }
+            } else {
+                assertEquals(expected.remove((Integer) value), tree.removeAndCheck(value));
+            }
+        }
+        Collections.sort(expected);
+
+        DoublyLinkedList<Integer> traversal = new DoublyLinkedList<>();
+        tree.inOrderTraversal(traversal);
+        List<Integer> actual = new ArrayList<>();
+        for (Integer value : traversal) {
+            actual.add(value);
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), tree.getSize());
+        assertTrue(tree.getHeight() <= 1.45 * (Math.log(expected.size() + 2) / Math.log(2)));
+    }
+
+    @Test
+    void testEmptyTree() {
+        assertTrue(tree.isEmpty());
+        assertNull(tree.search(1));
+        assertFalse(tree.iterator().hasNext());
+        assertEquals(0, tree.getHeight());
+    }
+}
@@ -0,0 +1,87 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.UndirectedGraph;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AffinityGraphTest {
+
+    private static final int STUDENTS = 25;
+
+    private TheKnowledgeBay theKnowledgeBay;
+
+    @BeforeEach
+    void setUp() {
+        theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        for (int i = 0; i < STUDENTS; i++) {
+            theKnowledgeBay.addStudent(Student.builder().id("s" + i).username("student" + i).build());
+        }
+        theKnowledgeBay.initializeAffinityGraph();
+    }
+
+    @AfterEach
+    void tearDown() {
+        theKnowledgeBay.getUsers().clear();
+    }
+
+    private Set<String> edges(UndirectedGraph<String> graph) {
+        Set<String> edges = new TreeSet<>();
+        for (String source : graph.getVertices()) {
+            for (String target : graph.getNeighbors(source)) {
+                edges.add(source.compareTo(target) < 0 ? source + "|" + target : target + "|" + source);
+            }
+        }
+        return edges;
+    }
+
+    @Test
+    void testMutualFollowCreatesAndRemovesEdge() {
+        theKnowledgeBay.followUser("s1", "s2");
+        assertFalse(theKnowledgeBay.getAffinityGraph().edgeExists("s1", "s2"));
+
+        theKnowledgeBay.followUser("s2", "s1");
+        assertTrue(theKnowledgeBay.getAffinityGraph().edgeExists("s1", "s2"));
+
+        theKnowledgeBay.unfollowUser("s1", "s2");
+        assertFalse(theKnowledgeBay.getAffinityGraph().edgeExists("s1", "s2"));
+    }
+
+    @Test
+    void testIncrementalGraphMatchesFullRebuild() {
+        for (long seed = 1; seed <= 5; seed++) {
+            setUp();
+            Random random = new Random(seed);
+            for (int op = 0; op < 1500; op++) {
+                String a = "s" + random.nextInt(STUDENTS);
+                String b = "s" + random.nextInt(STUDENTS);
+                if (random.nextInt(3) < 2) {
+                    theKnowledgeBay.followUser(a, b);
+                } else {
+                    theKnowledgeBay.unfollowUser(a, b);
+                }
+            }
+
+            UndirectedGraph<String> incremental = theKnowledgeBay.getAffinityGraph();
+            Set<String> incrementalEdges = edges(incremental);
+            Set<String> incrementalVertices = new TreeSet<>(incremental.getVertices());
+
+            theKnowledgeBay.refreshAffinityGraph();
+            UndirectedGraph<String> rebuilt = theKnowledgeBay.getAffinityGraph();
+
+            assertNotSame(incremental, rebuilt);
+            assertEquals(new TreeSet<>(rebuilt.getVertices()), incrementalVertices, "vertices, seed " + seed);
+            assertEquals(edges(rebuilt), incrementalEdges, "edges, seed " + seed);
+            assertEquals(rebuilt.getEdgeCount(), incremental.getEdgeCount(), "edge count, seed " + seed);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.model.AnalyticsAggregates;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ActivityGranularity;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalyticsAggregatesTest {
+
+    private AnalyticsAggregates analytics;
+
+    @BeforeEach
+    void setUp() {
+        analytics = new AnalyticsAggregates();
+    }
+
+    private static DynamicArrayList<Interest> topics(String... names) {
+        DynamicArrayList<Interest> list = new DynamicArrayList<>();
+        for (String name : names) {
+            list.addLast(new Interest(null, name));
+        }
+        return list;
+    }
+
+    @Test
+    void testTopicCountersFollowAddsAndRemoves() {
+        Content c1 = Content.builder().contentId(1).topics(topics("Java", "SQL")).date(LocalDate.of(2024, 3, 1)).build();
+        Content c2 = Content.builder().contentId(2).topics(topics("Java")).date(LocalDate.of(2024, 3, 2)).build();
+        HelpRequest r = HelpRequest.builder().requestId(1).topics(topics("SQL")).requestDate(LocalDate.of(2024, 3, 2)).build();
+        analytics.contentAdded(c1);
+        analytics.contentAdded(c2);
+        analytics.helpRequestAdded(r);
+
+        assertEquals(2, analytics.getContentCount("Java"));
+        assertEquals(1, analytics.getContentCount("SQL"));
+        assertEquals(1, analytics.getHelpRequestCount("SQL"));
+        assertEquals(3, analytics.getActivityBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2)));
+        assertEquals(2, analytics.getActivityBetween(LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 8)));
+
+        analytics.contentRemoved(c1);
+        analytics.helpRequestRemoved(r);
+        assertEquals(1, analytics.getContentCount("Java"));
+        assertEquals(0, analytics.getContentCount("SQL"));
+        assertEquals(0, analytics.getHelpRequestCount("SQL"));
+        assertEquals(1, analytics.getActivityBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2)));
+    }
+
+    @Test
+    void testActivityHistograms() {
+        Student ana = Student.builder().id("ana").build();
+        // 2024-03-04 is a Monday
+        analytics.contentAdded(Content.builder().contentId(1).author(ana).topics(topics("Java", "Java"))
+                .date(LocalDate.of(2024, 3, 4)).build());
+        analytics.contentAdded(Content.builder().contentId(2).topics(topics("SQL")).date(LocalDate.of(2024, 3, 10)).build());
+        analytics.helpRequestAdded(HelpRequest.builder().requestId(1).student(ana).topics(topics("SQL"))
+                .requestDate(LocalDate.of(2024, 3, 11)).build());
+
+        LocalDate from = LocalDate.of(2024, 3, 4);
+        LocalDate to = LocalDate.of(2024, 3, 12);
+        assertArrayEquals(new int[]{2, 1}, analytics.getActivity(ActivityGranularity.WEEK, from, to, null, null));
+        assertArrayEquals(new int[]{1, 0}, analytics.getActivity(ActivityGranularity.WEEK, from, to, "Java", null));
+        assertArrayEquals(new int[]{1, 1}, analytics.getActivity(ActivityGranularity.WEEK, from, to, "SQL", null));
+        assertArrayEquals(new int[]{1, 1}, analytics.getActivity(ActivityGranularity.WEEK, from, to, null, "ana"));
+        assertArrayEquals(new int[]{0, 0}, analytics.getActivity(ActivityGranularity.WEEK, from, to, "Go", null));
+        assertEquals(9, analytics.getActivity(ActivityGranularity.DAY, from, to, null, null).length);
+        assertEquals(LocalDate.of(2024, 3, 11),
+                AnalyticsAggregates.startOf(ActivityGranularity.WEEK,
+                        AnalyticsAggregates.bucketOf(ActivityGranularity.WEEK, LocalDate.of(2024, 3, 17))));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> analytics.getActivity(ActivityGranularity.DAY, to.minusYears(2), to, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> analytics.getActivity(ActivityGranularity.DAY, to.minusDays(60), to, null, "ana"));
+    }
+
+    @Test
+    void testMembersFollowInterestChanges() {
+        Student ana = Student.builder().id("1").username("ana").interests(topics("Java", "Java", "SQL")).build();
+        Student juan = Student.builder().id("2").username("juan").interests(topics("Java")).build();
+        analytics.studentInterestsChanged(ana);
+        analytics.studentInterestsChanged(juan);
+        assertEquals(List.of("ana", "juan"), analytics.getMemberNames("Java"));
+        assertEquals(List.of("ana"), analytics.getMemberNames("SQL"));
+
+        ana.setInterests(topics("SQL"));
+        analytics.studentInterestsChanged(ana);
+        assertEquals(List.of("juan"), analytics.getMemberNames("Java"));
+        assertEquals(List.of("ana"), analytics.getMemberNames("SQL"));
+        assertTrue(analytics.getMemberNames("Go").isEmpty());
+    }
+
+    @Test
+    void testRebuildMatchesIncrementalState() {
+        Student ana = Student.builder().id("1").username("ana").interests(topics("Java")).build();
+        Content c = Content.builder().contentId(1).topics(topics("Java")).date(LocalDate.of(2024, 3, 1)).build();
+        analytics.contentAdded(Content.builder().contentId(9).topics(topics("Stale")).build());
+
+        analytics.rebuild(List.of(ana), List.of(c), null);
+
+        assertEquals(0, analytics.getContentCount("Stale"));
+        assertEquals(1, analytics.getContentCount("Java"));
+        assertEquals(List.of("ana"), analytics.getMemberNames("Java"));
+    }
+
+    @Test
+    void testDashboardReadsTheCounters() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        try {
+            theKnowledgeBay.addInterest(new Interest("i1", "Java"));
+            theKnowledgeBay.addInterest(new Interest("i2", "SQL"));
+            Student ana = Student.builder().id("ana").username("ana").interests(topics("Java")).build();
+            theKnowledgeBay.addStudent(ana);
+            theKnowledgeBay.addContent(Content.builder().title("Streams").author(ana).topics(topics("Java"))
+                    .date(LocalDate.now()).build());
+            theKnowledgeBay.addHelpRequest(HelpRequest.builder().information("ayuda").urgency(Urgency.LOW)
+                    .student(ana).topics(topics("SQL")).requestDate(LocalDate.now().minusDays(8)).build());
+
+            List<Map<String, Object>> topicActivity = theKnowledgeBay.getTopicActivityData();
+            assertEquals(2, topicActivity.size());
+            assertEquals(1, topicActivity.get(0).get("contents"));
+
+            List<Map<String, Object>> weeks = theKnowledgeBay.getParticipationLevelsData();
+            assertEquals("Sem 4", weeks.get(3).get("week"));
+            assertEquals(1, weeks.get(3).get("activity"));
+            assertEquals(1, weeks.get(2).get("activity"));
+
+            List<Map<String, Object>> days = theKnowledgeBay.getParticipationLevelsData("30d", null, null, "ana");
+            assertEquals(30, days.size());
+            assertEquals(LocalDate.now().toString(), days.get(29).get("period"));
+            assertEquals(1, days.get(29).get("activity"));
+            assertEquals(1, days.get(21).get("activity"));
+            assertEquals(52, theKnowledgeBay.getParticipationLevelsData("52w", null, "Java", null).size());
+            assertThrows(IllegalArgumentException.class,
+                    () -> theKnowledgeBay.getParticipationLevelsData("3m", null, null, null));
+
+            assertTrue(theKnowledgeBay.getCommunityDetectionData().isEmpty(), "a student alone is no community");
+            theKnowledgeBay.addStudent(Student.builder().id("juan").username("juan").interests(topics("Java")).build());
+            theKnowledgeBay.followUser("ana", "juan");
+            theKnowledgeBay.followUser("juan", "ana");
+            List<Map<String, Object>> communities = theKnowledgeBay.getCommunityDetectionData();
+            assertEquals(1, communities.size());
+            assertEquals("ana, juan", communities.get(0).get("students"));
+            assertEquals("Java", communities.get(0).get("topic"));
+
+            int contentId = theKnowledgeBay.getAllContent().get(0).getContentId();
+            theKnowledgeBay.deleteContent(contentId);
+            assertEquals(1, theKnowledgeBay.getTopicActivityData().size());
+        } finally {
+            theKnowledgeBay.getUsers().clear();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.model.AuthorIndex;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorIndexTest {
+
+    @AfterEach
+    void tearDown() {
+        UserFactory.getInstance().clear();
+    }
+
+    @Test
+    void testIdsStayOrderedAndCounted() {
+        AuthorIndex index = new AuthorIndex();
+        index.add("ana", 7);
+        index.add("ana", 3);
+        index.add("ana", 5);
+        index.add("juan", 4);
+        index.add(null, 9);
+
+        assertEquals(List.of(3, 5, 7), index.ids("ana"));
+        assertEquals(3, index.count("ana"));
+        assertEquals(0, index.count(null));
+
+        index.remove("ana", 5);
+        index.remove("juan", 4);
+        index.remove("juan", 4);
+        assertEquals(List.of(3, 7), index.ids("ana"));
+        assertEquals(0, index.count("juan"));
+        assertTrue(index.ids("juan").isEmpty());
+    }
+
+    @Test
+    void testModelKeepsPerAuthorIndexes() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        Student ana = Student.builder().id("ana").username("ana").build();
+        Student juan = Student.builder().id("juan").username("juan").build();
+        theKnowledgeBay.addStudent(ana);
+        theKnowledgeBay.addStudent(juan);
+        theKnowledgeBay.addContent(Content.builder().title("Streams").author(ana).build());
+        theKnowledgeBay.addContent(Content.builder().title("Joins").author(juan).build());
+        theKnowledgeBay.addContent(Content.builder().title("Records").author(ana).build());
+        theKnowledgeBay.addHelpRequest(HelpRequest.builder().student(ana).urgency(Urgency.LOW)
+                .requestDate(LocalDate.now()).build());
+        theKnowledgeBay.addHelpRequest(HelpRequest.builder().student(ana).urgency(Urgency.HIGH)
+                .requestDate(LocalDate.now()).build());
+
+        assertEquals(2, theKnowledgeBay.getContentCountByUserId("ana"));
+        assertEquals(1, theKnowledgeBay.getContentCountByUserId("juan"));
+        assertEquals(0, theKnowledgeBay.getContentCountByUserId("nadie"));
+        assertEquals(2, theKnowledgeBay.getHelpRequestCountByUserId("ana"));
+        assertEquals(0, theKnowledgeBay.getHelpRequestCountByUserId("juan"));
+
+        List<String> titles = new ArrayList<>();
+        for (Content content : theKnowledgeBay.getContentByUserId("ana")) {
+            titles.add(content.getTitle());
+        }
+        assertEquals(List.of("Streams", "Records"), titles);
+
+        // Most urgent first, as in the queue
+        List<Urgency> urgencies = new ArrayList<>();
+        for (HelpRequest request : theKnowledgeBay.getHelpRequestsByUserId("ana")) {
+            urgencies.add(request.getUrgency());
+        }
+        assertEquals(List.of(Urgency.HIGH, Urgency.LOW), urgencies);
+
+        int streamsId = theKnowledgeBay.getContentByUserId("ana").get(0).getContentId();
+        assertTrue(theKnowledgeBay.deleteContent(streamsId));
+        int requestId = theKnowledgeBay.getHelpRequestsByUserId("ana").get(0).getRequestId();
+        assertTrue(theKnowledgeBay.deleteHelpRequest(requestId));
+        assertEquals(1, theKnowledgeBay.getContentCountByUserId("ana"));
+        assertEquals(1, theKnowledgeBay.getHelpRequestCountByUserId("ana"));
+    }
+}
@@ -0,0 +1,162 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.StudyGroup;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import co.edu.uniquindio.theknowledgebay.core.repository.BootstrapLoader;
+import co.edu.uniquindio.theknowledgebay.core.repository.WriteBehindRepository;
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.ModeratorProperties;
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.WriteBehindProperties;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootstrapLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DriverManagerDataSource dataSource;
+    private WriteBehindRepository writer;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:sqlite:" + tempDir.resolve("test.sqlite"));
+        dataSource.setDriverClassName("org.sqlite.JDBC");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        // Disabled pipeline: every write goes straight to the database
+        writer = new WriteBehindRepository(new JdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new WriteBehindProperties(false, null, null, null, null));
+    }
+
+    @Test
+    void testLoadsAndStitchesAggregates() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO interests (id_interest, name) VALUES (7, 'Java')");
+        Interest java = new Interest("7", "Java");
+
+        DynamicArrayList<Interest> interests = new DynamicArrayList<>();
+        interests.addLast(java);
+        Student ana = Student.builder().id("1").username("ana").email("ana@uq.edu.co").password("x")
+                .firstName("Ana").lastName("Gómez").dateBirth(LocalDate.of(2000, 5, 1)).interests(interests).build();
+        Student juan = Student.builder().id("2").username("juan").email("juan@uq.edu.co").password("x")
+                .firstName("Juan").lastName("Pérez").build();
+        writer.saveStudent(ana);
+        writer.saveStudent(juan);
+        writer.saveStudentInterests(ana);
+        writer.saveFollow("2", "1");
+
+        writer.saveContent(Content.builder().contentId(10).title("Streams").contentType(ContentType.ARTICLE)
+                .information("...").author(ana).topics(interests).date(LocalDate.of(2024, 3, 1)).build());
+        writer.saveLike(10, "2", 1);
+
+        writer.saveHelpRequest(HelpRequest.builder().requestId(4).information("ayuda").urgency(Urgency.HIGH)
+                .student(juan).topics(interests).requestDate(LocalDate.of(2024, 3, 2)).build());
+
+        Chat chat = Chat.builder().chatId(3).studentA(ana).studentB(juan).build();
+        writer.saveChat(chat);
+        writer.saveMessage(chat, Message.builder().messageId(2).text("segundo").sender(juan).timestamp(LocalDateTime.of(2024, 3, 3, 10, 5)).build());
+        writer.saveMessage(chat, Message.builder().messageId(1).text("primero").sender(ana).timestamp(LocalDateTime.of(2024, 3, 3, 10, 0)).build());
+
+        BootstrapLoader.Result result = new BootstrapLoader(dataSource, 100).load();
+
+        assertEquals(2, result.students().size());
+        Student loadedAna = result.students().stream().filter(s -> s.getId().equals("1")).findFirst().orElseThrow();
+        assertEquals("Java", loadedAna.getInterests().get(0).getName());
+        assertEquals(LocalDate.of(2000, 5, 1), loadedAna.getDateBirth());
+        assertEquals("2", loadedAna.getFollowers().get(0).getId());
+        assertEquals(0, loadedAna.getFollowing().getSize());
+
+        Content content = result.contents().get(0);
+        assertSame(loadedAna, content.getAuthor());
+        assertEquals(ContentType.ARTICLE, content.getContentType());
+        assertEquals(1, content.getTopics().getSize());
+        assertEquals(1, content.getLikedBy().getSize());
+        assertEquals(1, content.getLikeCount());
+
+        HelpRequest request = result.helpRequests().get(0);
+        assertEquals(Urgency.HIGH, request.getUrgency());
+        assertEquals("2", request.getStudent().getId());
+        assertEquals(1, request.getTopics().getSize());
+
+        Chat loadedChat = result.chats().get(0);
+        assertEquals(2, loadedChat.getMessages().getSize());
+        assertEquals("primero", loadedChat.getMessages().get(0).getText());
+        assertEquals("segundo", loadedChat.getLastMessage().getText());
+        assertEquals(2, result.messageCount());
+
+        assertTrue(result.phaseMillis().containsKey("content_likes"));
+        assertEquals(11, result.phaseMillis().size());
+    }
+
+    @Test
+    void testInitializeRebuildsStudyGroups() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO interests (id_interest, name) VALUES ('7', 'Java')");
+        DynamicArrayList<Interest> interests = new DynamicArrayList<>();
+        interests.addLast(new Interest("7", "Java"));
+        Student ana = Student.builder().id("1").username("ana").email("ana@uq.edu.co").password("x")
+                .firstName("Ana").lastName("Gómez").interests(interests).build();
+        Student juan = Student.builder().id("2").username("juan").email("juan@uq.edu.co").password("x")
+                .firstName("Juan").lastName("Pérez").interests(interests).build();
+        writer.saveStudent(ana);
+        writer.saveStudent(juan);
+        writer.saveStudentInterests(ana);
+        writer.saveStudentInterests(juan);
+        writer.saveContent(Content.builder().contentId(10).title("Streams").contentType(ContentType.ARTICLE)
+                .information("...").author(ana).topics(interests).date(LocalDate.of(2024, 3, 1)).build());
+        writer.saveHelpRequest(HelpRequest.builder().requestId(4).information("ayuda").urgency(Urgency.HIGH)
+                .student(juan).topics(interests).requestDate(LocalDate.of(2024, 3, 2)).build());
+
+        TheKnowledgeBay restarted = new TheKnowledgeBay(null, null);
+        ReflectionTestUtils.setField(restarted, "passwordEncoder", new BCryptPasswordEncoder(4));
+        ReflectionTestUtils.setField(restarted, "props", new ModeratorProperties("Admin", "admin@tkb.com", "1234"));
+        ReflectionTestUtils.setField(restarted, "bootstrapLoader", new BootstrapLoader(dataSource, 100));
+        restarted.getUsers().clear();
+        try {
+            restarted.initialize();
+
+            assertEquals(1, restarted.getStudyGroups().getSize());
+            StudyGroup group = restarted.getStudyGroups().get(0);
+            assertEquals("Java", group.getTopic().getName());
+            assertEquals(2, group.getMembers().getSize());
+            assertEquals(1, restarted.getUserStudyGroupCount("1"));
+            assertSame(restarted.getContentById(10), group.getAssociatedContents().get(0));
+            assertSame(restarted.getHelpRequestById(4), group.getAssociatedHelpRequests().get(0));
+        } finally {
+            UserFactory.getInstance().clear();
+        }
+    }
+
+    @Test
+    void testEmptyDatabase() {
+        BootstrapLoader.Result result = new BootstrapLoader(dataSource, 100).load();
+        assertTrue(result.students().isEmpty());
+        assertTrue(result.contents().isEmpty());
+        assertTrue(result.chats().isEmpty());
+    }
+}
@@ -0,0 +1,91 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.ChatRegistry;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatRegistryTest {
+
+    private ChatRegistry registry;
+    private Student ana;
+    private Student juan;
+    private Student luis;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ChatRegistry();
+        ana = Student.builder().id("1").username("ana").build();
+        juan = Student.builder().id("2").username("juan").build();
+        luis = Student.builder().id("3").username("luis").build();
+    }
+
+    private Chat chat(int id, Student a, Student b) {
+        return Chat.builder().chatId(id).studentA(a).studentB(b).messages(new DoublyLinkedList<>()).build();
+    }
+
+    @Test
+    void testFindIgnoresParticipantOrder() {
+        Chat chat = chat(1, ana, juan);
+        registry.register(chat);
+
+        assertSame(chat, registry.find("1", "2"));
+        assertSame(chat, registry.find("2", "1"));
+        assertNull(registry.find("1", "3"));
+        assertNull(registry.find(null, "1"));
+    }
+
+    @Test
+    void testRegisterKeepsExistingChatForPair() {
+        Chat first = chat(1, ana, juan);
+        registry.register(first);
+
+        assertSame(first, registry.register(chat(2, juan, ana)));
+        assertEquals(1, registry.size());
+        assertEquals(1, registry.getInbox("1").size());
+    }
+
+    @Test
+    void testInboxListsChatsOfUserInCreationOrder() {
+        Chat anaJuan = chat(1, ana, juan);
+        Chat luisAna = chat(2, luis, ana);
+        Chat juanLuis = chat(3, juan, luis);
+        registry.register(anaJuan);
+        registry.register(luisAna);
+        registry.register(juanLuis);
+
+        assertEquals(List.of(anaJuan, luisAna), new ArrayList<>(registry.getInbox("1")));
+        assertEquals(List.of(anaJuan, juanLuis), new ArrayList<>(registry.getInbox("2")));
+        assertTrue(registry.getInbox("99").isEmpty());
+        assertEquals(3, registry.getChats().getSize());
+    }
+
+    @Test
+    void testLastMessageIsTail() {
+        Chat chat = chat(1, ana, juan);
+        assertNull(chat.getLastMessage());
+
+        chat.sendMessage(Message.builder().messageId(1).text("hola").sender(ana).build());
+        chat.sendMessage(Message.builder().messageId(2).text("¿qué tal?").sender(juan).build());
+
+        assertEquals("¿qué tal?", chat.getLastMessage().getText());
+    }
+
+    @Test
+    void testClear() {
+        registry.register(chat(1, ana, juan));
+        registry.clear();
+
+        assertEquals(0, registry.size());
+        assertNull(registry.find("1", "2"));
+        assertTrue(registry.getInbox("1").isEmpty());
+    }
+}
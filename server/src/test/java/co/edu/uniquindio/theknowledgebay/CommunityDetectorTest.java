@@ -0,0 +1,124 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.CommunityDetector;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.CsrGraph;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.UndirectedGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommunityDetectorTest {
+
+    private UndirectedGraph<String> graph;
+    private CommunityDetector<String> detector;
+
+    @BeforeEach
+    void setUp() {
+        graph = new UndirectedGraph<>();
+        detector = new CommunityDetector<>();
+    }
+
+    private void clique(String... vertices) {
+        for (String vertex : vertices) {
+            graph.addVertex(vertex);
+        }
+        for (int i = 0; i < vertices.length; i++) {
+            for (int j = i + 1; j < vertices.length; j++) {
+                graph.addEdge(vertices[i], vertices[j]);
+            }
+        }
+    }
+
+    @Test
+    void testTwoCliquesJoinedByABridge() {
+        clique("a1", "a2", "a3", "a4", "a5");
+        clique("b1", "b2", "b3", "b4", "b5");
+        graph.addEdge("a5", "b1");
+        graph.addVertex("alone");
+
+        List<List<String>> communities = detector.detect(CsrGraph.of(graph));
+
+        assertEquals(3, communities.size());
+        assertEquals(List.of("a1", "a2", "a3", "a4", "a5"), communities.get(0));
+        assertEquals(List.of("b1", "b2", "b3", "b4", "b5"), communities.get(1));
+        assertEquals(List.of("alone"), communities.get(2));
+    }
+
+    @Test
+    void testPairAndStarConverge() {
+        clique("x", "y");
+        graph.addVertex("hub");
+        for (int i = 0; i < 4; i++) {
+            graph.addVertex("leaf" + i);
+            graph.addEdge("hub", "leaf" + i);
+        }
+
+        List<List<String>> communities = detector.detect(CsrGraph.of(graph));
+
+        assertEquals(2, communities.size());
+        assertEquals(5, communities.get(0).size());
+        assertEquals(List.of("x", "y"), communities.get(1));
+    }
+
+    @Test
+    void testResultIsCachedUntilTheGraphChanges() {
+        clique("a", "b");
+        graph.addVertex("c");
+        assertNull(detector.getIfCurrent(graph));
+
+        List<List<String>> first = detector.detect(CsrGraph.of(graph));
+        assertSame(first, detector.getIfCurrent(graph));
+        assertNull(detector.getIfCurrent(new UndirectedGraph<>()), "another graph is not served from the cache");
+
+        graph.addEdge("b", "c");
+        assertNull(detector.getIfCurrent(graph));
+        graph.addEdge("b", "c"); // existing edge, no change
+        List<List<String>> second = detector.detect(CsrGraph.of(graph));
+        assertEquals(List.of(List.of("a", "b", "c")), second);
+        assertSame(second, detector.getIfCurrent(graph));
+    }
+
+    @Test
+    void testParallelRunMatchesSequentialRun() {
+        // Planted partition: 200 groups of 50, mostly intra-group edges
+        int groups = 200;
+        int size = 50;
+        Random random = new Random(7);
+        List<Integer> vertices = new ArrayList<>();
+        for (int v = 0; v < groups * size; v++) {
+            vertices.add(v);
+        }
+        Set<Long> seen = new HashSet<>();
+        List<int[]> edges = new ArrayList<>();
+        while (edges.size() < groups * size * 8) {
+            int a = random.nextInt(groups * size);
+            int b = random.nextInt(10) == 0 ? random.nextInt(groups * size) : (a / size) * size + random.nextInt(size);
+            if (a != b && seen.add((long) Math.min(a, b) * groups * size + Math.max(a, b))) {
+                edges.add(new int[]{a, b});
+            }
+        }
+        int[] from = edges.stream().mapToInt(e -> e[0]).toArray();
+        int[] to = edges.stream().mapToInt(e -> e[1]).toArray();
+        CsrGraph<Integer> snapshot = CsrGraph.fromEdges(vertices, from, to);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            int[] parallel = new CommunityDetector<Integer>().propagate(snapshot);
+            int[] sequential = new CommunityDetector<Integer>(single, 20).propagate(snapshot);
+            assertArrayEquals(sequential, parallel);
+        } finally {
+            single.shutdown();
+        }
+        List<List<Integer>> communities = new CommunityDetector<Integer>().detect(snapshot);
+        assertTrue(communities.size() >= groups / 2 && communities.size() <= groups * 2,
+                "found " + communities.size() + " communities");
+    }
+}
@@ -0,0 +1,225 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import co.edu.uniquindio.theknowledgebay.core.service.ChatService;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.concurrent.AggregateLock;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers TheKnowledgeBay from many threads at once and checks that no like,
+ * message, content or help request is lost.
+ */
+class ConcurrencyStressTest {
+
+    private static final int THREADS = 16;
+    private static final int STUDENTS = 64;
+
+    private TheKnowledgeBay theKnowledgeBay;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        for (int i = 0; i < STUDENTS; i++) {
+            theKnowledgeBay.addStudent(Student.builder().id("s" + i).username("student" + i).build());
+        }
+        theKnowledgeBay.initializeAffinityGraph();
+        pool = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pool.shutdownNow();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        theKnowledgeBay.getUsers().clear();
+    }
+
+    // Runs the task `times` times across the pool, all released at once, and rethrows any failure
+    private void runConcurrently(int times, IndexedTask task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?>[] futures = new Future<?>[times];
+        for (int i = 0; i < times; i++) {
+            int index = i;
+            futures[i] = pool.submit((Callable<Void>) () -> {
+                start.await();
+                task.run(index);
+                return null;
+            });
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+
+    @Test
+    void testNoContentLostAndIdsUnique() throws Exception {
+        int before = theKnowledgeBay.getTotalContentCount();
+        runConcurrently(2000, i -> assertTrue(theKnowledgeBay.addContent(
+                Content.builder().title("content " + i).author(Student.builder().id("s" + (i % STUDENTS)).build()).build())));
+
+        DoublyLinkedList<Content> all = theKnowledgeBay.getAllContent();
+        assertEquals(before + 2000, all.getSize());
+        Set<Integer> ids = new HashSet<>();
+        for (Content content : all) {
+            assertTrue(ids.add(content.getContentId()), "duplicate content id " + content.getContentId());
+        }
+    }
+
+    @Test
+    void testNoLikesLost() throws Exception {
+        Content content = Content.builder().title("popular").build();
+        theKnowledgeBay.addContent(content);
+        int id = content.getContentId();
+
+        // Every student likes it twice from different threads; only the first like of each counts
+        runConcurrently(STUDENTS * 2, i -> theKnowledgeBay.likeContent(id, "s" + (i % STUDENTS)));
+
+        Content liked = theKnowledgeBay.getContentById(id);
+        assertEquals(STUDENTS, liked.getLikeCount());
+        assertEquals(STUDENTS, liked.getLikedBy().getSize());
+
+        runConcurrently(STUDENTS, i -> assertTrue(theKnowledgeBay.unlikeContent(id, "s" + i)));
+        assertEquals(0, theKnowledgeBay.getContentById(id).getLikeCount());
+    }
+
+    @Test
+    void testNoMessagesLostAndOneChatPerPair() throws Exception {
+        ChatService chatService = new ChatService(theKnowledgeBay);
+        int pairs = 8;
+        int messagesPerPair = 250;
+        AtomicInteger sent = new AtomicInteger();
+
+        runConcurrently(pairs * messagesPerPair, i -> {
+            int pair = i % pairs;
+            // Alternate the sender so both orderings race to create the same chat
+            String a = "s" + (2 * pair);
+            String b = "s" + (2 * pair + 1);
+            Message message = (i % 2 == 0)
+                    ? chatService.sendMessage(a, b, "msg " + i)
+                    : chatService.sendMessage(b, a, "msg " + i);
+            assertNotNull(message);
+            sent.incrementAndGet();
+        });
+
+        assertEquals(pairs * messagesPerPair, sent.get());
+        Set<Integer> messageIds = new HashSet<>();
+        for (int pair = 0; pair < pairs; pair++) {
+            String a = "s" + (2 * pair);
+            String b = "s" + (2 * pair + 1);
+            DoublyLinkedList<Message> messages = chatService.getMessagesForChat(a, b);
+            assertEquals(messagesPerPair, messages.getSize());
+            for (Message message : messages) {
+                assertTrue(messageIds.add(message.getMessageId()), "duplicate message id " + message.getMessageId());
+            }
+            assertEquals(1, theKnowledgeBay.getChatRegistry().getInbox(a).size());
+        }
+        int chatsForPairs = 0;
+        for (Chat chat : theKnowledgeBay.getChats()) {
+            if (chat.getMessages().getSize() == messagesPerPair) {
+                chatsForPairs++;
+            }
+        }
+        assertEquals(pairs, chatsForPairs);
+    }
+
+    @Test
+    void testNoHelpRequestsLost() throws Exception {
+        int before = theKnowledgeBay.getTotalHelpRequestsCount();
+        Urgency[] urgencies = Urgency.values();
+        runConcurrently(1000, i -> assertTrue(theKnowledgeBay.addHelpRequest(HelpRequest.builder()
+                .information("request " + i)
+                .urgency(urgencies[i % urgencies.length])
+                .requestDate(LocalDate.now())
+                .student(Student.builder().id("s" + (i % STUDENTS)).build())
+                .build())));
+
+        DoublyLinkedList<HelpRequest> all = theKnowledgeBay.getAllHelpRequests();
+        assertEquals(before + 1000, all.getSize());
+        Set<Integer> ids = new HashSet<>();
+        for (HelpRequest request : all) {
+            assertTrue(ids.add(request.getRequestId()));
+        }
+    }
+
+    @Test
+    void testConcurrentFollowsKeepAffinityGraphConsistent() throws Exception {
+        // Every ordered pair among the first 20 students follows, so every pair ends up mutual
+        int n = 20;
+        runConcurrently(n * n, i -> {
+            int from = i / n;
+            int to = i % n;
+            if (from != to) {
+                theKnowledgeBay.followUser("s" + from, "s" + to);
+            }
+        });
+
+        assertEquals(n * (n - 1) / 2, theKnowledgeBay.getAffinityGraph().getEdgeCount());
+        for (int i = 0; i < n; i++) {
+            Student student = (Student) theKnowledgeBay.getUserById("s" + i);
+            assertEquals(n - 1, student.getFollowingCount());
+            assertEquals(n - 1, student.getFollowersCount());
+        }
+    }
+
+    @Test
+    void testReadersAndWritersInterleave() throws Exception {
+        runConcurrently(1500, i -> {
+            switch (i % 3) {
+                case 0 -> theKnowledgeBay.addContent(Content.builder().title("c" + i).build());
+                case 1 -> theKnowledgeBay.getAllContent().getSize();
+                default -> theKnowledgeBay.getFullAnalyticsData();
+            }
+        });
+        assertTrue(theKnowledgeBay.getTotalContentCount() >= 500);
+    }
+
+    @Test
+    void testUserLookupsDoNotWrite() {
+        // Profile defaults are applied when the student is added, not on read
+        Student student = (Student) theKnowledgeBay.getUserById("s0");
+        assertEquals("[Tu biografía aquí]", student.getBiography());
+        assertEquals(LocalDate.of(1900, 1, 1), student.getDateBirth());
+
+        student.setBiography(null);
+        student.setDateBirth(null);
+        assertSame(student, theKnowledgeBay.getUserById("s0"));
+        assertNull(student.getBiography());
+        assertNull(student.getDateBirth());
+    }
+
+    @Test
+    void testReadLockCannotBeUpgraded() {
+        AggregateLock lock = new AggregateLock();
+        assertThrows(IllegalStateException.class, () -> lock.read(() -> lock.write(() -> { })));
+        // Write then read is allowed
+        assertEquals(1, lock.write(() -> lock.read(() -> 1)));
+    }
+}
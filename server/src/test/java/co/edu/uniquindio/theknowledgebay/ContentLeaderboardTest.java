@@ -0,0 +1,111 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.ContentLeaderboard;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentLeaderboardTest {
+
+    @AfterEach
+    void tearDown() {
+        UserFactory.getInstance().clear();
+    }
+
+    private static DynamicArrayList<Interest> topics(String... names) {
+        DynamicArrayList<Interest> list = new DynamicArrayList<>();
+        for (String name : names) {
+            list.addLast(new Interest(null, name));
+        }
+        return list;
+    }
+
+    private static List<Integer> ids(List<Content> contents) {
+        return contents.stream().map(Content::getContentId).toList();
+    }
+
+    @Test
+    void testRankingByLikesThenId() {
+        ContentLeaderboard leaderboard = new ContentLeaderboard();
+        Content a = Content.builder().contentId(1).likeCount(3).topics(topics("Java")).build();
+        Content b = Content.builder().contentId(2).likeCount(5).topics(topics("SQL", "Java")).build();
+        Content c = Content.builder().contentId(3).likeCount(3).topics(topics("SQL")).build();
+        leaderboard.rebuild(List.of(a, b, c));
+
+        assertEquals(List.of(2, 1, 3), ids(leaderboard.top(null, 0, 10)));
+        assertEquals(List.of(1, 3), ids(leaderboard.top(null, 1, 2)));
+        assertEquals(List.of(2, 3), ids(leaderboard.top("SQL", 0, 10)));
+
+        a.setLikeCount(6);
+        leaderboard.update(a);
+        assertEquals(List.of(1, 2, 3), ids(leaderboard.top(null, 0, 10)));
+        assertEquals(List.of(1, 2), ids(leaderboard.top("Java", 0, 10)));
+
+        leaderboard.remove(2);
+        assertEquals(1, leaderboard.count("Java"));
+        assertEquals(2, leaderboard.count(null));
+        assertEquals(0, leaderboard.count("Go"));
+        assertTrue(leaderboard.top("Go", 0, 5).isEmpty());
+    }
+
+    @Test
+    void testTopicLookupIgnoresCaseAndSpaces() {
+        ContentLeaderboard leaderboard = new ContentLeaderboard();
+        Content a = Content.builder().contentId(1).likeCount(1).topics(topics("Java")).build();
+        Content b = Content.builder().contentId(2).likeCount(2).topics(topics(" java ", "JAVA")).build();
+        leaderboard.rebuild(List.of(a, b));
+
+        assertEquals(List.of(2, 1), ids(leaderboard.top("java", 0, 10)));
+        assertEquals(List.of(2, 1), ids(leaderboard.top(" Java ", 0, 10)));
+        assertEquals(2, leaderboard.count("JAVA"));
+
+        leaderboard.remove(2);
+        assertEquals(List.of(1), ids(leaderboard.top("java", 0, 10)));
+    }
+
+    @Test
+    void testLikesMoveContentInTheModel() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        Student ana = Student.builder().id("ana").username("ana").build();
+        Student juan = Student.builder().id("juan").username("juan").build();
+        theKnowledgeBay.addStudent(ana);
+        theKnowledgeBay.addStudent(juan);
+        theKnowledgeBay.addContent(Content.builder().title("Streams").author(ana).topics(topics("Java")).build());
+        theKnowledgeBay.addContent(Content.builder().title("Joins").author(ana).topics(topics("SQL")).build());
+        // No likes yet, so the ranking is in id order
+        List<Content> added = theKnowledgeBay.getTopContent(null, 0, 10);
+        Content streams = added.get(0);
+        Content joins = added.get(1);
+
+        assertTrue(theKnowledgeBay.likeContent(joins.getContentId(), "ana"));
+        assertTrue(theKnowledgeBay.likeContent(joins.getContentId(), "juan"));
+        assertTrue(theKnowledgeBay.likeContent(streams.getContentId(), "juan"));
+        assertEquals(List.of(joins.getContentId(), streams.getContentId()),
+                ids(theKnowledgeBay.getTopContent(null, 0, 10)));
+        assertFalse(theKnowledgeBay.likeContent(joins.getContentId(), "juan"), "one like per student");
+        assertTrue(theKnowledgeBay.hasLiked(joins.getContentId(), "juan"));
+        assertEquals(Set.of(joins.getContentId(), streams.getContentId()), theKnowledgeBay.getLikedContentIds("juan"));
+
+        assertTrue(theKnowledgeBay.unlikeContent(joins.getContentId(), "ana"));
+        assertTrue(theKnowledgeBay.unlikeContent(joins.getContentId(), "juan"));
+        assertEquals(List.of(streams.getContentId(), joins.getContentId()),
+                ids(theKnowledgeBay.getTopContent(null, 0, 10)));
+        assertEquals(List.of(streams.getContentId()), ids(theKnowledgeBay.getTopContent("Java", 0, 10)));
+
+        theKnowledgeBay.deleteContent(streams.getContentId());
+        assertTrue(theKnowledgeBay.getLikedContentIds("juan").isEmpty());
+        assertEquals(List.of(joins.getContentId()), ids(theKnowledgeBay.getTopContent(null, 0, 10)));
+        assertEquals(0, theKnowledgeBay.getTopContentCount("Java"));
+    }
+}
@@ -1,11 +1,19 @@
 package co.edu.uniquindio.theknowledgebay;
+import co.edu.uniquindio.theknowledgebay.api.dto.ContentResponseDTO;
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
 import co.edu.uniquindio.theknowledgebay.core.model.Comment;
 import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
 import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import org.springframework.boot.test.context.SpringBootTest;
 
@@ -16,6 +24,11 @@ public class ContentTest {
     private Comment comment;
     private Content content;
 
+    @AfterEach
+    public void tearDown() {
+        UserFactory.getInstance().clear();
+    }
+
     @BeforeEach
     public void setUp() {
         author = Student.builder().firstName("María").build();
@@ -23,11 +36,10 @@ public class ContentTest {
 
         content = Content.builder()
                 .contentId(101)
-                .topics(new DoublyLinkedList<>())
+                .topics(new DynamicArrayList<>())
                 .title("Introducción a Java")
                 .information("Contenido detallado sobre Java.")
                 .author(author)
-                .likedBy(new DoublyLinkedList<>())
                 .likeCount(0)
                 .comments(new DoublyLinkedList<>())
                 .date(LocalDate.of(2025, 5, 20))
@@ -55,6 +67,23 @@ public class ContentTest {
     }
 
 
+    @Test
+    public void testLikesAreCountedOncePerStudent() {
+        Student ana = Student.builder().id("ana").build();
+        Student juan = Student.builder().id("juan").build();
+        assertTrue(content.addLike(ana));
+        assertFalse(content.addLike(ana));
+        assertTrue(content.addLike(juan));
+        assertEquals(2, content.getLikeCount());
+        assertTrue(content.hasLiked("ana"));
+        assertEquals(juan, content.getLikedBy().get(1));
+
+        assertTrue(content.removeLike("ana"));
+        assertFalse(content.removeLike(ana));
+        assertFalse(content.hasLiked(ana));
+        assertEquals(1, content.getLikeCount());
+    }
+
     @Test
     public void testRemoveLike() {
         content.addLike(author);
@@ -62,4 +91,32 @@ public class ContentTest {
         assertFalse(content.hasLiked(author));
         assertEquals(0, content.getLikeCount());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUpdateContentEditsTheStoredInstance() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        theKnowledgeBay.addInterest(new Interest("1", "Java"));
+        theKnowledgeBay.addStudent(Student.builder().id("ana").username("ana").build());
+        theKnowledgeBay.addStudent(Student.builder().id("juan").username("juan").build());
+        theKnowledgeBay.updateUser("ana", Student.builder().build(), List.of("Java"));
+        theKnowledgeBay.updateUser("juan", Student.builder().build(), List.of("Java"));
+
+        DynamicArrayList<Interest> topics = new DynamicArrayList<>();
+        topics.addLast(Interest.builder().name("Java").build());
+        theKnowledgeBay.addContent(Content.builder().title("Streams").information("v1")
+                .contentType(ContentType.ARTICLE).topics(topics).build());
+        Content content = theKnowledgeBay.getAllContent().get(0);
+
+        assertTrue(theKnowledgeBay.updateContent(content.getContentId(),
+                ContentResponseDTO.builder().title("Streams 2").information("v2").build()));
+
+        // Study groups hold the same instance, so they see the edit too
+        Content grouped = theKnowledgeBay.getStudyGroups().get(0).getAssociatedContents().get(0);
+        assertSame(theKnowledgeBay.getContentById(content.getContentId()), grouped);
+        assertEquals("Streams 2", grouped.getTitle());
+        assertEquals("v2", grouped.getInformation());
+        assertEquals(ContentType.ARTICLE, grouped.getContentType());
+        assertEquals(1, theKnowledgeBay.searchContent("streams", 0, 10).total());
+    }
+}
@@ -0,0 +1,90 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.DegreeIndex;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.UndirectedGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DegreeIndexTest {
+
+    private DegreeIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DegreeIndex<>();
+        index.add("A");
+        index.add("B");
+        index.add("C");
+    }
+
+    @Test
+    void testTopFollowsIncrementsAndDecrements() {
+        index.increment("B");
+        index.increment("B");
+        index.increment("C");
+        assertEquals(List.of("B", "C", "A"), index.top(5));
+        assertEquals(List.of("B"), index.top(1));
+        assertEquals(2, index.degree("B"));
+
+        index.decrement("B");
+        index.decrement("B");
+        index.decrement("B"); // stays at 0
+        assertEquals(0, index.degree("B"));
+        assertEquals(List.of("C", "A", "B"), index.top(3));
+    }
+
+    @Test
+    void testRemoveAndUnknownVertices() {
+        index.increment("A");
+        index.remove("A");
+        index.increment("Z");
+        assertEquals(2, index.size());
+        assertEquals(0, index.degree("Z"));
+        assertEquals(List.of("B", "C"), index.top(5));
+        assertTrue(index.top(0).isEmpty());
+
+        index.clear();
+        assertTrue(index.top(3).isEmpty());
+        index.add("A");
+        assertEquals(List.of("A"), index.top(3));
+    }
+
+    @Test
+    void testGraphTopByDegreeMatchesSortedDegrees() {
+        UndirectedGraph<Integer> graph = new UndirectedGraph<>();
+        Random random = new Random(3);
+        for (int v = 0; v < 200; v++) {
+            graph.addVertex(v);
+        }
+        for (int i = 0; i < 2000; i++) {
+            int a = random.nextInt(200);
+            int b = random.nextInt(200);
+            if (!graph.containsVertex(a) || !graph.containsVertex(b)) {
+                continue;
+            }
+            if (random.nextInt(4) == 0) {
+                graph.removeEdge(a, b);
+            } else {
+                graph.addEdge(a, b);
+            }
+            if (i % 500 == 499) {
+                graph.removeVertex(random.nextInt(200));
+            }
+        }
+
+        List<Integer> expected = new ArrayList<>(graph.getVertices());
+        expected.sort(Comparator.comparingInt(graph::degree).reversed());
+        List<Integer> top = graph.topByDegree(10);
+        assertEquals(10, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(graph.degree(expected.get(i)), graph.degree(top.get(i)));
+        }
+    }
+}
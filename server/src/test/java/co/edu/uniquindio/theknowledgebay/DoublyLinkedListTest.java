@@ -112,4 +112,74 @@ class DoublyLinkedListTest {
         assertFalse(iterator.hasNext());
         assertThrows(NoSuchElementException.class, iterator::next);
     }
+
+    @Test
+    void testGetWalksFromNearestPosition() {
+        for (int i = 0; i < 100; i++) {
+            list.addLast("E" + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals("E" + i, list.get(i));
+        }
+        for (int i = 99; i >= 0; i -= 7) {
+            assertEquals("E" + i, list.get(i));
+        }
+        list.get(50);
+        list.addFirst("X");
+        assertEquals("E50", list.get(51));
+        list.removeAt(51);
+        assertEquals("E51", list.get(51));
+        list.remove("E20");
+        assertEquals("E52", list.get(51));
+        list.clear();
+        list.addLast("A");
+        assertEquals("A", list.get(0));
+    }
+
+    @Test
+    void testCursorIndexAndRemove() {
+        list.addLast("A");
+        list.addLast("B");
+        list.addLast("C");
+        list.addLast("D");
+        DoublyLinkedList<String>.Cursor cursor = list.cursor();
+        assertEquals(-1, cursor.index());
+        assertThrows(IllegalStateException.class, cursor::remove);
+        while (cursor.hasNext()) {
+            String value = cursor.next();
+            if (value.equals("A") || value.equals("C")) {
+                cursor.remove();
+            }
+        }
+        assertEquals(1, cursor.index());
+        assertEquals(2, list.getSize());
+        assertEquals("B <-> D", list.displayForward());
+        assertEquals("D <-> B", list.displayBackward());
+    }
+
+    @Test
+    void testCursorRemoveLastElement() {
+        list.addLast("A");
+        var cursor = list.iterator();
+        cursor.next();
+        cursor.remove();
+        assertTrue(list.isEmpty());
+        assertNull(list.getHead());
+        assertNull(list.getTail());
+        assertThrows(IllegalStateException.class, cursor::remove);
+    }
+
+    @Test
+    void testBulkOperations() {
+        list.addAll(java.util.List.of("A", "B", "C", "D"));
+        assertArrayEquals(new String[]{"A", "B", "C", "D"}, list.toArray(String[]::new));
+        assertEquals(java.util.List.of("A", "B", "C", "D"), list.toList());
+        StringBuilder seen = new StringBuilder();
+        list.forEach(seen::append);
+        assertEquals("ABCD", seen.toString());
+        assertTrue(list.removeIf(s -> s.equals("A") || s.equals("D")));
+        assertFalse(list.removeIf(s -> s.equals("Z")));
+        assertArrayEquals(new String[]{"B", "C"}, list.toArray(String[]::new));
+        assertEquals("C", list.get(1));
+    }
 }
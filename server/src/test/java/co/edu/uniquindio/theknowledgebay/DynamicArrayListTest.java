@@ -0,0 +1,108 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.converter.DynamicArrayListToList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.converter.ListToDynamicArrayList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicArrayListTest {
+
+    private DynamicArrayList<String> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new DynamicArrayList<>();
+    }
+
+    @Test
+    void testAddGrowsPastInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            list.addLast("E" + i);
+        }
+        assertEquals(100, list.getSize());
+        assertEquals("E0", list.get(0));
+        assertEquals("E99", list.get(99));
+    }
+
+    @Test
+    void testAddFirstAndInsertAt() {
+        list.addLast("B");
+        list.addFirst("A");
+        list.insertAt(2, "D");
+        list.insertAt(2, "C");
+        assertEquals("A, B, C, D", list.displayForward());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAt(5, "X"));
+    }
+
+    @Test
+    void testRemoveAndRemoveAt() {
+        list.addAll(List.of("A", "B", "C", "D"));
+        assertTrue(list.remove("B"));
+        assertFalse(list.remove("Z"));
+        assertEquals("D", list.removeAt(2));
+        assertEquals("A, C", list.displayForward());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void testContainsAndIndexOfWithNull() {
+        list.addAll(List.of("A", "B"));
+        list.addLast(null);
+        assertTrue(list.contains("B"));
+        assertEquals(2, list.indexOf(null));
+        assertEquals(-1, list.indexOf("Z"));
+    }
+
+    @Test
+    void testRemoveIfKeepsOrder() {
+        list.addAll(List.of("A", "B", "C", "D", "E"));
+        assertTrue(list.removeIf(s -> s.equals("B") || s.equals("D")));
+        assertFalse(list.removeIf(s -> s.equals("Z")));
+        assertArrayEquals(new String[]{"A", "C", "E"}, list.toArray(String[]::new));
+    }
+
+    @Test
+    void testIteratorRemove() {
+        list.addAll(List.of("A", "B", "C"));
+        Iterator<String> iterator = list.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            if (iterator.next().equals("B")) {
+                iterator.remove();
+            }
+        }
+        assertEquals("A, C", list.displayForward());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testIteratorFailsFastOnConcurrentChange() {
+        list.addAll(List.of("A", "B"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.addLast("C");
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testClearAndEquality() {
+        list.addAll(List.of("A", "B"));
+        DynamicArrayList<String> other = ListToDynamicArrayList.convert(List.of("A", "B"));
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertNotEquals(list, other);
+        assertEquals(List.of("A", "B"), DynamicArrayListToList.convert(other));
+        assertEquals(List.of(), DynamicArrayListToList.convert(null));
+    }
+}
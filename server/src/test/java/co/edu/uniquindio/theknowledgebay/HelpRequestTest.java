@@ -5,6 +5,7 @@ import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
 import co.edu.uniquindio.theknowledgebay.core.model.Student;
 import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
@@ -26,7 +27,7 @@ class HelpRequestTest {
 
         request = HelpRequest.builder()
                 .requestId(1)
-                .topics(new DoublyLinkedList<>())
+                .topics(new DynamicArrayList<>())
                 .information("Necesito ayuda con estructuras de datos")
                 .urgency(Urgency.HIGH)
                 .student(student)
@@ -0,0 +1,43 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.IntArrayList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayListTest {
+
+    @Test
+    void testAddAndGet() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < 50; i++) {
+            list.add(i * 2);
+        }
+        assertEquals(50, list.size());
+        assertEquals(0, list.get(0));
+        assertEquals(98, list.get(49));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(50));
+    }
+
+    @Test
+    void testSetRemoveAndSearch() {
+        IntArrayList list = IntArrayList.of(5, 6, 7, 8);
+        assertEquals(6, list.set(1, 60));
+        assertEquals(7, list.removeAt(2));
+        assertArrayEquals(new int[]{5, 60, 8}, list.toArray());
+        assertTrue(list.contains(8));
+        assertEquals(-1, list.indexOf(7));
+    }
+
+    @Test
+    void testEqualityIgnoresSpareCapacity() {
+        IntArrayList grown = new IntArrayList(16);
+        grown.add(1);
+        grown.add(2);
+        assertEquals(IntArrayList.of(1, 2), grown);
+        assertEquals(IntArrayList.of(1, 2).hashCode(), grown.hashCode());
+        grown.clear();
+        assertTrue(grown.isEmpty());
+        assertEquals(new IntArrayList(), grown);
+    }
+}
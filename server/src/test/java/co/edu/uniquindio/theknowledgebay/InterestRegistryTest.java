@@ -0,0 +1,239 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.model.AnalyticsAggregates;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.InterestRegistry;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.StudyGroup;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterestRegistryTest {
+
+    @AfterEach
+    void tearDown() {
+        UserFactory.getInstance().clear();
+    }
+
+    private static DynamicArrayList<Interest> named(String... names) {
+        DynamicArrayList<Interest> list = new DynamicArrayList<>();
+        for (String name : names) {
+            list.addLast(Interest.builder().name(name).build());
+        }
+        return list;
+    }
+
+    @Test
+    void testLookupsAndDenseOrdinals() {
+        InterestRegistry registry = new InterestRegistry();
+        Interest java = new Interest("1", "Java");
+        Interest sql = new Interest("2", "SQL");
+        assertTrue(registry.register(java));
+        assertTrue(registry.register(sql));
+        assertFalse(registry.register(new Interest("3", " java ")));
+
+        assertSame(java, registry.findByName("  JAVA"));
+        assertSame(sql, registry.findById("2"));
+        assertNull(registry.findByName("Python"));
+        assertEquals(0, java.getOrdinal());
+        assertEquals(1, sql.getOrdinal());
+        assertSame(sql, registry.get(1));
+
+        // A deleted interest frees its ordinal for the next one
+        assertSame(java, registry.removeById("1"));
+        assertEquals(-1, java.getOrdinal());
+        assertNull(registry.findByName("Java"));
+        Interest python = new Interest("4", "Python");
+        registry.register(python);
+        assertEquals(0, python.getOrdinal());
+        assertEquals(2, registry.getOrdinalBound());
+        assertEquals(List.of(sql, python), registry.getAll().toList());
+
+        assertTrue(registry.rename(sql, "Bases de datos"));
+        assertSame(sql, registry.findByName("bases de datos"));
+        assertNull(registry.findByName("SQL"));
+        assertFalse(registry.rename(sql, "PYTHON"));
+    }
+
+    @Test
+    void testCanonicalizeAndReverseIndexes() {
+        InterestRegistry registry = new InterestRegistry();
+        Interest java = new Interest("1", "Java");
+        registry.register(java);
+
+        DynamicArrayList<Interest> interests = named("java", "Cocina");
+        registry.canonicalize(interests);
+        assertSame(java, interests.get(0));
+        assertEquals(-1, interests.get(1).getOrdinal());
+
+        Student ana = Student.builder().id("ana").interests(interests).build();
+        registry.studentInterestsChanged(ana);
+        assertEquals(List.of(ana), registry.getStudents(java));
+
+        ana.setInterests(new DynamicArrayList<>());
+        registry.studentInterestsChanged(ana);
+        assertEquals(0, registry.getStudentCount(java));
+
+        Content content = Content.builder().contentId(7).topics(named("Java")).build();
+        registry.canonicalize(content.getTopics());
+        registry.contentAdded(content);
+        assertEquals(List.of(7), registry.getContentIds(java));
+        registry.contentRemoved(7);
+        assertTrue(registry.getContentIds(java).isEmpty());
+    }
+
+    @Test
+    void testModelSharesCanonicalInterests() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        theKnowledgeBay.addInterest(new Interest("1", "Java"));
+        Interest java = theKnowledgeBay.findInterestByName("JAVA");
+        assertNotNull(java);
+
+        Student ana = Student.builder().id("ana").username("ana").interests(named("Java")).build();
+        Student juan = Student.builder().id("juan").username("juan").interests(named("java")).build();
+        theKnowledgeBay.addStudent(ana);
+        theKnowledgeBay.addStudent(juan);
+        assertSame(java, ana.getInterests().get(0));
+        assertSame(java, juan.getInterests().get(0));
+
+        HelpRequest request = HelpRequest.builder().student(ana).urgency(Urgency.LOW)
+                .requestDate(LocalDate.now()).topics(named("Java")).build();
+        theKnowledgeBay.addHelpRequest(request);
+        assertSame(java, request.getTopics().get(0));
+
+        assertTrue(theKnowledgeBay.updateInterest("1", "Java 21"));
+        assertEquals("Java 21", ana.getInterests().get(0).getName());
+        assertSame(java, theKnowledgeBay.getInterestById("1"));
+        assertTrue(theKnowledgeBay.deleteInterest("1"));
+        assertNull(theKnowledgeBay.findInterestByName("Java 21"));
+        assertFalse(theKnowledgeBay.deleteInterest("1"));
+    }
+
+    @Test
+    void testRenameReindexesTopicIndexes() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        theKnowledgeBay.addInterest(new Interest("1", "Cocina"));
+        Student ana = Student.builder().id("ana").username("ana").interests(named("Cocina")).build();
+        theKnowledgeBay.addStudent(ana);
+        theKnowledgeBay.addContent(Content.builder().title("Recetas").information("Arroz").author(ana)
+                .date(LocalDate.now()).topics(named("Cocina")).build());
+        int contentId = theKnowledgeBay.getAllContent().get(0).getContentId();
+        theKnowledgeBay.addHelpRequest(HelpRequest.builder().student(ana).urgency(Urgency.LOW)
+                .requestDate(LocalDate.now()).topics(named("Cocina")).build());
+
+        assertTrue(theKnowledgeBay.updateInterest("1", "Gastronomía"));
+
+        AnalyticsAggregates analytics = theKnowledgeBay.getAnalytics();
+        assertEquals(0, analytics.getContentCount("Cocina"));
+        assertEquals(1, analytics.getContentCount("Gastronomía"));
+        assertEquals(0, analytics.getHelpRequestCount("Cocina"));
+        assertEquals(1, analytics.getHelpRequestCount("Gastronomía"));
+        assertEquals(List.of("ana"), analytics.getMemberNames("Gastronomía"));
+        assertTrue(analytics.getMemberNames("Cocina").isEmpty());
+        assertEquals(0, theKnowledgeBay.getTopContentCount("Cocina"));
+        assertEquals(1, theKnowledgeBay.getTopContentCount("Gastronomía"));
+        assertEquals(1, theKnowledgeBay.searchContent("gastronomia", 0, 10).total());
+        assertEquals(0, theKnowledgeBay.searchContent("cocina", 0, 10).total());
+        assertEquals(List.of(ana), theKnowledgeBay.searchStudents("gastro", 10));
+        assertTrue(theKnowledgeBay.searchStudents("cocina", 10).isEmpty());
+
+        // Later removals take the counts off the new name
+        assertTrue(theKnowledgeBay.deleteContent(contentId));
+        assertEquals(0, analytics.getContentCount("Gastronomía"));
+        assertEquals(0, theKnowledgeBay.getTopContentCount("Gastronomía"));
+    }
+
+    @Test
+    void testDeleteClearsTopicIndexes() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        theKnowledgeBay.addInterest(new Interest("1", "Cocina"));
+        theKnowledgeBay.addInterest(new Interest("2", "Java"));
+        Student ana = Student.builder().id("ana").username("ana").interests(named("Cocina", "Java")).build();
+        theKnowledgeBay.addStudent(ana);
+        theKnowledgeBay.addContent(Content.builder().title("Recetas").information("Arroz").author(ana)
+                .date(LocalDate.now()).topics(named("Cocina", "Java")).build());
+        Content content = theKnowledgeBay.getAllContent().get(0);
+        theKnowledgeBay.addHelpRequest(HelpRequest.builder().student(ana).urgency(Urgency.LOW)
+                .requestDate(LocalDate.now()).topics(named("Cocina")).build());
+
+        assertTrue(theKnowledgeBay.deleteInterest("1"));
+        assertFalse(theKnowledgeBay.deleteInterest("1"));
+
+        AnalyticsAggregates analytics = theKnowledgeBay.getAnalytics();
+        assertEquals(0, analytics.getContentCount("Cocina"));
+        assertEquals(1, analytics.getContentCount("Java"));
+        assertEquals(0, analytics.getHelpRequestCount("Cocina"));
+        assertTrue(analytics.getMemberNames("Cocina").isEmpty());
+        assertEquals(List.of("ana"), analytics.getMemberNames("Java"));
+        assertEquals(0, theKnowledgeBay.getTopContentCount("Cocina"));
+        assertEquals(1, theKnowledgeBay.getTopContentCount("Java"));
+        assertEquals(0, theKnowledgeBay.searchContent("cocina", 0, 10).total());
+        assertEquals(1, theKnowledgeBay.searchContent("arroz", 0, 10).total());
+        assertTrue(theKnowledgeBay.searchStudents("cocina", 10).isEmpty());
+        assertEquals(List.of(ana), theKnowledgeBay.searchStudents("java", 10));
+        assertEquals(1, content.getTopics().getSize());
+        assertEquals(1, ana.getInterests().getSize());
+
+        // Removing the content afterwards must not touch the deleted topic's counters
+        assertTrue(theKnowledgeBay.deleteContent(content.getContentId()));
+        assertEquals(0, analytics.getContentCount("Java"));
+    }
+
+    @Test
+    void testRemoveForgetsTheTopicGroup() {
+        InterestRegistry registry = new InterestRegistry();
+        Interest cocina = new Interest("1", "Cocina");
+        registry.register(cocina);
+        registry.groupAdded(StudyGroup.builder().id("g1").topic(cocina).build());
+        assertNotNull(registry.findGroupByTopic("cocina"));
+
+        registry.removeById("1");
+
+        assertNull(registry.findGroupByTopic("cocina"));
+    }
+
+    @Test
+    void testInterestBitsAndSimilarity() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        theKnowledgeBay.addInterest(new Interest("1", "Java"));
+        theKnowledgeBay.addInterest(new Interest("2", "SQL"));
+        theKnowledgeBay.addInterest(new Interest("3", "Redes"));
+
+        Student ana = Student.builder().id("ana").username("ana").interests(named("Java", "SQL")).build();
+        Student juan = Student.builder().id("juan").username("juan").interests(named("Java", "SQL", "Redes")).build();
+        Student luis = Student.builder().id("luis").username("luis").interests(named("java")).build();
+        Student eva = Student.builder().id("eva").username("eva").interests(named("Redes")).build();
+        theKnowledgeBay.addStudent(ana);
+        theKnowledgeBay.addStudent(juan);
+        theKnowledgeBay.addStudent(luis);
+        theKnowledgeBay.addStudent(eva);
+
+        assertEquals(2.0 / 3, theKnowledgeBay.getInterestSimilarity("ana", "juan"));
+        assertEquals(0.0, theKnowledgeBay.getInterestSimilarity("ana", "eva"));
+        assertEquals(List.of(juan, luis), theKnowledgeBay.findSimilarStudents("ana", 10));
+        assertEquals(List.of(juan), theKnowledgeBay.findSimilarStudents("ana", 1));
+        assertEquals(List.of(ana, juan, luis), theKnowledgeBay.getStudentsByInterest("JAVA"));
+
+        // A deleted interest's ordinal is reused; it must not make old holders look alike
+        assertTrue(theKnowledgeBay.deleteInterest("3"));
+        assertEquals(0.0, theKnowledgeBay.getInterestSimilarity("juan", "eva"));
+        theKnowledgeBay.addInterest(new Interest("4", "Cocina"));
+        assertEquals(0.0, theKnowledgeBay.getInterestSimilarity("juan", "eva"));
+        assertTrue(theKnowledgeBay.findSimilarStudents("eva", 10).isEmpty());
+    }
+}
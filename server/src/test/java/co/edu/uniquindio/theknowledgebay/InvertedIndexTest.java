@@ -0,0 +1,112 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.SearchPage;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.search.InvertedIndex;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.search.InvertedIndex.Field;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.search.TextAnalyzer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    @AfterEach
+    void tearDown() {
+        UserFactory.getInstance().clear();
+    }
+
+    private static List<Integer> ids(InvertedIndex.Result result) {
+        return result.hits().stream().map(InvertedIndex.Hit::id).toList();
+    }
+
+    @Test
+    void testAnalyzerFoldsAccentsAndDropsStopWords() {
+        assertEquals(List.of("introduccion", "analisis", "numerico", "c99"),
+                TextAnalyzer.analyze("Introducción al ANÁLISIS, numérico (C99) y más"));
+        assertEquals(List.of("pinata"), TextAnalyzer.analyze("¡Piñata!"));
+        assertTrue(TextAnalyzer.analyze(null).isEmpty());
+    }
+
+    @Test
+    void testRanksByBm25() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, new Field("Recursión en Java", 2), new Field("Ejemplos de recursión y pilas", 1));
+        index.put(2, new Field("Bases de datos", 2), new Field("Consultas SQL y un poco de Java", 1));
+        index.put(3, new Field("Árboles AVL", 2), new Field("Rotaciones, sin recursion", 1));
+
+        assertEquals(List.of(1, 3), ids(index.search("recursion", 0, 10)));
+        assertEquals(List.of(1, 2), ids(index.search("java", 0, 10)));
+        // Matching both terms beats matching one
+        assertEquals(1, index.search("java recursión", 0, 10).hits().get(0).id());
+        assertEquals(0, index.search("python", 0, 10).total());
+        assertEquals(0, index.search("de y el", 0, 10).total());
+    }
+
+    @Test
+    void testPagination() {
+        InvertedIndex index = new InvertedIndex();
+        for (int id = 1; id <= 25; id++) {
+            index.put(id, new Field("grafos " + "x".repeat(id), 1));
+        }
+        InvertedIndex.Result first = index.search("grafos", 0, 10);
+        InvertedIndex.Result third = index.search("grafos", 20, 10);
+        assertEquals(25, first.total());
+        assertEquals(10, first.hits().size());
+        assertEquals(5, third.hits().size());
+        // Equal scores fall back to the older document
+        assertEquals(List.of(1, 2, 3), ids(index.search("grafos", 0, 3)));
+        assertTrue(index.search("grafos", 30, 10).hits().isEmpty());
+    }
+
+    @Test
+    void testReplaceRemoveAndCompact() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, new Field("colas de prioridad", 1));
+        index.put(1, new Field("montículos binarios", 1));
+        assertEquals(0, index.search("colas", 0, 10).total());
+        assertEquals(List.of(1), ids(index.search("monticulos", 0, 10)));
+
+        for (int id = 2; id <= 300; id++) {
+            index.put(id, new Field("documento " + id, 1));
+        }
+        for (int id = 2; id <= 250; id++) {
+            assertTrue(index.remove(id));
+        }
+        assertFalse(index.remove(2));
+        assertEquals(51, index.size());
+        assertEquals(50, index.search("documento", 0, 100).total());
+        assertEquals(List.of(300), ids(index.search("300", 0, 10)));
+        assertEquals(List.of(1), ids(index.search("binarios", 0, 10)));
+    }
+
+    @Test
+    void testModelKeepsSearchIndexInSync() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        Student ana = Student.builder().id("ana").username("ana").build();
+        theKnowledgeBay.addStudent(ana);
+        DynamicArrayList<Interest> topics = new DynamicArrayList<>();
+        topics.addLast(new Interest(null, "Programación"));
+        theKnowledgeBay.addContent(Content.builder().title("Árboles AVL").information("Rotaciones").author(ana)
+                .topics(topics).build());
+        theKnowledgeBay.addContent(Content.builder().title("Grafos").information("BFS y DFS").author(ana).build());
+
+        SearchPage<Content> page = theKnowledgeBay.searchContent("arboles", 0, 10);
+        assertEquals(1, page.total());
+        Content avl = page.items().get(0);
+        assertEquals(1, theKnowledgeBay.searchContent("programacion", 0, 10).total());
+
+        assertTrue(theKnowledgeBay.deleteContent(avl.getContentId()));
+        assertEquals(0, theKnowledgeBay.searchContent("rotaciones", 0, 10).total());
+        assertEquals(1, theKnowledgeBay.searchContent("dfs", 0, 10).total());
+    }
+}
@@ -0,0 +1,247 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import co.edu.uniquindio.theknowledgebay.core.repository.journal.JournalEvent;
+import co.edu.uniquindio.theknowledgebay.core.repository.journal.JournalRepository;
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.JournalProperties;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<JournalRepository> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (JournalRepository repository : opened) {
+            repository.stop();
+        }
+        // Students live in the UserFactory singleton shared by every TheKnowledgeBay
+        UserFactory.getInstance().clear();
+    }
+
+    private JournalRepository open() {
+        JournalRepository repository = new JournalRepository(new JournalProperties(true, tempDir.toString(), 4096L, null, null));
+        opened.add(repository);
+        return repository;
+    }
+
+    @Test
+    void testSnapshotThenJournalTail() {
+        JournalRepository repository = open();
+        assertFalse(repository.hasData());
+
+        long generation = repository.rotate();
+        repository.append(new JournalEvent.InterestSaved("1", "ignored, covered by the snapshot"));
+        long next = repository.rotate();
+        repository.writeSnapshot(next, List.of(new JournalEvent.InterestSaved("1", "Java")));
+        repository.append(new JournalEvent.Followed("a", "b"));
+        repository.append(new JournalEvent.ContentDeleted(7));
+        assertTrue(next > generation);
+
+        List<JournalEvent> fromSnapshot = new ArrayList<>();
+        List<JournalEvent> fromJournal = new ArrayList<>();
+        long total = open().recover(fromSnapshot::add, fromJournal::add);
+
+        assertEquals(3, total);
+        assertEquals(List.of(new JournalEvent.InterestSaved("1", "Java")), fromSnapshot);
+        assertEquals(List.of(new JournalEvent.Followed("a", "b"), new JournalEvent.ContentDeleted(7)), fromJournal);
+        assertFalse(Files.exists(tempDir.resolve("journal-" + generation + ".log")), "covered journals are deleted");
+    }
+
+    @Test
+    void testJournalGrowsPastItsMapping() {
+        JournalRepository repository = open();
+        repository.rotate();
+        String text = "x".repeat(1000);
+        for (int i = 0; i < 50; i++) {
+            repository.append(new JournalEvent.MessageSent(1, i, text, "a", LocalDateTime.of(2024, 1, 1, 10, 0)));
+        }
+
+        List<JournalEvent> events = new ArrayList<>();
+        open().recover(events::add, events::add);
+        assertEquals(50, events.size());
+        assertEquals(49, ((JournalEvent.MessageSent) events.get(49)).messageId());
+    }
+
+    @Test
+    void testTornRecordEndsTheJournal() throws IOException, InterruptedException {
+        JournalRepository repository = open();
+        long generation = repository.rotate();
+        repository.append(new JournalEvent.HelpRequestCompleted(1));
+        repository.append(new JournalEvent.HelpRequestCompleted(2));
+        repository.append(new JournalEvent.HelpRequestCompleted(3));
+        repository.stop();
+
+        // Each record is an 8 byte header and a 5 byte payload; damage the second payload
+        try (RandomAccessFile file = new RandomAccessFile(tempDir.resolve("journal-" + generation + ".log").toFile(), "rw")) {
+            file.seek(13 + 8 + 1);
+            file.write(0xFF);
+        }
+
+        List<JournalEvent> events = new ArrayList<>();
+        open().recover(events::add, events::add);
+        assertEquals(List.of(new JournalEvent.HelpRequestCompleted(1)), events);
+    }
+
+    @Test
+    void testModelRoundTrip() {
+        JournalRepository repository = open();
+        TheKnowledgeBay before = new TheKnowledgeBay(null, null);
+        ReflectionTestUtils.setField(before, "journalRepository", repository);
+        before.getUsers().clear();
+
+        Interest java = new Interest("7", "Java");
+        before.addInterest(java);
+        DynamicArrayList<Interest> interests = new DynamicArrayList<>();
+        interests.addLast(java);
+        Student ana = Student.builder().id("ana").username("ana").email("ana@uq.edu.co").interests(interests).build();
+        Student juan = Student.builder().id("juan").username("juan").email("juan@uq.edu.co").build();
+        before.addStudent(ana);
+        before.addStudent(juan);
+        before.initializeAffinityGraph();
+        before.followUser("ana", "juan");
+        before.followUser("juan", "ana");
+        before.addContent(Content.builder().title("Streams").contentType(ContentType.ARTICLE).author(ana)
+                .topics(interests).date(LocalDate.of(2024, 3, 1)).build());
+        int contentId = before.getAllContent().get(0).getContentId();
+        before.likeContent(contentId, "juan");
+
+        before.takeSnapshot();
+
+        // Journal tail on top of the snapshot
+        before.unfollowUser("juan", "ana");
+        before.addHelpRequest(HelpRequest.builder().information("ayuda").urgency(Urgency.HIGH).student(juan)
+                .topics(interests).requestDate(LocalDate.of(2024, 3, 2)).build());
+        int requestId = before.getAllHelpRequests().get(0).getRequestId();
+        before.markHelpRequestAsCompleted(requestId, "juan");
+        Chat chat = before.addChat(Chat.builder().chatId(before.generateChatId()).studentA(ana).studentB(juan)
+                .messages(new DoublyLinkedList<>()).build());
+        before.addMessage(chat, Message.builder().messageId(before.generateMessageId()).text("hola").sender(ana)
+                .timestamp(LocalDateTime.of(2024, 3, 3, 9, 0)).build());
+
+        // A fresh model reading the same directory
+        before.getUsers().clear();
+        TheKnowledgeBay after = new TheKnowledgeBay(null, null);
+        ReflectionTestUtils.setField(after, "journalRepository", open());
+        ReflectionTestUtils.invokeMethod(after, "recoverFromJournal");
+
+        Student recoveredAna = after.findStudentByUsername("ana");
+        Student recoveredJuan = after.findStudentByUsername("juan");
+        assertNotNull(recoveredAna);
+        assertEquals("Java", recoveredAna.getInterests().get(0).getName());
+        assertTrue(recoveredAna.isFollowing(recoveredJuan));
+        assertFalse(recoveredJuan.isFollowing(recoveredAna));
+        assertFalse(after.getAffinityGraph().edgeExists("ana", "juan"), "unfollow in the tail drops the edge");
+
+        Content content = after.getContentById(contentId);
+        assertEquals("Streams", content.getTitle());
+        assertSame(recoveredAna, content.getAuthor());
+        assertEquals(1, content.getLikeCount());
+        assertSame(recoveredJuan, content.getLikedBy().get(0));
+
+        HelpRequest request = after.getHelpRequestById(requestId);
+        assertTrue(request.isCompleted());
+        assertSame(recoveredJuan, request.getStudent());
+
+        assertEquals(1, after.getChats().getSize());
+        assertEquals("hola", after.getChats().get(0).getLastMessage().getText());
+        assertTrue(after.generateChatId() > chat.getChatId(), "id counters move past recovered ids");
+    }
+
+    @Test
+    void testChatMessagesAfterSnapshotSurviveRecovery() {
+        TheKnowledgeBay before = new TheKnowledgeBay(null, null);
+        ReflectionTestUtils.setField(before, "journalRepository", open());
+        before.getUsers().clear();
+        Student ana = Student.builder().id("ana").username("ana").email("ana@uq.edu.co").build();
+        Student juan = Student.builder().id("juan").username("juan").email("juan@uq.edu.co").build();
+        before.addStudent(ana);
+        before.addStudent(juan);
+
+        before.takeSnapshot();
+
+        // Same order as the test data loader: register the chat, then send to the chat it returns
+        Chat chat = before.addChat(Chat.builder().chatId(before.generateChatId()).studentA(ana).studentB(juan)
+                .messages(new DoublyLinkedList<>()).build());
+        before.addMessage(chat, Message.builder().messageId(before.generateMessageId()).text("hola").sender(ana)
+                .timestamp(LocalDateTime.of(2024, 3, 3, 9, 0)).build());
+        before.addMessage(chat, Message.builder().messageId(before.generateMessageId()).text("qué tal").sender(juan)
+                .timestamp(LocalDateTime.of(2024, 3, 3, 9, 5)).build());
+        // A second chat for the pair resolves to the one already registered
+        Chat again = before.addChat(Chat.builder().chatId(before.generateChatId()).studentA(juan).studentB(ana)
+                .messages(new DoublyLinkedList<>()).build());
+        assertSame(chat, again);
+        before.addMessage(again, Message.builder().messageId(before.generateMessageId()).text("bien").sender(ana)
+                .timestamp(LocalDateTime.of(2024, 3, 3, 9, 10)).build());
+
+        before.getUsers().clear();
+        TheKnowledgeBay after = new TheKnowledgeBay(null, null);
+        ReflectionTestUtils.setField(after, "journalRepository", open());
+        ReflectionTestUtils.invokeMethod(after, "recoverFromJournal");
+
+        assertEquals(1, after.getChats().getSize());
+        Chat recovered = after.getChats().get(0);
+        assertEquals(chat.getChatId(), recovered.getChatId());
+        assertEquals(3, recovered.getMessages().getSize());
+        assertEquals("hola", recovered.getMessages().get(0).getText());
+        assertEquals("bien", recovered.getLastMessage().getText());
+    }
+
+    @Test
+    void testDeletedInterestIsDroppedFromReplayedItems() {
+        TheKnowledgeBay before = new TheKnowledgeBay(null, null);
+        ReflectionTestUtils.setField(before, "journalRepository", open());
+        before.getUsers().clear();
+        Interest java = new Interest("7", "Java");
+        before.addInterest(java);
+        before.takeSnapshot();
+
+        DynamicArrayList<Interest> interests = new DynamicArrayList<>();
+        interests.addLast(java);
+        Student ana = Student.builder().id("ana").username("ana").email("ana@uq.edu.co").interests(interests).build();
+        before.addStudent(ana);
+        DynamicArrayList<Interest> topics = new DynamicArrayList<>();
+        topics.addLast(java);
+        before.addContent(Content.builder().title("Streams").contentType(ContentType.ARTICLE).author(ana)
+                .topics(topics).date(LocalDate.of(2024, 3, 1)).build());
+        int contentId = before.getAllContent().get(0).getContentId();
+        assertTrue(before.deleteInterest("7"));
+
+        before.getUsers().clear();
+        TheKnowledgeBay after = new TheKnowledgeBay(null, null);
+        ReflectionTestUtils.setField(after, "journalRepository", open());
+        ReflectionTestUtils.invokeMethod(after, "recoverFromJournal");
+
+        assertNull(after.getInterestById("7"));
+        assertTrue(after.findStudentByUsername("ana").getInterests().isEmpty());
+        assertTrue(after.getContentById(contentId).getTopics().isEmpty());
+    }
+}
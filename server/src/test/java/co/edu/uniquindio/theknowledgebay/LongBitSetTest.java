@@ -0,0 +1,45 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.bitsets.LongBitSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongBitSetTest {
+
+    @Test
+    void testSetOperationsAcrossWords() {
+        long[] a = LongBitSet.of(0, 5, 64, 130);
+        long[] b = LongBitSet.of(5, 130);
+        long[] c = LongBitSet.of(1, 63);
+
+        assertEquals(3, a.length);
+        assertTrue(LongBitSet.get(a, 64));
+        assertFalse(LongBitSet.get(a, 65));
+        assertFalse(LongBitSet.get(b, 1000));
+        assertEquals(4, LongBitSet.cardinality(a));
+
+        assertTrue(LongBitSet.intersects(a, b));
+        assertFalse(LongBitSet.intersects(a, c));
+        assertEquals(2, LongBitSet.intersectionSize(a, b));
+        assertEquals(6, LongBitSet.unionSize(a, c));
+        assertEquals(0.5, LongBitSet.jaccard(a, b));
+        assertEquals(0.0, LongBitSet.jaccard(a, c));
+
+        LongBitSet.clear(a, 64);
+        LongBitSet.clear(a, 9999);
+        assertFalse(LongBitSet.get(a, 64));
+        assertEquals(3, LongBitSet.cardinality(a));
+    }
+
+    @Test
+    void testNullAndEmptyReadAsEmpty() {
+        long[] a = LongBitSet.of(3);
+        assertEquals(0, LongBitSet.of().length);
+        assertFalse(LongBitSet.intersects(a, null));
+        assertEquals(0, LongBitSet.cardinality(null));
+        assertEquals(0.0, LongBitSet.jaccard(null, null));
+        assertEquals(1, LongBitSet.unionSize(a, null));
+        assertThrows(IllegalArgumentException.class, () -> LongBitSet.of(-1));
+    }
+}
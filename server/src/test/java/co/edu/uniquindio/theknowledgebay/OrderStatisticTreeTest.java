@@ -0,0 +1,85 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees.OrderStatisticTree;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatisticTreeTest {
+
+    private OrderStatisticTree<Integer> tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+    }
+
+    @Test
+    void testSelectRankAndPage() {
+        for (int value : new int[]{50, 20, 80, 10, 30, 70, 90}) {
+            assertTrue(tree.insert(value));
+        }
+        assertFalse(tree.insert(30), "duplicates are ignored");
+        assertEquals(7, tree.size());
+
+        assertEquals(10, tree.select(0));
+        assertEquals(50, tree.select(3));
+        assertEquals(90, tree.select(6));
+        assertEquals(3, tree.rank(50));
+        assertEquals(4, tree.rank(55), "rank of an absent value is where it would go");
+        assertEquals(List.of(30, 50, 70), tree.page(2, 3));
+        assertEquals(List.of(80, 90), tree.page(5, 10));
+        assertTrue(tree.page(7, 3).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(7));
+    }
+
+    @Test
+    void testRemove() {
+        for (int i = 1; i <= 10; i++) {
+            tree.insert(i);
+        }
+        assertTrue(tree.remove(4));
+        assertFalse(tree.remove(4));
+        assertTrue(tree.remove(1));
+        assertTrue(tree.remove(10));
+        assertEquals(List.of(2, 3, 5, 6, 7, 8, 9), tree.page(0, 100));
+        assertEquals(2, tree.rank(5));
+    }
+
+    @Test
+    void testMatchesASortedListUnderRandomUpdates() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(1000);
+            int index = Collections.binarySearch(expected, value);
+            if (random.nextInt(3) == 0) {
+                assertEquals(index >= 0, tree.remove(value));
+                if (index >= 0) {
+                    expected.remove(index);
+                }
+            } else {
+                assertEquals(index < 0, tree.insert(value));
+                if (index < 0) {
+                    expected.add(-index - 1, value);
+                }
+            }
+        }
+        assertEquals(expected.size(), tree.size());
+        assertEquals(expected, tree.page(0, expected.size()));
+        for (int rank = 0; rank < expected.size(); rank += 37) {
+            assertEquals(expected.get(rank), tree.select(rank));
+            assertEquals(rank, tree.rank(expected.get(rank)));
+            assertEquals(expected.subList(rank, Math.min(expected.size(), rank + 5)), tree.page(rank, 5));
+        }
+        // AVL height bound: about 1.44 log2(n)
+        assertTrue(tree.getHeight() <= 1.45 * (Math.log(expected.size() + 2) / Math.log(2)));
+    }
+}
@@ -0,0 +1,124 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.Urgency;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.queues.PriorityQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriorityQueueTest {
+
+    private PriorityQueue<HelpRequest> queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new PriorityQueue<>(HelpRequest::getRequestId);
+    }
+
+    private HelpRequest request(int id, Urgency urgency) {
+        return HelpRequest.builder()
+                .requestId(id)
+                .urgency(urgency)
+                .requestDate(LocalDate.of(2025, 5, 1))
+                .build();
+    }
+
+    private List<Integer> ids(Iterable<HelpRequest> requests) {
+        List<Integer> ids = new ArrayList<>();
+        for (HelpRequest r : requests) {
+            ids.add(r.getRequestId());
+        }
+        return ids;
+    }
+
+    @Test
+    void testPollOrderKeepsInsertionOrderForTies() {
+        queue.insert(request(1, Urgency.LOW));
+        queue.insert(request(2, Urgency.HIGH));
+        queue.insert(request(3, Urgency.HIGH));
+        queue.insert(request(4, Urgency.LOW));
+
+        assertEquals(2, queue.poll().getRequestId());
+        assertEquals(3, queue.poll().getRequestId());
+        assertEquals(1, queue.poll().getRequestId());
+        assertEquals(4, queue.dequeue().getRequestId());
+        assertTrue(queue.isEmpty());
+        assertThrows(RuntimeException.class, () -> queue.poll());
+    }
+
+    @Test
+    void testIteratorIsOrderedAndDoesNotDrain() {
+        Random random = new Random(3);
+        Urgency[] urgencies = Urgency.values();
+        for (int i = 1; i <= 200; i++) {
+            queue.insert(request(i, urgencies[random.nextInt(urgencies.length)]));
+        }
+
+        List<Integer> iterated = ids(queue);
+        assertEquals(200, queue.getSize());
+
+        List<Integer> polled = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            polled.add(queue.poll().getRequestId());
+        }
+        assertEquals(polled, iterated);
+    }
+
+    @Test
+    void testGetAndRemoveByKey() {
+        for (int i = 1; i <= 10; i++) {
+            queue.insert(request(i, i % 2 == 0 ? Urgency.HIGH : Urgency.LOW));
+        }
+
+        assertEquals(7, queue.get(7).getRequestId());
+        assertTrue(queue.containsKey(7));
+        assertEquals(7, queue.removeByKey(7).getRequestId());
+        assertNull(queue.get(7));
+        assertNull(queue.removeByKey(7));
+        assertEquals(9, queue.getSize());
+        assertEquals(List.of(2, 4, 6, 8, 10, 1, 3, 5, 9), ids(queue));
+    }
+
+    @Test
+    void testUpdatePriorityAfterMutation() {
+        queue.insert(request(1, Urgency.HIGH));
+        queue.insert(request(2, Urgency.LOW));
+        queue.insert(request(3, Urgency.LOW));
+
+        queue.get(3).setUrgency(Urgency.HIGH);
+        assertTrue(queue.updatePriority(3));
+        queue.get(1).setUrgency(Urgency.LOW);
+        assertTrue(queue.updatePriority(1));
+
+        assertEquals(List.of(3, 1, 2), ids(queue));
+        assertFalse(queue.updatePriority(99));
+    }
+
+    @Test
+    void testInsertWithExistingKeyReplaces() {
+        queue.insert(request(1, Urgency.LOW));
+        queue.insert(request(1, Urgency.HIGH));
+
+        assertEquals(1, queue.getSize());
+        assertEquals(Urgency.HIGH, queue.peek().getUrgency());
+    }
+
+    @Test
+    void testIteratorFailsAfterModification() {
+        queue.insert(request(1, Urgency.LOW));
+        queue.insert(request(2, Urgency.LOW));
+        Iterator<HelpRequest> it = queue.iterator();
+        it.next();
+        queue.insert(request(3, Urgency.LOW));
+        assertThrows(ConcurrentModificationException.class, it::next);
+    }
+}
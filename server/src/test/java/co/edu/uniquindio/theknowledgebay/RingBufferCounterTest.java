@@ -0,0 +1,62 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.timeseries.RingBufferCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferCounterTest {
+
+    private RingBufferCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new RingBufferCounter(4);
+    }
+
+    @Test
+    void testAddAndRange() {
+        assertTrue(counter.add(10, 2));
+        assertTrue(counter.add(12, 1));
+        assertTrue(counter.add(10, 3));
+        assertEquals(5, counter.get(10));
+        assertEquals(0, counter.get(11));
+        assertArrayEquals(new int[]{5, 0, 1, 0}, counter.range(10, 13));
+        assertEquals(6, counter.sum(9, 12));
+        assertEquals(12, counter.getLatest());
+    }
+
+    @Test
+    void testOldBucketsAreRecycled() {
+        counter.add(1, 7);
+        counter.add(2, 1);
+        counter.add(5, 4); // shares a slot with 1, which falls out of the history
+        assertEquals(0, counter.get(1));
+        assertEquals(4, counter.get(5));
+        assertEquals(1, counter.get(2));
+
+        counter.add(6, 1);
+        assertEquals(0, counter.get(2), "bucket 2 is now older than the last 4");
+        assertFalse(counter.add(2, 9), "writes older than the history are ignored");
+        assertArrayEquals(new int[]{0, 0, 4, 1}, counter.range(3, 6));
+    }
+
+    @Test
+    void testNegativeBucketsAndClear() {
+        counter.add(-3, 2);
+        counter.add(-1, -1);
+        assertEquals(2, counter.get(-3));
+        assertEquals(1, counter.sum(-4, -1));
+
+        counter.clear();
+        assertEquals(0, counter.get(-3));
+        assertTrue(counter.add(-100, 1), "after a clear any bucket can be written");
+        assertEquals(1, counter.get(-100));
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferCounter(0));
+    }
+}
@@ -0,0 +1,148 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.repository.BootstrapLoader;
+import co.edu.uniquindio.theknowledgebay.core.repository.SchemaMigrations;
+import co.edu.uniquindio.theknowledgebay.core.repository.WriteBehindRepository;
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.WriteBehindProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigrationsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbc;
+    private SchemaMigrations migrations;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:sqlite:" + tempDir.resolve("test.sqlite"));
+        dataSource.setDriverClassName("org.sqlite.JDBC");
+        jdbc = new JdbcTemplate(dataSource);
+        migrations = new SchemaMigrations(jdbc, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+    }
+
+    private String columnType(String table, String column) {
+        return jdbc.queryForObject("SELECT type FROM pragma_table_info(?) WHERE name = ?", String.class, table, column);
+    }
+
+    // Tables as created by the schema.sql that used INTEGER student and interest ids
+    private void createLegacyTables() {
+        jdbc.execute("""
+                CREATE TABLE students (
+                    id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    username TEXT NOT NULL UNIQUE,
+                    email TEXT NOT NULL UNIQUE,
+                    password TEXT NOT NULL,
+                    first_name TEXT NOT NULL,
+                    last_name TEXT NOT NULL,
+                    date_birth DATE,
+                    biography TEXT
+                )""");
+        jdbc.execute("""
+                CREATE TABLE students_interests (
+                    student_id INTEGER,
+                    interest_id INTEGER,
+                    PRIMARY KEY (student_id, interest_id),
+                    FOREIGN KEY (student_id) REFERENCES students(id)
+                )""");
+        jdbc.execute("""
+                CREATE TABLE chats (
+                    chat_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    student_a_id INTEGER NOT NULL,
+                    student_b_id INTEGER NOT NULL
+                )""");
+    }
+
+    @Test
+    void testConvertsLegacyIdsToText() {
+        createLegacyTables();
+        jdbc.update("INSERT INTO students (username, email, password, first_name, last_name) VALUES ('ana', 'ana@uq.edu.co', 'x', 'Ana', 'Gómez')");
+        jdbc.update("INSERT INTO students_interests (student_id, interest_id) VALUES (1, 7)");
+        jdbc.update("INSERT INTO chats (student_a_id, student_b_id) VALUES (1, 2)");
+        // The email ids the model uses are rejected by an INTEGER PRIMARY KEY
+        assertThrows(Exception.class, () -> jdbc.update(
+                "INSERT INTO students (id, username, email, password, first_name, last_name) VALUES ('juan@uq.edu.co', 'juan', 'juan@uq.edu.co', 'x', 'Juan', 'Pérez')"));
+
+        migrations.migrate();
+
+        assertEquals("TEXT", columnType("students", "id"));
+        assertEquals("TEXT", columnType("students_interests", "student_id"));
+        assertEquals("TEXT", columnType("students_interests", "interest_id"));
+        assertEquals("TEXT", columnType("chats", "student_a_id"));
+        assertEquals("TEXT", columnType("chats", "student_b_id"));
+        assertEquals("1", jdbc.queryForObject("SELECT id FROM students WHERE username = 'ana'", String.class));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM students_interests WHERE student_id = '1'", Integer.class));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM chats WHERE student_a_id = '1'", Integer.class));
+        // Constraints survive the rebuild
+        assertThrows(Exception.class, () -> jdbc.update(
+                "INSERT INTO students (id, username, email, password, first_name, last_name) VALUES ('2', 'ana', 'otra@uq.edu.co', 'x', 'A', 'B')"));
+    }
+
+    @Test
+    void testMigratedDatabaseAcceptsModelStudents() {
+        createLegacyTables();
+        migrations.migrate();
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        WriteBehindRepository writer = new WriteBehindRepository(jdbc,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new WriteBehindProperties(false, null, null, null, null));
+
+        Student student = Student.builder().id("juan@uq.edu.co").username("juan").email("juan@uq.edu.co")
+                .password("x").firstName("Juan").lastName("Pérez").dateBirth(LocalDate.of(1900, 1, 1)).build();
+        writer.saveStudent(student);
+        writer.saveStudent(student);
+
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM students", Integer.class));
+        assertEquals("juan", jdbc.queryForObject("SELECT username FROM students WHERE id = 'juan@uq.edu.co'", String.class));
+    }
+
+    @Test
+    void testAddsContentTypeToLegacyContents() {
+        jdbc.execute("""
+                CREATE TABLE contents (
+                    content_id INTEGER PRIMARY KEY AUTOINCREMENT,
+                    title TEXT NOT NULL,
+                    information TEXT NOT NULL,
+                    author_id TEXT NOT NULL,
+                    like_count INTEGER DEFAULT 0,
+                    date DATE NOT NULL
+                )""");
+        jdbc.update("INSERT INTO contents (title, information, author_id, date) VALUES ('Streams', '...', '1', '2024-03-01')");
+
+        migrations.migrate();
+        migrations.migrate();
+
+        assertEquals("TEXT", columnType("contents", "content_type"));
+        assertNull(jdbc.queryForObject("SELECT content_type FROM contents", String.class));
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        assertEquals(1, new BootstrapLoader(dataSource, 100).load().contents().size());
+    }
+
+    @Test
+    void testCurrentSchemaIsLeftAlone() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        String before = jdbc.queryForObject("SELECT group_concat(sql, ';') FROM sqlite_master", String.class);
+
+        migrations.migrate();
+        migrations.migrate();
+
+        assertEquals(before, jdbc.queryForObject("SELECT group_concat(sql, ';') FROM sqlite_master", String.class));
+        assertEquals("TEXT", columnType("students", "id"));
+    }
+}
@@ -4,6 +4,7 @@ import co.edu.uniquindio.theknowledgebay.core.model.HelpRequest;
 import co.edu.uniquindio.theknowledgebay.core.model.Message;
 import co.edu.uniquindio.theknowledgebay.core.model.Student;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
@@ -22,7 +23,7 @@ class StudentTest {
                 .lastName("Perez")
                 .dateBirth(LocalDate.of(2000, 1, 1))
                 .biography("Estudiante de prueba")
-                .interests(new DoublyLinkedList<>())
+                .interests(new DynamicArrayList<>())
                 .publishedContents(new DoublyLinkedList<>())
                 .helpRequests(new DoublyLinkedList<>())
                 .studyGroups(new DoublyLinkedList<>())
@@ -70,4 +71,51 @@ class StudentTest {
         assertFalse(student.login());
         student.logout();
     }
+
+    @Test
+    void testFollowRelationships() {
+        Student other = Student.builder().id("s2").username("other").build();
+        Student third = Student.builder().id("s3").username("third").build();
+        Student sameIdAsOther = Student.builder().id("s2").username("copy").build();
+
+        student.addFollowing(other);
+        student.addFollowing(sameIdAsOther); // same id: not a new relationship
+        student.addFollowing(third);
+        other.addFollower(student);
+
+        assertTrue(student.isFollowing(other));
+        assertEquals(2, student.getFollowingCount());
+        assertEquals(1, other.getFollowersCount());
+        assertTrue(other.hasFollower(student));
+        assertEquals(2, student.getFollowing().getSize());
+
+        assertTrue(student.removeFollowing(other));
+        assertFalse(student.removeFollowing(other));
+        assertFalse(student.isFollowing(other));
+        assertEquals(1, student.getFollowingCount());
+    }
+
+    @Test
+    void testMutualFollowDoesNotBreakEqualsOrToString() {
+        Student other = Student.builder().id("s2").username("other").build();
+        student.addFollowing(other);
+        other.addFollowing(student);
+        student.addFollower(other);
+        other.addFollower(student);
+
+        assertNotNull(student.toString());
+        assertEquals(student.hashCode(), student.hashCode());
+        assertNotEquals(student, other);
+    }
+
+    @Test
+    void testFollowersPage() {
+        for (int i = 0; i < 5; i++) {
+            student.addFollower(Student.builder().id("f" + i).build());
+        }
+        assertEquals(2, student.getFollowersPage(0, 2).size());
+        assertEquals("f2", student.getFollowersPage(2, 2).get(0).getId());
+        assertEquals(1, student.getFollowersPage(4, 2).size());
+        assertTrue(student.getFollowersPage(5, 2).isEmpty());
+    }
 }
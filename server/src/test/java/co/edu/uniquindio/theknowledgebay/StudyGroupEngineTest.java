@@ -0,0 +1,108 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.InterestRegistry;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.StudyGroup;
+import co.edu.uniquindio.theknowledgebay.core.model.StudyGroupEngine;
+import co.edu.uniquindio.theknowledgebay.core.model.TheKnowledgeBay;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StudyGroupEngineTest {
+
+    @AfterEach
+    void tearDown() {
+        UserFactory.getInstance().clear();
+    }
+
+    private static Student student(InterestRegistry registry, String id, Interest... interests) {
+        DynamicArrayList<Interest> list = new DynamicArrayList<>();
+        for (Interest interest : interests) {
+            list.addLast(interest);
+        }
+        Student student = Student.builder().id(id).username(id).interests(list).build();
+        registry.studentInterestsChanged(student);
+        return student;
+    }
+
+    @Test
+    void testGroupIsCreatedWhenTheSecondStudentArrives() {
+        InterestRegistry registry = new InterestRegistry();
+        Interest java = new Interest("1", "Java");
+        Interest sql = new Interest("2", "Bases de Datos");
+        registry.register(java);
+        registry.register(sql);
+        StudyGroupEngine engine = new StudyGroupEngine(registry);
+
+        Student ana = student(registry, "ana", java, sql);
+        assertTrue(engine.update(ana).isEmpty());
+        assertTrue(ana.getStudyGroups().isEmpty());
+
+        Student juan = student(registry, "juan", java);
+        List<StudyGroup> created = engine.update(juan);
+        assertEquals(1, created.size());
+        StudyGroup group = created.get(0);
+        assertEquals("java-group", group.getId());
+        assertEquals("Grupo de Java", group.getName());
+        assertSame(java, group.getTopic());
+        assertEquals(List.of(ana, juan), group.getMembers().toList());
+        assertEquals(List.of(group), ana.getStudyGroups().toList());
+        assertSame(group, registry.findGroupByTopic("java"));
+
+        // Later students join the existing group, once
+        Student luis = student(registry, "luis", java);
+        assertTrue(engine.update(luis).isEmpty());
+        assertTrue(engine.update(luis).isEmpty());
+        assertEquals(3, group.getMembers().getSize());
+        assertEquals(1, luis.getStudyGroups().getSize());
+    }
+
+    @Test
+    void testBatchMatchesOneByOne() {
+        InterestRegistry registry = new InterestRegistry();
+        Interest java = new Interest("1", "Java");
+        Interest sql = new Interest("2", "SQL");
+        Interest redes = new Interest("3", "Redes");
+        registry.register(java);
+        registry.register(sql);
+        registry.register(redes);
+        StudyGroupEngine engine = new StudyGroupEngine(registry);
+
+        Student ana = student(registry, "ana", java, sql);
+        Student juan = student(registry, "juan", java, redes);
+        Student luis = student(registry, "luis", sql);
+        Student eva = student(registry, "eva", redes, java);
+
+        List<StudyGroup> created = engine.updateAll(List.of(ana, juan, luis, eva));
+        assertEquals(3, created.size());
+        assertEquals(List.of(ana, juan, eva), registry.findGroupByTopic("Java").getMembers().toList());
+        assertEquals(List.of(ana, luis), registry.findGroupByTopic("SQL").getMembers().toList());
+        assertEquals(2, eva.getStudyGroups().getSize());
+        assertTrue(engine.updateAll(List.of(ana, juan, luis, eva)).isEmpty());
+        assertEquals(3, registry.findGroupByTopic("Java").getMembers().getSize());
+    }
+
+    @Test
+    void testModelCreatesGroupsOnProfileUpdate() {
+        TheKnowledgeBay theKnowledgeBay = new TheKnowledgeBay(null, null);
+        theKnowledgeBay.getUsers().clear();
+        theKnowledgeBay.addInterest(new Interest("1", "Java"));
+        Student ana = Student.builder().id("ana").username("ana").build();
+        Student juan = Student.builder().id("juan").username("juan").build();
+        theKnowledgeBay.addStudent(ana);
+        theKnowledgeBay.addStudent(juan);
+
+        theKnowledgeBay.updateUser("ana", Student.builder().build(), List.of("Java"));
+        assertEquals(0, theKnowledgeBay.getStudyGroups().getSize());
+        theKnowledgeBay.updateUser("juan", Student.builder().build(), List.of("java"));
+        assertEquals(1, theKnowledgeBay.getStudyGroups().getSize());
+        assertEquals(2, theKnowledgeBay.getStudyGroups().get(0).getMembers().getSize());
+    }
+}
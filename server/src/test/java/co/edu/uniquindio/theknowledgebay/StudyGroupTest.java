@@ -3,6 +3,7 @@ import co.edu.uniquindio.theknowledgebay.core.model.Interest;
 import co.edu.uniquindio.theknowledgebay.core.model.Student;
 import co.edu.uniquindio.theknowledgebay.core.model.StudyGroup;
 import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -23,7 +24,7 @@ class StudyGroupTest {
         studyGroup = StudyGroup.builder()
                 .id("101")
                 .name("Grupo de Álgebra")
-                .members(new DoublyLinkedList<>())
+                .members(new DynamicArrayList<>())
                 .topic(Interest.builder().idInterest("1").name("Matemáticas").build())
                 .date(LocalDate.of(2024, 5, 15))
                 .hidden(false)
@@ -57,7 +58,7 @@ class StudyGroupTest {
         StudyGroup group = StudyGroup.builder()
                 .id("200")
                 .name("Física Cuántica")
-                .members(new DoublyLinkedList<>())
+                .members(new DynamicArrayList<>())
                 .topic(Interest.builder().idInterest("2").name("Física").build())
                 .date(LocalDate.now())
                 .hidden(true)
@@ -72,12 +73,12 @@ class StudyGroupTest {
 
     @Test
     void testEqualsAndHashCode() {
-        StudyGroup g1 = new StudyGroup("1", "Grupo 1", new DoublyLinkedList<>(),
+        StudyGroup g1 = new StudyGroup("1", "Grupo 1", new DynamicArrayList<>(),
                 Interest.builder().idInterest("1").name("Redes").build(),
                 LocalDate.of(2024, 5, 1), false,
                 new DoublyLinkedList<>(), new DoublyLinkedList<>());
 
-        StudyGroup g2 = new StudyGroup("1", "Grupo 1", new DoublyLinkedList<>(),
+        StudyGroup g2 = new StudyGroup("1", "Grupo 1", new DynamicArrayList<>(),
                 Interest.builder().idInterest("1").name("Redes").build(),
                 LocalDate.of(2024, 5, 1), false,
                 new DoublyLinkedList<>(), new DoublyLinkedList<>());
@@ -0,0 +1,70 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.UndirectedGraph;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UndirectedGraphTest {
+
+    private UndirectedGraph<String> graph;
+
+    @BeforeEach
+    void setUp() {
+        graph = new UndirectedGraph<>();
+        graph.addVertex("A");
+        graph.addVertex("B");
+        graph.addVertex("C");
+    }
+
+    @Test
+    void testAddVertexIgnoresDuplicates() {
+        graph.addVertex("A");
+        assertEquals(3, graph.getVertexCount());
+        assertTrue(graph.containsVertex("A"));
+        assertFalse(graph.containsVertex("Z"));
+    }
+
+    @Test
+    void testAddEdgeIsSymmetricAndIdempotent() {
+        graph.addEdge("A", "B");
+        graph.addEdge("B", "A");
+
+        assertTrue(graph.edgeExists("A", "B"));
+        assertTrue(graph.edgeExists("B", "A"));
+        assertFalse(graph.edgeExists("A", "C"));
+        assertEquals(1, graph.getEdgeCount());
+        assertEquals(Set.of("B"), graph.getNeighbors("A"));
+        assertEquals(1, graph.degree("B"));
+    }
+
+    @Test
+    void testAddEdgeWithMissingVertexThrows() {
+        assertThrows(RuntimeException.class, () -> graph.addEdge("A", "Z"));
+    }
+
+    @Test
+    void testRemoveEdge() {
+        graph.addEdge("A", "B");
+        assertTrue(graph.removeEdge("B", "A"));
+        assertFalse(graph.removeEdge("A", "B"));
+        assertFalse(graph.edgeExists("A", "B"));
+        assertEquals(0, graph.getEdgeCount());
+    }
+
+    @Test
+    void testRemoveVertexDropsItsEdges() {
+        graph.addEdge("A", "B");
+        graph.addEdge("A", "C");
+        graph.addEdge("B", "C");
+
+        assertTrue(graph.removeVertex("A"));
+        assertEquals(2, graph.getVertexCount());
+        assertEquals(1, graph.getEdgeCount());
+        assertEquals(Set.of("C"), graph.getNeighbors("B"));
+        assertTrue(graph.getNeighbors("A").isEmpty());
+    }
+}
@@ -16,8 +16,8 @@ class UserFactoryTest {
     @BeforeEach
     void setUp() {
         userFactory = UserFactory.getInstance();
-        // Reset factory state if necessary, though getInstance implies singleton
-        // For true isolation, might need a reset method or new instance creation if possible
+        // getInstance implies singleton, so reset its state between tests
+        userFactory.clear();
     }
 
     @Test
@@ -51,4 +51,42 @@ class UserFactoryTest {
         assertTrue(userFactory.getStudents().contains(student1));
         assertTrue(userFactory.getStudents().contains(student2));
     }
+
+    @Test
+    void testFindStudentByIdEmailAndUsername() {
+        Student student = Student.builder().id("s1").username("Stud1").email("Stud1@Example.com").build();
+        userFactory.add(student);
+
+        assertSame(student, userFactory.findStudentById("s1"));
+        assertSame(student, userFactory.findStudentByEmail("stud1@example.com"));
+        assertSame(student, userFactory.findStudentByUsername("STUD1"));
+        assertNull(userFactory.findStudentById("missing"));
+        assertNull(userFactory.findStudentByEmail(null));
+    }
+
+    @Test
+    void testReindexAfterUpdate() {
+        Student student = Student.builder().id("s1").username("old").email("old@example.com").build();
+        userFactory.add(student);
+
+        student.setUsername("new");
+        student.setEmail("new@example.com");
+        userFactory.reindex(student);
+
+        assertNull(userFactory.findStudentByUsername("old"));
+        assertNull(userFactory.findStudentByEmail("old@example.com"));
+        assertSame(student, userFactory.findStudentByUsername("new"));
+        assertSame(student, userFactory.findStudentByEmail("new@example.com"));
+    }
+
+    @Test
+    void testClearEmptiesIndexes() {
+        userFactory.add(Student.builder().id("s1").username("stud1").email("s1@example.com").build());
+
+        userFactory.clear();
+
+        assertTrue(userFactory.getStudents().isEmpty());
+        assertNull(userFactory.findStudentById("s1"));
+        assertNull(userFactory.findStudentByEmail("s1@example.com"));
+    }
 }
@@ -0,0 +1,122 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserFactory;
+import co.edu.uniquindio.theknowledgebay.core.factory.UserSearchIndex;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserSearchIndexTest {
+
+    @AfterEach
+    void tearDown() {
+        UserFactory.getInstance().clear();
+    }
+
+    private static Student student(String username, String firstName, String lastName, String... interests) {
+        DynamicArrayList<Interest> list = new DynamicArrayList<>();
+        for (String interest : interests) {
+            list.addLast(new Interest(interest, interest));
+        }
+        return Student.builder().id(username).username(username).firstName(firstName).lastName(lastName)
+                .email(username + "@uniquindio.edu.co").interests(list).build();
+    }
+
+    private static List<String> usernames(List<Student> students) {
+        List<String> names = new ArrayList<>();
+        for (Student s : students) {
+            names.add(s.getUsername());
+        }
+        return names;
+    }
+
+    @Test
+    void testRanksUsernameMatchesFirst() {
+        UserSearchIndex index = new UserSearchIndex();
+        index.index(student("mariana", "Mariana", "Lopez"));
+        index.index(student("ana", "Ana", "Gomez"));
+        index.index(student("juan", "Juan", "Santana"));
+        index.index(student("anabel", "Anabel", "Ruiz"));
+        index.index(student("pedro", "Pedro", "Perez", "Análisis numérico"));
+
+        // Exact username, username prefix, inside a username, inside a name, then interests
+        assertEquals(List.of("ana", "anabel", "mariana", "juan", "pedro"), usernames(index.search("ANA", 10)));
+        assertEquals(List.of("ana", "anabel"), usernames(index.search("ana", 2)));
+        assertTrue(index.search("xyz", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    void testIgnoresAccentsAndMatchesWordPrefixesForShortQueries() {
+        UserSearchIndex index = new UserSearchIndex();
+        index.index(student("jose", "José", "Martínez"));
+        index.index(student("camila", "Camila", "Rojas", "Bases de datos"));
+
+        assertEquals(List.of("jose"), usernames(index.search("martinez", 10)));
+        assertEquals(List.of("jose"), usernames(index.search("JOSÉ", 10)));
+        assertEquals(List.of("camila"), usernames(index.search("da", 10)));
+        assertEquals(List.of("camila", "jose"), usernames(index.search("u", 10)).stream().sorted().toList());
+    }
+
+    @Test
+    void testReindexAndRemove() {
+        UserSearchIndex index = new UserSearchIndex();
+        Student ana = student("ana", "Ana", "Gomez");
+        index.index(ana);
+
+        ana.setUsername("anita");
+        ana.setLastName("Torres");
+        index.index(ana);
+        assertTrue(index.search("gomez", 10).isEmpty());
+        assertEquals(List.of(ana), index.search("torres", 10));
+        assertEquals(1, index.size());
+
+        index.remove(ana);
+        assertTrue(index.search("anita", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testSurvivesManyReindexes() {
+        UserSearchIndex index = new UserSearchIndex();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Student s = student("user" + i, "Nombre", "Apellido");
+            students.add(s);
+            index.index(s);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (Student s : students) {
+                s.setLastName("Round" + round);
+                index.index(s);
+            }
+        }
+        assertEquals(50, index.size());
+        assertEquals(50, index.search("round4", 100).size());
+        assertTrue(index.search("round3", 100).isEmpty());
+        assertEquals(List.of("user7"), usernames(index.search("user7", 1)));
+    }
+
+    @Test
+    void testUserFactoryKeepsIndexInSync() {
+        UserFactory users = UserFactory.getInstance();
+        users.clear();
+        Student ana = student("ana", "Ana", "Gomez");
+        users.add(ana);
+        assertEquals(List.of(ana), users.searchStudents("gomez", 5));
+
+        ana.setFirstName("Ariana");
+        users.reindex(ana);
+        assertEquals(List.of(ana), users.searchStudents("ariana", 5));
+
+        users.clear();
+        assertTrue(users.searchStudents("ana", 5).isEmpty());
+    }
+}
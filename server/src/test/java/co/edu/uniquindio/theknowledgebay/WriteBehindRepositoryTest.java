@@ -0,0 +1,232 @@
+package co.edu.uniquindio.theknowledgebay;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.enums.ContentType;
+import co.edu.uniquindio.theknowledgebay.core.repository.WriteBehindRepository;
+import co.edu.uniquindio.theknowledgebay.infrastructure.config.WriteBehindProperties;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private WriteBehindRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:sqlite:" + tempDir.resolve("test.sqlite"));
+        dataSource.setDriverClassName("org.sqlite.JDBC");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        // Long interval so only explicit flushes write
+        repository = new WriteBehindRepository(jdbcTemplate, transactionTemplate,
+                new WriteBehindProperties(true, 100, 50, 60_000L, null));
+        repository.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        repository.stop();
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private Content content(int id) {
+        DynamicArrayList<Interest> topics = new DynamicArrayList<>();
+        topics.addLast(new Interest("7", "Java"));
+        return Content.builder()
+                .contentId(id)
+                .title("Content " + id)
+                .contentType(ContentType.ARTICLE)
+                .information("info")
+                .author(Student.builder().id("1").build())
+                .topics(topics)
+                .date(LocalDate.of(2024, 1, 1))
+                .build();
+    }
+
+    @Test
+    void testWritesAreDeferredUntilFlush() {
+        repository.saveContent(content(1));
+        assertEquals(0, count("contents"));
+        assertTrue(repository.getQueueDepth() > 0);
+
+        repository.flush();
+
+        assertEquals(1, count("contents"));
+        assertEquals(1, count("content_topics"));
+        assertEquals(0, repository.getQueueDepth());
+        assertEquals("ARTICLE", jdbcTemplate.queryForObject(
+                "SELECT content_type FROM contents WHERE content_id = 1", String.class));
+    }
+
+    @Test
+    void testLikesAndDeletesReplayInOrder() {
+        repository.saveContent(content(1));
+        repository.saveLike(1, "2", 1);
+        repository.saveLike(1, "3", 2);
+        repository.deleteLike(1, "2", 1);
+        repository.flush();
+
+        assertEquals(1, count("content_likes"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT like_count FROM contents WHERE content_id = 1", Integer.class));
+
+        repository.deleteContent(1);
+        repository.flush();
+        assertEquals(0, count("contents"));
+        assertEquals(0, count("content_likes"));
+        assertEquals(0, count("content_topics"));
+    }
+
+    @Test
+    void testInterestAndFollowWrites() {
+        Interest interest = new Interest(UUID.randomUUID().toString(), "Java");
+        repository.saveInterest(interest);
+        Student ana = Student.builder().id("ana@uq.edu.co").username("ana").email("ana@uq.edu.co").password("x")
+                .firstName("Ana").lastName("Gómez").interests(new DynamicArrayList<>()).build();
+        ana.getInterests().addLast(interest);
+        repository.saveStudentInterests(ana);
+        repository.saveContent(content(1));
+        repository.saveFollow("ana@uq.edu.co", "juan@uq.edu.co");
+        repository.saveFollow("juan@uq.edu.co", "ana@uq.edu.co");
+        repository.deleteFollow("juan@uq.edu.co", "ana@uq.edu.co");
+        interest.setName("Java avanzado");
+        repository.saveInterest(interest);
+        repository.flush();
+
+        assertEquals(1, count("interests"));
+        assertEquals("Java avanzado", jdbcTemplate.queryForObject(
+                "SELECT name FROM interests WHERE id_interest = ?", String.class, interest.getIdInterest()));
+        assertEquals(1, count("students_interests"));
+        assertEquals("ana@uq.edu.co", jdbcTemplate.queryForObject("SELECT follower_id FROM follows", String.class));
+
+        repository.deleteInterest(interest.getIdInterest());
+        repository.deleteInterest("7");
+        repository.flush();
+        assertEquals(0, count("interests"));
+        assertEquals(0, count("students_interests"));
+        assertEquals(0, count("content_topics"));
+        assertEquals(0L, repository.getStats().get("failedWrites"));
+    }
+
+    @Test
+    void testSavingTwiceReplacesTheRow() {
+        Content content = content(1);
+        repository.saveContent(content);
+        content.setTitle("Renamed");
+        repository.saveContent(content);
+        repository.flush();
+
+        assertEquals(1, count("contents"));
+        assertEquals("Renamed", jdbcTemplate.queryForObject("SELECT title FROM contents", String.class));
+    }
+
+    @Test
+    void testUniqueCollisionFailsInsteadOfReplacingTheOtherRow() {
+        Student ana = Student.builder().id("ana@uq.edu.co").username("ana").email("ana@uq.edu.co").password("x")
+                .firstName("Ana").lastName("Gómez").build();
+        Student clash = Student.builder().id("otra@uq.edu.co").username("ana").email("otra@uq.edu.co").password("x")
+                .firstName("Otra").lastName("Ana").build();
+        repository.saveStudent(ana);
+        repository.saveStudent(clash);
+        repository.saveInterest(new Interest("7", "Java"));
+        repository.saveInterest(new Interest("8", "Java"));
+        ana.setBiography("Hola");
+        repository.saveStudent(ana);
+        repository.flush();
+
+        assertEquals(1, count("students"));
+        assertEquals("Hola", jdbcTemplate.queryForObject(
+                "SELECT biography FROM students WHERE id = 'ana@uq.edu.co'", String.class));
+        assertEquals("7", jdbcTemplate.queryForObject("SELECT id_interest FROM interests", String.class));
+        assertEquals(2L, repository.getStats().get("failedWrites"));
+    }
+
+    @Test
+    void testFailedRowDoesNotDropTheBatch() {
+        Student a = Student.builder().id("1").build();
+        Student b = Student.builder().id("2").build();
+        Chat chat = Chat.builder().chatId(1).studentA(a).studentB(b).build();
+        repository.saveChat(chat);
+        // text is NOT NULL, so this row fails on its own
+        repository.saveMessage(chat, Message.builder().messageId(1).text(null).sender(a).timestamp(LocalDateTime.now()).build());
+        repository.saveMessage(chat, Message.builder().messageId(2).text("hola").sender(a).timestamp(LocalDateTime.now()).build());
+        repository.flush();
+
+        assertEquals(1, count("chats"));
+        assertEquals(1, count("messages"));
+        assertEquals(1L, repository.getStats().get("failedWrites"));
+    }
+
+    @Test
+    void testFullBatchFlushesWithoutWaitingForTheInterval() throws InterruptedException {
+        for (int i = 1; i <= 60; i++) {
+            repository.saveContent(content(i));
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (count("contents") < 20 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(count("contents") >= 20);
+    }
+
+    @Test
+    void testFullQueueWritesOnTheCallerInsteadOfBlocking() throws InterruptedException {
+        repository.stop();
+        repository = new WriteBehindRepository(jdbcTemplate, transactionTemplate,
+                new WriteBehindProperties(true, 2, 50, 60_000L, 0L));
+        repository.start();
+
+        repository.saveContent(content(1));
+        repository.saveLike(1, "2", 1);
+        repository.deleteLike(1, "2", 0);
+        repository.saveContent(content(2));
+
+        // Everything but the last queued writes already reached the database, in order
+        assertTrue(repository.getQueueDepth() <= 2);
+        assertEquals(2, count("contents"));
+        assertEquals(0, count("content_likes"));
+        assertTrue((Long) repository.getStats().get("overflowWrites") > 0);
+        repository.flush();
+        assertEquals(2, count("content_topics"));
+    }
+
+    @Test
+    void testDisabledWritesImmediately() throws InterruptedException {
+        repository.stop();
+        repository = new WriteBehindRepository(jdbcTemplate, transactionTemplate,
+                new WriteBehindProperties(false, null, null, null, null));
+        repository.start();
+
+        repository.saveContent(content(5));
+        assertEquals(1, count("contents"));
+        assertEquals(0, repository.getQueueDepth());
+    }
+}
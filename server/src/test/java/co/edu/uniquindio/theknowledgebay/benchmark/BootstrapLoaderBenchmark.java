@@ -0,0 +1,100 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.core.repository.BootstrapLoader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Cold-start cost of rebuilding every aggregate from a seeded SQLite file.
+ * The target is well under five seconds for 100k students and 1M contents.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.BootstrapLoaderBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BootstrapLoaderBenchmark {
+
+    private static final int CHUNK = 10_000;
+
+    @Param({"100000"})
+    private int students;
+
+    @Param({"1000000"})
+    private int contents;
+
+    private Path file;
+    private BootstrapLoader loader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("bootstrap-bench", ".sqlite");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:sqlite:" + file);
+        dataSource.setDriverClassName("org.sqlite.JDBC");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        for (int i = 0; i < 20; i++) {
+            jdbc.update("INSERT INTO interests (id_interest, name) VALUES (?, ?)", i, "interest" + i);
+        }
+        insertChunked(tx, jdbc, students,
+                "INSERT INTO students (id, username, email, password, first_name, last_name) VALUES (?, ?, ?, ?, ?, ?)",
+                i -> new Object[]{i, "user" + i, "user" + i + "@uq.edu.co", "x", "Nombre", "Apellido"});
+        insertChunked(tx, jdbc, students,
+                "INSERT INTO students_interests (student_id, interest_id) VALUES (?, ?)",
+                i -> new Object[]{i, i % 20});
+        insertChunked(tx, jdbc, contents,
+                "INSERT INTO contents (content_id, title, content_type, information, author_id, date) VALUES (?, ?, 'ARTICLE', ?, ?, '2024-01-01')",
+                i -> new Object[]{i, "title" + i, "body" + i, i % students});
+        insertChunked(tx, jdbc, contents,
+                "INSERT INTO content_topics (content_id, interest_id) VALUES (?, ?)",
+                i -> new Object[]{i, i % 20});
+
+        loader = new BootstrapLoader(dataSource, 1000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public BootstrapLoader.Result load() {
+        return loader.load();
+    }
+
+    private static void insertChunked(TransactionTemplate tx, JdbcTemplate jdbc, int rows, String sql,
+                                      IntFunction<Object[]> row) {
+        for (int start = 0; start < rows; start += CHUNK) {
+            List<Object[]> batch = new ArrayList<>(CHUNK);
+            for (int i = start; i < Math.min(rows, start + CHUNK); i++) {
+                batch.add(row.apply(i));
+            }
+            tx.executeWithoutResult(status -> jdbc.batchUpdate(sql, batch));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BootstrapLoaderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
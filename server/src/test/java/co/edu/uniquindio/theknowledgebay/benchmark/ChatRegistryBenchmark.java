@@ -0,0 +1,133 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Chat;
+import co.edu.uniquindio.theknowledgebay.core.model.ChatRegistry;
+import co.edu.uniquindio.theknowledgebay.core.model.Message;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the chat registry against the linked-list scan ChatService used
+ * before, for finding a pair's chat and for listing a user's contacts.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.ChatRegistryBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatRegistryBenchmark {
+
+    private static final int STUDENTS = 10_000;
+
+    @Param({"100000"})
+    private int chats;
+
+    private ChatRegistry registry;
+    private String[][] pairs;
+    private String[] users;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Student[] students = new Student[STUDENTS];
+        for (int i = 0; i < STUDENTS; i++) {
+            students[i] = Student.builder().id(String.valueOf(i)).username("user" + i).build();
+        }
+        registry = new ChatRegistry();
+        Random random = new Random(42);
+        int id = 1;
+        while (registry.size() < chats) {
+            Student a = students[random.nextInt(STUDENTS)];
+            Student b = students[random.nextInt(STUDENTS)];
+            if (a == b) {
+                continue;
+            }
+            Chat chat = Chat.builder().chatId(id++).studentA(a).studentB(b).messages(new DoublyLinkedList<>()).build();
+            for (int m = 0; m < 5; m++) {
+                chat.sendMessage(Message.builder().messageId(m).text("msg " + m).sender(a).build());
+            }
+            registry.register(chat);
+        }
+        pairs = new String[1024][];
+        users = new String[1024];
+        DoublyLinkedNode<Chat> node = registry.getChats().getHead();
+        for (int i = 0; i < pairs.length; i++) {
+            for (int skip = random.nextInt(64); skip > 0 && node.getNext() != null; skip--) {
+                node = node.getNext();
+            }
+            Chat chat = node.getData();
+            pairs[i] = new String[]{chat.getStudentB().getId(), chat.getStudentA().getId()};
+            users[i] = String.valueOf(random.nextInt(STUDENTS));
+        }
+    }
+
+    private static String key(String a, String b) {
+        String[] ids = {a, b};
+        Arrays.sort(ids);
+        return ids[0] + "_" + ids[1];
+    }
+
+    @Benchmark
+    public Chat scanFindChat() {
+        String[] pair = pairs[cursor++ & 1023];
+        String wanted = key(pair[0], pair[1]);
+        DoublyLinkedNode<Chat> current = registry.getChats().getHead();
+        while (current != null) {
+            Chat chat = current.getData();
+            if (wanted.equals(key(chat.getStudentA().getId(), chat.getStudentB().getId()))) {
+                return chat;
+            }
+            current = current.getNext();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Chat registryFindChat() {
+        String[] pair = pairs[cursor++ & 1023];
+        return registry.find(pair[0], pair[1]);
+    }
+
+    @Benchmark
+    public void scanContacts(Blackhole bh) {
+        String userId = users[cursor++ & 1023];
+        DoublyLinkedNode<Chat> current = registry.getChats().getHead();
+        while (current != null) {
+            Chat chat = current.getData();
+            if (chat.getStudentA().getId().equals(userId) || chat.getStudentB().getId().equals(userId)) {
+                DoublyLinkedNode<Message> last = chat.getMessages().getHead();
+                while (last.getNext() != null) {
+                    last = last.getNext();
+                }
+                bh.consume(last.getData());
+            }
+            current = current.getNext();
+        }
+    }
+
+    @Benchmark
+    public void registryContacts(Blackhole bh) {
+        for (Chat chat : registry.getInbox(users[cursor++ & 1023])) {
+            bh.consume(chat.getLastMessage());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ChatRegistryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
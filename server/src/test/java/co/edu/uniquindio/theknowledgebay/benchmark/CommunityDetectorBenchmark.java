@@ -0,0 +1,97 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.CommunityDetector;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.graphs.CsrGraph;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Label propagation on synthetic graphs with planted communities (groups of
+ * 100 vertices, 90% of the edges inside a group), on the common pool and on
+ * a single thread.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.CommunityDetectorBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+@State(Scope.Benchmark)
+public class CommunityDetectorBenchmark {
+
+    private static final int GROUP_SIZE = 100;
+
+    @Param({"100000"})
+    private int vertices;
+
+    @Param({"1000000"})
+    private int edges;
+
+    private CsrGraph<Integer> graph;
+    private ForkJoinPool singleThread;
+    private CommunityDetector<Integer> parallel;
+    private CommunityDetector<Integer> sequential;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Integer> data = new ArrayList<>(vertices);
+        for (int v = 0; v < vertices; v++) {
+            data.add(v);
+        }
+        Set<Long> seen = new HashSet<>(edges * 2);
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        int count = 0;
+        while (count < edges) {
+            int a = random.nextInt(vertices);
+            int b = random.nextInt(10) == 0
+                    ? random.nextInt(vertices)
+                    : Math.min(vertices - 1, (a / GROUP_SIZE) * GROUP_SIZE + random.nextInt(GROUP_SIZE));
+            if (a != b && seen.add((long) Math.min(a, b) * vertices + Math.max(a, b))) {
+                from[count] = a;
+                to[count] = b;
+                count++;
+            }
+        }
+        graph = CsrGraph.fromEdges(data, from, to);
+        singleThread = new ForkJoinPool(1);
+        parallel = new CommunityDetector<>();
+        sequential = new CommunityDetector<>(singleThread, 20);
+    }
+
+    @TearDown
+    public void tearDown() {
+        singleThread.shutdown();
+    }
+
+    @Benchmark
+    public int[] propagateParallel() {
+        return parallel.propagate(graph);
+    }
+
+    @Benchmark
+    public int[] propagateSingleThread() {
+        return sequential.propagate(graph);
+    }
+
+    @Benchmark
+    public List<List<Integer>> detectParallel() {
+        return parallel.detect(graph);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CommunityDetectorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.search.InvertedIndex;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.search.InvertedIndex.Field;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the content search index. Documents are a short title
+ * and a ~40-word body drawn from a 20k-word vocabulary with a Zipf-like
+ * skew, so a few terms are very common and most are rare. Queries mix two
+ * rare-ish terms with one common term.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.ContentSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+@State(Scope.Benchmark)
+public class ContentSearchBenchmark {
+
+    private static final int VOCABULARY = 20_000;
+
+    @Param({"10000", "1000000"})
+    private int documents;
+
+    private InvertedIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new InvertedIndex();
+        StringBuilder title = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        for (int id = 1; id <= documents; id++) {
+            title.setLength(0);
+            body.setLength(0);
+            for (int i = 0; i < 4; i++) {
+                title.append(word(random)).append(' ');
+            }
+            for (int i = 0; i < 40; i++) {
+                body.append(word(random)).append(' ');
+            }
+            index.put(id, new Field(title.toString(), 2), new Field(body.toString(), 1));
+        }
+        queries = new String[256];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = "w" + (100 + random.nextInt(2000)) + " w" + (100 + random.nextInt(2000))
+                    + " w" + random.nextInt(10);
+        }
+    }
+
+    // Cubing a uniform draw skews towards low word numbers
+    private static String word(Random random) {
+        double u = random.nextDouble();
+        return "w" + (int) (u * u * u * VOCABULARY);
+    }
+
+    @Benchmark
+    public InvertedIndex.Result firstPage() {
+        return index.search(queries[next++ & (queries.length - 1)], 0, 10);
+    }
+
+    @Benchmark
+    public InvertedIndex.Result fifthPage() {
+        return index.search(queries[next++ & (queries.length - 1)], 40, 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContentSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
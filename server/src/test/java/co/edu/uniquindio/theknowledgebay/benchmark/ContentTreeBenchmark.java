@@ -0,0 +1,62 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Content;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees.AVLTree;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.trees.BinarySearchTree;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts sequential content ids (the order nextContentId hands them out)
+ * into the AVL content tree, then looks one up. The plain BST is only run at
+ * a size it survives: its recursive insert overflows the stack long before 1M.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.ContentTreeBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class ContentTreeBenchmark {
+
+    @State(Scope.Thread)
+    public static class AvlState {
+        @Param({"10000", "1000000"})
+        int contents;
+    }
+
+    @State(Scope.Thread)
+    public static class BstState {
+        @Param({"10000"})
+        int contents;
+    }
+
+    @Benchmark
+    public Content avlSequentialInsert(AvlState state) {
+        AVLTree<Content> tree = new AVLTree<>();
+        for (int id = 1; id <= state.contents; id++) {
+            tree.insert(Content.builder().contentId(id).build());
+        }
+        return tree.search(Content.builder().contentId(state.contents).build());
+    }
+
+    @Benchmark
+    public Content bstSequentialInsert(BstState state) {
+        BinarySearchTree<Content> tree = new BinarySearchTree<>();
+        for (int id = 1; id <= state.contents; id++) {
+            tree.insert(Content.builder().contentId(id).build());
+        }
+        return tree.search(Content.builder().contentId(state.contents).build());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContentTreeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
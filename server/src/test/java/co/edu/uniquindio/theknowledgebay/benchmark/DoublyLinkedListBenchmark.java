@@ -0,0 +1,77 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums a list the ways the controllers used to and now walk it: a
+ * {@code get(i)} loop that restarts from the head every time (what get did
+ * before it remembered its last position), the same loop with the current
+ * get, and for-each.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.DoublyLinkedListBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DoublyLinkedListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int elements;
+
+    private DoublyLinkedList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        for (int i = 0; i < elements; i++) {
+            list.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public long indexedGetFromHead() {
+        long sum = 0;
+        for (int i = 0; i < list.getSize(); i++) {
+            DoublyLinkedNode<Integer> current = list.getHead();
+            for (int j = 0; j < i; j++) {
+                current = current.getNext();
+            }
+            sum += current.getData();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long indexedGet() {
+        long sum = 0;
+        for (int i = 0; i < list.getSize(); i++) {
+            sum += list.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachLoop() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DoublyLinkedListBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,109 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.InterestRegistry;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.bitsets.LongBitSet;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one student against every other: the nested name loops that
+ * hasSharedInterests used against the interest bitsets, and a Jaccard
+ * similarity pass over the bitsets.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.InterestSimilarityBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InterestSimilarityBenchmark {
+
+    @Param({"100000"})
+    private int students;
+
+    @Param({"40"})
+    private int interests;
+
+    private Student[] all;
+    private Student target;
+
+    @Setup
+    public void setUp() {
+        InterestRegistry registry = new InterestRegistry();
+        Interest[] known = new Interest[interests];
+        for (int i = 0; i < interests; i++) {
+            known[i] = new Interest(String.valueOf(i), "Interés " + i);
+            registry.register(known[i]);
+        }
+        Random random = new Random(42);
+        all = new Student[students];
+        for (int i = 0; i < students; i++) {
+            DynamicArrayList<Interest> list = new DynamicArrayList<>();
+            int count = 1 + random.nextInt(6);
+            for (int j = 0; j < count; j++) {
+                Interest interest = known[random.nextInt(interests)];
+                if (!list.contains(interest)) {
+                    list.addLast(interest);
+                }
+            }
+            all[i] = Student.builder().id(String.valueOf(i)).interests(list).build();
+            registry.studentInterestsChanged(all[i]);
+        }
+        target = all[0];
+    }
+
+    @Benchmark
+    public int sharedByNames() {
+        int shared = 0;
+        for (Student student : all) {
+            outer:
+            for (Interest a : target.getInterests()) {
+                for (Interest b : student.getInterests()) {
+                    if (a.getName().equals(b.getName())) {
+                        shared++;
+                        break outer;
+                    }
+                }
+            }
+        }
+        return shared;
+    }
+
+    @Benchmark
+    public int sharedByBits() {
+        int shared = 0;
+        long[] bits = target.getInterestBits();
+        for (Student student : all) {
+            if (LongBitSet.intersects(bits, student.getInterestBits())) {
+                shared++;
+            }
+        }
+        return shared;
+    }
+
+    @Benchmark
+    public double jaccardByBits() {
+        double total = 0;
+        long[] bits = target.getInterestBits();
+        for (Student student : all) {
+            total += LongBitSet.jaccard(bits, student.getInterestBits());
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InterestSimilarityBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,83 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.core.model.Interest;
+import co.edu.uniquindio.theknowledgebay.core.model.InterestRegistry;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.core.model.StudyGroup;
+import co.edu.uniquindio.theknowledgebay.core.model.StudyGroupEngine;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DynamicArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Places every student of a bulk import in their automatic study groups,
+ * one student at a time and in a single batch.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.StudyGroupEngineBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudyGroupEngineBenchmark {
+
+    @Param({"10000", "100000"})
+    private int students;
+
+    private List<Student> imported;
+    private StudyGroupEngine engine;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        InterestRegistry registry = new InterestRegistry();
+        Interest[] known = new Interest[40];
+        for (int i = 0; i < known.length; i++) {
+            known[i] = new Interest(String.valueOf(i), "Interés " + i);
+            registry.register(known[i]);
+        }
+        Random random = new Random(42);
+        imported = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            DynamicArrayList<Interest> list = new DynamicArrayList<>();
+            for (int j = 1 + random.nextInt(4); j > 0; j--) {
+                Interest interest = known[random.nextInt(known.length)];
+                if (!list.contains(interest)) {
+                    list.addLast(interest);
+                }
+            }
+            Student student = Student.builder().id(String.valueOf(i)).interests(list).build();
+            registry.studentInterestsChanged(student);
+            imported.add(student);
+        }
+        engine = new StudyGroupEngine(registry);
+    }
+
+    @Benchmark
+    public int oneByOne() {
+        int created = 0;
+        for (Student student : imported) {
+            created += engine.update(student).size();
+        }
+        return created;
+    }
+
+    @Benchmark
+    public List<StudyGroup> batch() {
+        return engine.updateAll(imported);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StudyGroupEngineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,104 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserDirectory;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.nodes.DoublyLinkedNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the user directory lookups against the linked-list scan that
+ * getUserById and AuthService used before.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.UserDirectoryBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDirectoryBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int students;
+
+    private DoublyLinkedList<Student> list;
+    private UserDirectory directory;
+    private String[] ids;
+    private String[] emails;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        directory = new UserDirectory();
+        ids = new String[1024];
+        emails = new String[1024];
+        for (int i = 0; i < students; i++) {
+            Student s = Student.builder()
+                    .id(String.valueOf(i))
+                    .username("user" + i)
+                    .email("user" + i + "@uniquindio.edu.co")
+                    .build();
+            list.addLast(s);
+            directory.index(s);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < ids.length; i++) {
+            int n = random.nextInt(students);
+            ids[i] = String.valueOf(n);
+            emails[i] = "USER" + n + "@uniquindio.edu.co";
+        }
+    }
+
+    @Benchmark
+    public Student scanById() {
+        String id = ids[cursor++ & 1023];
+        DoublyLinkedNode<Student> current = list.getHead();
+        while (current != null) {
+            Student s = current.getData();
+            if (s.getId() != null && s.getId().equals(id)) {
+                return s;
+            }
+            current = current.getNext();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Student directoryById() {
+        return directory.findById(ids[cursor++ & 1023]);
+    }
+
+    @Benchmark
+    public Student scanByEmail() {
+        String email = emails[cursor++ & 1023];
+        DoublyLinkedNode<Student> current = list.getHead();
+        while (current != null) {
+            Student s = current.getData();
+            if (s.getEmail().equalsIgnoreCase(email)) {
+                return s;
+            }
+            current = current.getNext();
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Student directoryByEmail() {
+        return directory.findByEmail(emails[cursor++ & 1023]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserDirectoryBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
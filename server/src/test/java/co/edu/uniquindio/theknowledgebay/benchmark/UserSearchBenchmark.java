@@ -0,0 +1,87 @@
+package co.edu.uniquindio.theknowledgebay.benchmark;
+
+import co.edu.uniquindio.theknowledgebay.core.factory.UserSearchIndex;
+import co.edu.uniquindio.theknowledgebay.core.model.Student;
+import co.edu.uniquindio.theknowledgebay.infrastructure.util.datastructures.lists.DoublyLinkedList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the user search index against the lowercase contains scan that
+ * UserController.searchUsers ran on every keystroke.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=co.edu.uniquindio.theknowledgebay.benchmark.UserSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Ana", "Juan", "Camila", "Santiago", "Valentina", "Mateo",
+            "Isabella", "Sebastián", "Mariana", "Nicolás", "Daniela", "Andrés"};
+    private static final String[] LAST_NAMES = {"Gómez", "Rodríguez", "López", "Martínez", "García", "Hernández",
+            "Ramírez", "Torres", "Castaño", "Restrepo", "Valencia", "Osorio"};
+
+    @Param({"100000"})
+    private int students;
+
+    @Param({"ma", "mart", "user4242"})
+    private String query;
+
+    private DoublyLinkedList<Student> list;
+    private UserSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        list = new DoublyLinkedList<>();
+        index = new UserSearchIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < students; i++) {
+            Student s = Student.builder()
+                    .id(String.valueOf(i))
+                    .username("user" + i)
+                    .firstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)])
+                    .lastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                    .email("user" + i + "@uniquindio.edu.co")
+                    .build();
+            list.addLast(s);
+            index.index(s);
+        }
+    }
+
+    @Benchmark
+    public List<Student> scan() {
+        List<Student> result = new ArrayList<>();
+        String queryLower = query.toLowerCase();
+        for (Student s : list) {
+            if (s.getUsername().toLowerCase().contains(queryLower)
+                    || s.getFirstName().toLowerCase().contains(queryLower)
+                    || s.getLastName().toLowerCase().contains(queryLower)
+                    || s.getEmail().toLowerCase().contains(queryLower)) {
+                result.add(s);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Student> indexTop20() {
+        return index.search(query, 20);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}